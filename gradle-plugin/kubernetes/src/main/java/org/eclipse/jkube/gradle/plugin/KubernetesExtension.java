@@ -119,6 +119,7 @@ public abstract class KubernetesExtension {
   private static final Path DEFAULT_RESOURCE_SOURCE_DIR = Paths.get("src", "main", JKUBE);
   private static final Path DEFAULT_RESOURCE_TARGET_DIR = Paths.get(META_INF, JKUBE);
   private static final Path DEFAULT_WORK_DIR = Paths.get("jkube-temp");
+  private static final Path DEFAULT_TIMINGS_FILE = Paths.get(JKUBE, "timings.json");
 
   public transient JavaProject javaProject;
 
@@ -126,6 +127,10 @@ public abstract class KubernetesExtension {
 
   public abstract Property<Boolean> getUseColor();
 
+  public abstract Property<Boolean> getTimings();
+
+  public abstract Property<File> getTimingsFile();
+
   public abstract Property<Integer> getMaxConnections();
 
   public abstract Property<String> getFilter();
@@ -146,6 +151,16 @@ public abstract class KubernetesExtension {
 
   public abstract Property<Boolean> getForcePull();
 
+  public abstract Property<Boolean> getIncrementalBuild();
+
+  public abstract Property<Integer> getBuildParallelism();
+
+  public abstract Property<Boolean> getStreamBuildContext();
+
+  public abstract Property<Integer> getCompressionThreads();
+
+  public abstract Property<Boolean> getPushRemoteTagging();
+
   public abstract Property<Boolean> getSkipExtendedAuth();
 
   public abstract Property<String> getPullRegistry();
@@ -176,6 +191,8 @@ public abstract class KubernetesExtension {
 
   public abstract Property<Boolean> getInterpolateTemplateParameters();
 
+  public abstract Property<Integer> getResourceParallelism();
+
   public abstract Property<Boolean> getSkip();
 
   public abstract Property<Boolean> getLogFollow();
@@ -202,6 +219,12 @@ public abstract class KubernetesExtension {
 
   public abstract Property<Boolean> getRollingUpgradePreserveScale();
 
+  public abstract Property<Integer> getApplyParallelism();
+
+  public abstract Property<Boolean> getServerSideApply();
+
+  public abstract Property<Boolean> getServerSideApplyForce();
+
   public abstract Property<Boolean> getFailOnNoKubernetesJson();
 
   public abstract Property<Boolean> getServicesOnly();
@@ -246,6 +269,8 @@ public abstract class KubernetesExtension {
 
   public abstract Property<Integer> getWatchInterval();
 
+  public abstract Property<Integer> getWatchDebounce();
+
   public abstract Property<String> getWatchPostExec();
 
   public WatchMode watchMode;
@@ -464,6 +489,10 @@ public abstract class KubernetesExtension {
     return getOrDefaultBoolean("jkube.interpolateTemplateParameters", this::getInterpolateTemplateParameters, true);
   }
 
+  public int getResourceParallelismOrDefault() {
+    return getOrDefaultInteger("jkube.resource.parallelism", this::getResourceParallelism, 1);
+  }
+
   public boolean getSkipResourceValidationOrDefault() {
     return getOrDefaultBoolean("jkube.skipResourceValidation", this::getSkipResourceValidation, false);
   }
@@ -524,6 +553,14 @@ public abstract class KubernetesExtension {
     return getOrDefaultFile("jkube.kubernetesManifest", this::getKubernetesManifest, javaProject.getOutputDirectory().toPath().resolve(DEFAULT_KUBERNETES_MANIFEST).toFile());
   }
 
+  public boolean getTimingsOrDefault() {
+    return getOrDefaultBoolean("jkube.timings", this::getTimings, false);
+  }
+
+  public File getTimingsFileOrDefault() {
+    return getOrDefaultFile("jkube.timingsFile", this::getTimingsFile, javaProject.getBuildDirectory().toPath().resolve(DEFAULT_TIMINGS_FILE).toFile());
+  }
+
   public boolean getSkipOrDefault() {
     return getOrDefaultBoolean("jkube.skip", this::getSkip, false);
   }
@@ -540,6 +577,18 @@ public abstract class KubernetesExtension {
     return getOrDefaultBoolean("jkube.rolling.preserveScale", this::getRollingUpgradePreserveScale, false);
   }
 
+  public int getApplyParallelismOrDefault() {
+    return getOrDefaultInteger("jkube.apply.parallelism", this::getApplyParallelism, 1);
+  }
+
+  public boolean getServerSideApplyOrDefault() {
+    return getOrDefaultBoolean("jkube.apply.serverSide", this::getServerSideApply, false);
+  }
+
+  public boolean getServerSideApplyForceOrDefault() {
+    return getOrDefaultBoolean("jkube.apply.serverSide.force", this::getServerSideApplyForce, false);
+  }
+
   public boolean getSkipPushOrDefault() {
     return getOrDefaultBoolean("jkube.skip.push", this::getSkipPush, false);
   }
@@ -592,6 +641,26 @@ public abstract class KubernetesExtension {
     return getOrDefaultBoolean("jkube.build.forcePull", this::getForcePull, false);
   }
 
+  public boolean getIncrementalBuildOrDefault() {
+    return getOrDefaultBoolean("jkube.build.incremental", this::getIncrementalBuild, false);
+  }
+
+  public int getBuildParallelismOrDefault() {
+    return getOrDefaultInteger("jkube.build.parallelism", this::getBuildParallelism, 1);
+  }
+
+  public boolean getStreamBuildContextOrDefault() {
+    return getOrDefaultBoolean("jkube.build.streamContext", this::getStreamBuildContext, false);
+  }
+
+  public int getCompressionThreadsOrDefault() {
+    return getOrDefaultInteger("jkube.build.compressionThreads", this::getCompressionThreads, 1);
+  }
+
+  public boolean getPushRemoteTaggingOrDefault() {
+    return getOrDefaultBoolean("jkube.docker.push.remoteTagging", this::getPushRemoteTagging, false);
+  }
+
   public String getRegistryOrDefault() {
     return getOrDefaultString("jkube.docker.registry", this::getRegistry, null);
   }
@@ -685,6 +754,10 @@ public abstract class KubernetesExtension {
     return getOrDefaultInteger("jkube.watch.interval", this::getWatchInterval, 5000);
   }
 
+  public Integer getWatchDebounceOrDefault() {
+    return getOrDefaultInteger("jkube.watch.debounce", this::getWatchDebounce, 100);
+  }
+
   public String getWatchPostExecOrNull() {
     return getOrDefaultString("jkube.watch.postExec", this::getWatchPostExec, null);
   }
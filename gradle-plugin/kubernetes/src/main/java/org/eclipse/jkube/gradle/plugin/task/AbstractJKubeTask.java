@@ -30,6 +30,7 @@ import org.eclipse.jkube.gradle.plugin.KubernetesExtension;
 import org.eclipse.jkube.kit.common.JKubeConfiguration;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.RegistryConfig;
+import org.eclipse.jkube.kit.common.util.BuildTimings;
 import org.eclipse.jkube.kit.common.util.LazyBuilder;
 import org.eclipse.jkube.kit.common.util.ResourceUtil;
 import org.eclipse.jkube.kit.common.util.ResourceFileProcessing;
@@ -62,6 +63,7 @@ public abstract class AbstractJKubeTask extends DefaultTask implements Kubernete
   protected static final String DOCKER_BUILD_TIMESTAMP = "docker/build.timestamp";
   protected List<ImageConfiguration> resolvedImages;
   protected DefaultEnricherManager enricherManager;
+  protected BuildTimings buildTimings = BuildTimings.DISABLED;
 
   protected AbstractJKubeTask(Class<? extends KubernetesExtension> extensionClass) {
     kubernetesExtension = getProject().getExtensions().getByType(extensionClass);
@@ -75,8 +77,14 @@ public abstract class AbstractJKubeTask extends DefaultTask implements Kubernete
         kitLogger.info("`%s` task is skipped.", this.getName());
         return;
     }
-    init();
-    run();
+    buildTimings = kubernetesExtension.getTimingsOrDefault() ? new BuildTimings() : BuildTimings.DISABLED;
+    try {
+      init();
+      run();
+    } finally {
+      kubernetesExtension.javaProject.releaseFrameworkConfigurationCache();
+      buildTimings.report(kitLogger, getName(), kubernetesExtension.getTimingsFileOrDefault());
+    }
   }
 
   protected void init() {
@@ -94,6 +102,7 @@ public abstract class AbstractJKubeTask extends DefaultTask implements Kubernete
         .resources(kubernetesExtension.resources)
         .log(kitLogger)
         .jKubeBuildStrategy(kubernetesExtension.getBuildStrategyOrDefault())
+        .timings(buildTimings)
         .build();
     final List<String> extraClasspathElements = kubernetesExtension.getUseProjectClassPathOrDefault() ?
         kubernetesExtension.javaProject.getCompileClassPathElements() : Collections.emptyList();
@@ -141,8 +150,14 @@ public abstract class AbstractJKubeTask extends DefaultTask implements Kubernete
                 .passwordDecryptionMethod(s -> s)
                 .registry(kubernetesExtension.getPushRegistryOrNull() != null ?
                   kubernetesExtension.getPushRegistryOrNull() : kubernetesExtension.getRegistryOrDefault())
+                .remoteTagging(kubernetesExtension.getPushRemoteTaggingOrDefault())
+                .parallelism(kubernetesExtension.getBuildParallelismOrDefault())
                 .build())
             .clusterConfiguration(clusterConfiguration)
+            .incrementalBuild(kubernetesExtension.getIncrementalBuildOrDefault())
+            .streamBuildContext(kubernetesExtension.getStreamBuildContextOrDefault())
+            .compressionThreads(kubernetesExtension.getCompressionThreadsOrDefault())
+            .timings(buildTimings)
             .build())
         .offline(kubernetesExtension.getOfflineOrDefault())
         .platformMode(kubernetesExtension.getRuntimeMode())
@@ -162,6 +177,7 @@ public abstract class AbstractJKubeTask extends DefaultTask implements Kubernete
       .resourceFileType(kubernetesExtension.getResourceFileTypeOrDefault())
       .resourceConfig(resourceConfig)
       .interpolateTemplateParameters(kubernetesExtension.getInterpolateTemplateParametersOrDefault())
+      .parallelism(kubernetesExtension.getResourceParallelismOrDefault())
       .resourceFilesProcessor(this::gradleFilterFiles)
       .build();
   }
@@ -180,7 +196,8 @@ public abstract class AbstractJKubeTask extends DefaultTask implements Kubernete
         .buildTimestamp(getBuildTimestamp(null, null, kubernetesExtension.javaProject.getBuildDirectory().getAbsolutePath(),
             DOCKER_BUILD_TIMESTAMP))
         .filter(kubernetesExtension.getFilterOrNull())
-        .watchMode(kubernetesExtension.getWatchModeOrDefault());
+        .watchMode(kubernetesExtension.getWatchModeOrDefault())
+        .timings(buildTimings);
   }
 
   protected ClusterConfiguration initClusterConfiguration() {
@@ -91,6 +91,9 @@ public class KubernetesApplyTask extends AbstractJKubeTask {
     applyService.setRollingUpgrade(kubernetesExtension.getRollingUpgradesOrDefault());
     applyService.setRollingUpgradePreserveScale(kubernetesExtension.getRollingUpgradePreserveScaleOrDefault());
     applyService.setRecreateMode(kubernetesExtension.getRecreateOrDefault());
+    applyService.setParallelism(kubernetesExtension.getApplyParallelismOrDefault());
+    applyService.setServerSideApply(kubernetesExtension.getServerSideApplyOrDefault());
+    applyService.setServerSideApplyForceConflicts(kubernetesExtension.getServerSideApplyForceOrDefault());
     applyService.setNamespace(kubernetesExtension.getNamespaceOrNull());
     applyService.setFallbackNamespace(resolveFallbackNamespace(kubernetesExtension.resources, clusterConfiguration));
   }
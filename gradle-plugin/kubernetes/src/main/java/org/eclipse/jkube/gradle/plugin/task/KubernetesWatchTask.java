@@ -98,6 +98,7 @@ public class KubernetesWatchTask extends AbstractJKubeTask {
     final DockerServiceHub hub = jKubeServiceHub.getDockerServiceHub();
     return WatchContext.builder()
         .watchInterval(kubernetesExtension.getWatchIntervalOrDefault())
+        .watchDebounce(kubernetesExtension.getWatchDebounceOrDefault())
         .watchMode(kubernetesExtension.getWatchModeOrDefault())
         .watchPostExec(kubernetesExtension.getWatchPostExecOrNull())
         .buildTimestamp(getBuildTimestamp(null, null, kubernetesExtension.javaProject.getBuildDirectory().getAbsolutePath(), DOCKER_BUILD_TIMESTAMP))
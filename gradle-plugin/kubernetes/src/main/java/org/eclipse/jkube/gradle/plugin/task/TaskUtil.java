@@ -36,6 +36,7 @@ public class TaskUtil {
     return BuildServiceConfig.builder()
         .imagePullManager(imagePullManager)
         .jKubeBuildStrategy(kubernetesExtension.getBuildStrategyOrDefault())
+        .parallelism(kubernetesExtension.getBuildParallelismOrDefault())
         .buildDirectory(kubernetesExtension.javaProject.getBuildDirectory().getAbsolutePath());
   }
 
@@ -61,6 +61,7 @@ class KubernetesExtensionPropertyTest {
         arguments("getFailOnValidationErrorOrDefault", false),
         arguments("getMergeWithDekorateOrDefault", false),
         arguments("getInterpolateTemplateParametersOrDefault", true),
+        arguments("getResourceParallelismOrDefault", 1),
         arguments("getSkipResourceValidationOrDefault", false),
         arguments("getSkipResourceOrDefault", false),
         arguments("getSkipBuildOrDefault", false),
@@ -79,6 +80,9 @@ class KubernetesExtensionPropertyTest {
         arguments("getIgnoreRunningOAuthClientsOrDefault", true),
         arguments("getProcessTemplatesLocallyOrDefault", true),
         arguments("getRollingUpgradePreserveScaleOrDefault", false),
+        arguments("getApplyParallelismOrDefault", 1),
+        arguments("getServerSideApplyOrDefault", false),
+        arguments("getServerSideApplyForceOrDefault", false),
         arguments("getSkipPushOrDefault", false),
         arguments("getPushRegistryOrNull", null),
         arguments("getSkipTagOrDefault", false),
@@ -94,6 +98,11 @@ class KubernetesExtensionPropertyTest {
         arguments("getCertPathOrNull", null),
         arguments("getSkipMachineOrDefault", false),
         arguments("getForcePullOrDefault", false),
+        arguments("getIncrementalBuildOrDefault", false),
+        arguments("getStreamBuildContextOrDefault", false),
+        arguments("getBuildParallelismOrDefault", 1),
+        arguments("getPushRemoteTaggingOrDefault", false),
+        arguments("getCompressionThreadsOrDefault", 1),
         arguments("getRegistryOrDefault", null),
         arguments("getPullRegistryOrDefault", null),
         arguments("getBuildSourceDirectoryOrDefault", "src/main/docker"),
@@ -102,6 +111,8 @@ class KubernetesExtensionPropertyTest {
         arguments("getResourceTargetDirectoryOrDefault", new File(BASE, "build").toPath().resolve(Paths.get("META-INF", "jkube")).toFile()),
         arguments("getResourceEnvironmentOrNull", null),
         arguments("getWorkDirectoryOrDefault", new File(BASE, "build").toPath().resolve(Paths.get("jkube-temp")).toFile()),
+        arguments("getTimingsOrDefault", false),
+        arguments("getTimingsFileOrDefault", new File(BASE, "build").toPath().resolve(Paths.get("jkube", "timings.json")).toFile()),
         arguments("getProfileOrNull", null),
         arguments("getNamespaceOrNull", null),
         arguments("getBuildStrategyOrDefault", JKubeBuildStrategy.docker),
@@ -116,6 +127,7 @@ class KubernetesExtensionPropertyTest {
         arguments("getKubernetesTemplateOrDefault", new File(BASE, "build").toPath().resolve(Paths.get("META-INF", "jkube", "kubernetes")).toFile()),
         arguments("getWatchModeOrDefault", WatchMode.both),
         arguments("getWatchIntervalOrDefault", 5000),
+        arguments("getWatchDebounceOrDefault", 100),
         arguments("getWatchPostExecOrNull", null));
   }
 
@@ -136,6 +148,7 @@ class KubernetesExtensionPropertyTest {
         arguments("getFailOnValidationErrorOrDefault", "jkube.failOnValidationError", "true", true),
         arguments("getMergeWithDekorateOrDefault", "jkube.mergeWithDekorate", "true", true),
         arguments("getInterpolateTemplateParametersOrDefault", "jkube.interpolateTemplateParameters", "false", false),
+        arguments("getResourceParallelismOrDefault", "jkube.resource.parallelism", "4", 4),
         arguments("getSkipResourceValidationOrDefault", "jkube.skipResourceValidation", "true", true),
         arguments("getSkipResourceOrDefault", "jkube.skip.resource", "true", true),
         arguments("getSkipBuildOrDefault", "jkube.skip.build", "true", true),
@@ -158,6 +171,9 @@ class KubernetesExtensionPropertyTest {
         arguments("getIgnoreRunningOAuthClientsOrDefault", "jkube.deploy.ignoreRunningOAuthClients", "false", false),
         arguments("getProcessTemplatesLocallyOrDefault", "jkube.deploy.processTemplatesLocally", "false", false),
         arguments("getRollingUpgradePreserveScaleOrDefault", "jkube.rolling.preserveScale", "true", true),
+        arguments("getApplyParallelismOrDefault", "jkube.apply.parallelism", "8", 8),
+        arguments("getServerSideApplyOrDefault", "jkube.apply.serverSide", "true", true),
+        arguments("getServerSideApplyForceOrDefault", "jkube.apply.serverSide.force", "true", true),
         arguments("getSkipPushOrDefault", "jkube.skip.push", "true", true),
         arguments("getPushRegistryOrNull", "jkube.docker.push.registry", "https://custom:5000", "https://custom:5000"),
         arguments("getSkipTagOrDefault", "jkube.skip.tag", "true", true),
@@ -173,6 +189,11 @@ class KubernetesExtensionPropertyTest {
         arguments("getCertPathOrNull", "jkube.docker.certPath", "~/.docker", "~/.docker"),
         arguments("getSkipMachineOrDefault", "jkube.docker.skip.machine", "true", true),
         arguments("getForcePullOrDefault", "jkube.build.forcePull", "true", true),
+        arguments("getIncrementalBuildOrDefault", "jkube.build.incremental", "true", true),
+        arguments("getStreamBuildContextOrDefault", "jkube.build.streamContext", "true", true),
+        arguments("getBuildParallelismOrDefault", "jkube.build.parallelism", "4", 4),
+        arguments("getPushRemoteTaggingOrDefault", "jkube.docker.push.remoteTagging", "true", true),
+        arguments("getCompressionThreadsOrDefault", "jkube.build.compressionThreads", "4", 4),
         arguments("getRegistryOrDefault", "jkube.docker.registry", "quay.io", "quay.io"),
         arguments("getPullRegistryOrDefault", "jkube.docker.pull.registry", "quay.io", "quay.io"),
         arguments("getBuildSourceDirectoryOrDefault", "jkube.build.source.dir", "src/main/other", "src/main/other"),
@@ -187,6 +208,10 @@ class KubernetesExtensionPropertyTest {
         arguments("getWorkDirectoryOrDefault", "jkube.workDir",
             Paths.get("jkube-work-other").toString(),
             Paths.get("jkube-work-other").toFile()),
+        arguments("getTimingsOrDefault", "jkube.timings", "true", true),
+        arguments("getTimingsFileOrDefault", "jkube.timingsFile",
+            Paths.get("timings-other.json").toString(),
+            Paths.get("timings-other.json").toFile()),
         arguments("getProfileOrNull", "jkube.profile", "default", "default"),
         arguments("getNamespaceOrNull", "jkube.namespace", "test", "test"),
         arguments("getBuildStrategyOrDefault", "jkube.build.strategy", "s2i", JKubeBuildStrategy.s2i),
@@ -205,6 +230,7 @@ class KubernetesExtensionPropertyTest {
             Paths.get("META-INF", "jkube", "other").toFile()),
         arguments("getWatchModeOrDefault", "jkube.watch.mode", "copy", WatchMode.copy),
         arguments("getWatchIntervalOrDefault", "jkube.watch.interval", "10000", 10000),
+        arguments("getWatchDebounceOrDefault", "jkube.watch.debounce", "250", 250),
         arguments("getWatchPostExecOrNull", "jkube.watch.postExec", "ls -lt", "ls -lt"));
   }
 }
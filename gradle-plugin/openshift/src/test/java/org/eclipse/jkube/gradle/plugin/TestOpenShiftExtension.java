@@ -188,6 +188,11 @@ public class TestOpenShiftExtension extends OpenShiftExtension {
     return property(Boolean.class);
   }
 
+  @Override
+  public Property<Integer> getResourceParallelism() {
+    return property(Integer.class);
+  }
+
   @Override
   public Property<Boolean> getSkip() {
     return property(Boolean.class);
@@ -263,6 +268,56 @@ public class TestOpenShiftExtension extends OpenShiftExtension {
     return property(Boolean.class);
   }
 
+  @Override
+  public Property<Integer> getApplyParallelism() {
+    return property(Integer.class);
+  }
+
+  @Override
+  public Property<Boolean> getIncrementalBuild() {
+    return property(Boolean.class);
+  }
+
+  @Override
+  public Property<Boolean> getStreamBuildContext() {
+    return property(Boolean.class);
+  }
+
+  @Override
+  public Property<Integer> getBuildParallelism() {
+    return property(Integer.class);
+  }
+
+  @Override
+  public Property<Integer> getCompressionThreads() {
+    return property(Integer.class);
+  }
+
+  @Override
+  public Property<Boolean> getTimings() {
+    return property(Boolean.class);
+  }
+
+  @Override
+  public Property<File> getTimingsFile() {
+    return property(File.class);
+  }
+
+  @Override
+  public Property<Boolean> getPushRemoteTagging() {
+    return property(Boolean.class);
+  }
+
+  @Override
+  public Property<Boolean> getServerSideApply() {
+    return property(Boolean.class);
+  }
+
+  @Override
+  public Property<Boolean> getServerSideApplyForce() {
+    return property(Boolean.class);
+  }
+
   @Override
   public Property<Boolean> getVerbose() {
     return property(Boolean.class);
@@ -383,6 +438,11 @@ public class TestOpenShiftExtension extends OpenShiftExtension {
     return property(Integer.class);
   }
 
+  @Override
+  public Property<Integer> getWatchDebounce() {
+    return property(Integer.class);
+  }
+
   @Override
   public Property<String> getWatchPostExec() {
     return property(String.class);
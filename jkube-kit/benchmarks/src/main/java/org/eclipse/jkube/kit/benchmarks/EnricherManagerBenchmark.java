@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import org.apache.commons.io.FileUtils;
+import org.eclipse.jkube.kit.common.JavaProject;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.config.image.ImageConfiguration;
+import org.eclipse.jkube.kit.config.image.build.BuildConfiguration;
+import org.eclipse.jkube.kit.config.resource.PlatformMode;
+import org.eclipse.jkube.kit.config.resource.ProcessorConfig;
+import org.eclipse.jkube.kit.enricher.api.DefaultEnricherManager;
+import org.eclipse.jkube.kit.enricher.api.JKubeEnricherContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs a representative subset of the generic enrichers over synthetic resource lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EnricherManagerBenchmark {
+
+  @Param({"50", "500", "5000"})
+  public int items;
+
+  private DefaultEnricherManager enricherManager;
+  private KubernetesListBuilder builder;
+
+  private File directory;
+
+  @Setup(Level.Trial)
+  public void setUpEnricherManager() throws IOException {
+    directory = Files.createTempDirectory("jkube-benchmark-enricher").toFile();
+    final ProcessorConfig processorConfig = new ProcessorConfig();
+    processorConfig.setIncludes(Arrays.asList(
+      "jkube-name", "jkube-image", "jkube-portname", "jkube-project-label", "jkube-pod-annotations", "jkube-metadata"));
+    final JavaProject project = JavaProject.builder()
+      .groupId("org.eclipse.jkube.benchmarks")
+      .artifactId("benchmark")
+      .version("1.0.0")
+      .baseDirectory(directory)
+      .buildDirectory(new File(directory, "target"))
+      .outputDirectory(new File(directory, "target/classes"))
+      .dependencies(Collections.emptyList())
+      .dependenciesWithTransitive(Collections.emptyList())
+      .compileClassPathElements(Collections.emptyList())
+      .properties(new Properties())
+      .build();
+    enricherManager = new DefaultEnricherManager(JKubeEnricherContext.builder()
+      .project(project)
+      .log(new KitLogger.SilentLogger())
+      .processorConfig(processorConfig)
+      .image(ImageConfiguration.builder()
+        .name("example/benchmark:latest")
+        .build(BuildConfiguration.builder().from("busybox").build())
+        .build())
+      .build());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    FileUtils.deleteDirectory(directory);
+  }
+
+  // Enrichers mutate the builder, each invocation needs a fresh one
+  @Setup(Level.Invocation)
+  public void setUpBuilder() {
+    builder = SyntheticResources.kubernetesList(items);
+  }
+
+  @Benchmark
+  public KubernetesListBuilder enrich() {
+    enricherManager.enrich(PlatformMode.kubernetes, builder);
+    return builder;
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.apache.commons.io.output.CountingOutputStream;
+import org.apache.commons.io.output.NullOutputStream;
+import org.eclipse.jkube.kit.common.archive.ParallelGzipOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compresses 64 MiB of content with a compressibility resembling a typical build context (jar files) with
+ * {@link ParallelGzipOutputStream} and with the single-threaded {@link GzipCompressorOutputStream}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class GzipCompressionBenchmark {
+
+  private static final int CHUNK_SIZE = 64 * 1024;
+  private static final long SIZE = 64L * 1024 * 1024;
+
+  private byte[] chunk;
+
+  @State(Scope.Benchmark)
+  public static class Parallelism {
+    @Param({"2", "4"})
+    public int threads;
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    // Mix of random and repeated content
+    final Random random = new Random(42);
+    chunk = new byte[CHUNK_SIZE];
+    for (int i = 0; i < chunk.length; i++) {
+      chunk[i] = (byte) (i % 3 == 0 ? random.nextInt(256) : 'a' + random.nextInt(4));
+    }
+  }
+
+  @Benchmark
+  public long gzipCompressorOutputStream() throws IOException {
+    final CountingOutputStream counter = new CountingOutputStream(NullOutputStream.INSTANCE);
+    try (OutputStream out = new GzipCompressorOutputStream(counter)) {
+      write(out);
+    }
+    return counter.getByteCount();
+  }
+
+  @Benchmark
+  public long parallelGzipOutputStream(Parallelism parallelism) throws IOException {
+    final CountingOutputStream counter = new CountingOutputStream(NullOutputStream.INSTANCE);
+    try (OutputStream out = new ParallelGzipOutputStream(counter, parallelism.threads)) {
+      write(out);
+    }
+    return counter.getByteCount();
+  }
+
+  private void write(OutputStream out) throws IOException {
+    for (long written = 0; written < SIZE; written += chunk.length) {
+      out.write(chunk, 0, (int) Math.min(chunk.length, SIZE - written));
+    }
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.jkube.kit.common.JKubeConfiguration;
+import org.eclipse.jkube.kit.common.JavaProject;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.config.resource.ResourceServiceConfig;
+import org.eclipse.jkube.kit.resource.helm.HelmConfig;
+import org.eclipse.jkube.kit.resource.helm.HelmService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Generates a Helm chart (templates and tarball) from a synthetic Kubernetes manifest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HelmServiceBenchmark {
+
+  @Param({"50", "500"})
+  public int items;
+
+  private File directory;
+  private HelmService helmService;
+  private HelmConfig helmConfig;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("jkube-benchmark-helm").toFile();
+    final File sourceDir = new File(directory, "META-INF/jkube");
+    SyntheticResources.writeKubernetesList(new File(sourceDir, "kubernetes/benchmark.yml"), items);
+    helmService = new HelmService(JKubeConfiguration.builder()
+      .project(JavaProject.builder().properties(new Properties()).build())
+      .build(), new ResourceServiceConfig(), new KitLogger.SilentLogger());
+    helmConfig = new HelmConfig();
+    helmConfig.setChart("benchmark");
+    helmConfig.setVersion("1.0.0");
+    helmConfig.setChartExtension("tar");
+    helmConfig.setTypes(Collections.singletonList(HelmConfig.HelmType.KUBERNETES));
+    helmConfig.setSourceDir(sourceDir.getAbsolutePath() + File.separator);
+    helmConfig.setOutputDir(new File(directory, "helm").getAbsolutePath());
+    helmConfig.setTarballOutputDir(helmConfig.getOutputDir());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    FileUtils.deleteDirectory(directory);
+  }
+
+  @Benchmark
+  public HelmConfig generateHelmCharts() throws IOException {
+    helmService.generateHelmCharts(helmConfig);
+    return helmConfig;
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.jkube.kit.common.util.Serialization;
+
+/**
+ * Deterministic synthetic inputs shared by the benchmarks.
+ */
+final class SyntheticResources {
+
+  private SyntheticResources() { }
+
+  /**
+   * Creates a list with the provided number of items, a third of each of Deployment, Service, and ConfigMap.
+   */
+  static KubernetesListBuilder kubernetesList(int items) {
+    return new KubernetesListBuilder().addAllToItems(resources(items));
+  }
+
+  static List<HasMetadata> resources(int items) {
+    final List<HasMetadata> resources = new ArrayList<>(items);
+    for (int it = 0; it < items; it++) {
+      final String name = "app-" + (it / 3);
+      switch (it % 3) {
+        case 0:
+          resources.add(deployment(name));
+          break;
+        case 1:
+          resources.add(service(name));
+          break;
+        default:
+          resources.add(new ConfigMapBuilder()
+            .withNewMetadata().withName(name).addToLabels("app", name).endMetadata()
+            .addToData("application.properties", StringUtils.repeat("key=value\n", 20))
+            .build());
+      }
+    }
+    return resources;
+  }
+
+  /**
+   * Writes the provided number of resource fragments (partial resources with the kind and name inferred from the
+   * file name) to the provided directory.
+   */
+  static File[] writeFragments(File directory, int count) throws IOException {
+    FileUtils.forceMkdir(directory);
+    final File[] fragments = new File[count];
+    for (int it = 0; it < count; it++) {
+      final String name = "app-" + (it / 2);
+      final File fragment;
+      if (it % 2 == 0) {
+        fragment = new File(directory, name + "-deployment.yml");
+        Files.write(fragment.toPath(), ("spec:\n" +
+          "  replicas: 2\n" +
+          "  template:\n" +
+          "    spec:\n" +
+          "      containers:\n" +
+          "      - name: " + name + "\n" +
+          "        image: example/" + name + ":latest\n" +
+          "        env:\n" +
+          "        - name: JAVA_OPTIONS\n" +
+          "          value: -Xmx256m\n").getBytes(StandardCharsets.UTF_8));
+      } else {
+        fragment = new File(directory, name + "-service.yml");
+        Files.write(fragment.toPath(), ("spec:\n" +
+          "  ports:\n" +
+          "  - port: 8080\n" +
+          "    targetPort: 8080\n").getBytes(StandardCharsets.UTF_8));
+      }
+      fragments[it] = fragment;
+    }
+    return fragments;
+  }
+
+  /**
+   * Writes the provided resources as a single YAML list.
+   */
+  static File writeKubernetesList(File file, int items) throws IOException {
+    FileUtils.forceMkdir(file.getParentFile());
+    Files.write(file.toPath(), Serialization.asYaml(kubernetesList(items).build()).getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  /**
+   * Creates a directory tree resembling a build context: a large (poorly compressible) jar and many small files.
+   */
+  static File buildContext(File directory, int smallFiles, int largeFileSizeKiB) throws IOException {
+    final Random random = new Random(42);
+    final File lib = new File(directory, "deployments/lib");
+    FileUtils.forceMkdir(lib);
+    final byte[] large = new byte[largeFileSizeKiB * 1024];
+    for (int it = 0; it < large.length; it++) {
+      large[it] = (byte) (it % 3 == 0 ? random.nextInt(256) : 'a' + random.nextInt(4));
+    }
+    Files.write(new File(directory, "deployments/app.jar").toPath(), large);
+    for (int it = 0; it < smallFiles; it++) {
+      Files.write(new File(lib, "file-" + it + ".txt").toPath(),
+        StringUtils.repeat("Line " + it + "\n", 1 + random.nextInt(200)).getBytes(StandardCharsets.UTF_8));
+    }
+    return directory;
+  }
+
+  private static HasMetadata deployment(String name) {
+    return new DeploymentBuilder()
+      .withNewMetadata().withName(name).addToLabels("app", name).endMetadata()
+      .withNewSpec()
+      .withReplicas(1)
+      .withNewSelector().addToMatchLabels("app", name).endSelector()
+      .withNewTemplate()
+      .withNewMetadata().addToLabels("app", name).endMetadata()
+      .withNewSpec()
+      .addNewContainer()
+      .withName(name)
+      .withImage("example/benchmark:latest")
+      .addNewPort().withContainerPort(8080).endPort()
+      .addNewEnv().withName("JAVA_OPTIONS").withValue("-Xmx256m").endEnv()
+      .endContainer()
+      .endSpec()
+      .endTemplate()
+      .endSpec()
+      .build();
+  }
+
+  private static HasMetadata service(String name) {
+    return new ServiceBuilder()
+      .withNewMetadata().withName(name).addToLabels("app", name).endMetadata()
+      .withNewSpec()
+      .withSelector(Collections.singletonMap("app", name))
+      .addNewPort().withPort(8080).withNewTargetPort(8080).endPort()
+      .endSpec()
+      .build();
+  }
+}
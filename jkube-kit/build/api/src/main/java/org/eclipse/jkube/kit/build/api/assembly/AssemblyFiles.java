@@ -16,8 +16,12 @@ package org.eclipse.jkube.kit.build.api.assembly;
 import org.eclipse.jkube.kit.common.AssemblyFileEntry;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -60,6 +64,27 @@ public class AssemblyFiles {
         return entries.stream().filter(AssemblyFileEntry::isUpdated).collect(Collectors.toList());
     }
 
+    /**
+     * Get the top-most directories which contain the source files of the entries (or the source itself in case of a
+     * directory). These are the roots of the directory trees to be monitored for change notifications, directories
+     * nested in another one of the set are left out.
+     *
+     * @return set of directories holding the monitored files
+     */
+    public Set<File> getSourceDirectories() {
+        final List<Path> directories = entries.stream()
+            .map(AssemblyFileEntry::getSource)
+            .map(source -> source.isDirectory() ? source.getAbsoluteFile() : source.getAbsoluteFile().getParentFile())
+            .filter(Objects::nonNull)
+            .map(directory -> directory.toPath().normalize())
+            .distinct()
+            .collect(Collectors.toList());
+        return directories.stream()
+            .filter(directory -> directories.stream().noneMatch(other -> !other.equals(directory) && directory.startsWith(other)))
+            .map(Path::toFile)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
     /**
      * Returns true if there are no entries
      *
@@ -29,6 +29,7 @@ import java.util.Properties;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jkube.kit.build.api.helper.DockerFileUtil;
 import org.eclipse.jkube.kit.common.Assembly;
@@ -40,7 +41,9 @@ import org.eclipse.jkube.kit.common.AssemblyMode;
 import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
+import org.eclipse.jkube.kit.common.archive.IncrementalTarArchiver;
 import org.eclipse.jkube.kit.common.archive.JKubeTarArchiver;
+import org.eclipse.jkube.kit.common.util.BuildTimings;
 import org.eclipse.jkube.kit.common.util.FileUtil;
 import org.eclipse.jkube.kit.common.util.JKubeProjectUtil;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
@@ -64,7 +67,6 @@ import static org.eclipse.jkube.kit.common.archive.AssemblyFileUtils.resolveSour
  */
 public class AssemblyManager {
 
-    private static AssemblyManager dockerAssemblyManager = null;
     public static final String DEFAULT_DATA_BASE_IMAGE = "busybox:latest";
     public static final String SCRATCH_IMAGE = "scratch";
 
@@ -77,10 +79,12 @@ public class AssemblyManager {
     private AssemblyManager() { }
 
     public static AssemblyManager getInstance() {
-        if (dockerAssemblyManager == null) {
-            dockerAssemblyManager = new AssemblyManager();
-        }
-        return dockerAssemblyManager;
+        return InstanceHolder.INSTANCE;
+    }
+
+    // Initialized by the class loader on first access, safe to reach from concurrent image builds
+    private static final class InstanceHolder {
+        private static final AssemblyManager INSTANCE = new AssemblyManager();
     }
 
     /**
@@ -99,21 +103,52 @@ public class AssemblyManager {
         String imageName, final JKubeConfiguration configuration, final BuildConfiguration buildConfig, KitLogger log,
         ArchiverCustomizer finalCustomizer) throws IOException {
 
+        final BuildTimings timings = configuration.getTimings();
+        final BuildDirs buildDirs = createBuildDirs(imageName, configuration);
+        final AssemblyConfiguration assemblyConfig = getAssemblyConfiguration(buildConfig, configuration);
+        final Map<Assembly, List<AssemblyFileEntry>> layers = timings.call("assembly", imageName,
+            () -> copyFilesToFinalTarballDirectory(configuration, buildDirs, assemblyConfig));
+
+        try {
+            // In incremental mode the (otherwise overwritten) intermediate assembly archive is skipped since
+            // it would invalidate the previous build tar ball.
+            final JKubeBuildTarArchiver jkubeTarArchiver = createBuildTarArchiver(configuration, buildConfig,
+                assemblyConfig, buildDirs, layers, log, finalCustomizer, !configuration.isIncrementalBuild());
+            return timings.call("archive", imageName, () ->
+                createBuildTarBall(configuration, buildDirs, jkubeTarArchiver, assemblyConfig, buildConfig.getCompression(), log));
+        } catch (IOException e) {
+            throw new IOException(String.format("Cannot create %s in %s", DOCKERFILE_NAME, buildDirs.getOutputDirectory()), e);
+        }
+    }
+
+    /**
+     * Prepare the build directory from the given configuration and return a writer that streams the docker tar
+     * archive to the Docker host without creating the tar file in the build directory.
+     *
+     * @param imageName Name of the image to create (used for creating build directories)
+     * @param configuration Mojos parameters (used for finding the directories)
+     * @param buildConfig configuration for how to build the image
+     * @param log KitLogger used to display warning if permissions are to be normalized
+     * @param finalCustomizer finalCustomizer to be applied to the tar archive
+     * @return writer for the docker tar archive
+     * @throws IOException IO exception
+     */
+    public BuildContextWriter createDockerTarArchiveWriter(
+        String imageName, final JKubeConfiguration configuration, final BuildConfiguration buildConfig, KitLogger log,
+        ArchiverCustomizer finalCustomizer) throws IOException {
+
         final BuildDirs buildDirs = createBuildDirs(imageName, configuration);
-        final List<ArchiverCustomizer> archiveCustomizers = new ArrayList<>();
         final AssemblyConfiguration assemblyConfig = getAssemblyConfiguration(buildConfig, configuration);
         final Map<Assembly, List<AssemblyFileEntry>> layers = copyFilesToFinalTarballDirectory(
             configuration, buildDirs, assemblyConfig);
 
         try {
-            if (buildConfig.isDockerFileMode()) {
-                createDockerTarArchiveForDockerFile(buildConfig, assemblyConfig, configuration, buildDirs, log, archiveCustomizers);
-            } else {
-                createAssemblyArchive(assemblyConfig, configuration, buildDirs, buildConfig.getCompression(), layers);
-                createDockerTarArchiveForGeneratorMode(buildConfig, buildDirs, archiveCustomizers, assemblyConfig, layers);
-            }
-            archiveCustomizers.addAll(getDefaultCustomizers(configuration, assemblyConfig, finalCustomizer, layers));
-            return createBuildTarBall(configuration, buildDirs, archiveCustomizers, assemblyConfig, buildConfig.getCompression());
+            final JKubeBuildTarArchiver jkubeTarArchiver = createBuildTarArchiver(configuration, buildConfig,
+                assemblyConfig, buildDirs, layers, log, finalCustomizer, false);
+            jkubeTarArchiver.setCompressionThreads(configuration.getCompressionThreads());
+            return jkubeTarArchiver.createArchiveWriter(
+                new AssemblyConfigurationSource(configuration, buildDirs, assemblyConfig).getOutputDirectory(),
+                buildConfig.getCompression());
         } catch (IOException e) {
             throw new IOException(String.format("Cannot create %s in %s", DOCKERFILE_NAME, buildDirs.getOutputDirectory()), e);
         }
@@ -225,18 +260,49 @@ public class AssemblyManager {
         return new File(archiveDir, relativePath);
     }
 
-    // Create final tar-ball to be used for building the archive to send to the Docker daemon
-    private File createBuildTarBall(JKubeConfiguration params, BuildDirs buildDirs, List<ArchiverCustomizer> archiverCustomizers,
-                                    AssemblyConfiguration assemblyConfig, ArchiveCompression compression) throws IOException {
-        AssemblyConfigurationSource source = new AssemblyConfigurationSource(params, buildDirs, assemblyConfig);
+    private JKubeBuildTarArchiver createBuildTarArchiver(
+        JKubeConfiguration configuration, BuildConfiguration buildConfig, AssemblyConfiguration assemblyConfig,
+        BuildDirs buildDirs, Map<Assembly, List<AssemblyFileEntry>> layers, KitLogger log,
+        ArchiverCustomizer finalCustomizer, boolean createAssemblyArchive) throws IOException {
 
+        final List<ArchiverCustomizer> archiveCustomizers = new ArrayList<>();
+        if (buildConfig.isDockerFileMode()) {
+            createDockerTarArchiveForDockerFile(buildConfig, assemblyConfig, configuration, buildDirs, log, archiveCustomizers);
+        } else {
+            if (createAssemblyArchive) {
+                createAssemblyArchive(assemblyConfig, configuration, buildDirs, buildConfig.getCompression(), layers);
+            }
+            createDockerTarArchiveForGeneratorMode(buildConfig, buildDirs, archiveCustomizers, assemblyConfig, layers);
+        }
+        archiveCustomizers.addAll(getDefaultCustomizers(configuration, assemblyConfig, finalCustomizer, layers));
         JKubeBuildTarArchiver jkubeTarArchiver = new JKubeBuildTarArchiver();
-        for (ArchiverCustomizer customizer : archiverCustomizers) {
+        for (ArchiverCustomizer customizer : archiveCustomizers) {
             if (customizer != null) {
                 jkubeTarArchiver = customizer.customize(jkubeTarArchiver);
             }
         }
-        return jkubeTarArchiver.createArchive(source.getOutputDirectory(), buildDirs, compression);
+        return jkubeTarArchiver;
+    }
+
+    // Create final tar-ball to be used for building the archive to send to the Docker daemon
+    private File createBuildTarBall(JKubeConfiguration params, BuildDirs buildDirs, JKubeBuildTarArchiver jkubeTarArchiver,
+                                    AssemblyConfiguration assemblyConfig, ArchiveCompression compression, KitLogger log) throws IOException {
+        AssemblyConfigurationSource source = new AssemblyConfigurationSource(params, buildDirs, assemblyConfig);
+
+        jkubeTarArchiver.setIncremental(params.isIncrementalBuild());
+        jkubeTarArchiver.setCompressionThreads(params.getCompressionThreads());
+        final File archive = jkubeTarArchiver.createArchive(source.getOutputDirectory(), buildDirs, compression);
+        logIncrementalMetrics(jkubeTarArchiver.getIncrementalMetrics(), log);
+        return archive;
+    }
+
+    private static void logIncrementalMetrics(IncrementalTarArchiver.Metrics metrics, KitLogger log) {
+        if (metrics != null && log != null) {
+            log.info("Incremental build context %s: %d entries (%s) reused, %d entries (%s) rewritten",
+                metrics.getArchive().getName(),
+                metrics.getReusedEntries(), FileUtils.byteCountToDisplaySize(metrics.getReusedBytes()),
+                metrics.getWrittenEntries(), FileUtils.byteCountToDisplaySize(metrics.getWrittenBytes()));
+        }
     }
 
     private File createArchiveDir(BuildDirs dirs) throws IOException{
@@ -319,28 +385,29 @@ public class AssemblyManager {
             throw new IllegalStateException("Assemblies with more than one layer require a proper id for each layer");
         }
         for (Assembly layer : layers) {
-            entries.put(layer, copyLayerFilesToFinalTarballDirectory(configuration.getProject(), buildDirs, assemblyConfiguration, layer));
+            entries.put(layer, copyLayerFilesToFinalTarballDirectory(
+                configuration.getProject(), buildDirs, assemblyConfiguration, layer, configuration.isIncrementalBuild()));
         }
         return entries;
     }
 
     private List<AssemblyFileEntry> copyLayerFilesToFinalTarballDirectory(JavaProject project, BuildDirs buildDirs,
-        AssemblyConfiguration assemblyConfiguration, Assembly layer) throws IOException {
+        AssemblyConfiguration assemblyConfiguration, Assembly layer, boolean skipUnmodified) throws IOException {
 
         final List<AssemblyFileEntry> files = new ArrayList<>();
         for (AssemblyFileSet fileSet : getJKubeAssemblyFileSets(layer)) {
             files.addAll(processAssemblyFileSet(
-                project.getBaseDirectory(), buildDirs.getOutputDirectory(), fileSet, layer, assemblyConfiguration));
+                project.getBaseDirectory(), buildDirs.getOutputDirectory(), fileSet, layer, assemblyConfiguration, skipUnmodified));
         }
         for (AssemblyFile file : getJKubeAssemblyFiles(layer)) {
-            files.add(processJKubeProjectAssemblyFile(project, file, buildDirs, layer, assemblyConfiguration));
+            files.add(processJKubeProjectAssemblyFile(project, file, buildDirs, layer, assemblyConfiguration, skipUnmodified));
         }
         return files;
     }
 
     private AssemblyFileEntry processJKubeProjectAssemblyFile(
         JavaProject project, AssemblyFile assemblyFile, BuildDirs buildDirs, Assembly layer,
-        AssemblyConfiguration assemblyConfiguration) throws IOException {
+        AssemblyConfiguration assemblyConfiguration, boolean skipUnmodified) throws IOException {
 
         final File sourceFile = resolveSourceFile(project.getBaseDirectory(), assemblyFile);
 
@@ -350,7 +417,11 @@ public class AssemblyManager {
 
         final String destinationFilename = Optional.ofNullable(assemblyFile.getDestName()).orElse(sourceFile.getName());
         final File destinationFile = new File(outputDirectory, destinationFilename);
-        FileUtil.copy(sourceFile, destinationFile);
+        if (skipUnmodified) {
+            FileUtil.copyIfModified(sourceFile, destinationFile);
+        } else {
+            FileUtil.copy(sourceFile, destinationFile);
+        }
         return new AssemblyFileEntry(sourceFile, destinationFile, assemblyFile.getFileMode());
     }
 
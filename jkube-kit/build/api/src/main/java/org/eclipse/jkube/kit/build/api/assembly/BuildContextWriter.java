@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.api.assembly;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the Docker build context (tar archive with the Dockerfile and the assembly) to a stream.
+ *
+ * <p> Allows sending the build context to the Docker daemon as it's being generated instead of creating an
+ * intermediate tar file first.
+ */
+@FunctionalInterface
+public interface BuildContextWriter {
+
+  /**
+   * Writes the build context tar archive to the provided stream.
+   *
+   * <p> The provided stream is flushed but not closed.
+   *
+   * @param outputStream the stream to write the build context to.
+   * @throws IOException in case the build context can't be written.
+   */
+  void write(OutputStream outputStream) throws IOException;
+}
@@ -22,6 +22,7 @@ import java.util.Map;
 
 import org.eclipse.jkube.kit.common.AssemblyFileEntry;
 import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
+import org.eclipse.jkube.kit.common.archive.IncrementalTarArchiver;
 import org.eclipse.jkube.kit.common.archive.JKubeTarArchiver;
 import org.eclipse.jkube.kit.common.util.FileUtil;
 
@@ -31,6 +32,9 @@ public class JKubeBuildTarArchiver {
     private final Map<File, String> filesToIncludeNameMap = new HashMap<>();
     private final Map<File, String> fileModeMap = new HashMap<>();
     private final List<String> filesNamesToExclude = new ArrayList<>();
+    private boolean incremental;
+    private int compressionThreads = 1;
+    private IncrementalTarArchiver.Metrics incrementalMetrics;
 
     public void includeFile(File inputFile, String destinationFileName) {
         filesToIncludeNameMap.put(inputFile, destinationFileName);
@@ -44,8 +48,63 @@ public class JKubeBuildTarArchiver {
         filesNamesToExclude.add(inputFilePath);
     }
 
+    /**
+     * Enables the incremental mode where the archive created by a previous build is reused as much as possible.
+     *
+     * @param incremental whether to create the archive incrementally.
+     * @see IncrementalTarArchiver
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * Sets the number of threads to use when compressing the archive with {@link ArchiveCompression#gzip}.
+     *
+     * @param compressionThreads the number of compression threads, values lower than 2 disable parallel compression.
+     */
+    public void setCompressionThreads(int compressionThreads) {
+        this.compressionThreads = compressionThreads;
+    }
+
+    /**
+     * @return the metrics of the last archive created in incremental mode, or null if not available.
+     */
+    public IncrementalTarArchiver.Metrics getIncrementalMetrics() {
+        return incrementalMetrics;
+    }
+
     public File createArchive(File inputDirectory, BuildDirs buildDirs, ArchiveCompression compression) throws IOException {
         File outputFile = new File(buildDirs.getTemporaryRootDirectory(), ARCHIVE_FILE_NAME + (compression.equals(ArchiveCompression.none) ? "tar" : compression.getFileSuffix()));
+        List<File> fileListToAddInTarball = prepareFileList(inputDirectory);
+
+        if (incremental) {
+            incrementalMetrics = IncrementalTarArchiver.createTarBall(
+                outputFile, inputDirectory, fileListToAddInTarball, fileModeMap, compression, compressionThreads);
+            return outputFile;
+        }
+        return JKubeTarArchiver.createTarBall(outputFile, inputDirectory, fileListToAddInTarball, fileModeMap, compression,
+            compressionThreads, null, null);
+    }
+
+    /**
+     * Prepares the files to include in the archive and returns a {@link BuildContextWriter} that writes the archive
+     * to a stream instead of to a file.
+     *
+     * @param inputDirectory the directory containing the files to archive.
+     * @param compression the compression to apply to the archive.
+     * @return the writer for the archive.
+     * @throws IOException in case the included files can't be copied to the input directory.
+     */
+    public BuildContextWriter createArchiveWriter(File inputDirectory, ArchiveCompression compression) throws IOException {
+        final List<File> fileListToAddInTarball = prepareFileList(inputDirectory);
+        final Map<File, String> fileModes = new HashMap<>(fileModeMap);
+        final int threads = compressionThreads;
+        return outputStream -> JKubeTarArchiver.writeTarBall(
+            outputStream, inputDirectory, fileListToAddInTarball, fileModes, compression, threads);
+    }
+
+    private List<File> prepareFileList(File inputDirectory) throws IOException {
         List<File> files = FileUtil.listFilesAndDirsRecursivelyInDirectory(inputDirectory);
 
         if (!filesToIncludeNameMap.isEmpty()) {
@@ -60,7 +119,11 @@ public class JKubeBuildTarArchiver {
                 }
                 File targetFile = new File(inputDirectory, targetFileName);
                 if (!srcFile.equals(targetFile)) {
-                    FileUtil.copy(srcFile, targetFile);
+                    if (incremental) {
+                        FileUtil.copyIfModified(srcFile, targetFile);
+                    } else {
+                        FileUtil.copy(srcFile, targetFile);
+                    }
                     files.add(targetFile);
                 }
             }
@@ -73,7 +136,6 @@ public class JKubeBuildTarArchiver {
             }
             fileListToAddInTarball.add(currentFile);
         }
-
-        return JKubeTarArchiver.createTarBall(outputFile, inputDirectory, fileListToAddInTarball, fileModeMap, compression);
+        return fileListToAddInTarball;
     }
-}
\ No newline at end of file
+}
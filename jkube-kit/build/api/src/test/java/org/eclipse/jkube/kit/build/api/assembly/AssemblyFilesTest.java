@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.api.assembly;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.eclipse.jkube.kit.common.AssemblyFileEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssemblyFilesTest {
+
+  @TempDir
+  private Path temporaryFolder;
+
+  @Test
+  void getSourceDirectories_withNestedDirectories_returnsTopMostDirectories() throws IOException {
+    // Given
+    final Path target = Files.createDirectory(temporaryFolder.resolve("target"));
+    final Path classes = Files.createDirectories(target.resolve("classes").resolve("org"));
+    final Path other = Files.createDirectory(temporaryFolder.resolve("other"));
+    final AssemblyFiles assemblyFiles = new AssemblyFiles(temporaryFolder.resolve("assembly").toFile());
+    assemblyFiles.addEntry(entry(Files.createFile(classes.resolve("App.class"))));
+    assemblyFiles.addEntry(entry(Files.createFile(target.resolve("app.jar"))));
+    assemblyFiles.addEntry(entry(other));
+    // When
+    final Set<File> result = assemblyFiles.getSourceDirectories();
+    // Then
+    assertThat(result).containsExactly(target.toFile(), other.toFile());
+  }
+
+  private static AssemblyFileEntry entry(Path source) {
+    return AssemblyFileEntry.builder().source(source.toFile()).dest(new File("dest")).build();
+  }
+}
@@ -15,6 +15,7 @@ package org.eclipse.jkube.kit.build.api.assembly;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -44,6 +45,8 @@ import org.junit.jupiter.api.io.TempDir;
 
 import static org.apache.commons.io.FilenameUtils.separatorsToSystem;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 class AssemblyManagerCreateDockerTarArchiveTest {
 
@@ -176,6 +179,77 @@ class AssemblyManagerCreateDockerTarArchiveTest {
         .hasContent("Modified content");
   }
 
+  @Test
+  void withoutDockerfileAndIncrementalBuild_reusesPreviousArchive() throws IOException {
+    // Given
+    final JKubeConfiguration jKubeConfiguration = createJKubeConfiguration().toBuilder().incrementalBuild(true).build();
+    final BuildConfiguration buildConfiguration = BuildConfiguration.builder().build();
+    final KitLogger logger = spy(new KitLogger.SilentLogger());
+    assemblyManager.createDockerTarArchive(
+        "incremental-image", jKubeConfiguration, buildConfiguration, logger, null);
+
+    // When
+    File dockerArchiveFile = assemblyManager.createDockerTarArchive(
+        "incremental-image", jKubeConfiguration, buildConfiguration, logger, null);
+
+    // Then
+    ArchiveAssertions.assertThat(dockerArchiveFile)
+        .isFile()
+        .hasName("docker-build.tar")
+        .hasSameContentAsDirectory(getExpectedDirectory("without-dockerfile"));
+    assertThat(dockerArchiveFile.toPath().resolveSibling("docker-build.tar.manifest.json")).isRegularFile();
+    verify(logger).info("Incremental build context %s: %d entries (%s) reused, %d entries (%s) rewritten",
+        "docker-build.tar", 0, "0 bytes", 5, "88 bytes");
+    verify(logger).info("Incremental build context %s: %d entries (%s) reused, %d entries (%s) rewritten",
+        "docker-build.tar", 5, "88 bytes", 0, "0 bytes");
+  }
+
+  @Test
+  void withoutDockerfileAndIncrementalBuildAndModifiedArtifact_updatesArchive() throws IOException {
+    // Given
+    final JKubeConfiguration jKubeConfiguration = createJKubeConfiguration().toBuilder().incrementalBuild(true).build();
+    final BuildConfiguration buildConfiguration = BuildConfiguration.builder().build();
+    assemblyManager.createDockerTarArchive(
+        "incremental-modified-image", jKubeConfiguration, buildConfiguration, prefixedLogger, null);
+    writeLineToFile(jKubeConfiguration.getProject().getArtifact(), "Modified content");
+
+    // When
+    File dockerArchiveFile = assemblyManager.createDockerTarArchive(
+        "incremental-modified-image", jKubeConfiguration, buildConfiguration, prefixedLogger, null);
+
+    // Then
+    ArchiveAssertions.assertThat(dockerArchiveFile)
+        .isFile()
+        .hasName("docker-build.tar")
+        .hasSameContentAsDirectory(getExpectedDirectory("without-dockerfile-and-already-existing-file-in-assembly-gets-overwritten"));
+    assertThat(resolveDockerBuild("incremental-modified-image")
+        .resolve("jkube-generated-layer-final-artifact").resolve("maven").resolve("test-0.1.0.jar"))
+        .hasContent("Modified content");
+  }
+
+  @Test
+  void withoutDockerfileAndWriter_writesArchiveToStreamWithoutCreatingTarFile() throws IOException {
+    // Given
+    final JKubeConfiguration jKubeConfiguration = createJKubeConfiguration();
+    final BuildConfiguration buildConfiguration = BuildConfiguration.builder().build();
+    final File streamedArchive = temporaryFolder.resolve("streamed.tar").toFile();
+
+    // When
+    final BuildContextWriter writer = assemblyManager.createDockerTarArchiveWriter(
+        "streamed-image", jKubeConfiguration, buildConfiguration, prefixedLogger, null);
+    try (OutputStream outputStream = Files.newOutputStream(streamedArchive.toPath())) {
+      writer.write(outputStream);
+    }
+
+    // Then
+    assertTargetHasDockerDirectories("streamed-image");
+    ArchiveAssertions.assertThat(streamedArchive)
+        .isFile()
+        .hasSameContentAsDirectory(getExpectedDirectory("without-dockerfile"));
+    assertThat(targetDirectory.toPath().resolve("docker").resolve("streamed-image").resolve("tmp"))
+        .isEmptyDirectory();
+  }
+
   @Test
   void withDockerfileInBaseDirectory() throws IOException {
     // Given
@@ -18,6 +18,7 @@ import org.eclipse.jkube.kit.common.JKubeConfiguration;
 import org.eclipse.jkube.kit.build.api.assembly.ArchiverCustomizer;
 import org.eclipse.jkube.kit.build.api.assembly.AssemblyFiles;
 import org.eclipse.jkube.kit.build.api.assembly.AssemblyManager;
+import org.eclipse.jkube.kit.build.api.assembly.BuildContextWriter;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import org.eclipse.jkube.kit.config.image.build.BuildConfiguration;
 import org.eclipse.jkube.kit.common.KitLogger;
@@ -103,4 +104,9 @@ public class ArchiveService {
             throws IOException {
         return assemblyManager.createDockerTarArchive(imageName, params, buildConfig, log, customizer);
     }
+
+    BuildContextWriter createArchiveWriter(String imageName, BuildConfiguration buildConfig, JKubeConfiguration params, KitLogger log)
+            throws IOException {
+        return assemblyManager.createDockerTarArchiveWriter(imageName, params, buildConfig, log, null);
+    }
 }
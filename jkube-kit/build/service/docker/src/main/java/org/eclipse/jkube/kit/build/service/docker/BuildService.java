@@ -24,6 +24,7 @@ import java.util.LinkedList;
 import org.eclipse.jkube.kit.common.JKubeConfiguration;
 import org.eclipse.jkube.kit.build.api.helper.DockerFileUtil;
 import org.eclipse.jkube.kit.build.api.assembly.AssemblyManager;
+import org.eclipse.jkube.kit.build.api.assembly.BuildContextWriter;
 import org.eclipse.jkube.kit.common.util.EnvUtil;
 import org.eclipse.jkube.kit.build.service.docker.access.BuildOptions;
 import org.eclipse.jkube.kit.build.service.docker.access.DockerAccess;
@@ -123,9 +124,6 @@ public class BuildService {
             return;
         }
 
-        File dockerArchive = archiveService.createArchive(imageName, buildConfig, params, log);
-        log.info("%s: Created %s in %s", imageConfig.getDescription(), dockerArchive.getName(), EnvUtil.formatDurationTill(time));
-
         // auto is now supported by docker, consider switching?
         BuildOptions opts =
                 new BuildOptions(buildConfig.getBuildOptions())
@@ -134,7 +132,16 @@ public class BuildService {
                         .noCache(noCache)
                         .cacheFrom(buildConfig.getCacheFrom())
                         .buildArgs(buildArgs);
-        String newImageId = doBuildImage(imageName, dockerArchive, opts);
+        String newImageId;
+        if (params.isStreamBuildContext()) {
+            BuildContextWriter buildContextWriter = archiveService.createArchiveWriter(imageName, buildConfig, params, log);
+            log.info("%s: Prepared build context in %s", imageConfig.getDescription(), EnvUtil.formatDurationTill(time));
+            newImageId = doBuildImage(imageName, buildContextWriter, opts);
+        } else {
+            File dockerArchive = archiveService.createArchive(imageName, buildConfig, params, log);
+            log.info("%s: Created %s in %s", imageConfig.getDescription(), dockerArchive.getName(), EnvUtil.formatDurationTill(time));
+            newImageId = doBuildImage(imageName, dockerArchive, opts);
+        }
         if (newImageId == null) {
             throw new IllegalStateException("Failure in building image, unable to find image built with name " + imageName);
         }
@@ -169,6 +176,12 @@ public class BuildService {
         return queryService.getImageId(imageName);
     }
 
+    private String doBuildImage(String imageName, BuildContextWriter buildContextWriter, BuildOptions options)
+            throws DockerAccessException {
+        docker.buildImageFromStream(imageName, buildContextWriter, options);
+        return queryService.getImageId(imageName);
+    }
+
     private void autoPullBaseImage(ImageConfiguration imageConfig, ImagePullManager imagePullManager,
             JKubeConfiguration configuration, Map<String, String> mergedBuildArgs)
             throws IOException {
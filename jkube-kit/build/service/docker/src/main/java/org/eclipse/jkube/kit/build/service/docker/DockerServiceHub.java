@@ -26,6 +26,7 @@ import org.eclipse.jkube.kit.common.KitLogger;
 public class DockerServiceHub {
 
     private final DockerAccess dockerAccess;
+    private final AssemblyManager assemblyManager;
     private final RegistryService registryService;
     private final BuildService buildService;
     private final ArchiveService archiveService;
@@ -46,6 +47,7 @@ public class DockerServiceHub {
                      KitLogger logger) {
 
         this.dockerAccess = dockerAccess;
+        this.assemblyManager = assemblyManager;
 
         archiveService = new ArchiveService(assemblyManager, logger);
 
@@ -61,6 +63,16 @@ public class DockerServiceHub {
         }
     }
 
+    /**
+     * Get a service hub sharing the docker access of this hub whose services log through the provided logger
+     *
+     * @param logger the logger to use
+     * @return service hub with the provided logger
+     */
+    public DockerServiceHub withLogger(KitLogger logger) {
+        return new DockerServiceHub(dockerAccess, assemblyManager, logger);
+    }
+
     /**
      * Get access object for contacting the docker daemon
      *
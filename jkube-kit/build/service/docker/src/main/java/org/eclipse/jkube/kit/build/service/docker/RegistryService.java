@@ -14,12 +14,20 @@
 package org.eclipse.jkube.kit.build.service.docker;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.eclipse.jkube.kit.build.api.auth.AuthConfig;
 import org.eclipse.jkube.kit.build.service.docker.access.CreateImageOptions;
 import org.eclipse.jkube.kit.build.service.docker.access.DockerAccess;
+import org.eclipse.jkube.kit.build.service.docker.access.registry.RegistryManifestClient;
 import org.eclipse.jkube.kit.build.service.docker.auth.DockerAuthConfigFactory;
 import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.AsyncUtil;
 import org.eclipse.jkube.kit.common.util.EnvUtil;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import org.eclipse.jkube.kit.config.image.ImageName;
@@ -48,6 +56,10 @@ public class RegistryService {
     /**
      * Push a set of images to a registry
      *
+     * <p> Additional tags are applied once the image has been pushed, either by uploading the pushed manifest with each
+     * of the tags when {@link RegistryConfig#isRemoteTagging()} is enabled, or by pushing them (concurrently when
+     * {@link RegistryConfig#getParallelism()} is greater than 1).
+     *
      * @param imageConfig image to push (but only if they have a build configuration)
      * @param retries how often to retry
      * @param registryConfig a global registry configuration
@@ -69,16 +81,83 @@ public class RegistryService {
             log.info("Pushed %s in %s", name, EnvUtil.formatDurationTill(start));
 
             if (!skipTag) {
-                for (String tag : imageConfig.getBuildConfiguration().getTags()) {
-                    if (tag != null) {
+                pushTags(imageConfig, retries, registryConfig, configuredRegistry, authConfig);
+            }
+        }
+    }
+
+    private void pushTags(
+      ImageConfiguration imageConfig, int retries, RegistryConfig registryConfig, String configuredRegistry,
+      AuthConfig authConfig) throws IOException {
+
+        final String name = imageConfig.getName();
+        final List<String> tags = new ArrayList<>();
+        for (String tag : imageConfig.getBuildConfiguration().getTags()) {
+            if (tag != null) {
+                tags.add(tag);
+            }
+        }
+        if (tags.isEmpty()) {
+            return;
+        }
+        final List<String> remainingTags = registryConfig.isRemoteTagging() ?
+            tagInRegistry(name, tags, configuredRegistry, authConfig) : tags;
+        final int parallelism = Math.min(registryConfig.getParallelism(), remainingTags.size());
+        if (parallelism > 1) {
+            pushConcurrently(name, remainingTags, authConfig, configuredRegistry, retries, parallelism);
+        } else {
+            for (String tag : remainingTags) {
+                docker.pushImage(new ImageName(name, tag).getFullName(), authConfig, configuredRegistry, retries);
+            }
+        }
+    }
+
+    /**
+     * Applies the provided tags to the already pushed image by uploading its manifest with each of the tags.
+     *
+     * @return the tags that couldn't be applied and need to be pushed from the Docker daemon.
+     */
+    private List<String> tagInRegistry(String name, List<String> tags, String configuredRegistry, AuthConfig authConfig) {
+        final ImageName pushedImage = new ImageName(new ImageName(name).getFullName(configuredRegistry));
+        final List<String> remainingTags = new ArrayList<>(tags);
+        try (RegistryManifestClient manifestClient = new RegistryManifestClient(
+          pushedImage.getRegistry(), pushedImage.getRepository(), authConfig)) {
+            final RegistryManifestClient.Manifest manifest = manifestClient.getManifest(pushedImage.getTag());
+            for (String tag : tags) {
+                manifestClient.putManifest(tag, manifest);
+                log.info("Tagged %s as %s in registry", pushedImage.getFullName(), tag);
+                remainingTags.remove(tag);
+            }
+        } catch (IOException e) {
+            log.warn("Unable to tag %s in registry, pushing remaining tags from Docker daemon: %s",
+                pushedImage.getFullName(), e.getMessage());
+        }
+        return remainingTags;
+    }
+
+    private void pushConcurrently(
+      String name, List<String> tags, AuthConfig authConfig, String configuredRegistry, int retries, int parallelism)
+      throws IOException {
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+        try {
+            final List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (String tag : tags) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
                         docker.pushImage(new ImageName(name, tag).getFullName(), authConfig, configuredRegistry, retries);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
                     }
-                }
+                }, executorService));
             }
+            AsyncUtil.joinAll(futures, cause -> cause instanceof IOException ?
+                (IOException) cause : new IOException(cause.getMessage(), cause));
+        } finally {
+            executorService.shutdownNow();
         }
     }
 
-
     /**
      * Check an image, and, if <code>autoPull</code> is set to true, fetch it. Otherwise if the image
      * is not existent, throw an error
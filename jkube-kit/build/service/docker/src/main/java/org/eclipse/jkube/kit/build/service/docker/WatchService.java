@@ -16,14 +16,17 @@ package org.eclipse.jkube.kit.build.service.docker;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jkube.kit.build.api.assembly.AssemblyFiles;
 import org.eclipse.jkube.kit.build.service.docker.watch.CopyFilesTask;
+import org.eclipse.jkube.kit.build.service.docker.watch.DirectoryWatcher;
 import org.eclipse.jkube.kit.build.service.docker.watch.ExecTask;
 import org.eclipse.jkube.kit.build.service.docker.watch.WatchContext;
 import org.eclipse.jkube.kit.build.service.docker.watch.WatchException;
@@ -54,13 +57,18 @@ public class WatchService {
     public synchronized void watch(WatchContext context, List<ImageConfiguration> images) throws IOException {
         // Important to be a single threaded scheduler since watch jobs must run serialized
         ScheduledExecutorService executor = null;
+        DirectoryWatcher directoryWatcher = null;
         try {
             executor = Executors.newSingleThreadScheduledExecutor();
+            directoryWatcher = DirectoryWatcher.forDefaultFileSystem(Math.max(context.getWatchInterval(), 100),
+                getBuildOutputDirectories(context.getBuildContext()), log);
+            if (directoryWatcher == null) {
+                log.info("File system change notifications are not available, polling for changes");
+            }
 
             for (ImageConfiguration imageConfig : images) {
 
                 ImageWatcher watcher = new ImageWatcher(imageConfig, context);
-                long interval = watcher.getInterval();
 
                 WatchMode watchMode = watcher.getWatchMode(imageConfig);
                 log.info("Watching %s %s", imageConfig.getName(), (watchMode != null ? " using " + watchMode.getDescription() : ""));
@@ -70,12 +78,16 @@ public class WatchService {
                 if (imageConfig.getBuildConfiguration() != null &&
                         imageConfig.getBuildConfiguration().getAssembly() != null) {
                     if (watcher.isCopy()) {
-                        schedule(executor, createCopyWatchTask(watcher, context.getBuildContext()), interval);
+                        final AssemblyFiles files = archiveService.getAssemblyFiles(imageConfig, context.getBuildContext());
+                        schedule(executor, directoryWatcher, watcher, files,
+                            createCopyWatchTask(watcher, files, context.getBuildContext()));
                         tasks.add("copying artifacts");
                     }
 
                     if (watcher.isBuild()) {
-                        schedule(executor, createBuildWatchTask(watcher, context.getBuildContext()), interval);
+                        final AssemblyFiles files = archiveService.getAssemblyFiles(imageConfig, context.getBuildContext());
+                        schedule(executor, directoryWatcher, watcher, files,
+                            createBuildWatchTask(watcher, files, context.getBuildContext()));
                         tasks.add("rebuilding");
                     }
                 }
@@ -84,26 +96,68 @@ public class WatchService {
                     log.info("%s: Watch for %s", imageConfig.getDescription(), String.join(" and ", tasks));
                 }
             }
+            if (directoryWatcher != null) {
+                directoryWatcher.start();
+            }
             log.info("Waiting ...");
             wait();
         } catch (InterruptedException e) {
             log.warn("Interrupted");
             Thread.currentThread().interrupt();
         } finally {
+            if (directoryWatcher != null) {
+                directoryWatcher.close();
+            }
             if (executor != null) {
                 executor.shutdownNow();
             }
         }
     }
 
-    private void schedule(ScheduledExecutorService executor, Runnable runnable, long interval) {
-        executor.scheduleAtFixedRate(runnable, 0, interval, TimeUnit.MILLISECONDS);
+    /**
+     * Schedules the task to run whenever the source directories of the assembly files report a change, or at a fixed
+     * rate when file system change notifications aren't available.
+     *
+     * <p> Notifications received within the debounce window of the first one are coalesced into a single run.
+     */
+    private void schedule(ScheduledExecutorService executor, DirectoryWatcher directoryWatcher,
+                          ImageWatcher watcher, AssemblyFiles files, Runnable task) {
+        if (directoryWatcher == null) {
+            executor.scheduleAtFixedRate(task, 0, watcher.getInterval(), TimeUnit.MILLISECONDS);
+            return;
+        }
+        final AtomicBoolean scheduled = new AtomicBoolean(true);
+        final Runnable run = () -> {
+            scheduled.set(false);
+            task.run();
+        };
+        // Initial check for changes since the assembly files were collected
+        executor.execute(run);
+        directoryWatcher.register(files.getSourceDirectories(), () -> {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.schedule(run, watcher.getDebounce(), TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
+    /**
+     * Directories where the images are assembled and built, changes there are produced by the watch tasks themselves.
+     */
+    private static List<File> getBuildOutputDirectories(JKubeConfiguration configuration) {
+        if (configuration == null || StringUtils.isBlank(configuration.getOutputDirectory())) {
+            return Collections.emptyList();
+        }
+        File outputDirectory = new File(configuration.getOutputDirectory());
+        if (!outputDirectory.isAbsolute() && configuration.getProject() != null
+            && configuration.getProject().getBaseDirectory() != null) {
+            outputDirectory = new File(configuration.getProject().getBaseDirectory(), configuration.getOutputDirectory());
+        }
+        return Collections.singletonList(outputDirectory.getAbsoluteFile());
     }
 
-    private Runnable createCopyWatchTask(final ImageWatcher watcher,
-                                         final JKubeConfiguration jKubeConfiguration) throws IOException {
+    private Runnable createCopyWatchTask(final ImageWatcher watcher, final AssemblyFiles files,
+                                         final JKubeConfiguration jKubeConfiguration) {
         final ImageConfiguration imageConfig = watcher.getImageConfiguration();
-        final AssemblyFiles files = archiveService.getAssemblyFiles(imageConfig, jKubeConfiguration);
         return () -> {
             List<AssemblyFileEntry> entries = files.getUpdatedEntriesAndRefresh();
             if (!entries.isEmpty()) {
@@ -138,10 +192,9 @@ public class WatchService {
         }
     }
 
-    Runnable createBuildWatchTask(final ImageWatcher watcher, final JKubeConfiguration jKubeConfiguration)
-            throws IOException {
+    Runnable createBuildWatchTask(final ImageWatcher watcher, final AssemblyFiles files,
+                                  final JKubeConfiguration jKubeConfiguration) throws IOException {
         final ImageConfiguration imageConfig = watcher.getImageConfiguration();
-        final AssemblyFiles files = archiveService.getAssemblyFiles(imageConfig, jKubeConfiguration);
         if (files.isEmpty()) {
             log.error("No assembly files for %s. Are you sure you invoked together with the `package` goal?", imageConfig.getDescription());
             throw new IOException("No files to watch found for " + imageConfig);
@@ -179,6 +232,7 @@ public class WatchService {
         private final WatchContext watchContext;
         private final WatchMode mode;
         private final long interval;
+        private final long debounce;
         private final String postGoal;
         private final String postExec;
 
@@ -187,6 +241,7 @@ public class WatchService {
             this.watchContext = watchContext;
 
             this.interval = getWatchInterval(imageConfig);
+            this.debounce = Math.max(watchContext.getWatchDebounce(), 0);
             this.mode = getWatchMode(imageConfig);
             this.postGoal = getPostGoal(imageConfig);
             this.postExec = getPostExec(imageConfig);
@@ -196,6 +251,10 @@ public class WatchService {
             return interval;
         }
 
+        public long getDebounce() {
+            return debounce;
+        }
+
         public String getPostGoal() {
             return postGoal;
         }
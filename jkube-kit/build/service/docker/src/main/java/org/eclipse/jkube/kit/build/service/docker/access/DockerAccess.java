@@ -13,6 +13,7 @@
  */
 package org.eclipse.jkube.kit.build.service.docker.access;
 
+import org.eclipse.jkube.kit.build.api.assembly.BuildContextWriter;
 import org.eclipse.jkube.kit.build.api.auth.AuthConfig;
 import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
 
@@ -89,6 +90,17 @@ public interface DockerAccess {
      */
     void buildImage(String image, File dockerArchive, BuildOptions options) throws DockerAccessException;
 
+    /**
+     * Create a docker image streaming the build context to the Docker host as it's being written
+     *
+     * @param image name of the image to build or <code>null</code> if none should be used
+     * @param buildContextWriter writes the docker tar archive from which the docker image should be build
+     * @param options additional query arguments to add when building the image. Can be null.
+     * @throws DockerAccessException if docker host reports an error during building of an image
+     */
+    void buildImageFromStream(String image, BuildContextWriter buildContextWriter, BuildOptions options)
+        throws DockerAccessException;
+
     /**
      * Alias an image in the repository with a complete new name. (Note that this maps to a Docker Remote API 'tag'
      * operation, which IMO is badly named since it also can generate a complete alias to a given image)
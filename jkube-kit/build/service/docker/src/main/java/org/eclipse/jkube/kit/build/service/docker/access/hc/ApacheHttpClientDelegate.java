@@ -22,6 +22,7 @@ import java.util.Map.Entry;
 
 import org.eclipse.jkube.kit.build.service.docker.access.hc.http.HttpRequestException;
 import org.eclipse.jkube.kit.build.service.docker.access.hc.util.ClientBuilder;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
 import org.apache.http.StatusLine;
@@ -139,6 +140,9 @@ public class ApacheHttpClientDelegate {
         if (body instanceof File) {
             req.addHeader(HttpHeaders.CONTENT_TYPE, URLConnection.guessContentTypeFromName(((File)body).getName()));
         }
+        if (body instanceof HttpEntity && ((HttpEntity) body).getContentType() != null) {
+            req.addHeader(((HttpEntity) body).getContentType());
+        }
         if (body != null && !req.containsHeader(HttpHeaders.CONTENT_TYPE)) {
             req.addHeader(HttpHeaders.CONTENT_TYPE, "application/json");
         }
@@ -170,6 +174,8 @@ public class ApacheHttpClientDelegate {
         if (entity != null) {
             if (entity instanceof File) {
                 request.setEntity(new FileEntity((File) entity));
+            } else if (entity instanceof HttpEntity) {
+                request.setEntity((HttpEntity) entity);
             } else {
                 request.setEntity(new StringEntity((String) entity, Charset.defaultCharset()));
             }
@@ -25,6 +25,7 @@ import java.util.Objects;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import org.eclipse.jkube.kit.build.api.assembly.BuildContextWriter;
 import org.eclipse.jkube.kit.build.api.auth.AuthConfig;
 import org.eclipse.jkube.kit.build.service.docker.access.BuildOptions;
 import org.eclipse.jkube.kit.build.service.docker.access.CreateImageOptions;
@@ -47,6 +48,7 @@ import org.apache.http.client.HttpResponseException;
 import org.apache.http.client.ResponseHandler;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
+import org.apache.http.entity.EntityTemplate;
 
 import static java.net.HttpURLConnection.HTTP_CREATED;
 import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
@@ -131,6 +133,20 @@ public class DockerAccessWithHcClient implements DockerAccess {
         }
     }
 
+    @Override
+    public void buildImageFromStream(String image, BuildContextWriter buildContextWriter, BuildOptions options)
+        throws DockerAccessException {
+        try {
+            String url = urlBuilder.buildImage(image, options);
+            final EntityTemplate buildContext = new EntityTemplate(buildContextWriter::write);
+            buildContext.setContentType("application/x-tar");
+            buildContext.setChunked(true);
+            delegate.post(url, buildContext, createBuildResponseHandler(), HTTP_OK);
+        } catch (IOException e) {
+            throw new DockerAccessException(e, "Unable to build image [%s]", image);
+        }
+    }
+
     @Override
     public boolean hasImage(String name) throws DockerAccessException {
         String url = urlBuilder.inspectImage(name);
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker.access.registry;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.utils.HttpClientUtils;
+import io.fabric8.kubernetes.client.utils.Utils;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.jkube.kit.build.api.auth.AuthConfig;
+import org.eclipse.jkube.kit.common.util.Base64Util;
+import org.eclipse.jkube.kit.common.util.RegistryTokenInterceptor;
+
+import static java.net.HttpURLConnection.HTTP_CREATED;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static org.eclipse.jkube.kit.common.util.AsyncUtil.get;
+
+/**
+ * Minimal client for the <a href="https://distribution.github.io/distribution/spec/api/">Registry HTTP API V2</a>
+ * manifest endpoints.
+ *
+ * <p> Allows to tag an image that was already pushed to a registry by uploading its manifest with a different
+ * reference, no layer needs to be uploaded (or checked) again.
+ *
+ * <p> Requests are performed with the same HTTP client and registry authentication as the Helm OCI uploads, the
+ * client honors the <code>HTTP_PROXY</code>, <code>HTTPS_PROXY</code> and <code>NO_PROXY</code> settings.
+ */
+public class RegistryManifestClient implements Closeable {
+
+  static final String MANIFEST_MEDIA_TYPES = String.join(",",
+      "application/vnd.oci.image.index.v1+json",
+      "application/vnd.oci.image.manifest.v1+json",
+      "application/vnd.docker.distribution.manifest.list.v2+json",
+      "application/vnd.docker.distribution.manifest.v2+json");
+  private static final String DEFAULT_MANIFEST_MEDIA_TYPE = "application/vnd.docker.distribution.manifest.v2+json";
+  private static final String DOCKER_HUB_REGISTRY = "docker.io";
+  private static final String DOCKER_HUB_API_HOST = "registry-1.docker.io";
+  private static final List<String> LOCAL_HOSTS = Arrays.asList("localhost", "127.0.0.1", "[::1]");
+  private static final long REGISTRY_HTTP_REQUEST_TIMEOUT_MINUTES = 1;
+
+  private final String registryUrl;
+  private final String repository;
+  private final HttpClient authClient;
+  private final HttpClient httpClient;
+
+  /**
+   * @param registry the registry host (and port) where the repository is hosted, <code>null</code> for Docker Hub.
+   * @param repository the repository name (e.g. <code>user/image</code>).
+   * @param authConfig the credentials to authenticate with the registry, can be <code>null</code>.
+   */
+  public RegistryManifestClient(String registry, String repository, AuthConfig authConfig) {
+    this(registry, repository, authConfig, HttpClientUtils.getHttpClientFactory());
+  }
+
+  RegistryManifestClient(String registry, String repository, AuthConfig authConfig, HttpClient.Factory httpClientFactory) {
+    final boolean dockerHub = StringUtils.isBlank(registry) || DOCKER_HUB_REGISTRY.equals(registry);
+    this.registryUrl = dockerHub ? "https://" + DOCKER_HUB_API_HOST : getScheme(registry) + "://" + registry;
+    this.repository = dockerHub && !repository.contains("/") ? "library/" + repository : repository;
+    final Config config = createConfig(registryUrl);
+    final String[] credentials = getCredentials(authConfig);
+    this.authClient = httpClientFactory.newBuilder(config).build();
+    this.httpClient = httpClientFactory.newBuilder(config)
+        .addOrReplaceInterceptor(RegistryTokenInterceptor.NAME,
+            new RegistryTokenInterceptor(authClient, credentials[0], credentials[1]))
+        .build();
+  }
+
+  /**
+   * Retrieves the manifest for the provided reference.
+   *
+   * @param reference the tag or digest of the manifest.
+   * @return the manifest.
+   * @throws IOException if the manifest can't be retrieved.
+   */
+  public Manifest getManifest(String reference) throws IOException {
+    final HttpRequest request = httpClient.newHttpRequestBuilder()
+        .uri(manifestUrl(reference))
+        .header("Accept", MANIFEST_MEDIA_TYPES)
+        .build();
+    final HttpResponse<byte[]> response = send(request);
+    if (response.code() != HTTP_OK || response.body() == null) {
+      throw new IOException(String.format("Unable to retrieve manifest %s:%s from %s (%d)",
+          repository, reference, registryUrl, response.code()));
+    }
+    return new Manifest(response.header("Content-Type"), response.body());
+  }
+
+  /**
+   * Uploads the provided manifest with the provided tag.
+   *
+   * @param tag the tag to apply to the manifest.
+   * @param manifest the manifest to upload.
+   * @throws IOException if the manifest can't be uploaded.
+   */
+  public void putManifest(String tag, Manifest manifest) throws IOException {
+    final HttpRequest request = httpClient.newHttpRequestBuilder()
+        .uri(manifestUrl(tag))
+        .put(StringUtils.defaultIfBlank(manifest.getMediaType(), DEFAULT_MANIFEST_MEDIA_TYPE),
+            new ByteArrayInputStream(manifest.getContent()), manifest.getContent().length)
+        .build();
+    final HttpResponse<byte[]> response = send(request);
+    if (response.code() != HTTP_CREATED) {
+      throw new IOException(String.format("Unable to tag %s:%s in %s (%d)",
+          repository, tag, registryUrl, response.code()));
+    }
+  }
+
+  @Override
+  public void close() {
+    httpClient.close();
+    authClient.close();
+  }
+
+  private String manifestUrl(String reference) {
+    return registryUrl + "/v2/" + repository + "/manifests/" + reference;
+  }
+
+  private HttpResponse<byte[]> send(HttpRequest request) throws IOException {
+    try {
+      return get(httpClient.sendAsync(request, byte[].class), Duration.ofMinutes(REGISTRY_HTTP_REQUEST_TIMEOUT_MINUTES));
+    } catch (IllegalStateException e) {
+      throw new IOException("Unable to reach " + registryUrl + ": " + e.getMessage(), e);
+    }
+  }
+
+  private static Config createConfig(String registryUrl) {
+    // Proxies are resolved against the master URL, point it to the registry so that NO_PROXY is honored
+    final Config config = Config.empty();
+    config.setMasterUrl(registryUrl);
+    config.setHttpProxy(Utils.getSystemPropertyOrEnvVar(Config.KUBERNETES_HTTP_PROXY));
+    config.setHttpsProxy(Utils.getSystemPropertyOrEnvVar(Config.KUBERNETES_HTTPS_PROXY));
+    final String noProxy = Utils.getSystemPropertyOrEnvVar(Config.KUBERNETES_NO_PROXY);
+    if (StringUtils.isNotBlank(noProxy)) {
+      config.setNoProxy(noProxy.split(","));
+    }
+    return config;
+  }
+
+  private static String[] getCredentials(AuthConfig authConfig) {
+    if (authConfig != null && StringUtils.isNotBlank(authConfig.getUsername())) {
+      return new String[] { authConfig.getUsername(), StringUtils.defaultString(authConfig.getPassword()) };
+    }
+    if (authConfig != null && StringUtils.isNotBlank(authConfig.getAuth())) {
+      final String[] decoded = Base64Util.decodeToString(authConfig.getAuth()).split(":", 2);
+      if (decoded.length == 2) {
+        return decoded;
+      }
+    }
+    return new String[] { null, null };
+  }
+
+  private static String getScheme(String registry) {
+    final String host = registry.startsWith("[") ?
+        registry.substring(0, registry.indexOf(']') + 1) : registry.split(":")[0];
+    return LOCAL_HOSTS.contains(host) ? "http" : "https";
+  }
+
+  @Getter
+  public static final class Manifest {
+    private final String mediaType;
+    private final byte[] content;
+
+    Manifest(String mediaType, byte[] content) {
+      this.mediaType = mediaType;
+      this.content = content;
+    }
+  }
+}
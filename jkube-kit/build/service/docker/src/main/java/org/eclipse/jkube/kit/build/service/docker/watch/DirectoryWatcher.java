@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker.watch;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.jkube.kit.common.KitLogger;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+/**
+ * Monitors directory trees using the file system change notifications (e.g. inotify on Linux) and notifies the
+ * listeners registered for a directory whenever a file in it, or in any of its subdirectories, is created, modified
+ * or deleted.
+ *
+ * <p> Subdirectories created while being watched are registered as well. Directories that don't exist yet, or that
+ * are deleted while being watched (e.g. by a clean build), are registered again as soon as they are available. Their
+ * listeners are notified at that point since their content is new.
+ *
+ * <p> Subdirectories of the excluded directories (e.g. the JKube build output, which is written on every rebuild) are
+ * never watched, unless a watched directory is itself part of an excluded one. If a directory tree can't be fully
+ * registered (e.g. the inotify watch limit is reached), its listeners are notified on every retry interval instead so
+ * that they can poll for changes.
+ */
+public class DirectoryWatcher implements Closeable {
+
+  // JDK implementation for platforms without native notifications, it polls every 10 seconds
+  private static final String POLLING_WATCH_SERVICE = "sun.nio.fs.PollingWatchService";
+
+  private final WatchService watchService;
+  private final long retryInterval;
+  private final Set<Path> excluded;
+  private final KitLogger log;
+  // Listeners by watched root directory
+  private final Map<Path, List<Runnable>> listeners;
+  // Watched directory (root or subdirectory) by key
+  private final Map<WatchKey, Path> keys;
+  // Key by watched directory (root or subdirectory)
+  private final Map<Path, WatchKey> registered;
+  // Root directories waiting to be available
+  private final Set<Path> pending;
+  // Root directories that couldn't be fully registered, their listeners are notified on every retry interval
+  private final Set<Path> polled;
+  private Thread thread;
+
+  DirectoryWatcher(WatchService watchService, long retryInterval, Collection<File> excludedDirectories, KitLogger log) {
+    this.watchService = watchService;
+    this.retryInterval = retryInterval;
+    this.excluded = excludedDirectories.stream().map(DirectoryWatcher::toPath).collect(Collectors.toSet());
+    this.log = log;
+    listeners = new ConcurrentHashMap<>();
+    keys = new ConcurrentHashMap<>();
+    registered = new ConcurrentHashMap<>();
+    pending = ConcurrentHashMap.newKeySet();
+    polled = ConcurrentHashMap.newKeySet();
+  }
+
+  /**
+   * Creates a watcher for the default file system if it provides native change notifications.
+   *
+   * @param retryInterval interval in milliseconds to retry the registration of missing directories.
+   * @param excludedDirectories directories whose subdirectories must not be watched.
+   * @param log the logger to report registration and listener failures.
+   * @return the directory watcher or null if change notifications aren't supported and polling should be used.
+   */
+  public static DirectoryWatcher forDefaultFileSystem(
+    long retryInterval, Collection<File> excludedDirectories, KitLogger log) {
+
+    try {
+      final WatchService watchService = FileSystems.getDefault().newWatchService();
+      if (POLLING_WATCH_SERVICE.equals(watchService.getClass().getName())) {
+        watchService.close();
+        return null;
+      }
+      return new DirectoryWatcher(watchService, retryInterval, excludedDirectories, log);
+    } catch (IOException | UnsupportedOperationException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Registers a listener to be notified of changes in any of the provided directories or their subdirectories.
+   *
+   * <p> Listeners are invoked from the watcher thread and should return immediately.
+   *
+   * @param directories the directories to watch.
+   * @param listener the listener to notify.
+   */
+  public synchronized void register(Collection<File> directories, Runnable listener) {
+    for (File directory : directories) {
+      final Path path = toPath(directory);
+      listeners.computeIfAbsent(path, k -> new CopyOnWriteArrayList<>()).add(listener);
+      if (!registerTree(path)) {
+        pending.add(path);
+      }
+    }
+  }
+
+  public synchronized void start() {
+    if (thread == null) {
+      thread = new Thread(this::processEvents, "jkube-directory-watcher");
+      thread.setDaemon(true);
+      thread.start();
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (thread != null) {
+      thread.interrupt();
+    }
+    watchService.close();
+  }
+
+  private synchronized boolean registerTree(Path root) {
+    if (!Files.isDirectory(root)) {
+      return false;
+    }
+    try {
+      Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+        @Override
+        public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attrs) throws IOException {
+          if (!directory.equals(root) && isExcluded(directory)) {
+            return FileVisitResult.SKIP_SUBTREE;
+          }
+          try {
+            register(directory);
+          } catch (NoSuchFileException e) {
+            // Directory deleted while registering it, its parent is notified
+            return FileVisitResult.SKIP_SUBTREE;
+          }
+          return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+          if (exc instanceof NoSuchFileException) {
+            return FileVisitResult.CONTINUE;
+          }
+          throw exc;
+        }
+      });
+    } catch (IOException | RuntimeException e) {
+      pollRootsOf(root, e);
+      return true;
+    }
+    // A root deleted while registering it is retried once it's available again
+    return isRegistered(root);
+  }
+
+  private void register(Path directory) throws IOException {
+    if (isRegistered(directory)) {
+      return;
+    }
+    final WatchKey key = directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+    keys.put(key, directory);
+    registered.put(directory, key);
+  }
+
+  private void pollRootsOf(Path directory, Exception cause) {
+    for (Path root : listeners.keySet()) {
+      if (directory.startsWith(root) && polled.add(root)) {
+        log.warn("Unable to watch %s for changes, polling every %d ms instead: %s", root, retryInterval, cause);
+      }
+    }
+  }
+
+  private void processEvents() {
+    long lastRetry = System.currentTimeMillis();
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        final WatchKey key = watchService.poll(retryInterval, TimeUnit.MILLISECONDS);
+        if (key != null) {
+          final Path directory = keys.get(key);
+          // Any event, including OVERFLOW (events lost), is considered a change
+          final List<WatchEvent<?>> events = key.pollEvents();
+          if (directory != null) {
+            registerCreatedDirectories(directory, events);
+          }
+          final boolean changed = !events.isEmpty();
+          if (!key.reset()) {
+            keys.remove(key);
+            if (directory != null) {
+              registered.remove(directory, key);
+              if (listeners.containsKey(directory)) {
+                pending.add(directory);
+              }
+            }
+          }
+          if (directory != null && changed) {
+            notifyListeners(directory);
+          }
+        }
+        if ((!pending.isEmpty() || !polled.isEmpty()) && System.currentTimeMillis() - lastRetry >= retryInterval) {
+          lastRetry = System.currentTimeMillis();
+          registerPending();
+          polled.forEach(this::notifyListeners);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      // Watcher closed, nothing else to do
+    }
+  }
+
+  private boolean isRegistered(Path directory) {
+    // The key of a deleted directory stays until its events are processed, a directory created again must not use it
+    final WatchKey key = registered.get(directory);
+    return key != null && key.isValid();
+  }
+
+  private boolean isExcluded(Path directory) {
+    for (Path excludedDirectory : excluded) {
+      if (directory.startsWith(excludedDirectory)
+        && listeners.keySet().stream().noneMatch(root -> root.startsWith(excludedDirectory))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void registerCreatedDirectories(Path directory, List<WatchEvent<?>> events) {
+    for (WatchEvent<?> event : events) {
+      if (event.kind() == ENTRY_CREATE && event.context() instanceof Path) {
+        final Path created = directory.resolve((Path) event.context());
+        if (Files.isDirectory(created, LinkOption.NOFOLLOW_LINKS) && !isExcluded(created)) {
+          registerTree(created);
+        }
+      }
+    }
+  }
+
+  private synchronized void registerPending() {
+    for (Path directory : pending) {
+      if (registerTree(directory)) {
+        pending.remove(directory);
+        notifyListeners(directory);
+      }
+    }
+  }
+
+  private void notifyListeners(Path directory) {
+    for (Map.Entry<Path, List<Runnable>> rootListeners : listeners.entrySet()) {
+      if (directory.startsWith(rootListeners.getKey())) {
+        for (Runnable listener : rootListeners.getValue()) {
+          try {
+            listener.run();
+          } catch (RuntimeException e) {
+            // A failing listener must not stop the notifications for the rest
+            log.warn("Error notifying changes in %s: %s", directory, e);
+          }
+        }
+      }
+    }
+  }
+
+  private static Path toPath(File directory) {
+    return directory.toPath().toAbsolutePath().normalize();
+  }
+}
@@ -43,6 +43,8 @@ public class WatchContext implements Serializable {
   private JKubeConfiguration buildContext;
   private WatchMode watchMode;
   private int watchInterval;
+  @Builder.Default
+  private int watchDebounce = 100;
   private String watchPostExec;
   private GavLabel gavLabel;
 
@@ -97,6 +97,22 @@ class BuildServiceTest {
         .buildImage(eq("image-name"), any(), any());
   }
 
+  @Test
+  void buildImage_whenStreamBuildContextEnabled_shouldBuildImageFromStream() throws IOException {
+    // Given
+    jKubeConfiguration = jKubeConfiguration.toBuilder().streamBuildContext(true).build();
+    when(mockedDockerAccess.getImageId("image-name")).thenReturn("c8003cb6f5db");
+
+    // When
+    buildService.buildImage(imageConfiguration, mockedImagePullManager, jKubeConfiguration);
+
+    // Then
+    verify(mockedDockerAccess, times(1))
+        .buildImageFromStream(eq("image-name"), any(), any());
+    verify(mockedDockerAccess, times(0))
+        .buildImage(eq("image-name"), any(), any());
+  }
+
   @Test
   void buildImage_whenValidImageConfigurationProvidedAndDockerDaemonReturnsNull_shouldBuildImage() throws IOException {
     // Given
@@ -14,7 +14,9 @@
 package org.eclipse.jkube.kit.build.service.docker;
 
 import org.eclipse.jkube.kit.build.service.docker.access.CreateImageOptions;
+import io.fabric8.mockwebserver.DefaultMockServer;
 import org.eclipse.jkube.kit.build.service.docker.access.DockerAccess;
+import org.eclipse.jkube.kit.build.service.docker.access.DockerAccessException;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.RegistryConfig;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
@@ -34,6 +36,7 @@ import static org.assertj.core.api.Assertions.assertThatIOException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -208,4 +211,87 @@ class RegistryServiceTest {
     verify(dockerAccess, times(1))
         .pushImage(eq("foo/bar:0.0.1-slim"), any(), eq("example.com"), anyInt());
   }
+
+  @Test
+  void pushImage_withRemoteTagging_shouldTagInRegistry() throws Exception {
+    final DefaultMockServer server = new DefaultMockServer();
+    server.start();
+    try {
+      // Given
+      server.expect().get().withPath("/v2/foo/bar/manifests/0.0.1")
+          .andReturn(200, "{}").withHeader("Content-Type", "application/vnd.oci.image.manifest.v1+json").once();
+      server.expect().put().withPath("/v2/foo/bar/manifests/latest").andReturn(201, "").once();
+      server.expect().put().withPath("/v2/foo/bar/manifests/0.0.1-slim").andReturn(201, "").once();
+      final RegistryConfig registryConfig = RegistryConfig.builder()
+          .registry("localhost:" + server.getPort())
+          .settings(Collections.emptyList())
+          .remoteTagging(true)
+          .build();
+      // When
+      registryService.pushImage(imageConfiguration, 1, registryConfig, false);
+      // Then
+      verify(dockerAccess, times(1))
+          .pushImage(any(), any(), any(), anyInt());
+      verify(dockerAccess, times(1))
+          .pushImage(eq("foo/bar:0.0.1"), any(), eq("localhost:" + server.getPort()), anyInt());
+      assertThat(server.getRequestCount()).isEqualTo(3);
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  void pushImage_withRemoteTaggingNotSupported_shouldPushApplicableTags() throws Exception {
+    final DefaultMockServer server = new DefaultMockServer();
+    server.start();
+    try {
+      // Given
+      server.expect().get().withPath("/v2/foo/bar/manifests/0.0.1").andReturn(404, "").once();
+      final RegistryConfig registryConfig = RegistryConfig.builder()
+          .registry("localhost:" + server.getPort())
+          .settings(Collections.emptyList())
+          .remoteTagging(true)
+          .build();
+      // When
+      registryService.pushImage(imageConfiguration, 1, registryConfig, false);
+      // Then
+      verify(dockerAccess, times(3))
+          .pushImage(any(), any(), eq("localhost:" + server.getPort()), anyInt());
+      verify(dockerAccess, times(1))
+          .pushImage(eq("foo/bar:latest"), any(), any(), anyInt());
+      verify(dockerAccess, times(1))
+          .pushImage(eq("foo/bar:0.0.1-slim"), any(), any(), anyInt());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  void pushImage_withoutParallelism_shouldStopAtFirstFailedTagPush() throws IOException {
+    // Given
+    doThrow(new DockerAccessException("latest failed"))
+        .when(dockerAccess).pushImage(eq("foo/bar:latest"), any(), any(), anyInt());
+    // When + Then
+    assertThatIOException()
+        .isThrownBy(() -> registryService.pushImage(imageConfiguration, 1, mockedRegistryConfig, false))
+        .withMessage("latest failed");
+    verify(dockerAccess, never())
+        .pushImage(eq("foo/bar:0.0.1-slim"), any(), any(), anyInt());
+  }
+
+  @Test
+  void pushImage_whenTagPushesFail_shouldThrowFirstFailureWithOthersSuppressed() throws IOException {
+    // Given
+    when(mockedRegistryConfig.getParallelism()).thenReturn(2);
+    doThrow(new DockerAccessException("latest failed"))
+        .when(dockerAccess).pushImage(eq("foo/bar:latest"), any(), any(), anyInt());
+    doThrow(new DockerAccessException("slim failed"))
+        .when(dockerAccess).pushImage(eq("foo/bar:0.0.1-slim"), any(), any(), anyInt());
+    // When + Then
+    assertThatIOException()
+        .isThrownBy(() -> registryService.pushImage(imageConfiguration, 1, mockedRegistryConfig, false))
+        .withMessage("latest failed")
+        .satisfies(e -> assertThat(e.getSuppressed()).singleElement()
+            .hasFieldOrPropertyWithValue("message", "slim failed"));
+  }
 }
@@ -13,24 +13,29 @@
  */
 package org.eclipse.jkube.kit.build.service.docker.access.hc;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import org.eclipse.jkube.kit.build.api.auth.AuthConfig;
 import org.eclipse.jkube.kit.build.service.docker.access.DockerAccessException;
 import org.eclipse.jkube.kit.build.service.docker.access.hc.util.ClientBuilder;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
+import org.apache.http.HttpEntity;
 import org.apache.http.client.HttpResponseException;
 import org.apache.http.client.ResponseHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.stubbing.OngoingStubbing;
 
 import static java.net.HttpURLConnection.HTTP_CREATED;
 import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_OK;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -155,6 +160,32 @@ class DockerAccessWithHcClientTest {
                 .withMessage("Unable to load test.tar : status code: 500, reason phrase: error");
     }
 
+    @Test
+    void buildImageFromStream_postsChunkedTarEntityWrittenByBuildContextWriter() throws IOException {
+        // Given
+        final ArgumentCaptor<HttpEntity> entityCaptor = ArgumentCaptor.forClass(HttpEntity.class);
+        // When
+        client.buildImageFromStream("test", os -> os.write("build-context".getBytes(StandardCharsets.UTF_8)), null);
+        // Then
+        verify(mockDelegate).post(anyString(), entityCaptor.capture(), any(ResponseHandler.class), eq(HTTP_OK));
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        entityCaptor.getValue().writeTo(written);
+        assertThat(entityCaptor.getValue())
+            .returns(true, HttpEntity::isChunked)
+            .returns("application/x-tar", e -> e.getContentType().getValue());
+        assertThat(written.toString("UTF-8")).isEqualTo("build-context");
+    }
+
+    @Test
+    void buildImageFromStream_withPostFailure_throwsException() throws IOException {
+        // Given
+        givenThePostWillFail();
+        // When + Then
+        assertThatExceptionOfType(DockerAccessException.class)
+            .isThrownBy(() -> client.buildImageFromStream("test", os -> {}, null))
+            .withMessageStartingWith("Unable to build image [test]");
+    }
+
     @Test
     void testSaveImage() throws IOException {
         givenAnImageName("test");
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker.access.registry;
+
+import io.fabric8.mockwebserver.DefaultMockServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.eclipse.jkube.kit.build.api.auth.AuthConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+class RegistryManifestClientTest {
+
+  private static final String MANIFEST = "{\"schemaVersion\":2,\"mediaType\":\"application/vnd.oci.image.manifest.v1+json\"}";
+  private static final String MEDIA_TYPE = "application/vnd.oci.image.manifest.v1+json";
+
+  private DefaultMockServer server;
+  private RegistryManifestClient registryManifestClient;
+
+  @BeforeEach
+  void setUp() {
+    server = new DefaultMockServer();
+    server.start();
+    registryManifestClient = new RegistryManifestClient("localhost:" + server.getPort(), "foo/bar",
+        AuthConfig.builder().username("user").password("secret").build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    registryManifestClient.close();
+    server.shutdown();
+  }
+
+  @Test
+  void getManifest_withManifest_returnsContentAndMediaType() throws Exception {
+    // Given
+    server.expect().get().withPath("/v2/foo/bar/manifests/0.0.1")
+        .andReturn(200, MANIFEST).withHeader("Content-Type", MEDIA_TYPE).once();
+    // When
+    final RegistryManifestClient.Manifest result = registryManifestClient.getManifest("0.0.1");
+    // Then
+    assertThat(result)
+        .hasFieldOrPropertyWithValue("mediaType", MEDIA_TYPE)
+        .extracting(RegistryManifestClient.Manifest::getContent)
+        .isEqualTo(MANIFEST.getBytes());
+    assertThat(server.takeRequest().getHeader("Accept"))
+        .isEqualTo(RegistryManifestClient.MANIFEST_MEDIA_TYPES);
+  }
+
+  @Test
+  void getManifest_withMissingManifest_throwsException() {
+    // Given
+    server.expect().get().withPath("/v2/foo/bar/manifests/0.0.1").andReturn(404, "").once();
+    // When + Then
+    assertThatIOException()
+        .isThrownBy(() -> registryManifestClient.getManifest("0.0.1"))
+        .withMessageStartingWith("Unable to retrieve manifest foo/bar:0.0.1 from http://localhost:");
+  }
+
+  @Test
+  void putManifest_withManifest_uploadsManifestWithMediaType() throws Exception {
+    // Given
+    server.expect().put().withPath("/v2/foo/bar/manifests/latest").andReturn(201, "").once();
+    // When
+    registryManifestClient.putManifest("latest",
+        new RegistryManifestClient.Manifest(MEDIA_TYPE, MANIFEST.getBytes()));
+    // Then
+    final RecordedRequest request = server.takeRequest();
+    assertThat(request.getHeader("Content-Type")).isEqualTo(MEDIA_TYPE);
+    assertThat(request.getBody().readUtf8()).isEqualTo(MANIFEST);
+  }
+
+  @Test
+  void putManifest_withRejectedManifest_throwsException() {
+    // Given
+    server.expect().put().withPath("/v2/foo/bar/manifests/latest").andReturn(400, "").once();
+    final RegistryManifestClient.Manifest manifest = new RegistryManifestClient.Manifest(MEDIA_TYPE, MANIFEST.getBytes());
+    // When + Then
+    assertThatIOException()
+        .isThrownBy(() -> registryManifestClient.putManifest("latest", manifest))
+        .withMessageStartingWith("Unable to tag foo/bar:latest in http://localhost:");
+  }
+
+  @Test
+  void getManifest_withBearerChallenge_retrievesTokenAndRetries() throws Exception {
+    // Given
+    server.expect().get().withPath("/v2/foo/bar/manifests/0.0.1").andReturn(401, "")
+        .withHeader("WWW-Authenticate", "Bearer realm=\"" + server.url("/token") + "\",service=\"registry\",scope=\"repository:foo/bar:pull\"").once();
+    server.expect().get().withPath("/token?service=registry&scope=repository:foo/bar:pull,push")
+        .andReturn(200, "{\"token\":\"the-token\"}").once();
+    server.expect().get().withPath("/v2/foo/bar/manifests/0.0.1")
+        .andReturn(200, MANIFEST).withHeader("Content-Type", MEDIA_TYPE).once();
+    // When
+    registryManifestClient.getManifest("0.0.1");
+    // Then
+    assertThat(server.takeRequest().getHeader("Authorization")).isNull();
+    assertThat(server.takeRequest().getHeader("Authorization")).isEqualTo("Basic dXNlcjpzZWNyZXQ=");
+    assertThat(server.takeRequest().getHeader("Authorization")).isEqualTo("Bearer the-token");
+  }
+
+  @Test
+  void putManifest_withBasicChallenge_reusesAuthorization() throws Exception {
+    // Given
+    server.expect().get().withPath("/v2/foo/bar/manifests/0.0.1").andReturn(401, "")
+        .withHeader("WWW-Authenticate", "Basic realm=\"registry\"").once();
+    server.expect().get().withPath("/v2/foo/bar/manifests/0.0.1")
+        .andReturn(200, MANIFEST).withHeader("Content-Type", MEDIA_TYPE).once();
+    server.expect().put().withPath("/v2/foo/bar/manifests/latest").andReturn(201, "").once();
+    // When
+    registryManifestClient.putManifest("latest", registryManifestClient.getManifest("0.0.1"));
+    // Then
+    assertThat(server.getRequestCount()).isEqualTo(3);
+    server.takeRequest();
+    assertThat(server.takeRequest().getHeader("Authorization")).isEqualTo("Basic dXNlcjpzZWNyZXQ=");
+    assertThat(server.takeRequest().getHeader("Authorization")).isEqualTo("Basic dXNlcjpzZWNyZXQ=");
+  }
+}
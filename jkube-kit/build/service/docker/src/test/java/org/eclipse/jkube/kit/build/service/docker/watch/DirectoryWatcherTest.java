@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker.watch;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DirectoryWatcherTest {
+
+  @TempDir
+  private Path temporaryFolder;
+
+  private KitLogger log;
+
+  private DirectoryWatcher directoryWatcher;
+
+  @BeforeEach
+  void setUp() {
+    log = spy(new KitLogger.SilentLogger());
+    directoryWatcher = DirectoryWatcher.forDefaultFileSystem(100L,
+      Collections.singletonList(temporaryFolder.resolve("target").resolve("docker").toFile()), log);
+    assumeTrue(directoryWatcher != null, "File system change notifications not supported");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    directoryWatcher.close();
+  }
+
+  @Test
+  void register_withModifiedFile_notifiesListener() throws IOException {
+    // Given
+    final File file = Files.write(temporaryFolder.resolve("app.jar"), "v1".getBytes(StandardCharsets.UTF_8)).toFile();
+    final CompletableFuture<Boolean> notified = new CompletableFuture<>();
+    directoryWatcher.register(Collections.singleton(file.getParentFile()), () -> notified.complete(true));
+    directoryWatcher.start();
+    // When
+    Files.write(file.toPath(), "v2".getBytes(StandardCharsets.UTF_8));
+    // Then
+    assertThat(notified).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(true);
+  }
+
+  @Test
+  void register_withCreatedFile_notifiesListener() throws IOException {
+    // Given
+    final CompletableFuture<Boolean> notified = new CompletableFuture<>();
+    directoryWatcher.register(Collections.singleton(temporaryFolder.toFile()), () -> notified.complete(true));
+    directoryWatcher.start();
+    // When
+    Files.createFile(temporaryFolder.resolve("new-file.txt"));
+    // Then
+    assertThat(notified).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(true);
+  }
+
+  @Test
+  void register_withMissingDirectoryCreatedLater_notifiesListener() throws IOException {
+    // Given
+    final Path missing = temporaryFolder.resolve("target");
+    final CompletableFuture<Boolean> notified = new CompletableFuture<>();
+    directoryWatcher.register(Collections.singleton(missing.toFile()), () -> notified.complete(true));
+    directoryWatcher.start();
+    // When
+    Files.createDirectory(missing);
+    // Then
+    assertThat(notified).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(true);
+  }
+
+  @Test
+  void register_withDeletedFile_notifiesListener() throws IOException {
+    // Given
+    final Path file = Files.createFile(temporaryFolder.resolve("app.jar"));
+    final CompletableFuture<Boolean> notified = new CompletableFuture<>();
+    directoryWatcher.register(Collections.singleton(temporaryFolder.toFile()), () -> notified.complete(true));
+    directoryWatcher.start();
+    // When
+    Files.delete(file);
+    // Then
+    assertThat(notified).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(true);
+  }
+
+  @Test
+  void register_withFileCreatedInSubdirectory_notifiesListener() throws IOException {
+    // Given
+    final Path subdirectory = Files.createDirectories(temporaryFolder.resolve("classes").resolve("org"));
+    final CompletableFuture<Boolean> notified = new CompletableFuture<>();
+    directoryWatcher.register(Collections.singleton(temporaryFolder.toFile()), () -> notified.complete(true));
+    directoryWatcher.start();
+    // When
+    Files.createFile(subdirectory.resolve("App.class"));
+    // Then
+    assertThat(notified).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(true);
+  }
+
+  @Test
+  void register_withFileCreatedInSubdirectoryCreatedLater_notifiesListener() throws Exception {
+    // Given
+    final BlockingQueue<Boolean> notifications = new LinkedBlockingQueue<>();
+    directoryWatcher.register(Collections.singleton(temporaryFolder.toFile()), () -> notifications.add(true));
+    directoryWatcher.start();
+    final Path subdirectory = Files.createDirectory(temporaryFolder.resolve("classes"));
+    assertThat(notifications.poll(5, TimeUnit.SECONDS)).isTrue();
+    // Subdirectory is registered before its creation is notified, let the remaining events settle
+    Thread.sleep(200L);
+    notifications.clear();
+    // When
+    Files.createFile(subdirectory.resolve("App.class"));
+    // Then
+    assertThat(notifications.poll(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void register_withFailingListener_notifiesOtherListeners() throws IOException {
+    // Given
+    final CompletableFuture<Boolean> notified = new CompletableFuture<>();
+    directoryWatcher.register(Collections.singleton(temporaryFolder.toFile()), () -> {
+      throw new IllegalStateException("Listener failure");
+    });
+    directoryWatcher.register(Collections.singleton(temporaryFolder.toFile()), () -> notified.complete(true));
+    directoryWatcher.start();
+    // When
+    Files.createFile(temporaryFolder.resolve("new-file.txt"));
+    // Then
+    assertThat(notified).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(true);
+    verify(log, timeout(5000L)).warn(eq("Error notifying changes in %s: %s"), any(), any());
+  }
+
+  @Test
+  void register_withFileCreatedInExcludedSubdirectory_doesNotNotifyListener() throws Exception {
+    // Given
+    final Path excluded = Files.createDirectories(temporaryFolder.resolve("target").resolve("docker").resolve("build"));
+    final BlockingQueue<Boolean> notifications = new LinkedBlockingQueue<>();
+    directoryWatcher.register(Collections.singleton(temporaryFolder.toFile()), () -> notifications.add(true));
+    directoryWatcher.start();
+    // When
+    Files.createFile(excluded.resolve("docker-build.tar"));
+    // Then
+    assertThat(notifications.poll(500, TimeUnit.MILLISECONDS)).isNull();
+    Files.createFile(temporaryFolder.resolve("target").resolve("app.jar"));
+    assertThat(notifications.poll(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void register_withDirectoryInsideExcludedDirectory_notifiesListener() throws IOException {
+    // Given
+    final Path build = Files.createDirectories(temporaryFolder.resolve("target").resolve("docker").resolve("build"));
+    final CompletableFuture<Boolean> notified = new CompletableFuture<>();
+    directoryWatcher.register(Collections.singleton(build.toFile()), () -> notified.complete(true));
+    directoryWatcher.start();
+    // When
+    Files.createFile(build.resolve("app.jar"));
+    // Then
+    assertThat(notified).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(true);
+  }
+
+  @Test
+  void register_withRegistrationFailure_logsWarningAndNotifiesListenerOnEveryInterval() throws Exception {
+    // Given
+    final WatchService watchService = mock(WatchService.class);
+    when(watchService.poll(anyLong(), any())).thenAnswer(i -> {
+      Thread.sleep(i.getArgument(0));
+      return null;
+    });
+    try (DirectoryWatcher failingWatcher = new DirectoryWatcher(watchService, 50L, Collections.emptyList(), log)) {
+      final BlockingQueue<Boolean> notifications = new LinkedBlockingQueue<>();
+      // When
+      failingWatcher.register(Collections.singleton(temporaryFolder.toFile()), () -> notifications.add(true));
+      failingWatcher.start();
+      // Then
+      verify(log).warn(eq("Unable to watch %s for changes, polling every %d ms instead: %s"),
+        eq(temporaryFolder.toAbsolutePath().normalize()), eq(50L), any());
+      assertThat(notifications.poll(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(notifications.poll(5, TimeUnit.SECONDS)).isTrue();
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Logger that keeps the log entries in memory until they are flushed.
+ *
+ * <p> Useful to keep the output of tasks that run concurrently grouped (and in a deterministic order).
+ */
+public class BufferedLogger implements KitLogger {
+  private final KitLogger log;
+  private final List<Consumer<KitLogger>> entries;
+
+  /**
+   * @param log the logger to flush the entries to, also used to check the enabled levels.
+   */
+  public BufferedLogger(KitLogger log) {
+    this.log = log;
+    this.entries = new ArrayList<>();
+  }
+
+  @Override
+  public void debug(String message, Object... objects) {
+    add(l -> l.debug(message, objects));
+  }
+
+  @Override
+  public void info(String message, Object... objects) {
+    add(l -> l.info(message, objects));
+  }
+
+  @Override
+  public void verbose(String message, Object... objects) {
+    add(l -> l.verbose(message, objects));
+  }
+
+  @Override
+  public void warn(String message, Object... objects) {
+    add(l -> l.warn(message, objects));
+  }
+
+  @Override
+  public void error(String message, Object... objects) {
+    add(l -> l.error(message, objects));
+  }
+
+  @Override
+  public boolean isDebugEnabled() {
+    return log.isDebugEnabled();
+  }
+
+  @Override
+  public boolean isVerboseEnabled() {
+    return log.isVerboseEnabled();
+  }
+
+  @Override
+  public void progressStart() {
+    add(KitLogger::progressStart);
+  }
+
+  @Override
+  public void progressUpdate(String layerId, String status, String progressMessage) {
+    add(l -> l.progressUpdate(layerId, status, progressMessage));
+  }
+
+  @Override
+  public void progressFinished() {
+    add(KitLogger::progressFinished);
+  }
+
+  /**
+   * Writes the buffered entries to the wrapped logger and clears the buffer.
+   */
+  public void flush() {
+    flushTo(log);
+  }
+
+  /**
+   * Writes the buffered entries to the provided logger and clears the buffer.
+   *
+   * @param target the logger to write the entries to.
+   */
+  public void flushTo(KitLogger target) {
+    final List<Consumer<KitLogger>> toFlush;
+    synchronized (entries) {
+      toFlush = new ArrayList<>(entries);
+      entries.clear();
+    }
+    toFlush.forEach(entry -> entry.accept(target));
+  }
+
+  private void add(Consumer<KitLogger> entry) {
+    synchronized (entries) {
+      entries.add(entry);
+    }
+  }
+}
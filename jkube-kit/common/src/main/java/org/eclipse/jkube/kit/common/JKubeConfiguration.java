@@ -17,6 +17,7 @@ import java.io.File;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 
 import lombok.AllArgsConstructor;
@@ -25,6 +26,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.eclipse.jkube.kit.common.access.ClusterConfiguration;
+import org.eclipse.jkube.kit.common.util.BuildTimings;
 
 /**
  * @author roland
@@ -46,11 +48,19 @@ public class JKubeConfiguration implements Serializable {
   private RegistryConfig pullRegistryConfig;
   private RegistryConfig pushRegistryConfig;
   private List<JavaProject> reactorProjects;
+  private boolean incrementalBuild;
+  private boolean streamBuildContext;
+  private int compressionThreads;
+  private transient BuildTimings timings;
 
   public File getBasedir() {
     return project.getBaseDirectory();
   }
 
+  public BuildTimings getTimings() {
+    return Optional.ofNullable(timings).orElse(BuildTimings.DISABLED);
+  }
+
   public Properties getProperties() {
     return project.getProperties();
   }
@@ -13,11 +13,14 @@
  */
 package org.eclipse.jkube.kit.common;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.Singular;
+import org.eclipse.jkube.kit.common.util.DependencyIndex;
+import org.eclipse.jkube.kit.common.util.FrameworkConfigurationCache;
 
 import java.io.File;
 import java.io.Serializable;
@@ -255,6 +258,59 @@ public class JavaProject implements Serializable {
    */
   private List<Maintainer> maintainers;
 
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  private transient FrameworkConfigurationCache frameworkConfigurationCache;
+
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  private transient DependencyIndex dependencyIndex;
+
+  /**
+   * Cache of the framework configuration files (application.properties, application.yml, ...) of the project
+   * shared by the generators, enrichers and watchers of the current build.
+   *
+   * <p> The cache is not part of the builder, projects created with {@link #toBuilder()} get a cache of their own.
+   *
+   * @return the framework configuration cache for this project.
+   */
+  public synchronized FrameworkConfigurationCache getFrameworkConfigurationCache() {
+    if (frameworkConfigurationCache == null) {
+      frameworkConfigurationCache = new FrameworkConfigurationCache(this);
+    }
+    return frameworkConfigurationCache;
+  }
+
+  /**
+   * Closes the framework configuration cache of this project (and its class loader) if it was created.
+   *
+   * <p> A new cache is created if it's requested again.
+   */
+  public synchronized void releaseFrameworkConfigurationCache() {
+    if (frameworkConfigurationCache != null) {
+      frameworkConfigurationCache.close();
+      frameworkConfigurationCache = null;
+    }
+  }
+
+  /**
+   * Index of the project's dependencies and plugins used by {@link org.eclipse.jkube.kit.common.util.JKubeProjectUtil}
+   * lookups.
+   *
+   * <p> The index is built lazily and rebuilt whenever the dependency or plugin lists are replaced or resized.
+   *
+   * @return the up-to-date dependency index for this project.
+   */
+  public synchronized DependencyIndex getDependencyIndex() {
+    if (dependencyIndex == null
+      || !dependencyIndex.isIndexOf(getDependencies(), getDependenciesWithTransitive(), getPlugins())) {
+      dependencyIndex = new DependencyIndex(getDependencies(), getDependenciesWithTransitive(), getPlugins());
+    }
+    return dependencyIndex;
+  }
+
   /**
    * Returns true if the project is a Maven project with a snapshot version.
    *
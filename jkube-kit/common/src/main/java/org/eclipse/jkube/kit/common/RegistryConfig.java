@@ -24,7 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.UnaryOperator;
 
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -37,6 +37,12 @@ public class RegistryConfig implements Serializable {
   private List<RegistryServerConfiguration> settings;
   private boolean skipExtendedAuth;
   private Map authConfig;
+  private boolean remoteTagging;
+  /**
+   * Maximum number of additional image tags pushed concurrently (the build parallelism), 1 or less pushes them
+   * sequentially.
+   */
+  private int parallelism;
   private transient UnaryOperator<String> passwordDecryptionMethod;
 
 }
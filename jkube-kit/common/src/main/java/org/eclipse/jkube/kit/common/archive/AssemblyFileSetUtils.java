@@ -81,11 +81,31 @@ public class AssemblyFileSetUtils {
    * @return List containing the copied {@link AssemblyFileEntry} for the processed {@link AssemblyFileSet}
    * @throws IOException in case something goes wrong when performing File operations.
    */
-  @SuppressWarnings("squid:S3864")
   public static List<AssemblyFileEntry> processAssemblyFileSet(
       File baseDirectory, File outputDirectory, AssemblyFileSet assemblyFileSet,
       Assembly layer, AssemblyConfiguration assemblyConfiguration) throws IOException {
 
+    return processAssemblyFileSet(baseDirectory, outputDirectory, assemblyFileSet, layer, assemblyConfiguration, false);
+  }
+
+  /**
+   * Same as {@link #processAssemblyFileSet(File, File, AssemblyFileSet, Assembly, AssemblyConfiguration)} but
+   * optionally skipping the copy of files that are already up to date in the output directory.
+   *
+   * @param baseDirectory directory from where to resolve source files.
+   * @param outputDirectory directory where files should be output.
+   * @param assemblyFileSet fileSet to process.
+   * @param layer the layer to which fileSet belongs to.
+   * @param assemblyConfiguration configuration for assembly.
+   * @param skipUnmodified whether to skip copying files whose target has the same size and last modification time.
+   * @return List containing the copied {@link AssemblyFileEntry} for the processed {@link AssemblyFileSet}
+   * @throws IOException in case something goes wrong when performing File operations.
+   */
+  @SuppressWarnings("squid:S3864")
+  public static List<AssemblyFileEntry> processAssemblyFileSet(
+      File baseDirectory, File outputDirectory, AssemblyFileSet assemblyFileSet,
+      Assembly layer, AssemblyConfiguration assemblyConfiguration, boolean skipUnmodified) throws IOException {
+
     final File sourceDirectory = resolveSourceDirectory(baseDirectory, assemblyFileSet);
     Objects.requireNonNull(assemblyConfiguration.getTargetDir(), "Assembly Configuration target dir is required");
     if (!sourceDirectory.exists()) {
@@ -113,19 +133,21 @@ public class AssemblyFileSetUtils {
     final List<AssemblyFileEntry> allEntries = new ArrayList<>();
     for (String include : includes) {
       final String effectiveInclude = isSelfPath(include) ? "**" : include;
-      allEntries.addAll(processInclude(sourceDirectory.toPath(), effectiveInclude, destinationDirectory.toPath(), assemblyFileSet));
+      allEntries.addAll(processInclude(sourceDirectory.toPath(), effectiveInclude, destinationDirectory.toPath(), assemblyFileSet,
+          skipUnmodified));
     }
     return allEntries;
   }
 
   private static Set<AssemblyFileEntry> processInclude(
-      Path sourceDirectory, String include, Path destinationDirectory, AssemblyFileSet assemblyFileSet) throws IOException {
+      Path sourceDirectory, String include, Path destinationDirectory, AssemblyFileSet assemblyFileSet,
+      boolean skipUnmodified) throws IOException {
 
     final Set<AssemblyFileEntry> entries = new LinkedHashSet<>();
     for (File sourceFile : findFilesUsingGlobMatcher(sourceDirectory, include, assemblyFileSet)) {
       final File destFile = destinationDirectory.resolve(sourceDirectory.relativize(sourceFile.toPath())).toFile();
       FileUtil.createDirectory(destFile.getParentFile());
-      entries.addAll(copy(sourceDirectory, sourceFile, destFile, assemblyFileSet));
+      entries.addAll(copy(sourceDirectory, sourceFile, destFile, assemblyFileSet, skipUnmodified));
     }
     return entries;
   }
@@ -157,14 +179,17 @@ public class AssemblyFileSetUtils {
     return StringUtils.isBlank(path) || path.equals(PATH_TO_SELF);
   }
 
-  private static List<AssemblyFileEntry> copy(Path sourceDirectory, File source, File target, AssemblyFileSet assemblyFileSet)
+  private static List<AssemblyFileEntry> copy(
+      Path sourceDirectory, File source, File target, AssemblyFileSet assemblyFileSet, boolean skipUnmodified)
       throws IOException {
     if (source.exists() && isNotExcluded(sourceDirectory, assemblyFileSet).test(source.toPath())) {
       if (source.isDirectory()) {
         FileUtils.forceMkdir(target);
         for (File sourceChild : Optional.ofNullable(source.listFiles()).orElse(new File[0])) {
-          copy(sourceDirectory, sourceChild, new File(target, sourceChild.getName()), assemblyFileSet);
+          copy(sourceDirectory, sourceChild, new File(target, sourceChild.getName()), assemblyFileSet, skipUnmodified);
         }
+      } else if (skipUnmodified) {
+        FileUtil.copyIfModified(source, target);
       } else {
         FileUtil.copy(source, target);
       }
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.archive;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.utils.IOUtils;
+import org.apache.commons.io.output.CountingOutputStream;
+import org.eclipse.jkube.kit.common.util.Serialization;
+
+/**
+ * Creates tar archives reusing the contents of the archive created by a previous invocation.
+ *
+ * <p> A manifest with the size, last modification time, mode, SHA-256 digest, and position of each of the archive
+ * entries is stored next to the archive. On subsequent invocations:
+ * <ul>
+ *   <li>If none of the entries changed, the previous archive is kept as is.</li>
+ *   <li>For uncompressed archives, the tar segments (header and content) of the unchanged entries are copied verbatim
+ *   from the previous archive. Only the changed entries are read from their source files.</li>
+ *   <li>Otherwise, the archive is fully rewritten.</li>
+ * </ul>
+ *
+ * <p> File entries are considered unchanged if their size and mode match the recorded ones and either their last
+ * modification time or their SHA-256 digest match too. Directory entries are considered unchanged if their mode matches.
+ */
+public class IncrementalTarArchiver {
+
+  static final String MANIFEST_SUFFIX = ".manifest.json";
+
+  private IncrementalTarArchiver() {}
+
+  /**
+   * Creates (or updates) the provided tar archive with the provided list of files.
+   *
+   * @param outputFile the tar archive to create.
+   * @param inputDirectory the directory from which the archive entry names are resolved.
+   * @param fileList the files and directories to include in the archive.
+   * @param fileModeMap the mode to set for specific files.
+   * @param compression the compression to apply to the archive.
+   * @param compressionThreads the number of threads to use for gzip compression (see {@link ParallelGzipOutputStream}).
+   * @return the metrics with the number of entries and bytes reused from the previous archive and rewritten.
+   * @throws IOException in case the archive or its manifest can't be written.
+   */
+  public static Metrics createTarBall(
+      File outputFile, File inputDirectory, List<File> fileList, Map<File, String> fileModeMap,
+      ArchiveCompression compression, int compressionThreads) throws IOException {
+
+    final File manifestFile = getManifestFile(outputFile);
+    final Manifest previous = loadManifest(manifestFile, outputFile, compression);
+    final List<Candidate> candidates = new ArrayList<>();
+    for (File file : fileList) {
+      candidates.add(new Candidate(file, JKubeTarArchiver.newTarArchiveEntry(inputDirectory, file, fileModeMap), previous));
+    }
+    final Metrics metrics = new Metrics(outputFile);
+    final Manifest manifest;
+    if (previous != null && isArchiveUnchanged(previous, candidates)) {
+      manifest = keepArchive(candidates, metrics);
+    } else {
+      manifest = writeArchive(outputFile, previous, candidates, compression, compressionThreads, metrics);
+    }
+    manifest.setCompression(compression.name());
+    manifest.setArchiveSize(outputFile.length());
+    manifest.setArchiveLastModified(outputFile.lastModified());
+    Serialization.saveJson(manifestFile, manifest);
+    return metrics;
+  }
+
+  static File getManifestFile(File outputFile) {
+    return new File(outputFile.getParentFile(), outputFile.getName() + MANIFEST_SUFFIX);
+  }
+
+  private static Manifest loadManifest(File manifestFile, File outputFile, ArchiveCompression compression) {
+    if (!manifestFile.isFile() || !outputFile.isFile()) {
+      return null;
+    }
+    try {
+      final Manifest manifest = Serialization.unmarshal(manifestFile, Manifest.class);
+      if (manifest != null && manifest.getEntries() != null &&
+          compression.name().equals(manifest.getCompression()) &&
+          manifest.getArchiveSize() == outputFile.length() &&
+          manifest.getArchiveLastModified() == outputFile.lastModified()) {
+        return manifest;
+      }
+    } catch (IOException | RuntimeException e) {
+      // Corrupt or incompatible manifest, archive will be fully rewritten
+    }
+    return null;
+  }
+
+  private static boolean isArchiveUnchanged(Manifest previous, List<Candidate> candidates) throws IOException {
+    if (!new ArrayList<>(previous.getEntries().keySet()).equals(
+        candidates.stream().map(Candidate::getName).collect(Collectors.toList()))) {
+      return false;
+    }
+    for (Candidate candidate : candidates) {
+      if (!candidate.isUnchanged()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Manifest keepArchive(List<Candidate> candidates, Metrics metrics) throws IOException {
+    final Manifest manifest = new Manifest();
+    for (Candidate candidate : candidates) {
+      final ManifestEntry entry = candidate.getPreviousEntry();
+      entry.setLastModified(candidate.getFile().lastModified());
+      manifest.getEntries().put(candidate.getName(), entry);
+      metrics.reused(entry.getSize());
+    }
+    return manifest;
+  }
+
+  private static Manifest writeArchive(
+      File outputFile, Manifest previous, List<Candidate> candidates, ArchiveCompression compression,
+      int compressionThreads, Metrics metrics) throws IOException {
+
+    final boolean reuseSegments = previous != null && compression == ArchiveCompression.none;
+    final File temporaryFile = new File(outputFile.getParentFile(), outputFile.getName() + ".tmp");
+    final Manifest manifest = new Manifest();
+    try (
+        FileOutputStream fileOutputStream = new FileOutputStream(temporaryFile);
+        BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(fileOutputStream);
+        CountingOutputStream countingOutputStream = new CountingOutputStream(bufferedOutputStream);
+        RandomAccessFile previousArchive = reuseSegments ? new RandomAccessFile(outputFile, "r") : null
+    ) {
+      // Default TarArchiveOutputStream block size equals the record size (512 bytes), each entry is fully flushed
+      // to the underlying stream once closed which allows interleaving verbatim copies of previous segments.
+      final TarArchiveOutputStream tarArchiveOutputStream = JKubeTarArchiver.newTarArchiveOutputStream(
+          JKubeTarArchiver.compress(countingOutputStream, compression, compressionThreads));
+      for (Candidate candidate : candidates) {
+        final long offset = countingOutputStream.getByteCount();
+        final ManifestEntry entry;
+        if (previousArchive != null && candidate.isUnchanged()) {
+          entry = candidate.getPreviousEntry();
+          copySegment(previousArchive.getChannel(), entry.getOffset(), entry.getLength(), countingOutputStream);
+          entry.setLastModified(candidate.getFile().lastModified());
+          metrics.reused(entry.getSize());
+        } else {
+          entry = new ManifestEntry();
+          entry.setSize(candidate.getTarEntry().getSize());
+          entry.setLastModified(candidate.getFile().lastModified());
+          entry.setMode(candidate.getTarEntry().getMode());
+          entry.setDirectory(candidate.getTarEntry().isDirectory());
+          tarArchiveOutputStream.putArchiveEntry(candidate.getTarEntry());
+          if (candidate.getFile().isFile()) {
+            final MessageDigest digest = newSha256Digest();
+            try (InputStream fis = new DigestInputStream(new FileInputStream(candidate.getFile()), digest)) {
+              IOUtils.copy(fis, tarArchiveOutputStream);
+            }
+            entry.setSha256(toHex(digest));
+          }
+          tarArchiveOutputStream.closeArchiveEntry();
+          metrics.written(entry.getSize());
+        }
+        entry.setOffset(offset);
+        entry.setLength(countingOutputStream.getByteCount() - offset);
+        manifest.getEntries().put(candidate.getName(), entry);
+      }
+      tarArchiveOutputStream.close();
+    }
+    Files.move(temporaryFile.toPath(), outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    return manifest;
+  }
+
+  private static void copySegment(FileChannel source, long offset, long length, OutputStream target) throws IOException {
+    final WritableByteChannel targetChannel = Channels.newChannel(target);
+    long transferred = 0;
+    while (transferred < length) {
+      final long count = source.transferTo(offset + transferred, length - transferred, targetChannel);
+      if (count <= 0) {
+        throw new IOException("Unexpected end of previous archive while reusing entry at offset " + offset);
+      }
+      transferred += count;
+    }
+  }
+
+  static String sha256(File file) throws IOException {
+    final MessageDigest digest = newSha256Digest();
+    try (InputStream fis = new FileInputStream(file)) {
+      final byte[] buffer = new byte[8192];
+      int read;
+      while ((read = fis.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    return toHex(digest);
+  }
+
+  private static MessageDigest newSha256Digest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 algorithm is not available", e);
+    }
+  }
+
+  private static String toHex(MessageDigest digest) {
+    return String.format("%064x", new BigInteger(1, digest.digest()));
+  }
+
+  @Getter
+  private static final class Candidate {
+
+    private final File file;
+    private final TarArchiveEntry tarEntry;
+    private final ManifestEntry previousEntry;
+    private Boolean unchanged;
+
+    private Candidate(File file, TarArchiveEntry tarEntry, Manifest previous) {
+      this.file = file;
+      this.tarEntry = tarEntry;
+      this.previousEntry = previous == null ? null : previous.getEntries().get(tarEntry.getName());
+    }
+
+    private String getName() {
+      return tarEntry.getName();
+    }
+
+    private boolean isUnchanged() throws IOException {
+      if (unchanged == null) {
+        unchanged = previousEntry != null
+          && previousEntry.isDirectory() == tarEntry.isDirectory()
+          && previousEntry.getSize() == tarEntry.getSize()
+          && previousEntry.getMode() == tarEntry.getMode()
+          && (tarEntry.isDirectory()
+            || previousEntry.getLastModified() == file.lastModified()
+            || sha256(file).equals(previousEntry.getSha256()));
+      }
+      return unchanged;
+    }
+  }
+
+  /**
+   * Number of entries and bytes (entry content) reused from the previous archive and rewritten.
+   */
+  @Getter
+  public static final class Metrics {
+
+    private final File archive;
+    private int reusedEntries;
+    private long reusedBytes;
+    private int writtenEntries;
+    private long writtenBytes;
+
+    private Metrics(File archive) {
+      this.archive = archive;
+    }
+
+    private void reused(long bytes) {
+      reusedEntries++;
+      reusedBytes += bytes;
+    }
+
+    private void written(long bytes) {
+      writtenEntries++;
+      writtenBytes += bytes;
+    }
+  }
+
+  @Getter
+  @Setter
+  public static final class Manifest {
+    private String compression;
+    private long archiveSize;
+    private long archiveLastModified;
+    private Map<String, ManifestEntry> entries = new LinkedHashMap<>();
+  }
+
+  @Getter
+  @Setter
+  public static final class ManifestEntry {
+    private long size;
+    private long lastModified;
+    private int mode;
+    private boolean directory;
+    private String sha256;
+    private long offset;
+    private long length;
+  }
+}
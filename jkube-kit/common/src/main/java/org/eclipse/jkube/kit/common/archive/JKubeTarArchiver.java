@@ -18,6 +18,7 @@ import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
 import org.apache.commons.compress.utils.IOUtils;
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.eclipse.jkube.kit.common.util.FileUtil;
 
 import java.io.BufferedOutputStream;
@@ -26,6 +27,7 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -55,48 +57,113 @@ public class JKubeTarArchiver {
       File outputFile, File inputDirectory, List<File> fileList, Map<File, String> fileModeMap,
       ArchiveCompression compression,
       Consumer<TarArchiveOutputStream> tarCustomizer, Consumer<TarArchiveEntry> tarArchiveEntryCustomizer
+  ) throws IOException {
+    return createTarBall(outputFile, inputDirectory, fileList, fileModeMap, compression, 1,
+        tarCustomizer, tarArchiveEntryCustomizer);
+  }
+
+  /**
+   * Creates a tar archive with the provided list of files.
+   *
+   * @param outputFile the tar archive to create.
+   * @param inputDirectory the directory from which the archive entry names are resolved.
+   * @param fileList the files and directories to include in the archive.
+   * @param fileModeMap the mode to set for specific files.
+   * @param compression the compression to apply to the archive.
+   * @param compressionThreads the number of threads to use for gzip compression (see {@link ParallelGzipOutputStream}).
+   * @param tarCustomizer customizer for the tar archive stream, can be null.
+   * @param tarArchiveEntryCustomizer customizer for each of the tar archive entries, can be null.
+   * @return the created tar archive.
+   * @throws IOException in case the archive can't be written.
+   */
+  public static File createTarBall(
+      File outputFile, File inputDirectory, List<File> fileList, Map<File, String> fileModeMap,
+      ArchiveCompression compression, int compressionThreads,
+      Consumer<TarArchiveOutputStream> tarCustomizer, Consumer<TarArchiveEntry> tarArchiveEntryCustomizer
   ) throws IOException {
     try (FileOutputStream fileOutputStream = new FileOutputStream(outputFile);
         BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(fileOutputStream)) {
+      writeTarBall(bufferedOutputStream, inputDirectory, fileList, fileModeMap, compression, compressionThreads,
+          tarCustomizer, tarArchiveEntryCustomizer);
+    }
+    return outputFile;
+  }
 
-      final TarArchiveOutputStream tarArchiveOutputStream;
-      if (compression.equals(ArchiveCompression.gzip)) {
-        tarArchiveOutputStream = new TarArchiveOutputStream(new GzipCompressorOutputStream(bufferedOutputStream));
-      } else if (compression.equals(ArchiveCompression.bzip2)) {
-        tarArchiveOutputStream = new TarArchiveOutputStream(new BZip2CompressorOutputStream(bufferedOutputStream));
-      } else {
-        tarArchiveOutputStream = new TarArchiveOutputStream(bufferedOutputStream);
-      }
-      tarArchiveOutputStream.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
-      tarArchiveOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
-      Optional.ofNullable(tarCustomizer).ifPresent(tc -> tc.accept(tarArchiveOutputStream));
-      for (File currentFile : fileList) {
-
-        String relativeFilePath = inputDirectory.toURI().relativize(
-            new File(currentFile.getAbsolutePath()).toURI()).getPath();
+  /**
+   * Writes a tar archive with the provided list of files to the provided stream.
+   *
+   * <p> The provided stream is flushed once the archive is complete, but it's not closed.
+   *
+   * @param outputStream the stream to write the tar archive to.
+   * @param inputDirectory the directory from which the archive entry names are resolved.
+   * @param fileList the files and directories to include in the archive.
+   * @param fileModeMap the mode to set for specific files.
+   * @param compression the compression to apply to the archive.
+   * @param compressionThreads the number of threads to use for gzip compression (see {@link ParallelGzipOutputStream}).
+   * @throws IOException in case the archive can't be written.
+   */
+  public static void writeTarBall(
+      OutputStream outputStream, File inputDirectory, List<File> fileList, Map<File, String> fileModeMap,
+      ArchiveCompression compression, int compressionThreads) throws IOException {
+    writeTarBall(CloseShieldOutputStream.wrap(outputStream), inputDirectory, fileList, fileModeMap, compression,
+        compressionThreads, null, null);
+    outputStream.flush();
+  }
 
-        final TarArchiveEntry tarEntry = new TarArchiveEntry(currentFile, relativeFilePath);
-        tarEntry.setSize(currentFile.length());
-        if (fileModeMap.containsKey(currentFile)) {
-          tarEntry.setMode(Integer.parseInt(fileModeMap.get(currentFile), 8));
-        } else if (currentFile.isDirectory()) {
-          tarEntry.setMode(TarArchiveEntry.DEFAULT_DIR_MODE);
-        }
-        if (currentFile.isDirectory()) {
-          tarEntry.setSize(0L);
-        }
-        Optional.ofNullable(tarArchiveEntryCustomizer).ifPresent(tac -> tac.accept(tarEntry));
-        tarArchiveOutputStream.putArchiveEntry(tarEntry);
-        if (currentFile.isFile()) {
-          try (InputStream fis = new FileInputStream(currentFile)) {
-            IOUtils.copy(fis, tarArchiveOutputStream);
-          }
+  private static void writeTarBall(
+      OutputStream outputStream, File inputDirectory, List<File> fileList, Map<File, String> fileModeMap,
+      ArchiveCompression compression, int compressionThreads,
+      Consumer<TarArchiveOutputStream> tarCustomizer, Consumer<TarArchiveEntry> tarArchiveEntryCustomizer
+  ) throws IOException {
+    final TarArchiveOutputStream tarArchiveOutputStream = newTarArchiveOutputStream(
+        compress(outputStream, compression, compressionThreads));
+    Optional.ofNullable(tarCustomizer).ifPresent(tc -> tc.accept(tarArchiveOutputStream));
+    for (File currentFile : fileList) {
+      final TarArchiveEntry tarEntry = newTarArchiveEntry(inputDirectory, currentFile, fileModeMap);
+      Optional.ofNullable(tarArchiveEntryCustomizer).ifPresent(tac -> tac.accept(tarEntry));
+      tarArchiveOutputStream.putArchiveEntry(tarEntry);
+      if (currentFile.isFile()) {
+        try (InputStream fis = new FileInputStream(currentFile)) {
+          IOUtils.copy(fis, tarArchiveOutputStream);
         }
-        tarArchiveOutputStream.closeArchiveEntry();
       }
-      tarArchiveOutputStream.close();
+      tarArchiveOutputStream.closeArchiveEntry();
     }
+    tarArchiveOutputStream.close();
+  }
 
-    return outputFile;
+  static OutputStream compress(
+      OutputStream outputStream, ArchiveCompression compression, int compressionThreads) throws IOException {
+    if (compression.equals(ArchiveCompression.gzip) && compressionThreads > 1) {
+      return new ParallelGzipOutputStream(outputStream, compressionThreads);
+    } else if (compression.equals(ArchiveCompression.gzip)) {
+      return new GzipCompressorOutputStream(outputStream);
+    } else if (compression.equals(ArchiveCompression.bzip2)) {
+      return new BZip2CompressorOutputStream(outputStream);
+    }
+    return outputStream;
+  }
+
+  static TarArchiveOutputStream newTarArchiveOutputStream(OutputStream outputStream) {
+    final TarArchiveOutputStream tarArchiveOutputStream = new TarArchiveOutputStream(outputStream);
+    tarArchiveOutputStream.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+    tarArchiveOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+    return tarArchiveOutputStream;
+  }
+
+  static TarArchiveEntry newTarArchiveEntry(File inputDirectory, File currentFile, Map<File, String> fileModeMap) {
+    String relativeFilePath = inputDirectory.toURI().relativize(
+        new File(currentFile.getAbsolutePath()).toURI()).getPath();
+    final TarArchiveEntry tarEntry = new TarArchiveEntry(currentFile, relativeFilePath);
+    tarEntry.setSize(currentFile.length());
+    if (fileModeMap.containsKey(currentFile)) {
+      tarEntry.setMode(Integer.parseInt(fileModeMap.get(currentFile), 8));
+    } else if (currentFile.isDirectory()) {
+      tarEntry.setMode(TarArchiveEntry.DEFAULT_DIR_MODE);
+    }
+    if (currentFile.isDirectory()) {
+      tarEntry.setSize(0L);
+    }
+    return tarEntry;
   }
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Gzip compressing {@link OutputStream} that deflates the data in fixed size blocks concurrently.
+ *
+ * <p> Same approach as <a href="https://zlib.net/pigz/">pigz</a>: each block is deflated independently using the last
+ * 32 KiB of the previous block as the preset dictionary, and (except for the last one) terminated with a sync flush so
+ * that the compressed blocks can be concatenated. The result is a single standard gzip member which can be read by any
+ * gzip decompressor.
+ *
+ * <p> The CRC-32 checksum is computed sequentially as the data is written, and at most two blocks per thread are
+ * buffered at any time.
+ */
+public class ParallelGzipOutputStream extends OutputStream {
+
+  static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+  private static final int DICTIONARY_SIZE = 32 * 1024;
+  private static final byte[] GZIP_HEADER = new byte[] {
+      (byte) 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0
+  };
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+  private final OutputStream out;
+  private final int blockSize;
+  private final int level;
+  private final int maxPendingBlocks;
+  private final ExecutorService executorService;
+  private final Deque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+  private final CRC32 crc = new CRC32();
+  private long size;
+  private byte[] buffer;
+  private int count;
+  private byte[] dictionary;
+  private boolean closed;
+
+  /**
+   * @param out the stream to write the gzip compressed data to.
+   * @param threads the number of threads used to compress the data.
+   * @throws IOException if the gzip header can't be written.
+   */
+  public ParallelGzipOutputStream(OutputStream out, int threads) throws IOException {
+    this(out, threads, DEFAULT_BLOCK_SIZE, Deflater.DEFAULT_COMPRESSION);
+  }
+
+  ParallelGzipOutputStream(OutputStream out, int threads, int blockSize, int level) throws IOException {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Number of compression threads must be positive");
+    }
+    this.out = out;
+    this.blockSize = blockSize;
+    this.level = level;
+    this.maxPendingBlocks = threads * 2;
+    this.buffer = new byte[blockSize];
+    this.executorService = Executors.newFixedThreadPool(threads, r -> {
+      final Thread thread = new Thread(r, "jkube-gzip-" + THREAD_COUNT.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      out.write(GZIP_HEADER);
+    } catch (IOException e) {
+      executorService.shutdownNow();
+      throw e;
+    }
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    write(new byte[] { (byte) b }, 0, 1);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    ensureOpen();
+    while (len > 0) {
+      final int chunk = Math.min(len, blockSize - count);
+      System.arraycopy(b, off, buffer, count, chunk);
+      count += chunk;
+      off += chunk;
+      len -= chunk;
+      if (count == blockSize) {
+        submitBlock(false);
+      }
+    }
+  }
+
+  /**
+   * Writes the blocks that have already been compressed to the underlying stream and flushes it.
+   *
+   * <p> Buffered data that doesn't fill a block yet is not compressed until more data is written or the stream is closed.
+   */
+  @Override
+  public void flush() throws IOException {
+    ensureOpen();
+    while (!pendingBlocks.isEmpty() && pendingBlocks.peekFirst().isDone()) {
+      writeNextBlock();
+    }
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      submitBlock(true);
+      while (!pendingBlocks.isEmpty()) {
+        writeNextBlock();
+      }
+      writeTrailer();
+      out.flush();
+    } finally {
+      executorService.shutdownNow();
+      out.close();
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+  }
+
+  private void submitBlock(boolean last) throws IOException {
+    final byte[] block = buffer;
+    final int length = count;
+    final byte[] blockDictionary = dictionary;
+    crc.update(block, 0, length);
+    size += length;
+    dictionary = nextDictionary(blockDictionary, block, length);
+    pendingBlocks.addLast(executorService.submit(() -> deflate(block, length, blockDictionary, last)));
+    buffer = new byte[blockSize];
+    count = 0;
+    while (pendingBlocks.size() > maxPendingBlocks) {
+      writeNextBlock();
+    }
+  }
+
+  private void writeNextBlock() throws IOException {
+    try {
+      out.write(pendingBlocks.removeFirst().get());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while compressing");
+    } catch (ExecutionException e) {
+      throw new IOException("Failure while compressing: " + e.getCause().getMessage(), e.getCause());
+    }
+  }
+
+  private byte[] deflate(byte[] block, int length, byte[] blockDictionary, boolean last) {
+    final Deflater deflater = new Deflater(level, true);
+    try {
+      if (blockDictionary != null) {
+        deflater.setDictionary(blockDictionary);
+      }
+      deflater.setInput(block, 0, length);
+      final ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 64);
+      final byte[] chunk = new byte[16 * 1024];
+      if (last) {
+        deflater.finish();
+        while (!deflater.finished()) {
+          compressed.write(chunk, 0, deflater.deflate(chunk));
+        }
+      } else {
+        int deflated;
+        do {
+          deflated = deflater.deflate(chunk, 0, chunk.length, Deflater.SYNC_FLUSH);
+          compressed.write(chunk, 0, deflated);
+        } while (deflated == chunk.length);
+      }
+      return compressed.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private void writeTrailer() throws IOException {
+    writeIntLE(crc.getValue());
+    writeIntLE(size);
+  }
+
+  private void writeIntLE(long value) throws IOException {
+    out.write((int) (value & 0xff));
+    out.write((int) ((value >> 8) & 0xff));
+    out.write((int) ((value >> 16) & 0xff));
+    out.write((int) ((value >> 24) & 0xff));
+  }
+
+  private static byte[] nextDictionary(byte[] previous, byte[] block, int length) {
+    if (length >= DICTIONARY_SIZE) {
+      return Arrays.copyOfRange(block, length - DICTIONARY_SIZE, length);
+    }
+    final int fromPrevious = previous == null ? 0 : Math.min(previous.length, DICTIONARY_SIZE - length);
+    final byte[] next = new byte[fromPrevious + length];
+    if (fromPrevious > 0) {
+      System.arraycopy(previous, previous.length - fromPrevious, next, 0, fromPrevious);
+    }
+    System.arraycopy(block, 0, next, fromPrevious, length);
+    return next;
+  }
+}
@@ -14,8 +14,15 @@
 package org.eclipse.jkube.kit.common.util;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -89,6 +96,59 @@ public class AsyncUtil {
     }
   }
 
+  /**
+   * Waits for all the provided futures to complete and returns their results in the same order.
+   *
+   * <p> If any of the futures failed, the first failure is thrown once all of them are complete, the rest of failures
+   * are added to it as suppressed exceptions. Failures with the very same cause are only reported once.
+   *
+   * @param futures the futures to wait for.
+   * @param exceptionMapper converts the cause of a failed future to the exception to throw.
+   * @param <T> type of the future results.
+   * @param <E> type of the thrown exception.
+   * @return the results of the futures.
+   * @throws E if any of the futures failed.
+   */
+  public static <T, E extends Exception> List<T> joinAll(
+    Collection<CompletableFuture<T>> futures, Function<Throwable, E> exceptionMapper) throws E {
+
+    final List<T> results = new ArrayList<>(futures.size());
+    final Map<Throwable, Boolean> causes = new IdentityHashMap<>();
+    E failure = null;
+    for (CompletableFuture<T> future : futures) {
+      try {
+        results.add(future.join());
+      } catch (CompletionException | CancellationException e) {
+        final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (causes.put(cause, Boolean.TRUE) != null) {
+          continue;
+        }
+        final E mapped = exceptionMapper.apply(cause);
+        if (failure == null) {
+          failure = mapped;
+        } else if (failure != mapped) {
+          failure.addSuppressed(mapped);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    return results;
+  }
+
+  /**
+   * Waits for all the provided futures to complete and returns their results in the same order.
+   *
+   * <p> Unchecked failures are thrown as is, checked ones wrapped in an {@link IllegalStateException}.
+   *
+   * @see #joinAll(Collection, Function)
+   */
+  public static <T> List<T> joinAll(Collection<CompletableFuture<T>> futures) {
+    return joinAll(futures, cause -> cause instanceof RuntimeException ?
+      (RuntimeException) cause : new IllegalStateException(cause));
+  }
+
   @FunctionalInterface
   public interface ThrowingFunction<T, R> {
     R apply(T t) throws Exception;
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.commons.io.FileUtils;
+import org.eclipse.jkube.kit.common.KitLogger;
+
+/**
+ * Records the wall time, CPU time and allocated bytes of the different steps of a goal or task (enrichers,
+ * generators, assembly, push, apply, ...).
+ *
+ * <p> CPU time and allocated bytes are measured for the calling thread using the {@link ThreadMXBean}, work delegated
+ * by a step to other threads is only accounted for in its wall time. Nested steps are recorded independently.
+ *
+ * <p> Instances are thread-safe.
+ */
+public class BuildTimings {
+
+  /**
+   * No-op instance used when timings are not enabled.
+   */
+  public static final BuildTimings DISABLED = new BuildTimings(false);
+
+  private final boolean enabled;
+  private final ThreadMXBean threadMXBean;
+  private final Queue<Timing> timings;
+
+  public BuildTimings() {
+    this(true);
+  }
+
+  private BuildTimings(boolean enabled) {
+    this.enabled = enabled;
+    this.threadMXBean = enabled ? ManagementFactory.getThreadMXBean() : null;
+    this.timings = new ConcurrentLinkedQueue<>();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Runs the provided step and records its timings.
+   *
+   * @param phase the phase the step belongs to (e.g. enricher, generator, push).
+   * @param name the name of the step (e.g. the enricher name).
+   * @param step the step to run.
+   * @param <E> the type of exception thrown by the step.
+   * @throws E if the step fails, timings are recorded anyway.
+   */
+  public <E extends Exception> void run(String phase, String name, Step<E> step) throws E {
+    call(phase, name, () -> {
+      step.run();
+      return null;
+    });
+  }
+
+  /**
+   * Calls the provided step and records its timings.
+   *
+   * @param phase the phase the step belongs to (e.g. enricher, generator, push).
+   * @param name the name of the step (e.g. the enricher name).
+   * @param step the step to call.
+   * @param <T> the type of the result.
+   * @param <E> the type of exception thrown by the step.
+   * @return the result of the step.
+   * @throws E if the step fails, timings are recorded anyway.
+   */
+  public <T, E extends Exception> T call(String phase, String name, ValueStep<T, E> step) throws E {
+    if (!enabled) {
+      return step.call();
+    }
+    final long threadId = Thread.currentThread().getId();
+    final long cpuTimeStart = cpuTime();
+    final long allocatedBytesStart = allocatedBytes(threadId);
+    final long wallTimeStart = System.nanoTime();
+    try {
+      return step.call();
+    } finally {
+      timings.add(new Timing(phase, name, 1,
+        System.nanoTime() - wallTimeStart,
+        cpuTime() - cpuTimeStart,
+        allocatedBytes(threadId) - allocatedBytesStart));
+    }
+  }
+
+  /**
+   * Returns the recorded timings aggregated by phase and name, sorted by descending wall time.
+   *
+   * @return the aggregated timings.
+   */
+  public List<Timing> getSummary() {
+    final Map<String, Timing> aggregated = new LinkedHashMap<>();
+    for (Timing timing : timings) {
+      aggregated.merge(timing.getPhase() + "/" + timing.getName(), timing, Timing::add);
+    }
+    final List<Timing> summary = new ArrayList<>(aggregated.values());
+    summary.sort(Comparator.comparingLong(Timing::getWallTimeNanos).reversed());
+    return summary;
+  }
+
+  /**
+   * Logs the summary of the recorded timings and, if a file is provided, writes it as JSON under the goal key
+   * (preserving the entries for other goals that were already in the file).
+   *
+   * @param log the logger.
+   * @param goal the name of the goal or task (e.g. k8s:resource).
+   * @param file the JSON file to write the summary to (optional).
+   */
+  public void report(KitLogger log, String goal, File file) {
+    if (!enabled) {
+      return;
+    }
+    final List<Timing> summary = getSummary();
+    log.info("Timings for %s (wall / cpu / allocated):", goal);
+    for (Timing timing : summary) {
+      log.info("  %-10s %-40s %8d ms %8d ms %10s  (x%d)", timing.getPhase(), timing.getName(),
+        timing.getWallTimeNanos() / 1_000_000, timing.getCpuTimeNanos() / 1_000_000,
+        FileUtils.byteCountToDisplaySize(timing.getAllocatedBytes()), timing.getCount());
+    }
+    if (file == null) {
+      return;
+    }
+    try {
+      final Map<String, Object> report = file.isFile() ?
+        Serialization.unmarshal(file, new TypeReference<LinkedHashMap<String, Object>>() {}) : new LinkedHashMap<>();
+      report.put(goal, summary);
+      FileUtils.forceMkdirParent(file);
+      Serialization.saveJson(file, report);
+      log.info("Timings written to %s", file.getAbsolutePath());
+    } catch (IOException e) {
+      log.warn("Cannot write timings to %s: %s", file.getAbsolutePath(), e.getMessage());
+    }
+  }
+
+  private long cpuTime() {
+    if (threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled()) {
+      return threadMXBean.getCurrentThreadCpuTime();
+    }
+    return 0L;
+  }
+
+  private long allocatedBytes(long threadId) {
+    if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+      final com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+      if (sunThreadMXBean.isThreadAllocatedMemorySupported() && sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+        return sunThreadMXBean.getThreadAllocatedBytes(threadId);
+      }
+    }
+    return 0L;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static final class Timing {
+    private final String phase;
+    private final String name;
+    private final int count;
+    private final long wallTimeNanos;
+    private final long cpuTimeNanos;
+    private final long allocatedBytes;
+
+    private Timing add(Timing other) {
+      return new Timing(phase, name, count + other.count, wallTimeNanos + other.wallTimeNanos,
+        cpuTimeNanos + other.cpuTimeNanos, allocatedBytes + other.allocatedBytes);
+    }
+  }
+
+  @FunctionalInterface
+  public interface Step<E extends Exception> {
+    void run() throws E;
+  }
+
+  @FunctionalInterface
+  public interface ValueStep<T, E extends Exception> {
+    T call() throws E;
+  }
+}
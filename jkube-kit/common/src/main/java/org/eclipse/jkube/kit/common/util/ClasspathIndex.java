@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Index of the class and resource names available in a set of classpath elements.
+ *
+ * <p> Jar files are indexed by reading their central directory (no classes are loaded) and the result is cached by
+ * path, modification time and size (the least recently used jars are evicted once the cache is full). When an index
+ * directory is provided, the entries of each jar are also persisted there in a file of their own so that subsequent
+ * builds only need to index (and write) the jars that changed. Directories (e.g. the project's output directory) are
+ * always scanned since their content changes between builds.
+ *
+ * <p> The index follows the same rules as the {@link java.net.URLClassLoader}: the versioned entries of multi-release
+ * jars (<code>META-INF/versions/&lt;n&gt;/</code>) are indexed with their base name and the jars referenced in the
+ * manifest <code>Class-Path</code> are indexed too. Classpath elements that can't be indexed (e.g. remote URLs) make
+ * the index {@link #isComplete() incomplete}.
+ */
+public class ClasspathIndex {
+
+  private static final int INDEX_FORMAT = 2;
+  private static final String VERSIONS_PREFIX = "META-INF/versions/";
+  private static final int JAR_CACHE_SIZE = 1024;
+  // Indexed jars by path, least recently used entries are evicted
+  private static final Map<String, IndexedJar> JAR_CACHE = Collections.synchronizedMap(
+    new LinkedHashMap<String, IndexedJar>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, IndexedJar> eldest) {
+        return size() > JAR_CACHE_SIZE;
+      }
+    });
+
+  private final List<Set<String>> elements;
+  private final boolean complete;
+
+  private ClasspathIndex(List<Set<String>> elements, boolean complete) {
+    this.elements = elements;
+    this.complete = complete;
+  }
+
+  /**
+   * Creates an index for the provided classpath elements.
+   *
+   * @param urls the classpath elements (directories or jar files) to index.
+   * @param indexDirectory the directory where the jar indexes are persisted (optional).
+   * @return the classpath index.
+   */
+  public static ClasspathIndex of(URL[] urls, File indexDirectory) {
+    final List<Set<String>> elements = new ArrayList<>(urls.length);
+    boolean complete = true;
+    final Set<String> visited = new HashSet<>();
+    final Deque<File> pending = new ArrayDeque<>();
+    for (URL url : urls) {
+      final File file = toFile(url);
+      if (file == null) {
+        complete = false;
+        continue;
+      }
+      pending.add(file);
+      while (!pending.isEmpty()) {
+        final File element = pending.poll();
+        if (!visited.add(element.getAbsolutePath())) {
+          continue;
+        }
+        if (element.isDirectory()) {
+          elements.add(scanDirectory(element));
+        } else if (element.isFile()) {
+          final IndexedJar jar = getIndexedJar(element, indexDirectory);
+          elements.add(jar.entries);
+          jar.classPath.stream().map(File::new).forEach(pending::add);
+        }
+      }
+    }
+    return new ClasspathIndex(elements, complete);
+  }
+
+  /**
+   * Returns if all the classpath elements could be indexed.
+   *
+   * <p> When the index is incomplete, a miss doesn't mean that the resource is not available in the classpath.
+   *
+   * @return true if every classpath element was indexed, false otherwise.
+   */
+  public boolean isComplete() {
+    return complete;
+  }
+
+  /**
+   * Returns if the provided resource (e.g. META-INF/MANIFEST.MF) is available in any of the indexed elements.
+   *
+   * @param resourceName the name of the resource.
+   * @return true if present, false otherwise.
+   */
+  public boolean containsResource(String resourceName) {
+    for (Set<String> element : elements) {
+      if (element.contains(resourceName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns if the class with the provided binary name is available in any of the indexed elements.
+   *
+   * @param className fully qualified class name.
+   * @return true if present, false otherwise.
+   */
+  public boolean containsClass(String className) {
+    return containsResource(className.replace('.', '/') + ".class");
+  }
+
+  private static Set<String> scanDirectory(File directory) {
+    final Path root = directory.toPath();
+    try (Stream<Path> paths = Files.walk(root)) {
+      return paths.filter(Files::isRegularFile)
+        .map(p -> root.relativize(p).toString().replace(File.separatorChar, '/'))
+        .collect(Collectors.toSet());
+    } catch (IOException e) {
+      return Collections.emptySet();
+    }
+  }
+
+  private static IndexedJar scanJar(File jar) {
+    final Set<String> entries = new HashSet<>();
+    final List<String> classPath = new ArrayList<>();
+    try (JarFile jarFile = new JarFile(jar, false)) {
+      final Manifest manifest = jarFile.getManifest();
+      final boolean multiRelease = manifest != null
+        && Boolean.parseBoolean(manifest.getMainAttributes().getValue(Attributes.Name.MULTI_RELEASE));
+      final Enumeration<JarEntry> jarEntries = jarFile.entries();
+      while (jarEntries.hasMoreElements()) {
+        final JarEntry entry = jarEntries.nextElement();
+        if (!entry.isDirectory()) {
+          entries.add(entry.getName());
+          if (multiRelease) {
+            addUnversionedName(entries, entry.getName());
+          }
+        }
+      }
+      if (manifest != null) {
+        classPath.addAll(resolveClassPath(jar, manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH)));
+      }
+    } catch (IOException e) {
+      // Not a valid archive, the class loader won't be able to load anything from it either
+    }
+    return new IndexedJar(INDEX_FORMAT, jar.getAbsolutePath(), jar.lastModified(), jar.length(), entries, classPath);
+  }
+
+  private static void addUnversionedName(Set<String> entries, String name) {
+    if (name.startsWith(VERSIONS_PREFIX)) {
+      final int versionEnd = name.indexOf('/', VERSIONS_PREFIX.length());
+      if (versionEnd > 0 && versionEnd < name.length() - 1) {
+        entries.add(name.substring(versionEnd + 1));
+      }
+    }
+  }
+
+  private static List<String> resolveClassPath(File jar, String classPath) {
+    if (classPath == null || classPath.trim().isEmpty()) {
+      return Collections.emptyList();
+    }
+    final List<String> ret = new ArrayList<>();
+    for (String entry : classPath.trim().split("\\s+")) {
+      try {
+        final File file = toFile(new URL(jar.toURI().toURL(), entry));
+        if (file != null) {
+          ret.add(file.getAbsolutePath());
+        }
+      } catch (IOException e) {
+        // Invalid Class-Path entries are ignored by the class loader too
+      }
+    }
+    return ret;
+  }
+
+  private static IndexedJar getIndexedJar(File file, File indexDirectory) {
+    final String path = file.getAbsolutePath();
+    IndexedJar jar = JAR_CACHE.get(path);
+    if (jar != null && jar.isUpToDate(file)) {
+      return jar;
+    }
+    final File indexFile = indexDirectory == null ? null : new File(indexDirectory, sha256(path) + ".json");
+    jar = load(indexFile, path);
+    if (jar == null || !jar.isUpToDate(file)) {
+      jar = scanJar(file);
+      save(indexFile, jar);
+    }
+    JAR_CACHE.put(path, jar);
+    return jar;
+  }
+
+  private static IndexedJar load(File indexFile, String path) {
+    if (indexFile == null || !indexFile.isFile()) {
+      return null;
+    }
+    try {
+      final IndexedJar persisted = Serialization.unmarshal(indexFile, IndexedJar.class);
+      return persisted != null && persisted.format == INDEX_FORMAT && path.equals(persisted.path) ? persisted : null;
+    } catch (IOException | RuntimeException e) {
+      // The index is just a cache, it will be rebuilt
+      return null;
+    }
+  }
+
+  private static void save(File indexFile, IndexedJar jar) {
+    if (indexFile == null) {
+      return;
+    }
+    try {
+      FileUtils.forceMkdirParent(indexFile);
+      Serialization.saveJson(indexFile, jar);
+    } catch (IOException e) {
+      // The index is just a cache, it will be rebuilt
+    }
+  }
+
+  private static String sha256(String value) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return String.format("%064x", new BigInteger(1, digest.digest(value.getBytes(StandardCharsets.UTF_8))));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 algorithm is not available", e);
+    }
+  }
+
+  private static File toFile(URL url) {
+    if (!"file".equals(url.getProtocol())) {
+      return null;
+    }
+    try {
+      return new File(url.toURI());
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @Getter
+  static final class IndexedJar {
+    private int format;
+    private String path;
+    private long lastModified;
+    private long size;
+    private Set<String> entries;
+    private List<String> classPath;
+
+    private boolean isUpToDate(File file) {
+      return lastModified == file.lastModified() && size == file.length();
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import lombok.Value;
+import org.eclipse.jkube.kit.common.Dependency;
+import org.eclipse.jkube.kit.common.JavaProject;
+import org.eclipse.jkube.kit.common.Plugin;
+
+/**
+ * Hash based index over the dependencies and plugins of a {@link JavaProject}.
+ *
+ * <p> Dependencies are indexed by groupId and by groupId and artifactId, plugins by groupId and artifactId and by
+ * artifactId. When several entries share the same key, the first one in the project's list is kept so that lookups
+ * return the same element the former linear scans did.
+ *
+ * <p> The index is a snapshot of the lists it was created from, use {@link #isIndexOf(List, List, List)} to check
+ * whether it still reflects the project's current lists.
+ */
+public class DependencyIndex {
+
+  private final List<Dependency> dependencies;
+  private final List<Dependency> dependenciesWithTransitive;
+  private final List<Plugin> plugins;
+  private final int dependenciesSize;
+  private final int dependenciesWithTransitiveSize;
+  private final int pluginsSize;
+  private final Map<String, Dependency> dependenciesByGroupId;
+  private final Map<Key, Dependency> dependenciesByGroupArtifact;
+  private final Map<Key, Dependency> transitiveDependenciesByGroupArtifact;
+  private final Map<Key, Plugin> pluginsByGroupArtifact;
+  private final Map<String, Plugin> pluginsByArtifactId;
+
+  public DependencyIndex(List<Dependency> dependencies, List<Dependency> dependenciesWithTransitive, List<Plugin> plugins) {
+    this.dependencies = dependencies;
+    this.dependenciesWithTransitive = dependenciesWithTransitive;
+    this.plugins = plugins;
+    this.dependenciesSize = sizeOf(dependencies);
+    this.dependenciesWithTransitiveSize = sizeOf(dependenciesWithTransitive);
+    this.pluginsSize = sizeOf(plugins);
+    this.dependenciesByGroupId = index(dependencies, Dependency::getGroupId);
+    this.dependenciesByGroupArtifact = index(dependencies, d -> new Key(d.getGroupId(), d.getArtifactId()));
+    this.transitiveDependenciesByGroupArtifact = index(dependenciesWithTransitive,
+      d -> new Key(d.getGroupId(), d.getArtifactId()));
+    this.pluginsByGroupArtifact = index(plugins, p -> new Key(p.getGroupId(), p.getArtifactId()));
+    this.pluginsByArtifactId = index(plugins, Plugin::getArtifactId);
+  }
+
+  /**
+   * Checks if this index was created from the provided lists and they haven't changed in size since.
+   *
+   * @param dependencies the project's direct dependencies.
+   * @param dependenciesWithTransitive the project's dependencies including transitive ones.
+   * @param plugins the project's plugins.
+   * @return true if the index is up-to-date, false otherwise.
+   */
+  public boolean isIndexOf(List<Dependency> dependencies, List<Dependency> dependenciesWithTransitive, List<Plugin> plugins) {
+    return this.dependencies == dependencies && dependenciesSize == sizeOf(dependencies)
+      && this.dependenciesWithTransitive == dependenciesWithTransitive
+      && dependenciesWithTransitiveSize == sizeOf(dependenciesWithTransitive)
+      && this.plugins == plugins && pluginsSize == sizeOf(plugins);
+  }
+
+  public Dependency getAnyDependencyWithGroupId(String groupId) {
+    return dependenciesByGroupId.get(groupId);
+  }
+
+  public Dependency getDependency(String groupId, String artifactId) {
+    return dependenciesByGroupArtifact.get(new Key(groupId, artifactId));
+  }
+
+  public Dependency getTransitiveDependency(String groupId, String artifactId) {
+    return transitiveDependenciesByGroupArtifact.get(new Key(groupId, artifactId));
+  }
+
+  public Plugin getPlugin(String groupId, String artifactId) {
+    return pluginsByGroupArtifact.get(new Key(groupId, artifactId));
+  }
+
+  public Plugin getPlugin(String artifactId) {
+    return pluginsByArtifactId.get(artifactId);
+  }
+
+  private static <K, T> Map<K, T> index(List<T> list, Function<T, K> keyFunction) {
+    if (list == null || list.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    final Map<K, T> ret = new HashMap<>(list.size() * 2);
+    for (T element : list) {
+      if (element != null) {
+        ret.putIfAbsent(keyFunction.apply(element), element);
+      }
+    }
+    return ret;
+  }
+
+  private static int sizeOf(List<?> list) {
+    return list == null ? -1 : list.size();
+  }
+
+  @Value
+  private static class Key {
+    String groupId;
+    String artifactId;
+  }
+}
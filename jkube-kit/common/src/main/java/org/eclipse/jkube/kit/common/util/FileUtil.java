@@ -205,6 +205,24 @@ public class FileUtil {
         Files.copy(sourcePath, targetPath, REPLACE_EXISTING, COPY_ATTRIBUTES);
     }
 
+    /**
+     * Copies the source file to the target file unless the target file already exists with the same size and last
+     * modification time as the source file (file attributes are preserved when copying).
+     *
+     * @param sourceFile the file to copy.
+     * @param targetFile the destination file.
+     * @return true if the file was copied, false if the target file was up to date.
+     * @throws IOException in case the file can't be copied.
+     */
+    public static boolean copyIfModified(File sourceFile, File targetFile) throws IOException {
+        if (targetFile.isFile() && sourceFile.isFile() && targetFile.length() == sourceFile.length()
+            && targetFile.lastModified() == sourceFile.lastModified()) {
+            return false;
+        }
+        copy(sourceFile, targetFile);
+        return true;
+    }
+
     public static void copyDirectoryIfNotExists(File sourceDir, File targetDir) throws IOException {
         if (targetDir.exists() && targetDir.isDirectory() && !isDirEmpty(targetDir.toPath())) {
             return;
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.jkube.kit.common.JavaProject;
+
+/**
+ * Caches the framework configuration files (application.properties, application.yml, ...) of a {@link JavaProject}
+ * so that they are looked up in the compile classpath and parsed once per build, regardless of the number of
+ * generators, enrichers and watchers that need them.
+ *
+ * <p> Only the resources that are found are cached, resources that are missing are looked up again on every request
+ * since they might be created later on (e.g. in watch mode). Parsed YAML files are cached per active profile. Files in
+ * the local file system are parsed again if they are modified. The returned properties are copies that can be safely
+ * modified by the callers.
+ *
+ * <p> The project class loader is created on the first lookup and closed (along with the cached entries) when the
+ * cache is {@link #close() closed}.
+ */
+public class FrameworkConfigurationCache implements Closeable {
+
+  private final Supplier<URLClassLoader> classLoaderSupplier;
+  private final Map<String, URL> resources;
+  private final Map<String, CachedProperties> properties;
+  private URLClassLoader classLoader;
+
+  public FrameworkConfigurationCache(JavaProject project) {
+    this(() -> JKubeProjectUtil.getClassLoader(project));
+  }
+
+  FrameworkConfigurationCache(Supplier<URLClassLoader> classLoaderSupplier) {
+    this.classLoaderSupplier = classLoaderSupplier;
+    this.resources = new ConcurrentHashMap<>();
+    this.properties = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Finds the resource with the given name in the project's compile classpath.
+   *
+   * @param name the name of the resource (e.g. application.properties).
+   * @return the URL of the resource or null if not found.
+   */
+  public URL findResource(String name) {
+    final URL cached = resources.get(name);
+    if (cached != null) {
+      return cached;
+    }
+    final URL resource = getClassLoader().findResource(name);
+    if (resource != null) {
+      resources.put(name, resource);
+    }
+    return resource;
+  }
+
+  /**
+   * Returns the properties of the provided properties resource or empty properties if the resource is null.
+   *
+   * @param resource the properties resource.
+   * @return a copy of the parsed properties.
+   */
+  public Properties getProperties(URL resource) {
+    return get(resource, null, () -> PropertiesUtil.getPropertiesFromResource(resource));
+  }
+
+  /**
+   * Returns the flattened properties of the provided YAML resource for the active profile (or the first document if
+   * no profile matches) or empty properties if the resource is null.
+   *
+   * @param activeProfile the active profile (optional).
+   * @param resource the YAML resource.
+   * @return a copy of the parsed properties.
+   */
+  public Properties getYamlProperties(String activeProfile, URL resource) {
+    return get(resource, activeProfile, () -> YamlUtil.getPropertiesFromYamlResource(activeProfile, resource));
+  }
+
+  private Properties get(URL resource, String activeProfile, Supplier<Properties> parser) {
+    final Properties ret = new Properties();
+    if (resource == null) {
+      return ret;
+    }
+    final String key = resource + "|" + Optional.ofNullable(activeProfile).orElse("");
+    final File file = toFile(resource);
+    CachedProperties cached = properties.get(key);
+    if (cached == null || !cached.isUpToDate(file)) {
+      cached = new CachedProperties(file, parser.get());
+      properties.put(key, cached);
+    }
+    ret.putAll(cached.properties);
+    return ret;
+  }
+
+  /**
+   * Closes the project class loader and clears the cached entries.
+   *
+   * <p> The cache can still be used afterwards, a new class loader is created if needed.
+   */
+  @Override
+  public synchronized void close() {
+    resources.clear();
+    properties.clear();
+    if (classLoader != null) {
+      try {
+        classLoader.close();
+      } catch (IOException e) {
+        // The class loader is released anyway
+      }
+      classLoader = null;
+    }
+  }
+
+  private synchronized URLClassLoader getClassLoader() {
+    if (classLoader == null) {
+      classLoader = classLoaderSupplier.get();
+    }
+    return classLoader;
+  }
+
+  private static File toFile(URL resource) {
+    if (!"file".equals(resource.getProtocol())) {
+      return null;
+    }
+    try {
+      return new File(resource.toURI());
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static final class CachedProperties {
+    private final long lastModified;
+    private final long length;
+    private final Properties properties;
+
+    private CachedProperties(File file, Properties properties) {
+      this.lastModified = file == null ? 0L : file.lastModified();
+      this.length = file == null ? 0L : file.length();
+      this.properties = properties;
+    }
+
+    private boolean isUpToDate(File file) {
+      return file == null || (lastModified == file.lastModified() && length == file.length());
+    }
+  }
+}
@@ -41,22 +41,16 @@ public class JKubeProjectUtil {
     }
 
     public static String getAnyDependencyVersionWithGroupId(JavaProject jkubeProject, String groupId) {
-        Optional<Dependency> value = iterateOverListWithCondition(jkubeProject.getDependencies(),
-                dependency -> dependency.getGroupId().equals(groupId));
-
-        return value.map(Dependency::getVersion).orElse(null);
+        return Optional.ofNullable(jkubeProject.getDependencyIndex().getAnyDependencyWithGroupId(groupId))
+                .map(Dependency::getVersion).orElse(null);
     }
 
     public static Plugin getPlugin(JavaProject javaProject, String groupId, String artifactId) {
-        Optional<Plugin> value = iterateOverListWithCondition(javaProject.getPlugins(),
-                plugin -> plugin.getGroupId().equals(groupId) && plugin.getArtifactId().equals(artifactId));
-        return value.orElse(null);
+        return javaProject.getDependencyIndex().getPlugin(groupId, artifactId);
     }
 
     public static Plugin getPlugin(JavaProject jkubeProject, String artifactId) {
-        Optional<Plugin> value = iterateOverListWithCondition(jkubeProject.getPlugins(),
-                plugin -> plugin.getArtifactId().equals(artifactId));
-        return value.orElse(null);
+        return jkubeProject.getDependencyIndex().getPlugin(artifactId);
     }
 
     public static boolean hasPlugin(JavaProject jkubeProject, String groupId, String artifactId) {
@@ -82,17 +76,17 @@ public class JKubeProjectUtil {
     }
 
     public static boolean hasDependencyWithGroupId(JavaProject project, String groupId) {
-      return Optional.ofNullable(project).map(JavaProject::getDependencies)
-          .map(deps -> deps.stream().anyMatch(dep -> Objects.equals(dep.getGroupId(), groupId)))
+      return Optional.ofNullable(project).map(JavaProject::getDependencyIndex)
+          .map(index -> index.getAnyDependencyWithGroupId(groupId) != null)
           .orElse(false);
     }
 
     public static Dependency getTransitiveDependency(JavaProject javaProject, String groupId, String artifactId) {
-      return getDependencyByGroupArtifact(javaProject.getDependenciesWithTransitive(), groupId, artifactId);
+      return javaProject.getDependencyIndex().getTransitiveDependency(groupId, artifactId);
     }
 
     public static Dependency getDependency(JavaProject jkubeProject, String groupId, String artifactId) {
-        return getDependencyByGroupArtifact(jkubeProject.getDependencies(), groupId, artifactId);
+        return jkubeProject.getDependencyIndex().getDependency(groupId, artifactId);
     }
 
   /**
@@ -200,13 +194,4 @@ public class JKubeProjectUtil {
     }
     return artifact;
   }
-
-  private static Dependency getDependencyByGroupArtifact(List<Dependency> dependencyList, String groupId, String artifactId) {
-    if (dependencyList != null) {
-      return iterateOverListWithCondition(dependencyList, dependency ->
-          Objects.equals(dependency.getGroupId(), groupId) && Objects.equals(dependency.getArtifactId(), artifactId))
-          .orElse(null);
-    }
-    return null;
-  }
 }
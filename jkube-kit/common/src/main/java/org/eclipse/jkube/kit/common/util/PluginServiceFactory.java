@@ -14,16 +14,17 @@
 package org.eclipse.jkube.kit.common.util;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.LineNumberReader;
 import java.lang.reflect.Constructor;
 import java.net.URL;
+import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.TreeMap;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -42,6 +43,10 @@ import java.util.stream.Stream;
  * If a line starts with <code>!</code> it is removed if it has been added previously.
  * The optional second numeric value is the order in which the services are returned.
  *
+ * <p> The descriptors are read each time services are created. Services are only instantiated once all the
+ * descriptors have been resolved, so services removed by a later descriptor are never created. Every remaining
+ * service is instantiated, selecting the enabled ones (e.g. through a <code>ProcessorConfig</code>) is up to the
+ * caller.
  */
 public final class PluginServiceFactory<C> {
 
@@ -73,70 +78,84 @@ public final class PluginServiceFactory<C> {
      * @return an ordered list of created services or an empty list.
      */
     public <T> List<T> createServiceObjects(String... descriptorPaths) {
+        final TreeMap<ServiceEntry, String> serviceEntries = new TreeMap<>();
         try {
             ServiceEntry.initDefaultOrder();
-            TreeMap<ServiceEntry,T> serviceMap = new TreeMap<>();
             for (String descriptor : descriptorPaths) {
-                readServiceDefinitions(serviceMap, descriptor);
+                readServiceDefinitions(serviceEntries, descriptor);
             }
-            return new ArrayList<>(serviceMap.values());
         } finally {
             ServiceEntry.removeDefaultOrder();
         }
+        // Services are only instantiated once all the descriptors have been processed so that
+        // services removed by a later descriptor are never created
+        final List<T> ret = new ArrayList<>(serviceEntries.size());
+        for (Map.Entry<ServiceEntry, String> entry : serviceEntries.entrySet()) {
+            ret.add(createService(entry.getKey(), entry.getValue()));
+        }
+        return ret;
     }
 
-    private <T> void readServiceDefinitions(Map<ServiceEntry, T> extractorMap, String defPath) {
+    private void readServiceDefinitions(Map<ServiceEntry, String> serviceEntries, String defPath) {
         try {
             for (String url : ClassUtil.getResources(defPath, additionalClassLoaders)) {
-                readServiceDefinitionFromUrl(extractorMap, url);
+                for (String line : readDescriptor(url)) {
+                    addOrRemoveServiceEntry(serviceEntries, line, url);
+                }
             }
         } catch (IOException e) {
             throw new IllegalStateException("Cannot load service from " + defPath + ": " + e, e);
         }
     }
 
-    private <T> void readServiceDefinitionFromUrl(Map<ServiceEntry, T> extractorMap, String url) {
-        String line = null;
-        try (LineNumberReader reader = new LineNumberReader(new InputStreamReader(new URL(url).openStream(), StandardCharsets.UTF_8))) {
-            line = reader.readLine();
+    private static List<String> readDescriptor(String url) {
+        final List<String> ret = new ArrayList<>();
+        try (LineNumberReader reader = new LineNumberReader(new InputStreamReader(openStream(url), StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
             while (line != null) {
-                createOrRemoveService(extractorMap, line);
+                if (!line.isEmpty() && !COMMENT_LINE_PATTERN.matcher(line).matches()) {
+                    ret.add(line);
+                }
                 line = reader.readLine();
             }
-        } catch (ReflectiveOperationException|IOException e) {
-            throw new IllegalStateException("Cannot load service " + line + " defined in " +
-                    url + " : " + e + ". Aborting", e);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot load service definitions from " + url + " : " + e + ". Aborting", e);
         }
+        return Collections.unmodifiableList(ret);
     }
 
+    private static InputStream openStream(String url) throws IOException {
+        final URLConnection connection = new URL(url).openConnection();
+        // Don't read from a JarFile cached by the JDK, it might belong to a previous version of the jar (e.g. a plugin
+        // rebuilt while a Gradle daemon is running)
+        connection.setUseCaches(false);
+        return connection.getInputStream();
+    }
 
-    private synchronized  <T> void createOrRemoveService(Map<ServiceEntry, T> serviceMap, String line)
-            throws ReflectiveOperationException {
-        if (!line.isEmpty() && !COMMENT_LINE_PATTERN.matcher(line).matches()) {
-            ServiceEntry entry = new ServiceEntry(line);
-            if (entry.isRemove()) {
-                // Removing is a bit complex since we need to find out
-                // the proper key since the order is part of equals/hash,
-                // so we can't fetch/remove it directly
-                Set<ServiceEntry> toRemove = new HashSet<>();
-                for (ServiceEntry key : serviceMap.keySet()) {
-                    if (key.getClassName().equals(entry.getClassName())) {
-                        toRemove.add(key);
-                    }
-                }
-                for (ServiceEntry key : toRemove) {
-                    serviceMap.remove(key);
-                }
-            } else {
-                Class<T> clazz = ClassUtil.classForName(entry.getClassName(), additionalClassLoaders);
-                if (clazz == null) {
-                    throw new ClassNotFoundException("Class " + entry.getClassName() + " could not be found");
-                }
-                final Constructor<T> constructor = findConstructor(clazz);
-                final T service = constructorParameter == null ?
-                  constructor.newInstance() : constructor.newInstance(constructorParameter);
-                serviceMap.put(entry, service);
+    private static void addOrRemoveServiceEntry(Map<ServiceEntry, String> serviceEntries, String line, String url) {
+        ServiceEntry entry = new ServiceEntry(line);
+        if (entry.isRemove()) {
+            // Removing is a bit complex since we need to find out
+            // the proper key since the order is part of equals/hash,
+            // so we can't fetch/remove it directly
+            serviceEntries.keySet().removeIf(key -> key.getClassName().equals(entry.getClassName()));
+        } else {
+            serviceEntries.put(entry, url);
+        }
+    }
+
+    private <T> T createService(ServiceEntry entry, String url) {
+        try {
+            Class<T> clazz = ClassUtil.classForName(entry.getClassName(), additionalClassLoaders);
+            if (clazz == null) {
+                throw new ClassNotFoundException("Class " + entry.getClassName() + " could not be found");
             }
+            final Constructor<T> constructor = findConstructor(clazz);
+            return constructorParameter == null ?
+              constructor.newInstance() : constructor.newInstance(constructorParameter);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot load service " + entry.getClassName() + " defined in " +
+                    url + " : " + e + ". Aborting", e);
         }
     }
 
@@ -13,14 +13,26 @@
  */
 package org.eclipse.jkube.kit.common.util;
 
+import java.io.File;
 import java.net.URLClassLoader;
 
 public class ProjectClassLoaders {
 
     private final URLClassLoader compileClassLoader;
+    private final File classpathIndexDirectory;
+    private ClasspathIndex classpathIndex;
 
     public ProjectClassLoaders(URLClassLoader compileClassLoader) {
+        this(compileClassLoader, null);
+    }
+
+    /**
+     * @param compileClassLoader the project's compile class loader.
+     * @param classpathIndexDirectory directory where the index of the compile classpath jars is persisted across builds (optional).
+     */
+    public ProjectClassLoaders(URLClassLoader compileClassLoader, File classpathIndexDirectory) {
         this.compileClassLoader = compileClassLoader;
+        this.classpathIndexDirectory = classpathIndexDirectory;
     }
 
     public URLClassLoader getCompileClassLoader() {
@@ -43,11 +55,8 @@ public class ProjectClassLoaders {
 
     private boolean hasAnyClass(String... classNames) {
         for (String className : classNames) {
-            try {
-                compileClassLoader.loadClass(className);
+            if (hasClass(className)) {
                 return true;
-            } catch (ClassNotFoundException e) {
-                // ignore
             }
         }
         return false;
@@ -55,13 +64,39 @@ public class ProjectClassLoaders {
 
     private boolean hasAllClasses(String... classNames) {
         for (String className : classNames) {
-            try {
-                compileClassLoader.loadClass(className);
-            } catch (ClassNotFoundException e) {
-                // ignore message
+            if (!hasClass(className)) {
                 return false;
             }
         }
         return true;
     }
+
+    private boolean hasClass(String className) {
+        final ClasspathIndex index = getClasspathIndex();
+        if (index.containsClass(className)) {
+            return true;
+        }
+        // Some of the classpath elements couldn't be indexed, check them through the class loader
+        if (!index.isComplete() && compileClassLoader.findResource(className.replace('.', '/') + ".class") != null) {
+            return true;
+        }
+        // Classes provided by the parent class loader (e.g. JDK classes) aren't part of the compile classpath index
+        final ClassLoader parent = compileClassLoader.getParent();
+        if (parent == null) {
+            return false;
+        }
+        try {
+            parent.loadClass(className);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private synchronized ClasspathIndex getClasspathIndex() {
+        if (classpathIndex == null) {
+            classpathIndex = ClasspathIndex.of(compileClassLoader.getURLs(), classpathIndexDirectory);
+        }
+        return classpathIndex;
+    }
 }
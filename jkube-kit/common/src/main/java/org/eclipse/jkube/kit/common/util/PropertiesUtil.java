@@ -19,7 +19,6 @@ import org.eclipse.jkube.kit.common.JavaProject;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
@@ -28,8 +27,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 
-import static org.eclipse.jkube.kit.common.util.JKubeProjectUtil.getClassLoader;
-import static org.eclipse.jkube.kit.common.util.YamlUtil.getPropertiesFromYamlResource;
 
 public class PropertiesUtil {
 
@@ -101,14 +98,14 @@ public class PropertiesUtil {
   }
 
   public static Properties fromApplicationConfig(JavaProject javaProject, String[] appConfigSources) {
-    final URLClassLoader urlClassLoader = getClassLoader(javaProject);
+    final FrameworkConfigurationCache cache = javaProject.getFrameworkConfigurationCache();
     for (String source : appConfigSources) {
       final Properties properties;
-      URL applicationConfigSource = urlClassLoader.findResource(source);
+      URL applicationConfigSource = cache.findResource(source);
       if (source.endsWith(".properties")) {
-        properties = getPropertiesFromResource(applicationConfigSource);
+        properties = cache.getProperties(applicationConfigSource);
       } else {
-        properties = getPropertiesFromYamlResource(applicationConfigSource);
+        properties = cache.getYamlProperties(null, applicationConfigSource);
       }
       // Consider only the first non-empty application config source
       if (!properties.isEmpty()) {
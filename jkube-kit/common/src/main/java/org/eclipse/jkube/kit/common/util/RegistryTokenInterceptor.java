@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import io.fabric8.kubernetes.client.http.BasicBuilder;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.http.Interceptor;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.HttpURLConnection;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
+import static org.eclipse.jkube.kit.common.util.AsyncUtil.get;
+import static org.eclipse.jkube.kit.common.util.Fabric8HttpUtil.extractAuthenticationChallengeIntoMap;
+import static org.eclipse.jkube.kit.common.util.Fabric8HttpUtil.toFormData;
+
+/**
+ * Authenticates the requests performed against a container (OCI) registry.
+ *
+ * <p> Answers the <code>WWW-Authenticate</code> challenge of the registry either by retrieving a Bearer token from the
+ * challenge realm (with <code>push</code> scope) or by providing the credentials as Basic authentication.
+ */
+public class RegistryTokenInterceptor implements Interceptor {
+  private static final String TOKEN_KEY = "token";
+  private static final String ACCESS_TOKEN_KEY = "access_token";
+  private static final long OCI_REGISTRY_AUTH_REQUEST_TIMEOUT_MINUTES = 1;
+  private static final String WWW_AUTHENTICATE = "WWW-Authenticate";
+  public static final String NAME = "OCI_TOKEN";
+  private static final String AUTHORIZATION = "Authorization";
+  private static final String BEARER = "Bearer ";
+  private static final String BASIC = "Basic ";
+
+  private final HttpClient httpClient;
+  private final String username;
+  private final String password;
+  private volatile String authorization;
+
+  /**
+   * @param httpClient the client used to retrieve the tokens from the authentication realm.
+   * @param username the registry username, can be <code>null</code> for anonymous access.
+   * @param password the registry password.
+   */
+  public RegistryTokenInterceptor(HttpClient httpClient, String username, String password) {
+    this(httpClient, username, password, null);
+  }
+
+  protected RegistryTokenInterceptor(HttpClient httpClient, String username, String password, String token) {
+    this.httpClient = httpClient;
+    this.username = username;
+    this.password = password;
+    authorization = StringUtils.isNotBlank(token) ? BEARER + token : null;
+  }
+
+  @Override
+  public void before(BasicBuilder headerBuilder, HttpRequest request, RequestTags tags) {
+    final String currentAuthorization = authorization;
+    if (StringUtils.isNotBlank(currentAuthorization)) {
+      headerBuilder.setHeader(AUTHORIZATION, currentAuthorization);
+    }
+  }
+
+  @Override
+  public CompletableFuture<Boolean> afterFailure(BasicBuilder headerBuilder, HttpResponse<?> response, RequestTags tags) {
+    if (response.code() == HTTP_UNAUTHORIZED) {
+      if (StringUtils.isBlank(response.header(WWW_AUTHENTICATE))) {
+        throw new IllegalStateException("Got 401 but no " + WWW_AUTHENTICATE + " found in response headers ");
+      }
+      return refreshToken(headerBuilder, response);
+    }
+    return CompletableFuture.completedFuture(false);
+  }
+
+  private CompletableFuture<Boolean> refreshToken(BasicBuilder headerBuilder, HttpResponse<?> response) {
+    try {
+      String updatedAuthorization = submitHttpRequestForAuthenticationChallenge(response);
+      if (StringUtils.isNotBlank(updatedAuthorization)) {
+        authorization = updatedAuthorization;
+        headerBuilder.setHeader(AUTHORIZATION, updatedAuthorization);
+        return CompletableFuture.completedFuture(true);
+      }
+      return CompletableFuture.completedFuture(false);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failure while refreshing token from OCI registry: ", e);
+    }
+  }
+
+  private String submitHttpRequestForAuthenticationChallenge(HttpResponse<?> response) throws IOException {
+    final List<Map<String, String>> challenges = extractAuthenticationChallengeIntoMap(response);
+    for (Map<String, String> authChallengeHeader : challenges) {
+      if ("Bearer".equalsIgnoreCase(authChallengeHeader.get("scheme")) && authChallengeHeader.containsKey("realm")) {
+        String authenticationUrl = authChallengeHeader.get("realm");
+        String scope = authChallengeHeader.get("scope");
+        if (scope != null && !scope.contains("push")) {
+          scope += ",push";
+        }
+        String service = authChallengeHeader.get("service");
+        final String token = submitGetRequest(authenticationUrl, scope, service);
+        return token == null ? null : BEARER + token;
+      }
+    }
+    final boolean basicChallenge = challenges.stream().anyMatch(c -> "Basic".equalsIgnoreCase(c.get("scheme")));
+    if (basicChallenge && username != null) {
+      return BASIC + Base64Util.encodeToString(username + ":" + StringUtils.defaultString(password));
+    }
+    return null;
+  }
+
+  private String submitGetRequest(String url, String scope, String service) throws IOException {
+    final StringBuilder authUrlWithQueryParams = new StringBuilder(url).append(url.contains("?") ? '&' : '?');
+    if (service != null) {
+      authUrlWithQueryParams.append("service=").append(service).append('&');
+    }
+    if (scope != null) {
+      authUrlWithQueryParams.append("scope=").append(scope);
+    }
+    HttpRequest.Builder httpRequestBuilder = httpClient.newHttpRequestBuilder()
+        .uri(StringUtils.removeEnd(authUrlWithQueryParams.toString(), "&"));
+    if (username != null) {
+      httpRequestBuilder.header(AUTHORIZATION, String.format("Basic %s", Base64Util.encodeToString(username + ":" + password)));
+    }
+    HttpResponse<byte[]> response = get(httpClient.sendAsync(httpRequestBuilder.build(), byte[].class), Duration.ofMinutes(OCI_REGISTRY_AUTH_REQUEST_TIMEOUT_MINUTES));
+
+    int responseCode = response.code();
+    if (responseCode == HttpURLConnection.HTTP_OK) {
+      return parseAccessTokenFromResponse(new String(response.body()));
+    } else if (responseCode == HttpURLConnection.HTTP_BAD_METHOD) { // DockerHub uses post for authentication
+      return submitPostRequest(url, scope, service);
+    }
+    return null;
+  }
+
+  private String submitPostRequest(String url, String scope, String service) throws IOException {
+    String postDataString = createPostFormDataForDockerAuth(scope, service);
+    HttpRequest httpRequest = httpClient.newHttpRequestBuilder()
+        .header("Content-Length", Integer.toString(postDataString.getBytes().length))
+        .method("POST", "application/x-www-form-urlencoded", postDataString)
+        .uri(url)
+        .build();
+
+    HttpResponse<byte[]> response = get(httpClient.sendAsync(httpRequest, byte[].class), Duration.ofMinutes(OCI_REGISTRY_AUTH_REQUEST_TIMEOUT_MINUTES));
+    if (response.isSuccessful()) {
+      return parseAccessTokenFromResponse(response.bodyString());
+    }
+    return null;
+  }
+
+  private String parseAccessTokenFromResponse(String responseBody) {
+    Map<String, Object> responseBodyObj = Serialization.unmarshal(responseBody, Map.class);
+    String tokenFound = null;
+    if (responseBodyObj.containsKey(TOKEN_KEY)) {
+      tokenFound = (String) responseBodyObj.get(TOKEN_KEY);
+    }
+    if (StringUtils.isBlank(tokenFound) && responseBodyObj.containsKey(ACCESS_TOKEN_KEY)) {
+      tokenFound = (String) responseBodyObj.get(ACCESS_TOKEN_KEY);
+    }
+
+    if (StringUtils.isNotBlank(tokenFound)) {
+      return tokenFound;
+    }
+    return null;
+  }
+
+  private String createPostFormDataForDockerAuth(String scope, String service) throws UnsupportedEncodingException {
+    Map<String, String> postFormData = new HashMap<>();
+    postFormData.put("grant_type", "password");
+    postFormData.put("refresh_token", password);
+    postFormData.put("service", StringUtils.defaultString(service));
+    postFormData.put("scope", StringUtils.defaultString(scope));
+    postFormData.put("client_id", "EclipseJKube");
+    postFormData.put("username", username);
+    postFormData.put("password", password);
+
+    return toFormData(postFormData);
+  }
+}
@@ -16,6 +16,8 @@ package org.eclipse.jkube.kit.common.util;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.core.util.DefaultIndenter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
@@ -33,6 +35,8 @@ import java.io.InputStream;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 
 public class Serialization {
 
@@ -120,6 +124,27 @@ public class Serialization {
     return unmarshal(new ByteArrayInputStream(string.getBytes(StandardCharsets.UTF_8)), type);
   }
 
+  /**
+   * Reads every document of a (multi-document) YAML stream, empty documents are skipped.
+   *
+   * @param is the stream to read.
+   * @param type the type of each of the documents.
+   * @return the documents in the order they appear in the stream.
+   * @throws IOException if the stream can't be read or parsed.
+   */
+  public static <T> List<T> unmarshalDocuments(InputStream is, TypeReference<T> type) throws IOException {
+    final List<T> ret = new ArrayList<>();
+    try (MappingIterator<JsonNode> documents = YAML_MAPPER.readerFor(JsonNode.class).readValues(is)) {
+      while (documents.hasNextValue()) {
+        final JsonNode document = documents.nextValue();
+        if (document != null && !document.isNull() && !document.isMissingNode()) {
+          ret.add(YAML_MAPPER.convertValue(document, type));
+        }
+      }
+    }
+    return ret;
+  }
+
   public static <T> T merge(T original, T overrides) throws IOException {
     final ObjectReader reader = JSON_MAPPER.readerForUpdating(original);
     return reader.readValue(asJson(overrides));
@@ -42,8 +42,7 @@ public class SpringBootConfiguration {
 
   public static SpringBootConfiguration from(JavaProject project) {
     final Properties properties = SpringBootUtil.getSpringBootApplicationProperties(
-      SpringBootUtil.getSpringBootActiveProfile(project),
-      JKubeProjectUtil.getClassLoader(project));
+      SpringBootUtil.getSpringBootActiveProfile(project), project);
     final String springBootVersion = SpringBootUtil.getSpringBootVersion(project).orElse("1.0.0");
     final int majorVersion = parseMajorVersion(springBootVersion);
     final SpringBootConfiguration.SpringBootConfigurationBuilder configBuilder = SpringBootConfiguration.builder();
@@ -75,6 +75,31 @@ public class SpringBootUtil {
 
     Properties props = YamlUtil.getPropertiesFromYamlResource(springActiveProfile, ymlResource);
     props.putAll(getPropertiesFromResource(propertiesResource));
+    return resolveApplicationProperties(props, ymlResource, propertiesResource);
+  }
+
+  /**
+   * Returns the spring boot configuration (supports `application.properties` and `application.yml`)
+   * or an empty properties object if not found.
+   *
+   * <p> The configuration files are looked up and parsed once per project using its
+   * {@link JavaProject#getFrameworkConfigurationCache() framework configuration cache}.
+   *
+   * @param springActiveProfile currently active spring-boot profile
+   * @param project the JavaProject for which to load the configuration
+   * @return properties object
+   */
+  public static Properties getSpringBootApplicationProperties(String springActiveProfile, JavaProject project) {
+    final FrameworkConfigurationCache cache = project.getFrameworkConfigurationCache();
+    URL ymlResource = cache.findResource("application.yml");
+    URL propertiesResource = cache.findResource("application.properties");
+
+    Properties props = cache.getYamlProperties(springActiveProfile, ymlResource);
+    props.putAll(cache.getProperties(propertiesResource));
+    return resolveApplicationProperties(props, ymlResource, propertiesResource);
+  }
+
+  private static Properties resolveApplicationProperties(Properties props, URL ymlResource, URL propertiesResource) {
     if (ymlResource != null) {
       props.put(JKUBE_INTERNAL_APP_CONFIG_FILE_LOCATION, ymlResource.toString());
     } else if (propertiesResource != null) {
@@ -17,12 +17,18 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
@@ -47,11 +53,16 @@ import com.networknt.schema.ValidationMessage;
 /**
  * Validates Kubernetes/OpenShift resource descriptors using JSON schema validation method.
  * For OpenShift, it adds some exceptions from JSON schema constraints and ignores some validation errors.
+ *
+ * <p> Compiled schemas are cached process-wide (per schema URL and resource kind) and shared across validator
+ * instances, resource descriptors are validated in parallel.
  */
 
 public class ResourceValidator {
 
     public static final String SCHEMA_JSON = "schema/validation-schema.json";
+    private static final Map<String, JsonObject> SCHEMA_JSON_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, JsonSchema> SCHEMA_CACHE = new ConcurrentHashMap<>();
     private KitLogger log;
     private final File[] resources;
     private ResourceClassifier target = ResourceClassifier.KUBERNETES;
@@ -95,38 +106,60 @@ public class ResourceValidator {
 
     /**
      * Validates the resource descriptors as per JSON schema. If any resource is invalid it throws @{@link ConstraintViolationException} with
-     * all violated constraints
+     * all violated constraints of all the invalid resources
      *
      * @return number of resources processed
      * @throws ConstraintViolationException  ConstraintViolationException
      * @throws IOException IOException
      */
     public int validate() throws IOException {
-        for(File resource: resources) {
-            if (resource.isFile() && resource.exists()) {
-                log.info("validating %s resource", resource.toString());
-                JsonNode inputSpecNode = geFileContent(resource);
-                String kind = inputSpecNode.get("kind").toString();
-                for (URL schemaFile : Collections.list(ResourceValidator.class.getClassLoader().getResources(SCHEMA_JSON))) {
-                    JsonSchema schema = getJsonSchema(schemaFile, kind);
-                    Set<ValidationMessage> errors = schema.validate(inputSpecNode);
-                    processErrors(errors, resource);
-                }
-            }
+        final List<URL> schemaUrls = Collections.list(ResourceValidator.class.getClassLoader().getResources(SCHEMA_JSON));
+        final List<InvalidResource> invalidResources;
+        try {
+            invalidResources = Arrays.stream(resources).parallel()
+                .filter(resource -> resource.isFile() && resource.exists())
+                .map(resource -> validate(resource, schemaUrls))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
-
+        processErrors(invalidResources);
         return resources.length;
     }
 
-    private void processErrors(Set<ValidationMessage> errors, File resource) {
-        Set<ConstraintViolationImpl> constraintViolations = new HashSet<>();
-        for (ValidationMessage errorMsg: errors) {
-            if(!ignoreError(errorMsg))
-                constraintViolations.add(new ConstraintViolationImpl(errorMsg));
+    private InvalidResource validate(File resource, List<URL> schemaUrls) {
+        try {
+            log.info("validating %s resource", resource.toString());
+            JsonNode inputSpecNode = geFileContent(resource);
+            String kind = inputSpecNode.get("kind").toString();
+            Set<ConstraintViolationImpl> constraintViolations = new LinkedHashSet<>();
+            for (URL schemaFile : schemaUrls) {
+                JsonSchema schema = getJsonSchema(schemaFile, kind);
+                for (ValidationMessage errorMsg : schema.validate(inputSpecNode)) {
+                    if (!ignoreError(errorMsg)) {
+                        constraintViolations.add(new ConstraintViolationImpl(errorMsg));
+                    }
+                }
+            }
+            return constraintViolations.isEmpty() ? null : new InvalidResource(resource, constraintViolations);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+    }
 
-        if(!constraintViolations.isEmpty()) {
-            throw new ConstraintViolationException(getErrorMessage(resource, constraintViolations), constraintViolations);
+    private static void processErrors(List<InvalidResource> invalidResources) {
+        if (!invalidResources.isEmpty()) {
+            final Set<ConstraintViolationImpl> constraintViolations = new LinkedHashSet<>();
+            final StringBuilder errorMessage = new StringBuilder();
+            for (InvalidResource invalidResource : invalidResources) {
+                if (errorMessage.length() > 0) {
+                    errorMessage.append("\n");
+                }
+                errorMessage.append(getErrorMessage(invalidResource.resource, invalidResource.violations));
+                constraintViolations.addAll(invalidResource.violations);
+            }
+            throw new ConstraintViolationException(errorMessage.toString(), constraintViolations);
         }
     }
 
@@ -140,7 +173,7 @@ public class ResourceValidator {
         return false;
     }
 
-    private String getErrorMessage(File resource, Set<ConstraintViolationImpl> violations) {
+    private static String getErrorMessage(File resource, Set<ConstraintViolationImpl> violations) {
         StringBuilder validationError = new StringBuilder();
         validationError.append("Invalid Resource : ");
         validationError.append(resource.toString());
@@ -154,10 +187,19 @@ public class ResourceValidator {
     }
 
     private JsonSchema getJsonSchema(URL schemaUrl, String kind) throws IOException {
+        checkIfKindPropertyExists(kind);
+        final String kindKey = kind.replaceAll("\"", "").toLowerCase();
+        try {
+            return SCHEMA_CACHE.computeIfAbsent(schemaUrl.toString() + "#" + kindKey, k -> compileJsonSchema(schemaUrl, kind));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private JsonSchema compileJsonSchema(URL schemaUrl, String kind) {
         final JsonMetaSchema v7 = JsonMetaSchema.getV7();
         final String defaultUri = v7.getIri();
-        JsonObject jsonSchema = fixUrlIfUnversioned(getSchemaJson(schemaUrl), defaultUri);
-        checkIfKindPropertyExists(kind);
+        JsonObject jsonSchema = fixUrlIfUnversioned(getCachedSchemaJson(schemaUrl), defaultUri).deepCopy();
         getResourceProperties(kind, jsonSchema);
         final JsonMetaSchema metaSchema = JsonMetaSchema.builder(v7.getIri(), v7)
             .keywords(createNonValidationKeywordList())
@@ -167,6 +209,16 @@ public class ResourceValidator {
             .getSchema(jsonSchema.toString());
     }
 
+    private JsonObject getCachedSchemaJson(URL schemaUrl) {
+        return SCHEMA_JSON_CACHE.computeIfAbsent(schemaUrl.toString(), k -> {
+            try {
+                return getSchemaJson(schemaUrl);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
     private void getResourceProperties(String kind, JsonObject jsonSchema) {
         String kindKey = kind.replaceAll("\"", "").toLowerCase();
         if (jsonSchema.get("resources") != null && jsonSchema.get("resources").getAsJsonObject().get(kindKey) != null) {
@@ -208,6 +260,17 @@ public class ResourceValidator {
         return nonValidationKeywords;
     }
 
+    private static final class InvalidResource {
+
+        private final File resource;
+        private final Set<ConstraintViolationImpl> violations;
+
+        private InvalidResource(File resource, Set<ConstraintViolationImpl> violations) {
+            this.resource = resource;
+            this.violations = violations;
+        }
+    }
+
     private static class ConstraintViolationImpl implements ConstraintViolation<ValidationMessage> {
 
         private final ValidationMessage errorMsg;
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class BufferedLoggerTest {
+
+  private KitLogger log;
+  private BufferedLogger bufferedLogger;
+
+  @BeforeEach
+  void setUp() {
+    log = mock(KitLogger.class);
+    bufferedLogger = new BufferedLogger(log);
+  }
+
+  @Test
+  void log_withoutFlush_doesNotWriteToLogger() {
+    // When
+    bufferedLogger.info("message %s", "one");
+    bufferedLogger.error("message %s", "two");
+    // Then
+    verifyNoInteractions(log);
+  }
+
+  @Test
+  void flush_writesEntriesInOrder() {
+    // Given
+    bufferedLogger.info("message %s", "one");
+    bufferedLogger.warn("message %s", "two");
+    bufferedLogger.debug("message %s", "three");
+    // When
+    bufferedLogger.flush();
+    // Then
+    final InOrder inOrder = inOrder(log);
+    inOrder.verify(log).info("message %s", "one");
+    inOrder.verify(log).warn("message %s", "two");
+    inOrder.verify(log).debug("message %s", "three");
+  }
+
+  @Test
+  void flush_clearsBuffer() {
+    // Given
+    bufferedLogger.info("message");
+    bufferedLogger.flush();
+    // When
+    bufferedLogger.flush();
+    // Then
+    verify(log).info("message");
+    verifyNoMoreInteractions(log);
+  }
+
+  @Test
+  void flushTo_writesEntriesToProvidedLogger() {
+    // Given
+    final KitLogger target = mock(KitLogger.class);
+    bufferedLogger.verbose("message");
+    // When
+    bufferedLogger.flushTo(target);
+    // Then
+    verify(target).verbose("message");
+    verifyNoInteractions(log);
+  }
+
+  @Test
+  void isDebugEnabled_delegatesToLogger() {
+    // Given
+    when(log.isDebugEnabled()).thenReturn(true);
+    // When + Then
+    assertThat(bufferedLogger.isDebugEnabled()).isTrue();
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.archive;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.eclipse.jkube.kit.common.assertj.ArchiveAssertions;
+import org.eclipse.jkube.kit.common.util.FileUtil;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IncrementalTarArchiverTest {
+
+  @TempDir
+  Path temporaryFolder;
+  private File toCompress;
+  private File largeFile;
+  private File smallFile;
+  private File outputFile;
+
+  @BeforeEach
+  void prepareDirectory() throws IOException {
+    toCompress = Files.createDirectory(temporaryFolder.resolve("toCompress")).toFile();
+    final File nestedDir = toCompress.toPath().resolve("nested").toFile();
+    FileUtils.forceMkdir(nestedDir);
+    largeFile = new File(nestedDir, "large.jar");
+    FileUtils.write(largeFile, StringUtils.repeat("0123456789", 10_000), StandardCharsets.UTF_8);
+    smallFile = new File(toCompress, "file.txt");
+    FileUtils.write(smallFile, "File content", StandardCharsets.UTF_8);
+    outputFile = temporaryFolder.resolve("docker-build.tar").toFile();
+  }
+
+  @Test
+  void createTarBall_withNoPreviousArchive_writesAllEntries() throws Exception {
+    // When
+    final IncrementalTarArchiver.Metrics result = createTarBall(ArchiveCompression.none);
+    // Then
+    assertThat(result)
+      .hasFieldOrPropertyWithValue("archive", outputFile)
+      .hasFieldOrPropertyWithValue("reusedEntries", 0)
+      .hasFieldOrPropertyWithValue("reusedBytes", 0L)
+      .hasFieldOrPropertyWithValue("writtenEntries", 3)
+      .hasFieldOrPropertyWithValue("writtenBytes", 100_012L);
+    assertThat(IncrementalTarArchiver.getManifestFile(outputFile)).isFile();
+    ArchiveAssertions.assertThat(outputFile)
+      .isUncompressed()
+      .hasSameContentAsDirectory(toCompress);
+  }
+
+  @Test
+  void createTarBall_withUnchangedFiles_keepsPreviousArchive() throws Exception {
+    // Given
+    createTarBall(ArchiveCompression.none);
+    final byte[] previousArchive = Files.readAllBytes(outputFile.toPath());
+    // When
+    final IncrementalTarArchiver.Metrics result = createTarBall(ArchiveCompression.none);
+    // Then
+    assertThat(result)
+      .hasFieldOrPropertyWithValue("reusedEntries", 3)
+      .hasFieldOrPropertyWithValue("reusedBytes", 100_012L)
+      .hasFieldOrPropertyWithValue("writtenEntries", 0)
+      .hasFieldOrPropertyWithValue("writtenBytes", 0L);
+    assertThat(outputFile).hasBinaryContent(previousArchive);
+  }
+
+  @Test
+  void createTarBall_withTouchedButUnchangedFile_keepsPreviousArchive() throws Exception {
+    // Given
+    createTarBall(ArchiveCompression.none);
+    assertThat(largeFile.setLastModified(largeFile.lastModified() + 10_000L)).isTrue();
+    // When
+    final IncrementalTarArchiver.Metrics result = createTarBall(ArchiveCompression.none);
+    // Then
+    assertThat(result)
+      .hasFieldOrPropertyWithValue("reusedEntries", 3)
+      .hasFieldOrPropertyWithValue("writtenEntries", 0);
+  }
+
+  @Test
+  void createTarBall_withChangedFile_reusesUnchangedSegments() throws Exception {
+    // Given
+    createTarBall(ArchiveCompression.none);
+    FileUtils.write(smallFile, "Changed file content", StandardCharsets.UTF_8);
+    assertThat(smallFile.setLastModified(smallFile.lastModified() + 10_000L)).isTrue();
+    // When
+    final IncrementalTarArchiver.Metrics result = createTarBall(ArchiveCompression.none);
+    // Then
+    assertThat(result)
+      .hasFieldOrPropertyWithValue("reusedEntries", 2)
+      .hasFieldOrPropertyWithValue("reusedBytes", 100_000L)
+      .hasFieldOrPropertyWithValue("writtenEntries", 1)
+      .hasFieldOrPropertyWithValue("writtenBytes", 20L);
+    ArchiveAssertions.assertThat(outputFile)
+      .isUncompressed()
+      .hasSameContentAsDirectory(toCompress);
+  }
+
+  @Test
+  void createTarBall_withNewFile_reusesUnchangedSegments() throws Exception {
+    // Given
+    createTarBall(ArchiveCompression.none);
+    FileUtils.write(new File(toCompress, "new.txt"), "New file", StandardCharsets.UTF_8);
+    // When
+    final IncrementalTarArchiver.Metrics result = createTarBall(ArchiveCompression.none);
+    // Then
+    assertThat(result)
+      .hasFieldOrPropertyWithValue("reusedEntries", 3)
+      .hasFieldOrPropertyWithValue("writtenEntries", 1);
+    ArchiveAssertions.assertThat(outputFile)
+      .isUncompressed()
+      .hasSameContentAsDirectory(toCompress);
+  }
+
+  @Test
+  void createTarBall_withChangedFileAndCompression_rewritesArchive() throws Exception {
+    // Given
+    createTarBall(ArchiveCompression.gzip);
+    FileUtils.write(smallFile, "Changed file content", StandardCharsets.UTF_8);
+    // When
+    final IncrementalTarArchiver.Metrics result = createTarBall(ArchiveCompression.gzip);
+    // Then
+    assertThat(result)
+      .hasFieldOrPropertyWithValue("reusedEntries", 0)
+      .hasFieldOrPropertyWithValue("writtenEntries", 3);
+    ArchiveAssertions.assertThat(outputFile)
+      .isGZip()
+      .hasSameContentAsDirectory(toCompress);
+  }
+
+  @Test
+  void createTarBall_withUnchangedFilesAndCompression_keepsPreviousArchive() throws Exception {
+    // Given
+    createTarBall(ArchiveCompression.gzip);
+    // When
+    final IncrementalTarArchiver.Metrics result = createTarBall(ArchiveCompression.gzip);
+    // Then
+    assertThat(result)
+      .hasFieldOrPropertyWithValue("reusedEntries", 3)
+      .hasFieldOrPropertyWithValue("writtenEntries", 0);
+  }
+
+  @Test
+  void createTarBall_withModifiedArchive_rewritesArchive() throws Exception {
+    // Given
+    createTarBall(ArchiveCompression.none);
+    FileUtils.write(outputFile, "corrupted", StandardCharsets.UTF_8);
+    // When
+    final IncrementalTarArchiver.Metrics result = createTarBall(ArchiveCompression.none);
+    // Then
+    assertThat(result)
+      .hasFieldOrPropertyWithValue("reusedEntries", 0)
+      .hasFieldOrPropertyWithValue("writtenEntries", 3);
+    ArchiveAssertions.assertThat(outputFile)
+      .isUncompressed()
+      .hasSameContentAsDirectory(toCompress);
+  }
+
+  private IncrementalTarArchiver.Metrics createTarBall(ArchiveCompression compression) throws IOException {
+    return IncrementalTarArchiver.createTarBall(outputFile, toCompress,
+      FileUtil.listFilesAndDirsRecursivelyInDirectory(toCompress), Collections.emptyMap(), compression, 1);
+  }
+}
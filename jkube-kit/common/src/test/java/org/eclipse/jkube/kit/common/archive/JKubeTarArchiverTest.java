@@ -14,13 +14,16 @@
 package org.eclipse.jkube.kit.common.archive;
 
 import java.io.File;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 import org.eclipse.jkube.kit.common.assertj.ArchiveAssertions;
@@ -29,10 +32,12 @@ import org.eclipse.jkube.kit.common.util.FileUtil;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 
 class JKubeTarArchiverTest {
@@ -224,4 +229,42 @@ class JKubeTarArchiverTest {
             tuple("nested/directory/", 0L, defaultDirMode)
         );
   }
+
+  @Test
+  void writeTarBall_gzipCompression_writesTarToStreamWithoutClosingIt() throws Exception {
+    // Given
+    final File outputFile = temporaryFolder.resolve("streamed.tar.gz").toFile();
+    final AtomicBoolean closed = new AtomicBoolean(false);
+    try (OutputStream fileOutputStream = Files.newOutputStream(outputFile.toPath())) {
+      final OutputStream outputStream = new FilterOutputStream(fileOutputStream) {
+        @Override
+        public void close() {
+          closed.set(true);
+        }
+      };
+      // When
+      JKubeTarArchiver.writeTarBall(outputStream, toCompress, FileUtil.listFilesAndDirsRecursivelyInDirectory(toCompress),
+          Collections.emptyMap(), ArchiveCompression.gzip, 1);
+    }
+    // Then
+    assertThat(closed).isFalse();
+    ArchiveAssertions.assertThat(outputFile)
+        .isGZip()
+        .hasSameContentAsDirectory(toCompress);
+  }
+
+  @Test
+  void createTarBall_gzipCompressionWithMultipleThreads_createsTar() throws Exception {
+    // Given
+    FileUtils.write(new File(toCompress, "large.txt"), StringUtils.repeat("0123456789", 100_000), StandardCharsets.UTF_8);
+    final File outputFile = temporaryFolder.resolve("parallel.tar.gz").toFile();
+    // When
+    final File result = JKubeTarArchiver.createTarBall(outputFile, toCompress,
+        FileUtil.listFilesAndDirsRecursivelyInDirectory(toCompress), Collections.emptyMap(), ArchiveCompression.gzip,
+        4, null, null);
+    // Then
+    ArchiveAssertions.assertThat(result)
+        .isGZip()
+        .hasSameContentAsDirectory(toCompress);
+  }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ParallelGzipOutputStreamTest {
+
+  @ParameterizedTest(name = "{0} bytes are compressed to a single gzip member")
+  @ValueSource(ints = {0, 1, 1023, 1024, 1025, 40_000, 100_000})
+  void write_withData_createsSingleGzipMember(int size) throws IOException {
+    // Given
+    final byte[] data = randomText(size);
+    // When
+    final byte[] compressed = compress(data, 4, 1024);
+    // Then
+    try (InputStream gzip = new GzipCompressorInputStream(new ByteArrayInputStream(compressed), false)) {
+      assertThat(IOUtils.toByteArray(gzip)).isEqualTo(data);
+    }
+    try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      assertThat(IOUtils.toByteArray(gzip)).isEqualTo(data);
+    }
+  }
+
+  @Test
+  void write_withSingleBytes_createsValidGzip() throws IOException {
+    // Given
+    final byte[] data = "Single byte writes".getBytes(StandardCharsets.UTF_8);
+    final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    // When
+    try (OutputStream out = new ParallelGzipOutputStream(baos, 2, 4, Deflater.DEFAULT_COMPRESSION)) {
+      for (byte b : data) {
+        out.write(b);
+      }
+    }
+    // Then
+    try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+      assertThat(IOUtils.toByteArray(gzip)).isEqualTo(data);
+    }
+  }
+
+  @Test
+  void write_withRepetitiveDataAcrossBlocks_usesPreviousBlockAsDictionary() throws IOException {
+    // Given
+    final byte[] block = randomText(4096);
+    final ByteArrayOutputStream data = new ByteArrayOutputStream();
+    for (int it = 0; it < 16; it++) {
+      data.write(block);
+    }
+    // When
+    final byte[] compressed = compress(data.toByteArray(), 4, 4096);
+    // Then
+    assertThat(compressed.length).isLessThan(block.length);
+  }
+
+  @Test
+  void write_afterClose_throwsException() throws IOException {
+    // Given
+    final OutputStream out = new ParallelGzipOutputStream(new ByteArrayOutputStream(), 2);
+    out.close();
+    // When + Then
+    assertThatIOException()
+        .isThrownBy(() -> out.write(1))
+        .withMessage("Stream closed");
+  }
+
+  @Test
+  void constructor_withInvalidThreads_throwsException() {
+    final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new ParallelGzipOutputStream(baos, 0))
+        .withMessage("Number of compression threads must be positive");
+  }
+
+  private static byte[] compress(byte[] data, int threads, int blockSize) throws IOException {
+    final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (OutputStream out = new ParallelGzipOutputStream(baos, threads, blockSize, Deflater.DEFAULT_COMPRESSION)) {
+      out.write(data);
+    }
+    return baos.toByteArray();
+  }
+
+  private static byte[] randomText(int size) {
+    final Random random = new Random(size);
+    final StringBuilder sb = new StringBuilder(size);
+    while (sb.length() < size) {
+      sb.append(StringUtils.repeat((char) ('a' + random.nextInt(26)), random.nextInt(8) + 1));
+    }
+    return sb.substring(0, size).getBytes(StandardCharsets.US_ASCII);
+  }
+}
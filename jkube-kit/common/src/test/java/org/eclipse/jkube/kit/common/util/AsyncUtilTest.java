@@ -13,13 +13,19 @@
  */
 package org.eclipse.jkube.kit.common.util;
 
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 class AsyncUtilTest {
@@ -47,4 +53,54 @@ class AsyncUtilTest {
         .isThrownBy(() -> AsyncUtil.get(completableFuture, Duration.ofMinutes(1)))
         .withMessageContaining("io exception");
   }
+
+  @Test
+  void joinAll_whenFuturesComplete_thenReturnResultsInOrder() {
+    // Given
+    final CompletableFuture<String> slow = new CompletableFuture<>();
+    final List<CompletableFuture<String>> futures = Arrays.asList(slow, CompletableFuture.completedFuture("bar"));
+    CompletableFuture.runAsync(() -> slow.complete("foo"));
+
+    // When
+    final List<String> result = AsyncUtil.joinAll(futures);
+
+    // Then
+    assertThat(result).containsExactly("foo", "bar");
+  }
+
+  @Test
+  void joinAll_whenFuturesFail_thenThrowFirstFailureWithOthersSuppressed() {
+    // Given
+    final IllegalArgumentException sharedCause = new IllegalArgumentException("first");
+    final List<CompletableFuture<Void>> futures = Arrays.asList(
+        failed(sharedCause), CompletableFuture.completedFuture(null), failed(sharedCause), failed(new IOException("second")));
+
+    // When
+    // Then
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> AsyncUtil.joinAll(futures))
+        .withMessage("first")
+        .satisfies(e -> assertThat(e.getSuppressed())
+            .singleElement(InstanceOfAssertFactories.THROWABLE)
+            .isInstanceOf(IllegalStateException.class)
+            .hasRootCauseMessage("second"));
+  }
+
+  @Test
+  void joinAll_withExceptionMapper_thenThrowMappedException() {
+    // Given
+    final List<CompletableFuture<Void>> futures = Collections.singletonList(failed(new IllegalStateException("failure")));
+
+    // When
+    // Then
+    assertThatIOException()
+        .isThrownBy(() -> AsyncUtil.joinAll(futures, cause -> new IOException(cause.getMessage(), cause)))
+        .withMessage("failure");
+  }
+
+  private static <T> CompletableFuture<T> failed(Throwable cause) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    future.completeExceptionally(cause);
+    return future;
+  }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class BuildTimingsTest {
+
+  private BuildTimings buildTimings;
+
+  @BeforeEach
+  void setUp() {
+    buildTimings = new BuildTimings();
+  }
+
+  @Test
+  void disabled_call_returnsResultWithoutRecording() {
+    // When
+    final String result = BuildTimings.DISABLED.call("phase", "step", () -> "result");
+    // Then
+    assertThat(result).isEqualTo("result");
+    assertThat(BuildTimings.DISABLED.getSummary()).isEmpty();
+  }
+
+  @Test
+  void call_returnsResultAndRecordsTiming() {
+    // When
+    final String result = buildTimings.call("enrich", "jkube-name", () -> "result");
+    // Then
+    assertThat(result).isEqualTo("result");
+    assertThat(buildTimings.getSummary())
+      .singleElement()
+      .hasFieldOrPropertyWithValue("phase", "enrich")
+      .hasFieldOrPropertyWithValue("name", "jkube-name")
+      .hasFieldOrPropertyWithValue("count", 1);
+    assertThat(buildTimings.getSummary().get(0).getWallTimeNanos()).isNotNegative();
+  }
+
+  @Test
+  void run_withException_recordsTimingAndRethrows() {
+    // When
+    assertThatIOException()
+      .isThrownBy(() -> buildTimings.run("push", "image", () -> {
+        throw new IOException("Failed push");
+      }))
+      .withMessage("Failed push");
+    // Then
+    assertThat(buildTimings.getSummary())
+      .singleElement()
+      .hasFieldOrPropertyWithValue("phase", "push")
+      .hasFieldOrPropertyWithValue("name", "image");
+  }
+
+  @Test
+  void run_allocatingStep_recordsAllocatedBytes() {
+    // Given
+    final byte[][] allocated = new byte[1][];
+    // When
+    buildTimings.run("generate", "java-exec", () -> allocated[0] = new byte[1024 * 1024]);
+    // Then
+    assertThat(buildTimings.getSummary().get(0).getAllocatedBytes()).isGreaterThanOrEqualTo(1024 * 1024);
+  }
+
+  @Test
+  void getSummary_aggregatesByPhaseAndNameSortedByWallTime() throws InterruptedException {
+    // Given
+    buildTimings.run("enrich", "fast", () -> { });
+    buildTimings.run("enrich", "slow", () -> Thread.sleep(20));
+    buildTimings.run("enrich", "fast", () -> { });
+    buildTimings.run("create", "fast", () -> { });
+    // When
+    final List<BuildTimings.Timing> result = buildTimings.getSummary();
+    // Then
+    assertThat(result)
+      .hasSize(3)
+      .first()
+      .hasFieldOrPropertyWithValue("name", "slow");
+    assertThat(result)
+      .filteredOn(t -> t.getPhase().equals("enrich") && t.getName().equals("fast"))
+      .singleElement()
+      .hasFieldOrPropertyWithValue("count", 2);
+  }
+
+  @Nested
+  class Report {
+
+    @TempDir
+    private File temporaryFolder;
+
+    private KitLogger logger;
+
+    @BeforeEach
+    void setUp() {
+      logger = spy(new KitLogger.SilentLogger());
+      buildTimings.run("enrich", "jkube-name", () -> { });
+    }
+
+    @Test
+    void logsSummary() {
+      // When
+      buildTimings.report(logger, "k8s:resource", null);
+      // Then
+      verify(logger).info("Timings for %s (wall / cpu / allocated):", "k8s:resource");
+    }
+
+    @Test
+    void writesJsonFile() throws IOException {
+      // Given
+      final File timingsFile = new File(temporaryFolder, "jkube/timings.json");
+      // When
+      buildTimings.report(logger, "k8s:resource", timingsFile);
+      // Then
+      assertThat(Serialization.unmarshal(timingsFile, new TypeReference<Map<String, List<Map<String, Object>>>>() {}))
+        .containsOnlyKeys("k8s:resource")
+        .extractingByKey("k8s:resource")
+        .asList()
+        .singleElement()
+        .hasFieldOrPropertyWithValue("phase", "enrich")
+        .hasFieldOrPropertyWithValue("name", "jkube-name")
+        .hasFieldOrPropertyWithValue("count", 1);
+    }
+
+    @Test
+    void withExistingFile_preservesOtherGoals() throws IOException {
+      // Given
+      final File timingsFile = new File(temporaryFolder, "timings.json");
+      Files.write(timingsFile.toPath(), "{\"k8s:build\":[]}".getBytes(StandardCharsets.UTF_8));
+      // When
+      buildTimings.report(logger, "k8s:resource", timingsFile);
+      // Then
+      assertThat(Serialization.unmarshal(timingsFile, new TypeReference<Map<String, Object>>() {}))
+        .containsOnlyKeys("k8s:build", "k8s:resource");
+    }
+
+    @Test
+    void withInvalidFile_logsWarning() {
+      // When
+      buildTimings.report(logger, "k8s:resource", temporaryFolder);
+      // Then
+      verify(logger).warn(eq("Cannot write timings to %s: %s"), eq(temporaryFolder.getAbsolutePath()), anyString());
+    }
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClasspathIndexTest {
+
+  @TempDir
+  private File temporaryFolder;
+
+  private File classes;
+
+  private File jar;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    classes = new File(temporaryFolder, "classes");
+    Files.createDirectories(classes.toPath().resolve("org/example"));
+    Files.createFile(classes.toPath().resolve("org/example/App.class"));
+    Files.createFile(classes.toPath().resolve("application.properties"));
+    jar = new File(temporaryFolder, "library.jar");
+    writeJar(jar, "org/library/Library.class", "org/library/Library$Nested.class", "META-INF/services/org.library.Spi");
+  }
+
+  @Test
+  void containsClass_withClassInDirectory_returnsTrue() {
+    // When
+    final ClasspathIndex result = ClasspathIndex.of(urls(classes, jar), null);
+    // Then
+    assertThat(result.containsClass("org.example.App")).isTrue();
+  }
+
+  @Test
+  void containsClass_withNestedClassInJar_returnsTrue() {
+    // When
+    final ClasspathIndex result = ClasspathIndex.of(urls(classes, jar), null);
+    // Then
+    assertThat(result.containsClass("org.library.Library$Nested")).isTrue();
+  }
+
+  @Test
+  void containsClass_withMissingClass_returnsFalse() {
+    // When
+    final ClasspathIndex result = ClasspathIndex.of(urls(classes, jar), null);
+    // Then
+    assertThat(result.containsClass("org.library.Missing")).isFalse();
+  }
+
+  @Test
+  void containsResource_withResourcesInDirectoryAndJar_returnsTrue() {
+    // When
+    final ClasspathIndex result = ClasspathIndex.of(urls(classes, jar), null);
+    // Then
+    assertThat(result.containsResource("application.properties")).isTrue();
+    assertThat(result.containsResource("META-INF/services/org.library.Spi")).isTrue();
+  }
+
+  @Test
+  void of_withIndexDirectory_persistsEntriesOfEachJarInOwnFile() throws IOException {
+    // Given
+    final File otherJar = new File(temporaryFolder, "other.jar");
+    writeJar(otherJar, "org/other/Other.class");
+    final File indexDirectory = new File(temporaryFolder, "target/jkube/classpath-index");
+    // When
+    ClasspathIndex.of(urls(classes, jar, otherJar), indexDirectory);
+    // Then
+    assertThat(indexDirectory.listFiles())
+      .extracting(ClasspathIndexTest::readIndexFile)
+      .extracting(m -> m.get("path"))
+      .containsExactlyInAnyOrder(jar.getAbsolutePath(), otherJar.getAbsolutePath());
+    assertThat(indexDirectory.listFiles())
+      .extracting(ClasspathIndexTest::readIndexFile)
+      .filteredOn(m -> m.get("path").equals(jar.getAbsolutePath()))
+      .singleElement()
+      .extracting("entries")
+      .asList()
+      .containsExactlyInAnyOrder(
+        "org/library/Library.class", "org/library/Library$Nested.class", "META-INF/services/org.library.Spi");
+  }
+
+  @Test
+  void of_withIndexDirectoryAndModifiedJar_onlyRewritesIndexOfModifiedJar() throws IOException {
+    // Given
+    final File otherJar = new File(temporaryFolder, "other.jar");
+    writeJar(otherJar, "org/other/Other.class");
+    final File indexDirectory = new File(temporaryFolder, "target/jkube/classpath-index");
+    ClasspathIndex.of(urls(jar, otherJar), indexDirectory);
+    final File[] indexFiles = indexDirectory.listFiles();
+    assertThat(indexFiles).isNotNull();
+    for (File indexFile : indexFiles) {
+      assertThat(indexFile.setLastModified(0L)).isTrue();
+    }
+    writeJar(otherJar, "org/other/Replacement.class");
+    assertThat(otherJar.setLastModified(otherJar.lastModified() + 2000L)).isTrue();
+    // When
+    final ClasspathIndex result = ClasspathIndex.of(urls(jar, otherJar), indexDirectory);
+    // Then
+    assertThat(result.containsClass("org.other.Replacement")).isTrue();
+    assertThat(indexDirectory.listFiles())
+      .hasSize(2)
+      .filteredOn(f -> f.lastModified() != 0L)
+      .singleElement()
+      .extracting(ClasspathIndexTest::readIndexFile)
+      .extracting(m -> m.get("path"))
+      .isEqualTo(otherJar.getAbsolutePath());
+  }
+
+  @Test
+  void of_withModifiedJar_indexesJarAgain() throws IOException {
+    // Given
+    ClasspathIndex.of(urls(jar), null);
+    writeJar(jar, "org/library/Replacement.class");
+    assertThat(jar.setLastModified(jar.lastModified() + 2000L)).isTrue();
+    // When
+    final ClasspathIndex result = ClasspathIndex.of(urls(jar), null);
+    // Then
+    assertThat(result.containsClass("org.library.Replacement")).isTrue();
+    assertThat(result.containsClass("org.library.Library")).isFalse();
+  }
+
+  @Test
+  void containsClass_withVersionedClassInMultiReleaseJar_returnsTrue() throws IOException {
+    // Given
+    final File multiRelease = new File(temporaryFolder, "multi-release.jar");
+    writeJarWithManifest(multiRelease, manifest("Multi-Release: true"), "META-INF/versions/11/org/mr/OnlyInJava11.class");
+    // When
+    final ClasspathIndex result = ClasspathIndex.of(urls(multiRelease), null);
+    // Then
+    assertThat(result.containsClass("org.mr.OnlyInJava11")).isTrue();
+  }
+
+  @Test
+  void containsClass_withVersionedClassInRegularJar_returnsFalse() throws IOException {
+    // Given
+    final File regular = new File(temporaryFolder, "regular.jar");
+    writeJarWithManifest(regular, manifest(), "META-INF/versions/11/org/mr/OnlyInJava11.class");
+    // When
+    final ClasspathIndex result = ClasspathIndex.of(urls(regular), null);
+    // Then
+    assertThat(result.containsClass("org.mr.OnlyInJava11")).isFalse();
+  }
+
+  @Test
+  void containsClass_withClassInManifestClassPathJar_returnsTrue() throws IOException {
+    // Given
+    final File lib = new File(temporaryFolder, "lib");
+    Files.createDirectories(lib.toPath());
+    writeJar(new File(lib, "referenced.jar"), "org/referenced/Referenced.class");
+    final File pathingJar = new File(temporaryFolder, "pathing.jar");
+    writeJarWithManifest(pathingJar, manifest("Class-Path: lib/referenced.jar lib/missing.jar"));
+    // When
+    final ClasspathIndex result = ClasspathIndex.of(urls(pathingJar), null);
+    // Then
+    assertThat(result.containsClass("org.referenced.Referenced")).isTrue();
+    assertThat(result.isComplete()).isTrue();
+  }
+
+  @Test
+  void of_withCyclicManifestClassPath_indexesEachJarOnce() throws IOException {
+    // Given
+    final File first = new File(temporaryFolder, "first.jar");
+    final File second = new File(temporaryFolder, "second.jar");
+    writeJarWithManifest(first, manifest("Class-Path: second.jar"), "org/first/First.class");
+    writeJarWithManifest(second, manifest("Class-Path: first.jar"), "org/second/Second.class");
+    // When
+    final ClasspathIndex result = ClasspathIndex.of(urls(first), null);
+    // Then
+    assertThat(result.containsClass("org.first.First")).isTrue();
+    assertThat(result.containsClass("org.second.Second")).isTrue();
+  }
+
+  @Test
+  void isComplete_withNonFileUrl_returnsFalse() throws IOException {
+    // When
+    final ClasspathIndex result = ClasspathIndex.of(
+      new URL[] { classes.toURI().toURL(), new URL("http://example.com/remote.jar") }, null);
+    // Then
+    assertThat(result.isComplete()).isFalse();
+    assertThat(result.containsClass("org.example.App")).isTrue();
+  }
+
+  private static URL[] urls(File... files) {
+    final URL[] ret = new URL[files.length];
+    for (int i = 0; i < files.length; i++) {
+      try {
+        ret[i] = files[i].toURI().toURL();
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+    return ret;
+  }
+
+  private static Map<String, Object> readIndexFile(File indexFile) {
+    try {
+      return Serialization.unmarshal(indexFile, new TypeReference<Map<String, Object>>() {});
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String manifest(String... attributes) {
+    final StringBuilder manifest = new StringBuilder("Manifest-Version: 1.0\n");
+    for (String attribute : attributes) {
+      manifest.append(attribute).append('\n');
+    }
+    return manifest.toString();
+  }
+
+  private static void writeJar(File jar, String... entries) throws IOException {
+    writeJarWithManifest(jar, null, entries);
+  }
+
+  private static void writeJarWithManifest(File jar, String manifest, String... entries) throws IOException {
+    try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(jar))) {
+      if (manifest != null) {
+        zos.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+        zos.write(manifest.getBytes(StandardCharsets.UTF_8));
+        zos.closeEntry();
+      }
+      for (String entry : entries) {
+        zos.putNextEntry(new ZipEntry(entry));
+        zos.closeEntry();
+      }
+    }
+  }
+}
@@ -144,6 +144,48 @@ class FileUtilTest {
     assertThat(new File(copyTarget, "fileInFoo2")).doesNotExist();
   }
 
+  @Test
+  void copyIfModified_withMissingTarget_copiesFile() throws IOException {
+    // Given
+    final File source = new File(folder, "source.txt");
+    Files.write(source.toPath(), "content".getBytes(StandardCharsets.UTF_8));
+    final File target = new File(folder, "target.txt");
+    // When
+    final boolean result = FileUtil.copyIfModified(source, target);
+    // Then
+    assertThat(result).isTrue();
+    assertThat(target).hasContent("content").hasSameTextualContentAs(source);
+  }
+
+  @Test
+  void copyIfModified_withUpToDateTarget_skipsCopy() throws IOException {
+    // Given
+    final File source = new File(folder, "source.txt");
+    Files.write(source.toPath(), "content".getBytes(StandardCharsets.UTF_8));
+    final File target = new File(folder, "target.txt");
+    FileUtil.copy(source, target);
+    // When
+    final boolean result = FileUtil.copyIfModified(source, target);
+    // Then
+    assertThat(result).isFalse();
+  }
+
+  @Test
+  void copyIfModified_withModifiedSource_copiesFile() throws IOException {
+    // Given
+    final File source = new File(folder, "source.txt");
+    Files.write(source.toPath(), "content".getBytes(StandardCharsets.UTF_8));
+    final File target = new File(folder, "target.txt");
+    FileUtil.copy(source, target);
+    Files.write(source.toPath(), "CONTENT".getBytes(StandardCharsets.UTF_8));
+    assertThat(source.setLastModified(target.lastModified() + 1000L)).isTrue();
+    // When
+    final boolean result = FileUtil.copyIfModified(source, target);
+    // Then
+    assertThat(result).isTrue();
+    assertThat(target).hasContent("CONTENT");
+  }
+
   @Test
   void testGetRelativePath() throws IOException {
     prepareDirectory();
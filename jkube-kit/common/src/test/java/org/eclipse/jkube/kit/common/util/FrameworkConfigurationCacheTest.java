@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jkube.kit.common.JavaProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class FrameworkConfigurationCacheTest {
+
+  @TempDir
+  private File temporaryFolder;
+
+  private AtomicInteger classLoaderCreations;
+
+  private List<ClosingAwareClassLoader> classLoaders;
+
+  private FrameworkConfigurationCache cache;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    write("application.properties", "server.port=8080\n");
+    write("application.yml", "server:\n  port: 8081\n---\nspring:\n  profiles: dev\nserver:\n  port: 8082\n");
+    classLoaderCreations = new AtomicInteger();
+    classLoaders = new ArrayList<>();
+    cache = new FrameworkConfigurationCache(() -> {
+      classLoaderCreations.incrementAndGet();
+      final ClosingAwareClassLoader classLoader = new ClosingAwareClassLoader(
+          JKubeProjectUtil.getClassLoader(JavaProject.builder().outputDirectory(temporaryFolder).build()).getURLs());
+      classLoaders.add(classLoader);
+      return classLoader;
+    });
+  }
+
+  @Test
+  void findResource_createsClassLoaderOnce() {
+    // When
+    cache.findResource("application.properties");
+    cache.findResource("application.yml");
+    cache.findResource("application.properties");
+    // Then
+    assertThat(classLoaderCreations).hasValue(1);
+  }
+
+  @Test
+  void findResource_withMissingResource_returnsNull() {
+    // When + Then
+    assertThat(cache.findResource("microprofile-config.properties")).isNull();
+  }
+
+  @Test
+  void findResource_withResourceCreatedAfterMiss_returnsResource() throws IOException {
+    // Given
+    cache.findResource("microprofile-config.properties");
+    write("microprofile-config.properties", "quarkus.http.port=8080\n");
+    // When
+    final URL result = cache.findResource("microprofile-config.properties");
+    // Then
+    assertThat(result).isNotNull();
+  }
+
+  @Test
+  void getProperties_withNullResource_returnsEmpty() {
+    // When + Then
+    assertThat(cache.getProperties(null)).isEmpty();
+  }
+
+  @Test
+  void getProperties_returnsIndependentCopies() {
+    // Given
+    final URL resource = cache.findResource("application.properties");
+    cache.getProperties(resource).setProperty("server.port", "9090");
+    // When
+    final Properties result = cache.getProperties(resource);
+    // Then
+    assertThat(result).containsOnly(entry("server.port", "8080"));
+  }
+
+  @Test
+  void getYamlProperties_cachesPerProfile() {
+    // Given
+    final URL resource = cache.findResource("application.yml");
+    // When
+    final Properties defaultProfile = cache.getYamlProperties(null, resource);
+    final Properties devProfile = cache.getYamlProperties("dev", resource);
+    // Then
+    assertThat(defaultProfile).containsEntry("server.port", "8081");
+    assertThat(devProfile).containsEntry("server.port", "8082");
+  }
+
+  @Test
+  void getProperties_withModifiedFile_parsesAgain() throws IOException {
+    // Given
+    final URL resource = cache.findResource("application.properties");
+    cache.getProperties(resource);
+    final File file = write("application.properties", "server.port=18080\n");
+    assertThat(file.setLastModified(file.lastModified() + 2000L)).isTrue();
+    // When
+    final Properties result = cache.getProperties(resource);
+    // Then
+    assertThat(result).containsEntry("server.port", "18080");
+  }
+
+  @Test
+  void close_closesClassLoader() {
+    // Given
+    cache.findResource("application.properties");
+    // When
+    cache.close();
+    // Then
+    assertThat(classLoaders).singleElement().hasFieldOrPropertyWithValue("closed", true);
+  }
+
+  @Test
+  void close_withoutLookups_doesNotCreateClassLoader() {
+    // When
+    cache.close();
+    // Then
+    assertThat(classLoaderCreations).hasValue(0);
+  }
+
+  @Test
+  void findResource_afterClose_createsNewClassLoader() {
+    // Given
+    cache.findResource("application.properties");
+    cache.close();
+    // When
+    final URL result = cache.findResource("application.properties");
+    // Then
+    assertThat(result).isNotNull();
+    assertThat(classLoaderCreations).hasValue(2);
+  }
+
+  @Test
+  void javaProject_releaseFrameworkConfigurationCache_createsNewCacheOnNextRequest() {
+    // Given
+    final JavaProject project = JavaProject.builder().outputDirectory(temporaryFolder).build();
+    final FrameworkConfigurationCache original = project.getFrameworkConfigurationCache();
+    // When
+    project.releaseFrameworkConfigurationCache();
+    // Then
+    assertThat(project.getFrameworkConfigurationCache()).isNotSameAs(original);
+  }
+
+  @Test
+  void javaProject_getFrameworkConfigurationCache_returnsSameInstance() {
+    // Given
+    final JavaProject project = JavaProject.builder().outputDirectory(temporaryFolder).build();
+    // When
+    final FrameworkConfigurationCache result = project.getFrameworkConfigurationCache();
+    // Then
+    assertThat(result).isSameAs(project.getFrameworkConfigurationCache());
+    assertThat(result.findResource("application.properties")).isNotNull();
+  }
+
+  @Test
+  void javaProject_toBuilder_createsProjectWithItsOwnCache() {
+    // Given
+    final JavaProject project = JavaProject.builder().outputDirectory(temporaryFolder).build();
+    final FrameworkConfigurationCache original = project.getFrameworkConfigurationCache();
+    // When
+    final JavaProject result = project.toBuilder().build();
+    // Then
+    assertThat(result.getFrameworkConfigurationCache()).isNotSameAs(original);
+  }
+
+  private File write(String name, String content) throws IOException {
+    final File file = new File(temporaryFolder, name);
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  private static final class ClosingAwareClassLoader extends URLClassLoader {
+    private boolean closed;
+
+    private ClosingAwareClassLoader(URL[] urls) {
+      super(urls);
+    }
+
+    @Override
+    public void close() throws IOException {
+      closed = true;
+      super.close();
+    }
+  }
+}
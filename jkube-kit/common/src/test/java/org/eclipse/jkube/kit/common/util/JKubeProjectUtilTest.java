@@ -15,6 +15,7 @@ package org.eclipse.jkube.kit.common.util;
 
 import org.eclipse.jkube.kit.common.Dependency;
 import org.eclipse.jkube.kit.common.JavaProject;
+import org.eclipse.jkube.kit.common.Plugin;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -108,6 +109,49 @@ class JKubeProjectUtilTest {
     assertThat(result).isFalse();
   }
 
+  @Test
+  void getAnyDependencyVersionWithGroupId_withMultipleMatches_returnsFirst() {
+    // Given
+    project.setDependencies(Arrays.asList(
+            Dependency.builder().groupId("io.dep").artifactId("first").version("1.0.0").build(),
+            Dependency.builder().groupId("io.dep").artifactId("second").version("2.0.0").build()
+    ));
+    // When
+    final String result = JKubeProjectUtil.getAnyDependencyVersionWithGroupId(project, "io.dep");
+    // Then
+    assertThat(result).isEqualTo("1.0.0");
+  }
+
+  @Test
+  void hasDependency_afterDependenciesReplaced_usesNewDependencies() {
+    // Given
+    project.setDependencies(Collections.singletonList(
+            Dependency.builder().groupId("io.dep").artifactId("old").build()));
+    JKubeProjectUtil.hasDependency(project, "io.dep", "old");
+    project.setDependencies(Collections.singletonList(
+            Dependency.builder().groupId("io.dep").artifactId("new").build()));
+    // When
+    final boolean result = JKubeProjectUtil.hasDependency(project, "io.dep", "new");
+    // Then
+    assertThat(result).isTrue();
+    assertThat(JKubeProjectUtil.hasDependency(project, "io.dep", "old")).isFalse();
+  }
+
+  @Test
+  void getPlugin_withGroupAndArtifact_returnsPlugin() {
+    // Given
+    project = project.toBuilder()
+            .plugin(Plugin.builder().groupId("org.apache.maven.plugins").artifactId("maven-jar-plugin").version("3.3.0").build())
+            .plugin(Plugin.builder().groupId("org.other").artifactId("maven-jar-plugin").version("1.0.0").build())
+            .build();
+    // When
+    final Plugin result = JKubeProjectUtil.getPlugin(project, "org.other", "maven-jar-plugin");
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("version", "1.0.0");
+    assertThat(JKubeProjectUtil.getPlugin(project, "maven-jar-plugin"))
+            .hasFieldOrPropertyWithValue("version", "3.3.0");
+  }
+
   @Test
   void getFinalOutputArtifact_withNothingProvided_returnsNull() {
     // Given
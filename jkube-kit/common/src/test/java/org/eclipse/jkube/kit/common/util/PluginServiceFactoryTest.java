@@ -13,11 +13,20 @@
  */
 package org.eclipse.jkube.kit.common.util;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -71,6 +80,35 @@ class PluginServiceFactoryTest {
         .hasMessageMatching("Cannot load service .*\\.PluginServiceFactoryTest\\$BadConstructor.*");
   }
 
+  @Test
+  void createServiceObjects_withServiceRemovedByLaterDescriptor_shouldNotInstantiateIt() {
+    // When
+    final List<TestService> result = pluginServiceFactory.createServiceObjects(
+        "service/error-constructor-services", "service/error-constructor-services-removal");
+    // Then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void createServiceObjects_withDescriptorInRebuiltJar_shouldReadUpdatedDescriptor(@TempDir File temporaryFolder) throws IOException {
+    // Given
+    final File jar = new File(temporaryFolder, "plugin.jar");
+    writeDescriptorJar(jar, Test1.class);
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, null)) {
+      pluginServiceFactory = new PluginServiceFactory<>(new TestContext(), classLoader,
+          PluginServiceFactoryTest.class.getClassLoader());
+      pluginServiceFactory.createServiceObjects("META-INF/jkube/test-plugin");
+      writeDescriptorJar(jar, Test2.class, Test3.class);
+      assertThat(jar.setLastModified(jar.lastModified() + 2000L)).isTrue();
+      // When
+      final List<TestService> result = pluginServiceFactory.createServiceObjects("META-INF/jkube/test-plugin");
+      // Then
+      assertThat(result)
+          .extracting("name")
+          .containsExactly("two", "three");
+    }
+  }
+
   @Test
   void createServiceObjects_withBadGenericClass_shouldThrowException() {
     //Given
@@ -86,6 +124,16 @@ class PluginServiceFactoryTest {
         .hasMessageContaining("String");
   }
 
+  private static void writeDescriptorJar(File jar, Class<?>... services) throws IOException {
+    try (JarOutputStream jarOutputStream = new JarOutputStream(Files.newOutputStream(jar.toPath()))) {
+      jarOutputStream.putNextEntry(new JarEntry("META-INF/jkube/test-plugin"));
+      for (Class<?> service : services) {
+        jarOutputStream.write((service.getName() + "\n").getBytes(StandardCharsets.UTF_8));
+      }
+      jarOutputStream.closeEntry();
+    }
+  }
+
   private static class TestContext {
   }
 
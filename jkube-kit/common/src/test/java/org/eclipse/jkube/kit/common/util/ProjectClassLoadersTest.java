@@ -18,8 +18,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
+import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.util.Collections;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -85,4 +89,51 @@ class ProjectClassLoadersTest {
         //Then
         assertThat(result).isFalse();
     }
+
+    @Test
+    void isClassInCompileClasspathWhenClassProvidedByParentClassLoader() {
+        //Given
+        ProjectClassLoaders obj = new ProjectClassLoaders(compileClassLoader);
+
+        //When
+        boolean result = obj.isClassInCompileClasspath(true, "java.lang.String");
+
+        //Then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void isClassInCompileClasspathWhenClassInOutputDirectory(@TempDir File temporaryFolder) throws Exception {
+        //Given
+        File classes = new File(temporaryFolder, "classes");
+        FileUtil.createDirectory(new File(classes, "org/example"));
+        Files.createFile(new File(classes, "org/example/App.class").toPath());
+        ProjectClassLoaders obj = new ProjectClassLoaders(
+            ClassUtil.createClassLoader(Collections.emptyList(), classes.getAbsolutePath()),
+            new File(temporaryFolder, "target/jkube/classpath-index"));
+
+        //When
+        boolean result = obj.isClassInCompileClasspath(false, "org.example.Missing", "org.example.App");
+
+        //Then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void isClassInCompileClasspathWhenClassInElementThatCantBeIndexed(@TempDir File temporaryFolder) throws Exception {
+        //Given
+        File jar = new File(temporaryFolder, "library.jar");
+        try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(jar.toPath()))) {
+            zos.putNextEntry(new ZipEntry("org/library/Library.class"));
+            zos.closeEntry();
+        }
+        ProjectClassLoaders obj = new ProjectClassLoaders(
+            new URLClassLoader(new URL[] { new URL("jar:" + jar.toURI() + "!/") }));
+
+        //When
+        boolean result = obj.isClassInCompileClasspath(true, "org.library.Library");
+
+        //Then
+        assertThat(result).isTrue();
+    }
 }
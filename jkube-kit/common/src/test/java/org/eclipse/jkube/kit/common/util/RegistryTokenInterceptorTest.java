@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.util.Collections;
+
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.utils.HttpClientUtils;
+import io.fabric8.mockwebserver.DefaultMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class RegistryTokenInterceptorTest {
+  private DefaultMockServer server;
+  private HttpClient httpClient;
+  private HttpRequest.Builder builder;
+
+  @BeforeEach
+  void setUp() {
+    server = new DefaultMockServer();
+    server.start();
+    httpClient = HttpClientUtils.getHttpClientFactory().newBuilder().build();
+    builder = mock(HttpRequest.Builder.class, Mockito.RETURNS_SELF);
+  }
+
+  @AfterEach
+  void tearDown() {
+    httpClient.close();
+    server.shutdown();
+  }
+
+  @Test
+  void afterFailure_whenBearerChallenge_thenFetchesTokenWithPushScope() throws InterruptedException {
+    // Given
+    server.expect().get()
+        .withPath("/token?service=registry&scope=repository:foo/bar:pull,push")
+        .andReturn(HTTP_OK, "{\"access_token\":\"the-token\"}")
+        .once();
+    final RegistryTokenInterceptor interceptor = new RegistryTokenInterceptor(httpClient, "user", "secret");
+    // When
+    final boolean result = interceptor.afterFailure(builder, unauthorized(String.format(
+        "Bearer realm=\"%s\",service=\"registry\",scope=\"repository:foo/bar:pull\"", server.url("/token"))), null).join();
+    // Then
+    assertThat(result).isTrue();
+    verify(builder).setHeader("Authorization", "Bearer the-token");
+    assertThat(server.getLastRequest().getHeader("Authorization")).isEqualTo("Basic dXNlcjpzZWNyZXQ=");
+  }
+
+  @Test
+  void afterFailure_whenBasicChallenge_thenUsesCredentials() {
+    // Given
+    final RegistryTokenInterceptor interceptor = new RegistryTokenInterceptor(httpClient, "user", "secret");
+    // When
+    final boolean result = interceptor.afterFailure(builder, unauthorized("Basic realm=\"registry\""), null).join();
+    // Then
+    assertThat(result).isTrue();
+    verify(builder).setHeader("Authorization", "Basic dXNlcjpzZWNyZXQ=");
+    assertThat(server.getRequestCount()).isZero();
+  }
+
+  @Test
+  void afterFailure_whenBasicChallengeWithoutCredentials_thenReturnFalse() {
+    // Given
+    final RegistryTokenInterceptor interceptor = new RegistryTokenInterceptor(httpClient, null, null);
+    // When
+    final boolean result = interceptor.afterFailure(builder, unauthorized("Basic realm=\"registry\""), null).join();
+    // Then
+    assertThat(result).isFalse();
+    verify(builder, never()).setHeader(anyString(), anyString());
+  }
+
+  @Test
+  void before_whenAuthenticated_thenReusesAuthorization() {
+    // Given
+    final RegistryTokenInterceptor interceptor = new RegistryTokenInterceptor(httpClient, "user", "secret");
+    interceptor.afterFailure(mock(HttpRequest.Builder.class, Mockito.RETURNS_SELF), unauthorized("Basic realm=\"registry\""), null).join();
+    // When
+    interceptor.before(builder, null, null);
+    // Then
+    verify(builder).setHeader("Authorization", "Basic dXNlcjpzZWNyZXQ=");
+  }
+
+  private static HttpResponse<byte[]> unauthorized(String wwwAuthenticate) {
+    return new TestFabric8HttpResponse(HTTP_UNAUTHORIZED,
+        Collections.singletonMap("WWW-Authenticate", Collections.singletonList(wwwAuthenticate)), null, null);
+  }
+}
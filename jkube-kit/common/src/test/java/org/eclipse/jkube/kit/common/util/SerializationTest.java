@@ -28,11 +28,14 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -135,6 +138,34 @@ class SerializationTest {
       .hasFieldOrPropertyWithValue("metadata.name", "template-example");
   }
 
+  @Test
+  void unmarshalDocuments_withMultipleDocuments_shouldReturnNonEmptyDocumentsInOrder() throws Exception {
+    // Given
+    final String yaml = "---\n" +
+      "kind: ConfigMap\n" +
+      "---\n" +
+      "# Comment only document\n" +
+      "--- # Second document\n" +
+      "kind: Secret\n" +
+      "---\n";
+    // When
+    final List<Map<String, Object>> result = Serialization.unmarshalDocuments(
+      new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)), new TypeReference<Map<String, Object>>() {});
+    // Then
+    assertThat(result)
+      .extracting(m -> m.get("kind"))
+      .containsExactly("ConfigMap", "Secret");
+  }
+
+  @Test
+  void unmarshalDocuments_withEmptyStream_shouldReturnEmptyList() throws Exception {
+    // When
+    final List<Map<String, Object>> result = Serialization.unmarshalDocuments(
+      new ByteArrayInputStream(new byte[0]), new TypeReference<Map<String, Object>>() {});
+    // Then
+    assertThat(result).isEmpty();
+  }
+
   @Test
   void convertValue_withMapToConfigMap_returnsConfigMap() {
     // Given
@@ -69,6 +69,26 @@ class ResourceValidatorTest {
         .has(new HasErrMessage("$.spec.replicas: string found, integer expected"));
   }
 
+  @Test
+  void validateWithDirectoryContainingMultipleInvalidResources_aggregatesViolations() throws Exception {
+    // Given
+    final ResourceValidator validator = new ResourceValidator(
+        Paths.get(ResourceValidatorTest.class.getResource("/util/validator/multiple").toURI()).toFile(),
+        ResourceClassifier.KUBERNETES,
+        logger
+    );
+    // When
+    final ConstraintViolationException result = assertThrows(ConstraintViolationException.class, validator::validate);
+    // Then
+    assertThat(result).isNotNull()
+        .hasMessageStartingWith("Invalid Resource :")
+        .hasMessageContaining("first-deployment.yml")
+        .hasMessageNotContaining("second-service.yml")
+        .hasMessageContaining("third-deployment.yml")
+        .has(new HasErrMessage("$.spec.replicas: string found, integer expected"))
+        .has(new HasErrMessage("$.spec.revisionHistoryLimit: string found, integer expected"));
+  }
+
   @Test
   void createNonValidationKeywordList_whenInvoked_shouldReturnNonValidationKeywordList() {
     // Given + When
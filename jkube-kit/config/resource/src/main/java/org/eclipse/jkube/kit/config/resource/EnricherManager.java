@@ -13,7 +13,10 @@
  */
 package org.eclipse.jkube.kit.config.resource;
 
+import java.util.Optional;
+
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import org.eclipse.jkube.kit.common.KitLogger;
 
 public interface EnricherManager {
 
@@ -23,4 +26,18 @@ public interface EnricherManager {
   void enrich(PlatformMode platformMode, final KubernetesListBuilder builder);
   void enrich(PlatformMode platformMode, final ProcessorConfig enricherConfig, final KubernetesListBuilder builder);
 
+  /**
+   * Creates a new manager with the same configuration and its own enricher instances so that independent
+   * resource lists can be enriched concurrently without sharing any enricher state.
+   *
+   * <p> Forks are meant to be created once per worker thread and might share the enricher context of this manager
+   * (except for its logger), which must then be safe for concurrent reads.
+   *
+   * @param log the logger to be used by the enrichers of the new manager.
+   * @return the new manager or empty if this manager can't be forked (resources are enriched sequentially).
+   */
+  default Optional<EnricherManager> fork(KitLogger log) {
+    return Optional.empty();
+  }
+
 }
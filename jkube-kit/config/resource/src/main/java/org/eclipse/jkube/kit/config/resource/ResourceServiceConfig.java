@@ -44,5 +44,9 @@ public class ResourceServiceConfig {
   private ResourceConfig resourceConfig;
   private ResourceService.ResourceFileProcessor resourceFilesProcessor;
   private boolean interpolateTemplateParameters;
+  /**
+   * Maximum number of profile subdirectories (of the resource directories) processed concurrently.
+   */
+  private int parallelism;
 
 }
@@ -13,9 +13,29 @@
  */
 package org.eclipse.jkube.kit.config.service;
 
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.PrefixedLogger;
+import org.eclipse.jkube.kit.common.util.AsyncUtil;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
+import org.eclipse.jkube.kit.config.image.ImageName;
+import org.eclipse.jkube.kit.config.image.build.BuildConfiguration;
+import org.eclipse.jkube.kit.config.image.build.JKubeBuildStrategy;
 
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public abstract class AbstractImageBuildService implements BuildService {
   private final JKubeServiceHub jKubeServiceHub;
@@ -24,39 +44,198 @@ public abstract class AbstractImageBuildService implements BuildService {
     this.jKubeServiceHub = jKubeServiceHub;
   }
 
-  protected abstract void buildSingleImage(ImageConfiguration imageConfiguration) throws JKubeServiceException;
+  /**
+   * Builds the provided image.
+   *
+   * @param imageConfiguration the image to build
+   * @param log the logger to use for the output of this image (prefixed with the image description when images are
+   *            processed concurrently)
+   */
+  protected abstract void buildSingleImage(ImageConfiguration imageConfiguration, KitLogger log) throws JKubeServiceException;
 
-  protected abstract void pushSingleImage(ImageConfiguration imageConfiguration, int retries, boolean skipTag) throws JKubeServiceException;
+  /**
+   * Pushes the provided image.
+   *
+   * @param imageConfiguration the image to push
+   * @param retries how often to retry
+   * @param skipTag flag to skip pushing tagged images
+   * @param log the logger to use for the output of this image (prefixed with the image description when images are
+   *            processed concurrently)
+   */
+  protected abstract void pushSingleImage(ImageConfiguration imageConfiguration, int retries, boolean skipTag, KitLogger log) throws JKubeServiceException;
 
   /** {@inheritDoc} */
   @Override
   public final void build(ImageConfiguration... imageConfigurations) throws JKubeServiceException {
     jKubeServiceHub.getPluginManager().resolvePluginService().addExtraFiles();
-    processImage(this::buildSingleImage, "Skipped building", imageConfigurations);
+    processImage((imageConfiguration, log) -> jKubeServiceHub.getTimings().run("build", imageConfiguration.getName(),
+      () -> buildSingleImage(imageConfiguration, log)), "Skipped building", imageConfigurations);
   }
 
   /** {@inheritDoc} */
   @Override
   public final void push(Collection<ImageConfiguration> imageConfigs, int retries, boolean skipTag) throws JKubeServiceException {
-    processImage(imageConfiguration -> pushSingleImage(imageConfiguration, retries, skipTag), "Skipped push", imageConfigs.toArray(new ImageConfiguration[0]));
+    processImage((imageConfiguration, log) -> jKubeServiceHub.getTimings().run("push", imageConfiguration.getName(),
+      () -> pushSingleImage(imageConfiguration, retries, skipTag, log)), "Skipped push", imageConfigs.toArray(new ImageConfiguration[0]));
   }
 
   @FunctionalInterface
   private interface ImageConfigurationProcessor {
-    void process(ImageConfiguration imageConfiguration) throws JKubeServiceException;
+    void process(ImageConfiguration imageConfiguration, KitLogger log) throws JKubeServiceException;
   }
 
   private void processImage(ImageConfigurationProcessor imageConfigurationConsumer, String skipMessage, ImageConfiguration... imageConfigurations) throws JKubeServiceException {
     if (imageConfigurations != null) {
+      final List<ImageConfiguration> imagesToProcess = new ArrayList<>();
       for (ImageConfiguration imageConfiguration : imageConfigurations) {
         if (imageConfiguration.getBuildConfiguration() != null && imageConfiguration.getBuildConfiguration().getSkip()) {
           jKubeServiceHub.getLog().info("%s : %s", imageConfiguration.getDescription(), skipMessage);
         } else if (imageConfiguration.getBuildConfiguration() == null) {
           jKubeServiceHub.getLog().info("%s : %s (Image configuration has no build settings)", imageConfiguration.getDescription(), skipMessage);
         } else {
-          imageConfigurationConsumer.process(imageConfiguration);
+          imagesToProcess.add(imageConfiguration);
+        }
+      }
+      final int parallelism = getParallelism();
+      if (parallelism > 1 && imagesToProcess.size() > 1) {
+        processImagesConcurrently(imageConfigurationConsumer, imagesToProcess, parallelism);
+      } else {
+        for (ImageConfiguration imageConfiguration : imagesToProcess) {
+          imageConfigurationConsumer.process(imageConfiguration, jKubeServiceHub.getLog());
+        }
+      }
+    }
+  }
+
+  private int getParallelism() {
+    final BuildServiceConfig buildServiceConfig = jKubeServiceHub.getBuildServiceConfig();
+    return buildServiceConfig == null ? 1 : buildServiceConfig.getParallelism();
+  }
+
+  /**
+   * Processes the provided images on a bounded pool.
+   *
+   * <p> Images whose <code>from</code> references another image of the same batch (by name or by any of its tags)
+   * are processed once the referenced image has been processed successfully.
+   *
+   * <p> Each image is processed with its own logger prefixed with the image description so that the interleaved
+   * output of the different images can be told apart.
+   */
+  private void processImagesConcurrently(
+      ImageConfigurationProcessor imageConfigurationConsumer, List<ImageConfiguration> imageConfigurations,
+      int parallelism) throws JKubeServiceException {
+
+    final Map<ImageConfiguration, List<ImageConfiguration>> dependencies = getDependencies(imageConfigurations);
+    final Map<ImageConfiguration, CompletableFuture<Void>> scheduled = new LinkedHashMap<>();
+    final ExecutorService executorService = Executors.newFixedThreadPool(Math.min(parallelism, imageConfigurations.size()));
+    try {
+      for (ImageConfiguration imageConfiguration : imageConfigurations) {
+        schedule(imageConfigurationConsumer, executorService, dependencies, scheduled, new HashSet<>(), imageConfiguration);
+      }
+      awaitAll(scheduled.values());
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  private CompletableFuture<Void> schedule(
+      ImageConfigurationProcessor imageConfigurationConsumer, ExecutorService executorService,
+      Map<ImageConfiguration, List<ImageConfiguration>> dependencies, Map<ImageConfiguration, CompletableFuture<Void>> scheduled,
+      Set<ImageConfiguration> visiting, ImageConfiguration imageConfiguration) throws JKubeServiceException {
+
+    if (scheduled.containsKey(imageConfiguration)) {
+      return scheduled.get(imageConfiguration);
+    }
+    if (!visiting.add(imageConfiguration)) {
+      throw new JKubeServiceException("Circular image dependency detected for " + imageConfiguration.getDescription());
+    }
+    final List<CompletableFuture<Void>> dependencyFutures = new ArrayList<>();
+    for (ImageConfiguration dependency : dependencies.get(imageConfiguration)) {
+      dependencyFutures.add(schedule(imageConfigurationConsumer, executorService, dependencies, scheduled, visiting, dependency));
+    }
+    final KitLogger log = new PrefixedLogger(imageConfiguration.getDescription(), jKubeServiceHub.getLog());
+    final CompletableFuture<Void> future = CompletableFuture
+      .allOf(dependencyFutures.toArray(new CompletableFuture[0]))
+      .thenRunAsync(() -> {
+        try {
+          log.debug("Processing image in %s", Thread.currentThread().getName());
+          imageConfigurationConsumer.process(imageConfiguration, log);
+        } catch (JKubeServiceException e) {
+          log.error("%s", e.getMessage());
+          throw new CompletionException(e);
         }
+      }, executorService);
+    scheduled.put(imageConfiguration, future);
+    return future;
+  }
+
+  private static void awaitAll(Collection<CompletableFuture<Void>> futures) throws JKubeServiceException {
+    // Images depending on a failed image complete with the very same cause, which is only reported once
+    AsyncUtil.joinAll(futures, cause -> cause instanceof JKubeServiceException ?
+      (JKubeServiceException) cause : new JKubeServiceException(cause.getMessage(), cause));
+  }
+
+  /**
+   * Computes, for each of the provided images, the list of images in the same batch it depends on
+   * (i.e. its <code>from</code> or <code>fromExt</code> references their name or any of their tags).
+   *
+   * <p> A <code>fromExt</code> of kind <code>ImageStreamTag</code> is matched against the image stream tags
+   * the OpenShift build produces for the images of the batch.
+   */
+  static Map<ImageConfiguration, List<ImageConfiguration>> getDependencies(List<ImageConfiguration> imageConfigurations) {
+    final Map<String, ImageConfiguration> imagesByName = new LinkedHashMap<>();
+    final Map<String, ImageConfiguration> imagesByImageStreamTag = new LinkedHashMap<>();
+    for (ImageConfiguration imageConfiguration : imageConfigurations) {
+      imagesByName.put(normalizeImageName(imageConfiguration.getName(), null), imageConfiguration);
+      imagesByImageStreamTag.put(imageStreamTagName(imageConfiguration.getName(), null), imageConfiguration);
+      for (String tag : imageConfiguration.getBuildConfiguration().getTags()) {
+        imagesByName.put(normalizeImageName(imageConfiguration.getName(), tag), imageConfiguration);
+        imagesByImageStreamTag.put(imageStreamTagName(imageConfiguration.getName(), tag), imageConfiguration);
+      }
+    }
+    final Map<ImageConfiguration, List<ImageConfiguration>> dependencies = new LinkedHashMap<>();
+    for (ImageConfiguration imageConfiguration : imageConfigurations) {
+      final List<ImageConfiguration> imageDependencies = new ArrayList<>();
+      final ImageConfiguration dependency = findBaseImage(imageConfiguration.getBuildConfiguration(), imagesByName,
+        imagesByImageStreamTag);
+      if (dependency != null && dependency != imageConfiguration) {
+        imageDependencies.add(dependency);
+      }
+      dependencies.put(imageConfiguration, imageDependencies);
+    }
+    return dependencies;
+  }
+
+  private static ImageConfiguration findBaseImage(BuildConfiguration buildConfiguration,
+      Map<String, ImageConfiguration> imagesByName, Map<String, ImageConfiguration> imagesByImageStreamTag) {
+    // fromExt takes precedence over from, same as when the OpenShift BuildConfig strategy is computed
+    final Map<String, String> fromExt = Optional.ofNullable(buildConfiguration.getFromExt()).orElse(Collections.emptyMap());
+    final String fromExtName = fromExt.get(JKubeBuildStrategy.SourceStrategy.name.key());
+    if (fromExtName != null) {
+      if ("ImageStreamTag".equals(fromExt.get(JKubeBuildStrategy.SourceStrategy.kind.key()))) {
+        return imagesByImageStreamTag.get(fromExtName.contains(":") ? fromExtName : fromExtName + ":latest");
       }
+      return imagesByName.get(normalizeImageName(fromExtName, null));
+    }
+    final String from = buildConfiguration.getFrom();
+    return from == null ? null : imagesByName.get(normalizeImageName(from, null));
+  }
+
+  private static String normalizeImageName(String name, String tag) {
+    try {
+      return new ImageName(name, tag).getFullName();
+    } catch (IllegalArgumentException | NullPointerException e) {
+      return tag == null ? name : name + ":" + tag;
+    }
+  }
+
+  private static String imageStreamTagName(String name, String tag) {
+    try {
+      final ImageName imageName = new ImageName(name, tag);
+      return imageName.getSimpleName().replace("/", "-") + ":" +
+        (StringUtils.isBlank(imageName.getTag()) ? "latest" : imageName.getTag());
+    } catch (IllegalArgumentException | NullPointerException e) {
+      return tag == null ? name : name + ":" + tag;
     }
   }
 }
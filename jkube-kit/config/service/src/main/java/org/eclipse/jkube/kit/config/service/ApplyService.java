@@ -19,11 +19,14 @@ import java.net.HttpURLConnection;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
@@ -32,12 +35,15 @@ import io.fabric8.kubernetes.api.model.Namespaced;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.AsyncUtil;
+import org.eclipse.jkube.kit.common.util.BuildTimings;
 import org.eclipse.jkube.kit.common.util.FileUtil;
 import org.eclipse.jkube.kit.common.util.KubernetesHelper;
 import org.eclipse.jkube.kit.common.util.OpenshiftHelper;
 import org.eclipse.jkube.kit.common.util.Serialization;
 import org.eclipse.jkube.kit.common.util.UserConfigurationCompare;
 import org.eclipse.jkube.kit.config.service.ingresscontroller.IngressControllerDetectorManager;
+import org.eclipse.jkube.kit.config.service.kubernetes.ClusterStateCache;
 import org.eclipse.jkube.kit.config.service.kubernetes.KubernetesClientUtil;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
@@ -53,6 +59,7 @@ import io.fabric8.kubernetes.api.model.extensions.Ingress;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.ServerSideApplicable;
 import io.fabric8.openshift.api.model.BuildConfig;
 import io.fabric8.openshift.api.model.DeploymentConfig;
 import io.fabric8.openshift.api.model.ImageStream;
@@ -81,6 +88,8 @@ import static org.eclipse.jkube.kit.config.service.kubernetes.KubernetesClientUt
  */
 public class ApplyService {
 
+    public static final String FIELD_MANAGER = "jkube";
+
     private final KubernetesClient kubernetesClient;
     private final KitLogger log;
 
@@ -99,22 +108,38 @@ public class ApplyService {
     private String fallbackNamespace;
     private boolean rollingUpgradePreserveScale = true;
     private boolean recreateMode;
+    private int parallelism = 1;
+    private boolean serverSideApply;
+    private boolean serverSideApplyForceConflicts;
     private final PatchService patchService;
+    private final ClusterStateCache clusterStateCache;
     private final IngressControllerDetectorManager ingressControllerDetectorManager;
+    private final BuildTimings timings;
     // This map is to track projects created.
-    private static final Set<String> projectsCreated = new HashSet<>();
+    private static final Set<String> projectsCreated = ConcurrentHashMap.newKeySet();
+    private static final int APPLY_TIER_COUNT = 5;
 
     ApplyService(JKubeServiceHub serviceHub) {
         this.kubernetesClient = serviceHub.getClient();
         this.log = serviceHub.getLog();
         this.patchService = new PatchService(kubernetesClient);
-        this.ingressControllerDetectorManager = new IngressControllerDetectorManager(serviceHub);
+        this.clusterStateCache = serviceHub.getClusterStateCache();
+        this.ingressControllerDetectorManager = serviceHub.getIngressControllerDetectorManager();
+        this.timings = serviceHub.getTimings();
     }
 
     /**
      * Applies the given DTOs onto the Kubernetes master
      */
     public void apply(Object dto, String fileName) {
+        try {
+            doApply(dto, fileName);
+        } finally {
+            ingressControllerDetectorManager.reportDetection();
+        }
+    }
+
+    private void doApply(Object dto, String fileName) {
         if (dto instanceof List) {
             List<Object> list = (List<Object>) dto;
             for (Object element : list) {
@@ -122,7 +147,7 @@ public class ApplyService {
                     log.warn("Found recursive nested object for %s of class: %s", dto, dto.getClass().getName());
                     continue;
                 }
-                apply(element, fileName);
+                doApply(element, fileName);
             }
         } else if (dto instanceof KubernetesList) {
             applyList((KubernetesList) dto, fileName);
@@ -132,14 +157,20 @@ public class ApplyService {
     }
 
     public boolean isAlreadyApplied(HasMetadata resource) {
-        return kubernetesClient.resource(resource)
-            .inNamespace(applicableNamespace(resource, namespace, fallbackNamespace)).get() != null;
+        return clusterStateCache.get(resource, applicableNamespace(resource, namespace, fallbackNamespace)) != null;
     }
 
     /**
      * Applies the given DTOs onto the Kubernetes master
      */
     private void applyEntity(Object dto, String sourceName) {
+        final String name = dto instanceof HasMetadata ?
+            getKind((HasMetadata) dto) + "/" + getName((HasMetadata) dto) :
+            dto.getClass().getSimpleName();
+        timings.run("apply", name, () -> doApplyEntity(dto, sourceName));
+    }
+
+    private void doApplyEntity(Object dto, String sourceName) {
         if (dto instanceof ReplicationController) {
             applyReplicationController((ReplicationController) dto, sourceName);
         } else if (dto instanceof Route) {
@@ -161,10 +192,10 @@ public class ApplyService {
             applyTemplate((Template) dto, sourceName);
         } else if (dto instanceof Ingress) {
             applyResource((Ingress) dto, sourceName);
-            ingressControllerDetectorManager.detect();
+            ingressControllerDetectorManager.detectAsync();
         } else if (dto instanceof io.fabric8.kubernetes.api.model.networking.v1.Ingress) {
             applyResource((io.fabric8.kubernetes.api.model.networking.v1.Ingress) dto, sourceName);
-            ingressControllerDetectorManager.detect();
+            ingressControllerDetectorManager.detectAsync();
         } else if (dto instanceof PersistentVolumeClaim) {
             applyPersistentVolumeClaim((PersistentVolumeClaim) dto, sourceName);
         } else if (dto instanceof Job) {
@@ -366,7 +397,7 @@ public class ApplyService {
                 "Bound".equals(claim.getStatus().getPhase());
     }
 
-    private void logGeneratedEntity(String message, String namespace, HasMetadata entity, Object result) {
+    private synchronized void logGeneratedEntity(String message, String namespace, HasMetadata entity, Object result) {
         if (logJsonDir != null) {
             final File directory = StringUtils.isBlank(namespace) ? logJsonDir : new File(logJsonDir, namespace);
             directory.mkdirs();
@@ -591,9 +622,15 @@ public class ApplyService {
 
     public void applyList(KubernetesList list, String sourceName) {
         List<HasMetadata> entities = list.getItems();
-        if (entities != null) {
-            for (Object entity : entities) {
-                applyEntity(entity, sourceName);
+        if (entities != null && parallelism > 1) {
+            applyEntities(sourceName, entities);
+        } else if (entities != null) {
+            try {
+                for (Object entity : entities) {
+                    applyEntity(entity, sourceName);
+                }
+            } finally {
+                ingressControllerDetectorManager.reportDetection();
             }
         }
     }
@@ -607,7 +644,11 @@ public class ApplyService {
             log.debug("Ignoring " + kind + ": " + currentNamespace + ":" + id);
             return;
         }
-        T old = kubernetesClient.resource(resource).inNamespace(currentNamespace).get();
+        if (isServerSideApply() && isAllowCreate() && !isRecreateMode()) {
+            doServerSideApply(resource, currentNamespace, sourceName);
+            return;
+        }
+        T old = clusterStateCache.get(resource, currentNamespace);
         if (isRunning(old)) {
             if (UserConfigurationCompare.configEqual(resource, old)) {
                 log.info(kind + " has not changed so not doing anything");
@@ -642,6 +683,27 @@ public class ApplyService {
         }
     }
 
+    private <T extends HasMetadata> void doServerSideApply(T resource, String namespace, String sourceName) {
+        final String kind = getKind(resource);
+        log.info("Applying %s %s from %s using server-side apply", kind, getName(resource), sourceName);
+        try {
+            ServerSideApplicable<T> serverSideApplicable = kubernetesClient.resource(resource).inNamespace(namespace)
+              .fieldManager(FIELD_MANAGER);
+            if (isServerSideApplyForceConflicts()) {
+                serverSideApplicable = serverSideApplicable.forceConflicts();
+            }
+            final T appliedResource = serverSideApplicable.serverSideApply();
+            logGeneratedEntity("Applied " + kind + ": ", namespace, resource, appliedResource);
+        } catch (KubernetesClientException e) {
+            if (e.getCode() == HttpURLConnection.HTTP_CONFLICT && !isServerSideApplyForceConflicts()) {
+                onApplyError("Failed to apply " + kind + " from " + sourceName + " due to field manager conflicts," +
+                  " enable server-side apply force mode to take ownership of the conflicting fields. " + e, e);
+            } else {
+                onApplyError("Failed to apply " + kind + " from " + sourceName + ". " + e + ". " + resource, e);
+            }
+        }
+    }
+
     private <T extends HasMetadata> void doPatchEntity(T oldEntity, T newEntity, String namespace, String sourceName) {
         String kind = newEntity.getKind();
         log.info("Updating %s from %s", kind, sourceName);
@@ -1025,8 +1087,108 @@ public class ApplyService {
         this.rollingUpgradePreserveScale = rollingUpgradePreserveScale;
     }
 
+    /**
+     * Maximum number of resources applied concurrently within each dependency tier, values lower than 2 disable
+     * concurrent apply
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * If enabled, generic resources are applied with a single server-side apply patch managed by the
+     * {@link #FIELD_MANAGER} field manager instead of being retrieved, compared and patched client-side
+     */
+    public boolean isServerSideApply() {
+        return serverSideApply;
+    }
+
+    public void setServerSideApply(boolean serverSideApply) {
+        this.serverSideApply = serverSideApply;
+    }
+
+    /**
+     * If enabled, server-side apply takes ownership of any field managed by a different field manager
+     */
+    public boolean isServerSideApplyForceConflicts() {
+        return serverSideApplyForceConflicts;
+    }
+
+    public void setServerSideApplyForceConflicts(boolean serverSideApplyForceConflicts) {
+        this.serverSideApplyForceConflicts = serverSideApplyForceConflicts;
+    }
+
     public void applyEntities(String fileName, Collection<HasMetadata> entities) {
-        getK8sListWithNamespaceFirst(entities).forEach(entity -> applyEntity(entity, fileName));
+        try {
+            if (parallelism < 2) {
+                getK8sListWithNamespaceFirst(entities).forEach(entity -> applyEntity(entity, fileName));
+            } else {
+                final ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+                try {
+                    for (List<HasMetadata> tier : getK8sListGroupedByApplyTier(entities)) {
+                        applyEntitiesConcurrently(executorService, fileName, tier);
+                    }
+                } finally {
+                    executorService.shutdownNow();
+                }
+            }
+        } finally {
+            ingressControllerDetectorManager.reportDetection();
+        }
+    }
+
+    private void applyEntitiesConcurrently(ExecutorService executorService, String fileName, List<HasMetadata> tier) {
+        final List<CompletableFuture<Void>> applied = tier.stream()
+          .map(entity -> CompletableFuture.runAsync(() -> applyEntity(entity, fileName), executorService))
+          .collect(Collectors.toList());
+        AsyncUtil.joinAll(applied);
+    }
+
+    /**
+     * Groups the provided resources into tiers that can be applied concurrently, tiers must be applied in order:
+     * <ol>
+     *   <li>Namespaces and Projects</li>
+     *   <li>CustomResourceDefinitions</li>
+     *   <li>ConfigMaps, Secrets, ServiceAccounts, PersistentVolumeClaims and RBAC resources</li>
+     *   <li>Services</li>
+     *   <li>Any other resource (controllers, ingresses, custom resources, etc.)</li>
+     * </ol>
+     * Resources within each tier keep the order provided by {@link #getK8sListWithNamespaceFirst(Collection)}.
+     */
+    public static List<List<HasMetadata>> getK8sListGroupedByApplyTier(Collection<HasMetadata> k8sList) {
+        final List<List<HasMetadata>> tiers = new ArrayList<>();
+        for (int it = 0; it < APPLY_TIER_COUNT; it++) {
+            tiers.add(new ArrayList<>());
+        }
+        getK8sListWithNamespaceFirst(k8sList).forEach(h -> tiers.get(getApplyTier(h)).add(h));
+        return tiers.stream().filter(t -> !t.isEmpty()).collect(Collectors.toList());
+    }
+
+    private static int getApplyTier(HasMetadata h) {
+        if (isNamespaceOrProject(h)) {
+            return 0;
+        }
+        switch (StringUtils.defaultString(h.getKind())) {
+            case "CustomResourceDefinition":
+                return 1;
+            case "ConfigMap":
+            case "Secret":
+            case "ServiceAccount":
+            case "PersistentVolumeClaim":
+            case "Role":
+            case "ClusterRole":
+            case "RoleBinding":
+            case "ClusterRoleBinding":
+                return 2;
+            case "Service":
+                return 3;
+            default:
+                return APPLY_TIER_COUNT - 1;
+        }
     }
 
     public static List<HasMetadata> getK8sListWithNamespaceFirst(Collection<HasMetadata> k8sList) {
@@ -42,6 +42,7 @@ public class BuildServiceConfig {
     private ImagePullManager imagePullManager;
     private ResourceConfig resourceConfig;
     private File resourceDir;
+    private int parallelism;
 
     public void attachArtifact(String classifier, File destFile) {
         if (attacher != null) {
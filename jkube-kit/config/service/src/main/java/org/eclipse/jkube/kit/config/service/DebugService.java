@@ -165,15 +165,22 @@ public class DebugService {
     }
 
     private boolean isDebugAlreadyEnabled(ReplicationController entity, boolean debugSuspend) {
-      return firstContainerHasEnvVars(
-          kubernetesClient.resource(entity).get().getSpec().getTemplate().getSpec().getContainers(),
-          initDebugEnvVarsMap(debugSuspend));
+      // Retrieved from the cluster since the entity was just applied and cached state might not include it yet
+      return Optional.ofNullable(kubernetesClient.resource(entity).get())
+          .map(ReplicationController::getSpec)
+          .map(ReplicationControllerSpec::getTemplate)
+          .map(PodTemplateSpec::getSpec)
+          .map(podSpec -> firstContainerHasEnvVars(podSpec.getContainers(), initDebugEnvVarsMap(debugSuspend)))
+          .orElse(false);
     }
 
     private boolean isDebugAlreadyEnabled(DeploymentConfig entity, boolean debugSuspend) {
-        return firstContainerHasEnvVars(
-            kubernetesClient.resource(entity).get().getSpec().getTemplate().getSpec().getContainers(),
-            initDebugEnvVarsMap(debugSuspend));
+        return Optional.ofNullable(kubernetesClient.resource(entity).get())
+            .map(DeploymentConfig::getSpec)
+            .map(DeploymentConfigSpec::getTemplate)
+            .map(PodTemplateSpec::getSpec)
+            .map(podSpec -> firstContainerHasEnvVars(podSpec.getContainers(), initDebugEnvVarsMap(debugSuspend)))
+            .orElse(false);
     }
 
     private void enableDebugging(ReplicationController entity, String fileName, boolean debugSuspend) {
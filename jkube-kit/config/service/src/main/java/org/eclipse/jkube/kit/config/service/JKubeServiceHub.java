@@ -25,12 +25,16 @@ import lombok.Setter;
 import org.eclipse.jkube.kit.build.service.docker.access.DockerAccess;
 import org.eclipse.jkube.kit.common.service.MigrateService;
 import org.eclipse.jkube.kit.build.service.docker.DockerServiceHub;
+import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.BuildTimings;
 import org.eclipse.jkube.kit.common.util.LazyBuilder;
 import org.eclipse.jkube.kit.common.JKubeConfiguration;
 import org.eclipse.jkube.kit.config.resource.ResourceService;
 import org.eclipse.jkube.kit.config.resource.ResourceServiceConfig;
 import org.eclipse.jkube.kit.config.resource.RuntimeMode;
+import org.eclipse.jkube.kit.config.service.ingresscontroller.IngressControllerDetectorManager;
+import org.eclipse.jkube.kit.config.service.kubernetes.ClusterStateCache;
 import org.eclipse.jkube.kit.config.service.kubernetes.KubernetesUndeployService;
 import org.eclipse.jkube.kit.config.service.openshift.OpenshiftUndeployService;
 import org.eclipse.jkube.kit.config.service.plugins.PluginManager;
@@ -63,6 +67,8 @@ public class JKubeServiceHub implements Closeable {
     private LazyBuilder<JKubeServiceHub, DebugService> debugService;
     private LazyBuilder<JKubeServiceHub, HelmService> helmService;
     private LazyBuilder<JKubeServiceHub, KubernetesClient> kubernetesClientLazyBuilder;
+    private LazyBuilder<JKubeServiceHub, ClusterStateCache> clusterStateCache;
+    private LazyBuilder<JKubeServiceHub, IngressControllerDetectorManager> ingressControllerDetectorManager;
     private final boolean offline;
 
     @Builder(toBuilder = true)
@@ -85,10 +91,14 @@ public class JKubeServiceHub implements Closeable {
 
     @Override
     public void close() {
+        if (clusterStateCache.hasInstance()) {
+            clusterStateCache.get(this).close();
+        }
         if (kubernetesClientLazyBuilder.hasInstance()) {
             kubernetesClientLazyBuilder.get(this).close();
         }
         Optional.ofNullable(dockerServiceHub).map(DockerServiceHub::getDockerAccess).ifPresent(DockerAccess::shutdown);
+        Optional.ofNullable(configuration.getProject()).ifPresent(JavaProject::releaseFrameworkConfigurationCache);
     }
 
     private void init() {
@@ -100,6 +110,8 @@ public class JKubeServiceHub implements Closeable {
 
     private void initLazyBuilders() {
         kubernetesClientLazyBuilder = new LazyBuilder<>(hub -> initKubernetesClientIfNecessary());
+        clusterStateCache = new LazyBuilder<>(hub -> new ClusterStateCache(getClient(), log));
+        ingressControllerDetectorManager = new LazyBuilder<>(IngressControllerDetectorManager::new);
         buildServiceManager = new LazyBuilder<>(BuildServiceManager::new);
         pluginManager = new LazyBuilder<>(PluginManager::new);
         applyService = new LazyBuilder<>(ApplyService::new);
@@ -171,4 +183,16 @@ public class JKubeServiceHub implements Closeable {
         return kubernetesClientLazyBuilder.get(this);
     }
 
+    public ClusterStateCache getClusterStateCache() {
+        return clusterStateCache.get(this);
+    }
+
+    public IngressControllerDetectorManager getIngressControllerDetectorManager() {
+        return ingressControllerDetectorManager.get(this);
+    }
+
+    public BuildTimings getTimings() {
+        return configuration.getTimings();
+    }
+
 }
@@ -13,13 +13,27 @@
  */
 package org.eclipse.jkube.kit.config.service.ingresscontroller;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import org.eclipse.jkube.kit.common.IngressControllerDetector;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.util.PluginServiceFactory;
 import org.eclipse.jkube.kit.config.service.JKubeServiceHub;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
+/**
+ * Detects if an IngressController is running in the cluster.
+ *
+ * <p> The detection is performed at most once per apply session with all the detectors probing the cluster
+ * concurrently. It can be started asynchronously with {@link #detectAsync()} while resources are still being applied
+ * and its outcome reported afterwards with {@link #reportDetection()}, which ends the session so that the next apply
+ * probes the cluster again.
+ */
 public class IngressControllerDetectorManager {
 
   private static final String[] SERVICE_PATHS = new String[] {
@@ -27,6 +41,7 @@ public class IngressControllerDetectorManager {
   };
   private final KitLogger log;
   private final List<IngressControllerDetector> ingressControllerDetectors;
+  private CompletableFuture<Detection> detection;
 
   public IngressControllerDetectorManager(JKubeServiceHub jKubeServiceHub) {
     this(jKubeServiceHub.getLog(), new PluginServiceFactory<>(jKubeServiceHub.getClient())
@@ -38,18 +53,77 @@ public class IngressControllerDetectorManager {
     this.ingressControllerDetectors = ingressControllerDetectors;
   }
 
+  /**
+   * Detects if an IngressController is running and logs a warning if none is found.
+   *
+   * @return true if an IngressController was detected, false otherwise.
+   */
   public boolean detect() {
-    boolean anyDetectorHadPermission = false;
-    for (IngressControllerDetector detector : ingressControllerDetectors) {
-      boolean permitted = detector.hasPermissions();
-      anyDetectorHadPermission |= permitted;
-      if (permitted && detector.isDetected()) {
-        return true;
-      }
+    detectAsync();
+    return reportDetection();
+  }
+
+  /**
+   * Starts the detection in the background unless it was already started in the current session.
+   */
+  public synchronized void detectAsync() {
+    if (detection == null) {
+      detection = probe();
     }
-    if (anyDetectorHadPermission) {
+  }
+
+  /**
+   * Waits for the detection started in the current session (if any), logs a warning if no IngressController was
+   * found and ends the session.
+   *
+   * @return true if an IngressController was detected, false otherwise or if no detection was started.
+   */
+  public boolean reportDetection() {
+    final CompletableFuture<Detection> started;
+    synchronized (this) {
+      started = detection;
+      detection = null;
+    }
+    if (started == null) {
+      return false;
+    }
+    final Detection result = started.join();
+    if (!result.detected && result.anyDetectorHadPermission) {
       log.warn("Ingress resources applied. However, no IngressController seems to be running at the moment, your service will most likely be not accessible.");
     }
-    return false;
+    return result.detected;
+  }
+
+  private CompletableFuture<Detection> probe() {
+    if (ingressControllerDetectors.isEmpty()) {
+      return CompletableFuture.completedFuture(new Detection(false, false));
+    }
+    final ExecutorService executorService = Executors.newFixedThreadPool(ingressControllerDetectors.size());
+    final List<CompletableFuture<Detection>> probes = ingressControllerDetectors.stream()
+      .map(detector -> CompletableFuture.supplyAsync(() -> probe(detector), executorService))
+      .collect(Collectors.toList());
+    return CompletableFuture.allOf(probes.toArray(new CompletableFuture[0]))
+      .thenApply(v -> probes.stream().map(CompletableFuture::join).reduce(new Detection(false, false), Detection::merge))
+      .whenComplete((result, error) -> executorService.shutdown());
+  }
+
+  private Detection probe(IngressControllerDetector detector) {
+    try {
+      final boolean permitted = detector.hasPermissions();
+      return new Detection(permitted && detector.isDetected(), permitted);
+    } catch (RuntimeException e) {
+      log.warn("Unable to detect IngressController with %s: %s", detector.getClass().getSimpleName(), e.getMessage());
+      return new Detection(false, false);
+    }
+  }
+
+  @AllArgsConstructor(access = AccessLevel.PRIVATE)
+  private static final class Detection {
+    private final boolean detected;
+    private final boolean anyDetectorHadPermission;
+
+    private Detection merge(Detection other) {
+      return new Detection(detected || other.detected, anyDetectorHadPermission || other.anyDetectorHadPermission);
+    }
   }
 }
@@ -72,10 +72,10 @@ public class BuildPackBuildService extends AbstractImageBuildService {
   }
 
   @Override
-  protected void buildSingleImage(ImageConfiguration imageConfiguration) {
-    kitLogger.info("Delegating container image building process to BuildPacks");
+  protected void buildSingleImage(ImageConfiguration imageConfiguration, KitLogger log) {
+    log.info("Delegating container image building process to BuildPacks");
     final File packCli = buildPackCliDownloader.getPackCLIIfPresentOrDownload();
-    kitLogger.info("Using pack %s", packCli.getAbsolutePath());
+    log.info("Using pack %s", packCli.getAbsolutePath());
     final String builderImage = getApplicableBuildPackBuilderImage(imageConfiguration.getBuild());
 
     BuildPackBuildOptions.BuildPackBuildOptionsBuilder buildPackBuildOptionsBuilder = BuildPackBuildOptions.builder()
@@ -93,13 +93,13 @@ public class BuildPackBuildService extends AbstractImageBuildService {
           .clearCache(Optional.ofNullable(imageConfiguration.getBuild().getNocache()).orElse(false))
           .volumes(imageConfiguration.getBuild().getVolumes());
     }
-    new BuildPackCliController(packCli, kitLogger).build(buildPackBuildOptionsBuilder.build());
+    new BuildPackCliController(packCli, log).build(buildPackBuildOptionsBuilder.build());
   }
 
   @Override
-  protected void pushSingleImage(ImageConfiguration imageConfiguration, int retries, boolean skipTag) throws JKubeServiceException {
+  protected void pushSingleImage(ImageConfiguration imageConfiguration, int retries, boolean skipTag, KitLogger log) throws JKubeServiceException {
     try {
-      dockerServiceHub.getRegistryService()
+      dockerServiceHub(log).getRegistryService()
         .pushImage(imageConfiguration, retries, jKubeConfiguration.getPushRegistryConfig(), skipTag);
     } catch (IOException ex) {
       throw new JKubeServiceException("Error while trying to push the image: " + ex.getMessage(), ex);
@@ -117,6 +117,10 @@ public class BuildPackBuildService extends AbstractImageBuildService {
     // NOOP
   }
 
+  private DockerServiceHub dockerServiceHub(KitLogger log) {
+    return log == kitLogger ? dockerServiceHub : dockerServiceHub.withLogger(log);
+  }
+
   private String resolveEffectivePullPolicy(ImageConfiguration imageConfiguration) {
     if (imageConfiguration.getBuild() != null
         && StringUtils.isNotBlank(imageConfiguration.getBuild().getImagePullPolicy())) {
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.config.service.kubernetes;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.Namespaced;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.KubernetesHelper;
+
+/**
+ * Provides access to the cluster state of the resources managed by JKube.
+ *
+ * <p> When enabled, lookups are served from {@link SharedIndexInformer}s that are lazily started (one per kind and
+ * namespace) the first time a resource of that kind is requested, so only the kinds present in the applied manifest
+ * are informed. Subsequent lookups cost no API requests since the informer stores are kept up to date through watch
+ * events. It's only enabled for long-running sessions (i.e. <code>k8s:watch</code>) where the same resources are
+ * retrieved over and over again. One-shot goals would pay a list and watch (and the related permissions) for a single
+ * lookup.
+ *
+ * <p> When disabled (default), or if an informer can't be started (i.e. missing list/watch permissions), lookups are
+ * performed directly against the cluster.
+ *
+ * <p> Informer stores are eventually consistent, they might not reflect a change that was just applied. Callers that
+ * need to read their own writes must retrieve the resource from the cluster instead.
+ */
+public class ClusterStateCache implements Closeable {
+
+  private final KubernetesClient kubernetesClient;
+  private final KitLogger log;
+  private final Map<String, Optional<SharedIndexInformer<? extends HasMetadata>>> informers;
+  private volatile boolean enabled;
+
+  public ClusterStateCache(KubernetesClient kubernetesClient, KitLogger log) {
+    this.kubernetesClient = kubernetesClient;
+    this.log = log;
+    this.informers = new ConcurrentHashMap<>();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Retrieves the current cluster state of the provided resource.
+   *
+   * @param resource the resource to retrieve.
+   * @param namespace the namespace where the resource lives, if null the resource's or the client's namespace is used.
+   * @return a copy of the resource as stored in the cluster or null if it doesn't exist.
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends HasMetadata> T get(T resource, String namespace) {
+    final String resolvedNamespace = resolveNamespace(resource, namespace);
+    // Custom resources might be cluster scoped, their scope can't be inferred to inform them reliably
+    if (enabled && !(resource instanceof GenericKubernetesResource)) {
+      final Optional<SharedIndexInformer<? extends HasMetadata>> informer = informers.computeIfAbsent(
+        informerKey(resource, resolvedNamespace), key -> inform(resource, resolvedNamespace));
+      if (informer.isPresent()) {
+        final HasMetadata cached = informer.get().getStore().getByKey(
+          Cache.namespaceKeyFunc(isNamespaced(resource) ? resolvedNamespace : null, KubernetesHelper.getName(resource)));
+        // Store objects are shared with the informer, callers get their own copy
+        return cached != null ? (T) kubernetesClient.getKubernetesSerialization().clone(cached) : null;
+      }
+    }
+    if (resource instanceof GenericKubernetesResource) {
+      return (T) KubernetesClientUtil.doGetCustomResource(kubernetesClient, (GenericKubernetesResource) resource, resolvedNamespace);
+    }
+    return kubernetesClient.resource(resource).inNamespace(resolvedNamespace).get();
+  }
+
+  /**
+   * Lists the Pods matching the provided selector.
+   *
+   * @param namespace the namespace where to look for the Pods, if null the client's namespace is used.
+   * @param selector the label selector the Pods must match.
+   * @return the list of matching Pods, these are shared with the informer store and must not be modified.
+   */
+  public List<Pod> getPods(String namespace, LabelSelector selector) {
+    final String resolvedNamespace = StringUtils.isBlank(namespace) ? kubernetesClient.getNamespace() : namespace;
+    if (enabled) {
+      final Optional<SharedIndexInformer<? extends HasMetadata>> informer = informers.computeIfAbsent(
+        "v1#Pod@" + resolvedNamespace + "?" + selector, key -> inform(() ->
+          kubernetesClient.pods().inNamespace(resolvedNamespace).withLabelSelector(selector).inform()));
+      if (informer.isPresent()) {
+        return ((SharedIndexInformer<Pod>) informer.get()).getStore().list();
+      }
+    }
+    return kubernetesClient.pods().inNamespace(resolvedNamespace).withLabelSelector(selector).list().getItems();
+  }
+
+  /**
+   * Returns the name of the newest Pod for the application defined by the provided resources.
+   *
+   * @see KubernetesHelper#getNewestApplicationPodName(KubernetesClient, String, Collection)
+   */
+  public String getNewestApplicationPodName(String namespace, Collection<HasMetadata> resources) {
+    final Pod newestPod = KubernetesHelper.getNewestPod(
+      getPods(namespace, KubernetesHelper.extractPodLabelSelector(resources)));
+    if (newestPod != null) {
+      return newestPod.getMetadata().getName();
+    }
+    return null;
+  }
+
+  @Override
+  public void close() {
+    informers.values().forEach(informer -> informer.ifPresent(SharedIndexInformer::close));
+    informers.clear();
+  }
+
+  private Optional<SharedIndexInformer<? extends HasMetadata>> inform(HasMetadata resource, String namespace) {
+    if (isNamespaced(resource)) {
+      return inform(() -> kubernetesClient.resources(resource.getClass()).inNamespace(namespace).inform());
+    }
+    return inform(() -> kubernetesClient.resources(resource.getClass()).inform());
+  }
+
+  private Optional<SharedIndexInformer<? extends HasMetadata>> inform(
+    Supplier<SharedIndexInformer<? extends HasMetadata>> informerSupplier) {
+    try {
+      return Optional.of(informerSupplier.get());
+    } catch (KubernetesClientException e) {
+      log.debug("Unable to start informer, cluster state won't be cached: %s", e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private String resolveNamespace(HasMetadata resource, String namespace) {
+    if (StringUtils.isNotBlank(namespace)) {
+      return namespace;
+    }
+    if (StringUtils.isNotBlank(KubernetesHelper.getNamespace(resource))) {
+      return KubernetesHelper.getNamespace(resource);
+    }
+    return kubernetesClient.getNamespace();
+  }
+
+  private static String informerKey(HasMetadata resource, String namespace) {
+    return resource.getApiVersion() + "#" + resource.getKind() + "@" + (isNamespaced(resource) ? namespace : "");
+  }
+
+  private static boolean isNamespaced(HasMetadata resource) {
+    return resource instanceof Namespaced;
+  }
+}
@@ -18,6 +18,7 @@ import java.util.Objects;
 
 import org.eclipse.jkube.kit.build.service.docker.DockerServiceHub;
 import org.eclipse.jkube.kit.common.JKubeConfiguration;
+import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import org.eclipse.jkube.kit.config.resource.RuntimeMode;
 import org.eclipse.jkube.kit.config.service.AbstractImageBuildService;
@@ -31,6 +32,7 @@ import org.eclipse.jkube.kit.config.service.JKubeServiceHub;
  */
 public class DockerBuildService extends AbstractImageBuildService {
 
+    private final KitLogger kitLogger;
     private final RuntimeMode runtimeMode;
     private final BuildServiceConfig buildServiceConfig;
     private final JKubeConfiguration jKubeConfiguration;
@@ -38,6 +40,7 @@ public class DockerBuildService extends AbstractImageBuildService {
 
     public DockerBuildService(JKubeServiceHub jKubeServiceHub) {
         super(jKubeServiceHub);
+        this.kitLogger = jKubeServiceHub.getLog();
         this.runtimeMode = jKubeServiceHub.getRuntimeMode();
         this.buildServiceConfig = Objects.requireNonNull(jKubeServiceHub.getBuildServiceConfig(),
             "BuildServiceConfig is required");
@@ -53,21 +56,22 @@ public class DockerBuildService extends AbstractImageBuildService {
     }
 
     @Override
-    public void buildSingleImage(ImageConfiguration imageConfig) throws JKubeServiceException {
+    public void buildSingleImage(ImageConfiguration imageConfig, KitLogger log) throws JKubeServiceException {
         try {
-            dockerServices.getBuildService().buildImage(imageConfig, buildServiceConfig.getImagePullManager(), jKubeConfiguration);
+            final DockerServiceHub imageDockerServices = dockerServices(log);
+            imageDockerServices.getBuildService().buildImage(imageConfig, buildServiceConfig.getImagePullManager(), jKubeConfiguration);
 
             // Assume we always want to tag
-            dockerServices.getBuildService().tagImage(imageConfig.getName(), imageConfig);
+            imageDockerServices.getBuildService().tagImage(imageConfig.getName(), imageConfig);
         } catch (IOException ex) {
             throw new JKubeServiceException("Error while trying to build the image: " + ex.getMessage(), ex);
         }
     }
 
     @Override
-    protected void pushSingleImage(ImageConfiguration imageConfiguration, int retries, boolean skipTag) throws JKubeServiceException {
+    protected void pushSingleImage(ImageConfiguration imageConfiguration, int retries, boolean skipTag, KitLogger log) throws JKubeServiceException {
         try {
-            dockerServices.getRegistryService()
+            dockerServices(log).getRegistryService()
               .pushImage(imageConfiguration, retries, jKubeConfiguration.getPushRegistryConfig(), skipTag);
         } catch (IOException ex) {
             throw new JKubeServiceException("Error while trying to push the image: " + ex.getMessage(), ex);
@@ -79,4 +83,8 @@ public class DockerBuildService extends AbstractImageBuildService {
         // No post processing required
     }
 
+    private DockerServiceHub dockerServices(KitLogger log) {
+        return log == kitLogger ? dockerServices : dockerServices.withLogger(log);
+    }
+
 }
@@ -63,14 +63,14 @@ public class JibImageBuildService extends AbstractImageBuildService {
     }
 
     @Override
-    public void buildSingleImage(ImageConfiguration imageConfiguration) throws JKubeServiceException {
+    public void buildSingleImage(ImageConfiguration imageConfiguration, KitLogger log) throws JKubeServiceException {
         if (imageConfiguration.getBuildConfiguration().isDockerFileMode()) {
             throw new JKubeServiceException("Dockerfile mode is not supported with JIB build strategy");
         }
-        kitLogger.info("[[B]]JIB[[B]] image build started");
-        try (JibService jibService = new JibService(jibLogger, authConfigFactory, configuration, imageConfiguration)) {
+        log.info("[[B]]JIB[[B]] image build started");
+        try (JibService jibService = new JibService(jibLogger(log), authConfigFactory, configuration, imageConfiguration)) {
             for (final File dockerTarArchive : jibService.build()) {
-                kitLogger.info(" %s successfully built", dockerTarArchive.getAbsolutePath());
+                log.info(" %s successfully built", dockerTarArchive.getAbsolutePath());
             }
         } catch (Exception ex) {
             throw new JKubeServiceException("Error when building JIB image", ex);
@@ -78,9 +78,9 @@ public class JibImageBuildService extends AbstractImageBuildService {
     }
 
     @Override
-    protected void pushSingleImage(ImageConfiguration imageConfiguration, int retries, boolean skipTag) throws JKubeServiceException {
-        try (JibService jibService = new JibService(jibLogger, authConfigFactory, configuration, imageConfiguration)) {
-            kitLogger.info("Pushing image: %s", jibService.getImageName().getFullName());
+    protected void pushSingleImage(ImageConfiguration imageConfiguration, int retries, boolean skipTag, KitLogger log) throws JKubeServiceException {
+        try (JibService jibService = new JibService(jibLogger(log), authConfigFactory, configuration, imageConfiguration)) {
+            log.info("Pushing image: %s", jibService.getImageName().getFullName());
             jibService.push();
         } catch (Exception ex) {
             throw new JKubeServiceException("Error when pushing JIB image", ex);
@@ -91,4 +91,8 @@ public class JibImageBuildService extends AbstractImageBuildService {
     public void postProcess() {
         // No post-processing required
     }
+
+    private JibLogger jibLogger(KitLogger log) {
+        return log == kitLogger ? jibLogger : new JibLogger(log);
+    }
 }
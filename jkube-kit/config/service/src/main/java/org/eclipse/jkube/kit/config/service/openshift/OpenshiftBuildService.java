@@ -104,8 +104,6 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
     private final KitLogger log;
     private final BuildServiceConfig buildServiceConfig;
     private final JKubeConfiguration jKubeConfiguration;
-    private OpenShiftClient client;
-    private String applicableOpenShiftNamespace;
 
     public OpenshiftBuildService(JKubeServiceHub jKubeServiceHub) {
         super(jKubeServiceHub);
@@ -126,8 +124,9 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
     }
 
     @Override
-    public void buildSingleImage(ImageConfiguration imageConfig) throws JKubeServiceException {
-        initClient();
+    public void buildSingleImage(ImageConfiguration imageConfig, KitLogger log) throws JKubeServiceException {
+        final OpenShiftClient client = initClient();
+        final String namespace = getApplicableNamespace();
         String buildName = null;
         try {
             final ImageConfiguration applicableImageConfig = getApplicableImageConfiguration(imageConfig, jKubeConfiguration.getPullRegistryConfig());
@@ -139,24 +138,24 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
 
             // Check for buildconfig / imagestream / pullSecret and create them if necessary
             String openshiftPullSecret = imageConfig.getBuild().getOpenshiftPullSecret();
-            final boolean usePullSecret = checkOrCreatePullSecret(client, builder, openshiftPullSecret, applicableImageConfig);
+            final boolean usePullSecret = checkOrCreatePullSecret(client, namespace, builder, openshiftPullSecret, applicableImageConfig, log);
             if (usePullSecret) {
-                buildName = updateOrCreateBuildConfig(buildServiceConfig, client, builder, applicableImageConfig, openshiftPullSecret);
+                buildName = updateOrCreateBuildConfig(buildServiceConfig, client, namespace, builder, applicableImageConfig, openshiftPullSecret, log);
             } else {
-                buildName = updateOrCreateBuildConfig(buildServiceConfig, client, builder, applicableImageConfig, null);
+                buildName = updateOrCreateBuildConfig(buildServiceConfig, client, namespace, builder, applicableImageConfig, null, log);
             }
 
             if (imageConfig.getBuild().getOpenshiftBuildOutputKind() == null || IMAGE_STREAM_TAG.equals(imageConfig.getBuild().getOpenshiftBuildOutputKind())) {
-                checkOrCreateImageStream(applicableImageConfig, client, builder, resolveImageStreamName(imageName));
+                checkOrCreateImageStream(applicableImageConfig, client, namespace, builder, resolveImageStreamName(imageName), log);
 
-                applyBuild(buildName, dockerTar, builder);
+                applyBuild(client, namespace, buildName, dockerTar, builder, log);
 
                 // Create a file with generated image streams
-                addImageStreamToFile(getImageStreamFile(), imageName, client);
+                addImageStreamToFile(getImageStreamFile(), imageName, client, namespace, log);
 
-                createAdditionalTags(imageConfig, imageName);
+                createAdditionalTags(client, namespace, imageConfig, imageName, log);
             } else {
-                applyBuild(buildName, dockerTar, builder);
+                applyBuild(client, namespace, buildName, dockerTar, builder, log);
             }
 
         } catch (JKubeServiceException e) {
@@ -165,7 +164,7 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
             // Log additional details in case of any IOException
             if (ex.getCause() instanceof IOException) {
                 log.error("Build for %s failed: %s", buildName, ex.getCause().getMessage());
-                logBuildFailure(client, buildName);
+                logBuildFailure(client, namespace, buildName, log);
             } else {
                 throw new JKubeServiceException("Unable to build the image using the OpenShift build service", ex);
             }
@@ -173,20 +172,20 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
     }
 
     @Override
-    protected void pushSingleImage(ImageConfiguration imageConfiguration, int retries, boolean skipTag) {
+    protected void pushSingleImage(ImageConfiguration imageConfiguration, int retries, boolean skipTag, KitLogger log) {
         // Do nothing. Image is pushed as part of build phase
         log.warn("Image is pushed to OpenShift's internal registry during oc:build goal. Skipping...");
     }
 
-    private void applyBuild(String buildName, File dockerTar, KubernetesListBuilder builder)
-            throws Exception {
-        applyResourceObjects(buildServiceConfig, client, builder);
+    private void applyBuild(OpenShiftClient client, String namespace, String buildName, File dockerTar,
+            KubernetesListBuilder builder, KitLogger log) throws Exception {
+        applyResourceObjects(buildServiceConfig, client, namespace, builder);
 
         // Start the actual build
-        Build build = startBuild(client, dockerTar, buildName);
+        Build build = startBuild(client, namespace, dockerTar, buildName, log);
 
         // Wait until the build finishes
-        waitForOpenShiftBuildToComplete(client, build);
+        waitForOpenShiftBuildToComplete(client, namespace, build, log);
     }
 
     private File getImageStreamFile() {
@@ -200,30 +199,34 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
     }
 
     protected String updateOrCreateBuildConfig(BuildServiceConfig config, OpenShiftClient client, KubernetesListBuilder builder, ImageConfiguration imageConfig, String openshiftPullSecret) {
+        return updateOrCreateBuildConfig(config, client, getApplicableNamespace(), builder, imageConfig, openshiftPullSecret, this.log);
+    }
+
+    private String updateOrCreateBuildConfig(BuildServiceConfig config, OpenShiftClient client, String namespace, KubernetesListBuilder builder, ImageConfiguration imageConfig, String openshiftPullSecret, KitLogger log) {
         ImageName imageName = new ImageName(imageConfig.getName());
         String buildName = computeS2IBuildName(imageConfig, config, imageName);
 
-        BuildStrategy buildStrategyResource = createBuildStrategy(jKubeServiceHub, imageConfig, openshiftPullSecret, this.log);
+        BuildStrategy buildStrategyResource = createBuildStrategy(jKubeServiceHub, imageConfig, openshiftPullSecret, log);
         BuildOutput buildOutput = createBuildOutput(imageConfig, imageName);
 
         // Fetch existing build config
-        BuildConfig buildConfig = client.buildConfigs().inNamespace(applicableOpenShiftNamespace).withName(buildName).get();
+        BuildConfig buildConfig = client.buildConfigs().inNamespace(namespace).withName(buildName).get();
         if (buildConfig != null) {
             // lets verify the BC
             BuildConfigSpec spec = OpenShiftBuildServiceUtils.getBuildConfigSpec(buildConfig);
-            validateSourceType(buildName, spec);
+            validateSourceType(buildName, spec, log);
 
             if (imageConfig.getBuild().getOpenshiftBuildRecreateMode().isBuildConfig()) {
                 // Delete and recreate afresh
-                client.buildConfigs().inNamespace(applicableOpenShiftNamespace).withName(buildName).delete();
-                return createBuildConfig(builder, buildName, buildStrategyResource, buildOutput);
+                client.buildConfigs().inNamespace(namespace).withName(buildName).delete();
+                return createBuildConfig(client, builder, buildName, buildStrategyResource, buildOutput, log);
             } else {
                 // Update & return
-                return updateBuildConfig(client, buildName, buildStrategyResource, buildOutput, spec);
+                return updateBuildConfig(client, namespace, buildName, buildStrategyResource, buildOutput, spec, log);
             }
         } else {
             // Create afresh
-            return createBuildConfig(builder, buildName, buildStrategyResource, buildOutput);
+            return createBuildConfig(client, builder, buildName, buildStrategyResource, buildOutput, log);
         }
     }
 
@@ -242,20 +245,22 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
         return applicableImageConfigBuilder.build();
     }
 
-    private void initClient() {
+    private OpenShiftClient initClient() {
         KubernetesClient k8sClient = jKubeServiceHub.getClient();
         if (!isOpenShift(k8sClient)) {
             throw new IllegalStateException("OpenShift platform has been specified but OpenShift has not been detected!");
         }
-        client = OpenshiftHelper.asOpenShiftClient(k8sClient);
+        return OpenshiftHelper.asOpenShiftClient(k8sClient);
+    }
+
+    private String getApplicableNamespace() {
         if (buildServiceConfig.getResourceConfig() != null && buildServiceConfig.getResourceConfig().getNamespace() != null) {
-            applicableOpenShiftNamespace = buildServiceConfig.getResourceConfig().getNamespace();
-        } else {
-            applicableOpenShiftNamespace = jKubeServiceHub.getConfiguration().getClusterConfiguration().getNamespace();
+            return buildServiceConfig.getResourceConfig().getNamespace();
         }
+        return jKubeServiceHub.getConfiguration().getClusterConfiguration().getNamespace();
     }
 
-    private void validateSourceType(String buildName, BuildConfigSpec spec) {
+    private void validateSourceType(String buildName, BuildConfigSpec spec, KitLogger log) {
         BuildSource source = spec.getSource();
         if (source != null) {
             String sourceType = source.getType();
@@ -265,7 +270,7 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
         }
     }
 
-    private BuildConfigSpec getBuildConfigSpec(BuildStrategy buildStrategyResource, BuildOutput buildOutput) {
+    private BuildConfigSpec getBuildConfigSpec(OpenShiftClient client, BuildStrategy buildStrategyResource, BuildOutput buildOutput, KitLogger log) {
         BuildConfigSpecBuilder specBuilder = null;
 
         // Check for BuildConfig resource fragment
@@ -301,24 +306,24 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
         return specBuilder.build();
     }
 
-    private String createBuildConfig(KubernetesListBuilder builder, String buildName, BuildStrategy buildStrategyResource, BuildOutput buildOutput) {
+    private String createBuildConfig(OpenShiftClient client, KubernetesListBuilder builder, String buildName, BuildStrategy buildStrategyResource, BuildOutput buildOutput, KitLogger log) {
         log.info("Creating BuildServiceConfig %s for %s build", buildName, buildStrategyResource.getType());
         builder.addToItems(new BuildConfigBuilder()
             .withNewMetadata()
             .withName(buildName)
             .endMetadata()
-            .withSpec(getBuildConfigSpec(buildStrategyResource, buildOutput))
+            .withSpec(getBuildConfigSpec(client, buildStrategyResource, buildOutput, log))
             .build()
         );
         return buildName;
     }
 
-    private String updateBuildConfig(OpenShiftClient client, String buildName, BuildStrategy buildStrategy,
-                                     BuildOutput buildOutput, BuildConfigSpec spec) {
+    private String updateBuildConfig(OpenShiftClient client, String namespace, String buildName, BuildStrategy buildStrategy,
+                                     BuildOutput buildOutput, BuildConfigSpec spec, KitLogger log) {
         // lets check if the strategy or output has changed and if so lets update the BC
         // e.g. the S2I builder image or the output tag and
         if (!Objects.equals(buildStrategy, spec.getStrategy()) || !Objects.equals(buildOutput, spec.getOutput())) {
-            client.buildConfigs().inNamespace(applicableOpenShiftNamespace).withName(buildName).edit(bc -> new BuildConfigBuilder(bc)
+            client.buildConfigs().inNamespace(namespace).withName(buildName).edit(bc -> new BuildConfigBuilder(bc)
                     .editSpec()
                     .withStrategy(buildStrategy)
                     .withOutput(buildOutput)
@@ -331,7 +336,7 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
         return buildName;
     }
 
-    private boolean checkOrCreatePullSecret(OpenShiftClient client, KubernetesListBuilder builder, String pullSecretName, ImageConfiguration imageConfig)
+    private boolean checkOrCreatePullSecret(OpenShiftClient client, String namespace, KubernetesListBuilder builder, String pullSecretName, ImageConfiguration imageConfig, KitLogger log)
             throws Exception {
         BuildConfiguration buildConfig = imageConfig.getBuildConfiguration();
 
@@ -350,11 +355,11 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
                     registryConfig.getSettings(), null, pullRegistry, registryConfig.getPasswordDecryptionMethod());
 
             final Secret secret = Optional.ofNullable(pullSecretName)
-                .map(psn ->  client.secrets().inNamespace(applicableOpenShiftNamespace).withName(psn).get()).orElse(null);
+                .map(psn ->  client.secrets().inNamespace(namespace).withName(psn).get()).orElse(null);
 
             if (secret != null) {
                 log.info("Adding to Secret %s", pullSecretName);
-                return updateSecret(client, pullSecretName, secret.getData());
+                return updateSecret(client, namespace, pullSecretName, secret.getData(), log);
             }
 
             if (authConfig != null) {
@@ -386,9 +391,9 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
         return false;
     }
 
-    private boolean updateSecret(OpenShiftClient client, String pullSecretName, Map<String, String> data) {
+    private boolean updateSecret(OpenShiftClient client, String namespace, String pullSecretName, Map<String, String> data, KitLogger log) {
         if (!Objects.equals(data, client.secrets().withName(pullSecretName).get().getData())) {
-            client.secrets().inNamespace(applicableOpenShiftNamespace).withName(pullSecretName).edit(s -> new SecretBuilder(s)
+            client.secrets().inNamespace(namespace).withName(pullSecretName).edit(s -> new SecretBuilder(s)
                     .editMetadata()
                     .withName(pullSecretName)
                     .endMetadata()
@@ -402,10 +407,10 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
         return true;
     }
 
-    private void checkOrCreateImageStream(ImageConfiguration applicableImageConfig, OpenShiftClient client, KubernetesListBuilder builder, String imageStreamName) {
-        boolean hasImageStream = client.imageStreams().inNamespace(applicableOpenShiftNamespace).withName(imageStreamName).get() != null;
+    private void checkOrCreateImageStream(ImageConfiguration applicableImageConfig, OpenShiftClient client, String namespace, KubernetesListBuilder builder, String imageStreamName, KitLogger log) {
+        boolean hasImageStream = client.imageStreams().inNamespace(namespace).withName(imageStreamName).get() != null;
         if (hasImageStream && applicableImageConfig.getBuild().getOpenshiftBuildRecreateMode().isImageStream()) {
-            client.imageStreams().inNamespace(applicableOpenShiftNamespace).withName(imageStreamName).delete();
+            client.imageStreams().inNamespace(namespace).withName(imageStreamName).delete();
             hasImageStream = false;
         }
         if (!hasImageStream) {
@@ -426,21 +431,21 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
         }
     }
 
-    private void applyResourceObjects(BuildServiceConfig config, OpenShiftClient client, KubernetesListBuilder builder) throws Exception {
+    private void applyResourceObjects(BuildServiceConfig config, OpenShiftClient client, String namespace, KubernetesListBuilder builder) throws Exception {
         if (config.getEnricherTask() != null) {
             config.getEnricherTask().execute(builder);
         }
 
         if (builder.hasItems()) {
             KubernetesList k8sList = builder.build();
-            client.resourceList(k8sList).inNamespace(applicableOpenShiftNamespace).create();
+            client.resourceList(k8sList).inNamespace(namespace).create();
         }
     }
 
-    private Build startBuild(OpenShiftClient client, File dockerTar, String buildName) {
+    private Build startBuild(OpenShiftClient client, String namespace, File dockerTar, String buildName, KitLogger log) {
         log.info("Starting Build %s", buildName);
         try {
-            return client.buildConfigs().inNamespace(applicableOpenShiftNamespace).withName(buildName)
+            return client.buildConfigs().inNamespace(namespace).withName(buildName)
                     .instantiateBinary()
                     .fromFile(dockerTar);
         } catch (KubernetesClientException exp) {
@@ -450,13 +455,13 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
             }
             if (exp.getCause() instanceof IOException && exp.getCause().getMessage().contains("Stream Closed")) {
                 log.error("Build for %s failed: %s", buildName, exp.getCause().getMessage());
-                logBuildFailedDetails(client, buildName);
+                logBuildFailedDetails(client, namespace, buildName, log);
             }
             throw exp;
         }
     }
 
-    private void waitForOpenShiftBuildToComplete(OpenShiftClient client, Build build) throws IOException {
+    private void waitForOpenShiftBuildToComplete(OpenShiftClient client, String namespace, Build build, KitLogger log) throws IOException {
         final CountDownLatch latch = new CountDownLatch(1);
         final CountDownLatch logTerminateLatch = new CountDownLatch(1);
         final String buildName = KubernetesHelper.getName(build);
@@ -464,19 +469,19 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
         final AtomicReference<Build> buildHolder = new AtomicReference<>();
 
         // Don't query for logs directly, Watch over the build pod:
-        waitUntilPodIsReady(buildName + "-build", 120, log);
+        waitUntilPodIsReady(client, namespace, buildName + "-build", 120, log);
         log.info("Waiting for build " + buildName + " to complete...");
-        try (LogWatch logWatch = client.builds().inNamespace(applicableOpenShiftNamespace).withName(buildName).watchLog()) {
+        try (LogWatch logWatch = client.builds().inNamespace(namespace).withName(buildName).watchLog()) {
             KubernetesHelper.printLogsAsync(logWatch, line -> log.info("[[s]]%s", line))
               .whenComplete((v, t) -> {
                   if (t != null) {
                       log.error("Failed to tail build log: %s", t);
                   }
               });
-            Watcher<Build> buildWatcher = getBuildWatcher(latch, buildName, buildHolder);
-            try (Watch watcher = client.builds().inNamespace(applicableOpenShiftNamespace).withName(buildName).watch(buildWatcher)) {
+            Watcher<Build> buildWatcher = getBuildWatcher(latch, buildName, buildHolder, log);
+            try (Watch watcher = client.builds().inNamespace(namespace).withName(buildName).watch(buildWatcher)) {
                 // Check if the build is already finished to avoid waiting indefinitely
-                Build lastBuild = client.builds().inNamespace(applicableOpenShiftNamespace).withName(buildName).get();
+                Build lastBuild = client.builds().inNamespace(namespace).withName(buildName).get();
                 if (OpenshiftHelper.isFinished(KubernetesHelper.getBuildStatusPhase(lastBuild))) {
                     log.debug("Build %s is already finished", buildName);
                     buildHolder.set(lastBuild);
@@ -489,7 +494,7 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
                 build = buildHolder.get();
                 if (build == null) {
                     log.debug("Build watcher on %s was closed prematurely", buildName);
-                    build = client.builds().inNamespace(applicableOpenShiftNamespace).withName(buildName).get();
+                    build = client.builds().inNamespace(namespace).withName(buildName).get();
                 }
                 String status = KubernetesHelper.getBuildStatusPhase(build);
                 if (OpenshiftHelper.isFailed(status) || OpenshiftHelper.isCancelled(status)) {
@@ -508,13 +513,15 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
     /**
      * A Simple utility function to watch over pod until it gets ready
      *
+     * @param client OpenShift client
+     * @param namespace Namespace of the pod
      * @param podName Name of the pod
      * @param nAwaitTimeout Time in seconds upto which pod must be watched
      * @param log Logger object
      */
-    private void waitUntilPodIsReady(String podName, int nAwaitTimeout, final KitLogger log) {
+    private void waitUntilPodIsReady(OpenShiftClient client, String namespace, String podName, int nAwaitTimeout, final KitLogger log) {
         final CountDownLatch readyLatch = new CountDownLatch(1);
-        try (Watch watch = client.pods().inNamespace(applicableOpenShiftNamespace).withName(podName).watch(new Watcher<Pod>() {
+        try (Watch watch = client.pods().inNamespace(namespace).withName(podName).watch(new Watcher<Pod>() {
             @Override
             public void eventReceived(Action action, Pod aPod) {
                 if(KubernetesHelper.isPodReady(aPod)) {
@@ -546,7 +553,7 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
         }
     }
 
-    private Watcher<Build> getBuildWatcher(final CountDownLatch latch, final String buildName, final AtomicReference<Build> buildHolder) {
+    private Watcher<Build> getBuildWatcher(final CountDownLatch latch, final String buildName, final AtomicReference<Build> buildHolder, final KitLogger log) {
         return new Watcher<Build>() {
 
             String lastStatus = "";
@@ -576,9 +583,9 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
         };
     }
 
-    private void logBuildFailedDetails(OpenShiftClient client, String buildName) {
+    private void logBuildFailedDetails(OpenShiftClient client, String namespace, String buildName, KitLogger log) {
         try {
-            BuildConfig build = client.buildConfigs().inNamespace(applicableOpenShiftNamespace).withName(buildName).get();
+            BuildConfig build = client.buildConfigs().inNamespace(namespace).withName(buildName).get();
             ObjectReference ref = build.getSpec().getStrategy().getSourceStrategy().getFrom();
             String kind = ref.getKind();
             String name = ref.getName();
@@ -586,12 +593,12 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
             if (DOCKER_IMAGE.equals(kind)) {
                 log.error("Please, ensure that the Docker image '%s' exists and is accessible by OpenShift", name);
             } else if (IMAGE_STREAM_TAG.equals(kind)) {
-                String namespace = ref.getNamespace();
+                String refNamespace = ref.getNamespace();
                 String namespaceInfo = "current";
                 String namespaceParams = "";
-                if (namespace != null && !namespace.isEmpty()) {
-                    namespaceInfo = "'" + namespace + "'";
-                    namespaceParams = " -n " + namespace;
+                if (refNamespace != null && !refNamespace.isEmpty()) {
+                    namespaceInfo = "'" + refNamespace + "'";
+                    namespaceParams = " -n " + refNamespace;
                 }
 
                 log.error("Please, ensure that the ImageStream Tag '%s' exists in the %s namespace (with 'oc get is%s')", name, namespaceInfo, namespaceParams);
@@ -601,9 +608,9 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
         }
     }
 
-    private void logBuildFailure(OpenShiftClient client, String buildName) throws JKubeServiceException {
+    private void logBuildFailure(OpenShiftClient client, String namespace, String buildName, KitLogger log) throws JKubeServiceException {
         try {
-            List<Build> builds = client.builds().inNamespace(applicableOpenShiftNamespace).list().getItems();
+            List<Build> builds = client.builds().inNamespace(namespace).list().getItems();
             for(Build build : builds) {
                 if(build.getMetadata().getName().contains(buildName)) {
                     log.error(build.getMetadata().getName() + "\t" + "\t" + build.getStatus().getReason() + "\t" + build.getStatus().getMessage());
@@ -619,17 +626,17 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
         }
     }
 
-    private void addImageStreamToFile(File imageStreamFile, ImageName imageName, OpenShiftClient client) throws IOException {
-        ImageStreamService imageStreamHandler = new ImageStreamService(client, applicableOpenShiftNamespace, log);
+    private synchronized void addImageStreamToFile(File imageStreamFile, ImageName imageName, OpenShiftClient client, String namespace, KitLogger log) throws IOException {
+        ImageStreamService imageStreamHandler = new ImageStreamService(client, namespace, log);
         imageStreamHandler.appendImageStreamResource(imageName, imageStreamFile);
     }
 
-    private void createAdditionalTags(ImageConfiguration imageConfig, ImageName imageName) {
+    private void createAdditionalTags(OpenShiftClient client, String namespace, ImageConfiguration imageConfig, ImageName imageName, KitLogger log) {
         List<String> additionalTagsToCreate = getAdditionalTagsToCreate(imageConfig);
         if (!additionalTagsToCreate.isEmpty()) {
-            ImageStreamTag imageStreamTag = client.imageStreamTags().inNamespace(applicableOpenShiftNamespace).withName(resolveImageStreamTagName(imageName)).get();
-            List<ImageStreamTag> imageStreamTags = createAdditionalTagsIfPresent(imageConfig, applicableOpenShiftNamespace, imageStreamTag);
-            client.resourceList(imageStreamTags.toArray(new ImageStreamTag[0])).inNamespace(applicableOpenShiftNamespace).createOrReplace();
+            ImageStreamTag imageStreamTag = client.imageStreamTags().inNamespace(namespace).withName(resolveImageStreamTagName(imageName)).get();
+            List<ImageStreamTag> imageStreamTags = createAdditionalTagsIfPresent(imageConfig, namespace, imageStreamTag);
+            client.resourceList(imageStreamTags.toArray(new ImageStreamTag[0])).inNamespace(namespace).createOrReplace();
             log.info("Tags [%s] set to %s", String.join(",", additionalTagsToCreate), imageName.getNameWithoutTag());
         }
     }
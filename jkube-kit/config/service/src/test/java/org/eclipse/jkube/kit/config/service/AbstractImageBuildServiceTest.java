@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.config.service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.BuildTimings;
+import org.eclipse.jkube.kit.config.image.ImageConfiguration;
+import org.eclipse.jkube.kit.config.image.build.BuildConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AbstractImageBuildServiceTest {
+
+  private JKubeServiceHub jKubeServiceHub;
+  private ImageConfiguration base;
+  private ImageConfiguration app;
+  private ImageConfiguration other;
+
+  @BeforeEach
+  void setUp() {
+    jKubeServiceHub = mock(JKubeServiceHub.class, RETURNS_DEEP_STUBS);
+    when(jKubeServiceHub.getTimings()).thenReturn(BuildTimings.DISABLED);
+    when(jKubeServiceHub.getLog()).thenReturn(new KitLogger.SilentLogger());
+    base = image("example/base", "busybox", "1.0");
+    app = image("example/app", "example/base:1.0", null);
+    other = image("example/other", "busybox", null);
+  }
+
+  @Test
+  void build_withDefaultParallelism_processesImagesSequentiallyInOrder() throws Exception {
+    // Given
+    final TestImageBuildService service = new TestImageBuildService(jKubeServiceHub);
+    // When
+    service.build(app, other, base);
+    // Then
+    assertThat(service.processed).containsExactly("example/app", "example/other", "example/base");
+  }
+
+  @Test
+  void build_withDefaultParallelism_logsImageOutputThroughServiceHubLogger() throws Exception {
+    // Given
+    final KitLogger log = spy(new KitLogger.SilentLogger());
+    when(jKubeServiceHub.getLog()).thenReturn(log);
+    final TestImageBuildService service = new TestImageBuildService(jKubeServiceHub);
+    // When
+    service.build(base, other);
+    // Then
+    verify(log).info("Processing %s", "example/base");
+    verify(log).info("Processing %s", "example/other");
+  }
+
+  @Test
+  void build_withParallelism_logsImageOutputPrefixedWithImageDescription() throws Exception {
+    // Given
+    withParallelism(2);
+    final KitLogger log = spy(new KitLogger.SilentLogger());
+    when(jKubeServiceHub.getLog()).thenReturn(log);
+    final TestImageBuildService service = new TestImageBuildService(jKubeServiceHub);
+    // When
+    service.build(base, other);
+    // Then
+    verify(log).info("[example/base:latest]: Processing %s", "example/base");
+    verify(log).info("[example/other:latest]: Processing %s", "example/other");
+  }
+
+  @Test
+  void build_withParallelism_processesDependenciesFirst() throws Exception {
+    // Given
+    withParallelism(4);
+    final TestImageBuildService service = new TestImageBuildService(jKubeServiceHub);
+    // When
+    service.build(app, other, base);
+    // Then
+    assertThat(service.processed)
+      .containsExactlyInAnyOrder("example/app", "example/other", "example/base")
+      .containsSubsequence("example/base", "example/app");
+  }
+
+  @Test
+  void build_withParallelism_processesIndependentImagesConcurrently() throws Exception {
+    // Given
+    withParallelism(2);
+    final CountDownLatch bothStarted = new CountDownLatch(2);
+    final TestImageBuildService service = new TestImageBuildService(jKubeServiceHub) {
+      @Override
+      protected void buildSingleImage(ImageConfiguration imageConfiguration, KitLogger log) throws JKubeServiceException {
+        bothStarted.countDown();
+        try {
+          if (!bothStarted.await(10, TimeUnit.SECONDS)) {
+            throw new JKubeServiceException("Images were not processed concurrently");
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new JKubeServiceException("Interrupted", e);
+        }
+        super.buildSingleImage(imageConfiguration, log);
+      }
+    };
+    // When
+    service.build(base, other);
+    // Then
+    assertThat(service.processed).containsExactlyInAnyOrder("example/base", "example/other");
+  }
+
+  @Test
+  void push_withParallelismAndFailedDependency_skipsDependentImageAndThrowsException() {
+    // Given
+    withParallelism(4);
+    final TestImageBuildService service = new TestImageBuildService(jKubeServiceHub);
+    service.failing = "example/base";
+    // When
+    assertThatExceptionOfType(JKubeServiceException.class)
+      .isThrownBy(() -> service.push(Arrays.asList(app, base, other), 0, false))
+      .withMessage("Failure processing example/base")
+      .satisfies(e -> assertThat(e.getSuppressed()).isEmpty());
+    // Then
+    assertThat(service.processed).containsExactly("example/other");
+  }
+
+  @Test
+  void build_withParallelismAndSkippedImages_processesRemainingImages() throws Exception {
+    // Given
+    withParallelism(4);
+    other.setBuild(other.getBuildConfiguration().toBuilder().skip(true).build());
+    final TestImageBuildService service = new TestImageBuildService(jKubeServiceHub);
+    // When
+    service.build(app, other, base);
+    // Then
+    assertThat(service.processed).containsExactly("example/base", "example/app");
+  }
+
+  @Test
+  void getDependencies_withFromReferencingNameOrTag_returnsImagesInBatch() {
+    // Given
+    final ImageConfiguration byName = image("example/by-name", "example/base:latest", null);
+    final ImageConfiguration external = image("example/external", "example/base:2.0", null);
+    // When
+    final Map<ImageConfiguration, List<ImageConfiguration>> result = AbstractImageBuildService.getDependencies(
+      Arrays.asList(base, app, byName, external));
+    // Then
+    assertThat(result)
+      .containsEntry(base, Collections.emptyList())
+      .containsEntry(app, Collections.singletonList(base))
+      .containsEntry(byName, Collections.singletonList(base))
+      .containsEntry(external, Collections.emptyList());
+  }
+
+  @Test
+  void getDependencies_withFromExtReferencingImageOrImageStreamTag_returnsImagesInBatch() {
+    // Given
+    final ImageConfiguration dockerImage = imageWithFromExt("example/docker-image", "example/base:latest", "DockerImage");
+    final ImageConfiguration imageStreamTag = imageWithFromExt("example/image-stream-tag", "base:latest", "ImageStreamTag");
+    final ImageConfiguration otherStream = imageWithFromExt("example/other-stream", "base:2.0", "ImageStreamTag");
+    // When
+    final Map<ImageConfiguration, List<ImageConfiguration>> result = AbstractImageBuildService.getDependencies(
+      Arrays.asList(base, dockerImage, imageStreamTag, otherStream));
+    // Then
+    assertThat(result)
+      .containsEntry(dockerImage, Collections.singletonList(base))
+      .containsEntry(imageStreamTag, Collections.singletonList(base))
+      .containsEntry(otherStream, Collections.emptyList());
+  }
+
+  private void withParallelism(int parallelism) {
+    when(jKubeServiceHub.getBuildServiceConfig()).thenReturn(BuildServiceConfig.builder()
+      .parallelism(parallelism)
+      .build());
+  }
+
+  private static ImageConfiguration imageWithFromExt(String name, String fromExtName, String fromExtKind) {
+    final Map<String, String> fromExt = new HashMap<>();
+    fromExt.put("name", fromExtName);
+    fromExt.put("kind", fromExtKind);
+    return ImageConfiguration.builder()
+      .name(name)
+      .build(BuildConfiguration.builder()
+        .fromExt(fromExt)
+        .build())
+      .build();
+  }
+
+  private static ImageConfiguration image(String name, String from, String tag) {
+    return ImageConfiguration.builder()
+      .name(name)
+      .build(BuildConfiguration.builder()
+        .from(from)
+        .tags(tag == null ? Collections.emptyList() : Collections.singletonList(tag))
+        .build())
+      .build();
+  }
+
+  private static class TestImageBuildService extends AbstractImageBuildService {
+
+    private final List<String> processed = new CopyOnWriteArrayList<>();
+    private String failing;
+
+    private TestImageBuildService(JKubeServiceHub jKubeServiceHub) {
+      super(jKubeServiceHub);
+    }
+
+    @Override
+    protected void buildSingleImage(ImageConfiguration imageConfiguration, KitLogger log) throws JKubeServiceException {
+      process(imageConfiguration, log);
+    }
+
+    @Override
+    protected void pushSingleImage(ImageConfiguration imageConfiguration, int retries, boolean skipTag, KitLogger log) throws JKubeServiceException {
+      process(imageConfiguration, log);
+    }
+
+    private void process(ImageConfiguration imageConfiguration, KitLogger log) throws JKubeServiceException {
+      log.info("Processing %s", imageConfiguration.getName());
+      if (imageConfiguration.getName().equals(failing)) {
+        throw new JKubeServiceException("Failure processing " + imageConfiguration.getName());
+      }
+      processed.add(imageConfiguration.getName());
+    }
+
+    @Override
+    public boolean isApplicable() {
+      return true;
+    }
+
+    @Override
+    public void postProcess() {
+      // NO-OP
+    }
+  }
+}
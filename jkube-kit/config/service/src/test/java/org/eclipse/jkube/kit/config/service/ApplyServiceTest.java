@@ -16,9 +16,11 @@ package org.eclipse.jkube.kit.config.service;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import io.fabric8.kubernetes.api.model.APIGroupListBuilder;
 import io.fabric8.kubernetes.api.model.APIResource;
@@ -27,6 +29,8 @@ import io.fabric8.kubernetes.api.model.APIResourceListBuilder;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.fabric8.kubernetes.api.model.ServiceAccount;
@@ -44,6 +48,7 @@ import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.util.Serialization;
 import org.eclipse.jkube.kit.common.access.ClusterConfiguration;
 import org.eclipse.jkube.kit.config.resource.RuntimeMode;
+import org.eclipse.jkube.kit.config.service.ingresscontroller.IngressControllerDetectorManager;
 import org.eclipse.jkube.kit.config.service.openshift.WebServerEventCollector;
 
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
@@ -63,11 +68,17 @@ import io.fabric8.openshift.api.model.RouteBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
 import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static java.net.HttpURLConnection.HTTP_CREATED;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_OK;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 @EnableKubernetesMockClient
 class ApplyServiceTest {
@@ -179,6 +190,122 @@ class ApplyServiceTest {
         collector.assertEventsRecorded("new-np-v1", "new-np-extensions", "new-crd");
     }
 
+    @Test
+    void applyEntitiesWithParallelismAppliesTiersInOrder() {
+        // Given
+        final List<HasMetadata> entities = Arrays.asList(
+            new DeploymentBuilder().withNewMetadata().withName("d1").endMetadata().build(),
+            new DeploymentBuilder().withNewMetadata().withName("d2").endMetadata().build(),
+            new ServiceBuilder().withNewMetadata().withName("svc1").endMetadata().build(),
+            new ConfigMapBuilder().withNewMetadata().withName("c1").endMetadata().build(),
+            new NamespaceBuilder().withNewMetadata().withName("ns1").endMetadata().build()
+        );
+        WebServerEventCollector collector = new WebServerEventCollector();
+        mockServer.expect().post()
+            .withPath("/apis/apps/v1/namespaces/default/deployments")
+            .andReply(collector.record("new-deploy").andReturn(HTTP_CREATED, ""))
+            .times(2);
+        mockServer.expect().post()
+            .withPath("/api/v1/namespaces/default/services")
+            .andReply(collector.record("new-service").andReturn(HTTP_CREATED, ""))
+            .once();
+        mockServer.expect().post()
+            .withPath("/api/v1/namespaces/default/configmaps")
+            .andReply(collector.record("new-configmap").andReturn(HTTP_CREATED, ""))
+            .once();
+        mockServer.expect().post()
+            .withPath("/api/v1/namespaces")
+            .andReply(collector.record("new-ns").andReturn(HTTP_CREATED, ""))
+            .once();
+        applyService.setParallelism(4);
+
+        // When
+        applyService.applyEntities("foo.yml", entities);
+
+        // Then
+        collector.assertEventsRecordedInOrder("new-ns", "new-configmap", "new-service", "new-deploy", "new-deploy");
+    }
+
+    @Test
+    void applyEntitiesWithParallelismReportsFailures() {
+        // Given
+        final List<HasMetadata> entities = Arrays.asList(
+            new ConfigMapBuilder().withNewMetadata().withName("c1").endMetadata().build(),
+            new ServiceBuilder().withNewMetadata().withName("svc1").endMetadata().build()
+        );
+        mockServer.expect().post()
+            .withPath("/api/v1/namespaces/default/configmaps")
+            .andReturn(HTTP_CONFLICT, "")
+            .once();
+        applyService.setParallelism(4);
+
+        // When
+        final RuntimeException result = assertThrows(RuntimeException.class,
+            () -> applyService.applyEntities("foo.yml", entities));
+
+        // Then
+        assertThat(result).hasMessageStartingWith("Failed to create ConfigMap from foo.yml");
+        assertThat(mockServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void applyEntitiesWithServerSideApplySendsSinglePatch() throws Exception {
+        // Given
+        final ConfigMap configMap = new ConfigMapBuilder().withNewMetadata().withName("c1").endMetadata().build();
+        WebServerEventCollector collector = new WebServerEventCollector();
+        mockServer.expect().patch()
+            .withPath("/api/v1/namespaces/default/configmaps/c1?fieldManager=jkube")
+            .andReply(collector.record("ssa-configmap").andReturn(HTTP_OK, configMap))
+            .once();
+        applyService.setServerSideApply(true);
+
+        // When
+        applyService.applyEntities("foo.yml", Collections.singletonList(configMap));
+
+        // Then
+        collector.assertEventsRecordedInOrder("ssa-configmap");
+        assertThat(mockServer.getRequestCount()).isEqualTo(1);
+        assertThat(mockServer.getLastRequest().getHeader("Content-Type")).startsWith("application/apply-patch+yaml");
+    }
+
+    @Test
+    void applyEntitiesWithServerSideApplyAndForceConflicts() {
+        // Given
+        final ConfigMap configMap = new ConfigMapBuilder().withNewMetadata().withName("c1").endMetadata().build();
+        WebServerEventCollector collector = new WebServerEventCollector();
+        mockServer.expect().patch()
+            .withPath("/api/v1/namespaces/default/configmaps/c1?fieldManager=jkube&force=true")
+            .andReply(collector.record("ssa-configmap-forced").andReturn(HTTP_OK, configMap))
+            .once();
+        applyService.setServerSideApply(true);
+        applyService.setServerSideApplyForceConflicts(true);
+
+        // When
+        applyService.applyEntities("foo.yml", Collections.singletonList(configMap));
+
+        // Then
+        collector.assertEventsRecordedInOrder("ssa-configmap-forced");
+    }
+
+    @Test
+    void applyEntitiesWithServerSideApplyConflictReportsError() {
+        // Given
+        final ConfigMap configMap = new ConfigMapBuilder().withNewMetadata().withName("c1").endMetadata().build();
+        mockServer.expect().patch()
+            .withPath("/api/v1/namespaces/default/configmaps/c1?fieldManager=jkube")
+            .andReturn(HTTP_CONFLICT, "")
+            .once();
+        applyService.setServerSideApply(true);
+        final List<HasMetadata> entities = Collections.singletonList(configMap);
+
+        // When
+        final RuntimeException result = assertThrows(RuntimeException.class,
+            () -> applyService.applyEntities("foo.yml", entities));
+
+        // Then
+        assertThat(result).hasMessageContaining("due to field manager conflicts");
+    }
+
     @Test
     void createRoute() {
         Route route = buildRoute();
@@ -435,6 +562,31 @@ class ApplyServiceTest {
             .isInstanceOf(Project.class);
     }
 
+    @Test
+    void getK8sListGroupedByApplyTier() {
+        // Given
+        List<HasMetadata> k8sList = new ArrayList<>();
+        k8sList.add(new DeploymentBuilder().withNewMetadata().withName("d1").endMetadata().build());
+        k8sList.add(new ServiceBuilder().withNewMetadata().withName("svc1").endMetadata().build());
+        k8sList.add(new SecretBuilder().withNewMetadata().withName("s1").endMetadata().build());
+        k8sList.add(new ConfigMapBuilder().withNewMetadata().withName("c1").endMetadata().build());
+        k8sList.add(new CustomResourceDefinitionBuilder().withNewMetadata().withName("crd1").endMetadata().build());
+        k8sList.add(new NamespaceBuilder().withNewMetadata().withName("n1").endMetadata().build());
+
+        // When
+        List<List<HasMetadata>> result = ApplyService.getK8sListGroupedByApplyTier(k8sList);
+
+        // Then
+        assertThat(result)
+            .extracting(tier -> tier.stream().map(h -> h.getMetadata().getName()).collect(Collectors.toList()))
+            .containsExactly(
+                Collections.singletonList("n1"),
+                Collections.singletonList("crd1"),
+                Arrays.asList("s1", "c1"),
+                Collections.singletonList("svc1"),
+                Collections.singletonList("d1"));
+    }
+
     @Test
     void applyToMultipleNamespaceNoNamespaceConfigured() {
         // Given
@@ -507,6 +659,63 @@ class ApplyServiceTest {
         applyService.setFallbackNamespace(null);
     }
 
+    @Test
+    void apply_withFailure_reportsIngressControllerDetection() {
+        // Given
+        final IngressControllerDetectorManager detectorManager = mock(IngressControllerDetectorManager.class);
+        final ApplyService service = applyServiceWith(detectorManager);
+        // When
+        assertThrows(RuntimeException.class, () -> service.apply(failingConfigMap(), "foo.yml"));
+        // Then
+        verify(detectorManager).reportDetection();
+    }
+
+    @Test
+    void applyList_withFailure_reportsIngressControllerDetection() {
+        // Given
+        final IngressControllerDetectorManager detectorManager = mock(IngressControllerDetectorManager.class);
+        final ApplyService service = applyServiceWith(detectorManager);
+        final KubernetesList list = new KubernetesListBuilder().addToItems(failingConfigMap()).build();
+        // When
+        assertThrows(RuntimeException.class, () -> service.applyList(list, "foo.yml"));
+        // Then
+        verify(detectorManager).reportDetection();
+    }
+
+    @Test
+    void applyEntities_withFailure_reportsIngressControllerDetection() {
+        // Given
+        final IngressControllerDetectorManager detectorManager = mock(IngressControllerDetectorManager.class);
+        final ApplyService service = applyServiceWith(detectorManager);
+        final List<HasMetadata> entities = Collections.singletonList(failingConfigMap());
+        // When
+        assertThrows(RuntimeException.class, () -> service.applyEntities("foo.yml", entities));
+        // Then
+        verify(detectorManager).reportDetection();
+    }
+
+    private ApplyService applyServiceWith(IngressControllerDetectorManager detectorManager) {
+        final JKubeServiceHub serviceHub = spy(JKubeServiceHub.builder()
+          .log(new KitLogger.SilentLogger())
+          .configuration(JKubeConfiguration.builder()
+            .clusterConfiguration(ClusterConfiguration.from(client.getConfiguration()).build())
+            .build())
+          .platformMode(RuntimeMode.KUBERNETES)
+          .build());
+        doReturn(detectorManager).when(serviceHub).getIngressControllerDetectorManager();
+        final ApplyService service = new ApplyService(serviceHub);
+        service.setNamespace("default");
+        return service;
+    }
+
+    private ConfigMap failingConfigMap() {
+        mockServer.expect().post()
+            .withPath("/api/v1/namespaces/default/configmaps")
+            .andReturn(HTTP_BAD_REQUEST, "")
+            .always();
+        return new ConfigMapBuilder().withNewMetadata().withName("failing").endMetadata().build();
+    }
+
     private Route buildRoute() {
         return new RouteBuilder()
                 .withNewMetadata()
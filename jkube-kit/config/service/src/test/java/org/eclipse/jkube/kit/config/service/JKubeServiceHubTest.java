@@ -28,6 +28,7 @@ import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.access.ClusterConfiguration;
 import org.eclipse.jkube.kit.common.service.MigrateService;
 import org.eclipse.jkube.kit.common.util.LazyBuilder;
+import org.eclipse.jkube.kit.common.util.BuildTimings;
 import org.eclipse.jkube.kit.config.image.build.JKubeBuildStrategy;
 import org.eclipse.jkube.kit.config.resource.ResourceService;
 import org.eclipse.jkube.kit.config.resource.RuntimeMode;
@@ -124,6 +125,27 @@ class JKubeServiceHubTest {
     }
   }
 
+  @Test
+  void getTimings_withConfigurationTimings_returnsConfigurationTimings() {
+    // Given
+    final BuildTimings timings = new BuildTimings();
+    jKubeServiceHubBuilder.configuration(JKubeConfiguration.builder().timings(timings).build());
+    // When
+    try (JKubeServiceHub jKubeServiceHub = jKubeServiceHubBuilder.build()) {
+      // Then
+      assertThat(jKubeServiceHub.getTimings()).isSameAs(timings);
+    }
+  }
+
+  @Test
+  void getTimings_withoutConfigurationTimings_returnsDisabled() {
+    // When
+    try (JKubeServiceHub jKubeServiceHub = jKubeServiceHubBuilder.build()) {
+      // Then
+      assertThat(jKubeServiceHub.getTimings()).isSameAs(BuildTimings.DISABLED);
+    }
+  }
+
   @Test
   void getBuildServiceInKubernetes() {
     // Given
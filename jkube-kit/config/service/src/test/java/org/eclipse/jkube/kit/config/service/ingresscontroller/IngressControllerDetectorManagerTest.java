@@ -18,9 +18,11 @@ import org.eclipse.jkube.kit.common.KitLogger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -81,4 +83,115 @@ class IngressControllerDetectorManagerTest {
     assertThat(result).isFalse();
     verify(logger, times(0)).warn(anyString());
   }
+
+  @Test
+  void detect_whenInvokedMultipleTimes_thenProbesClusterInEachSession() {
+    // Given
+    IngressControllerDetector ingressControllerDetector = mock(IngressControllerDetector.class);
+    when(ingressControllerDetector.hasPermissions()).thenReturn(true);
+    when(ingressControllerDetector.isDetected()).thenReturn(false);
+    IngressControllerDetectorManager manager = new IngressControllerDetectorManager(logger,
+      Collections.singletonList(ingressControllerDetector));
+
+    // When
+    manager.detect();
+    manager.detect();
+
+    // Then
+    verify(ingressControllerDetector, times(2)).hasPermissions();
+    verify(ingressControllerDetector, times(2)).isDetected();
+    verify(logger, times(2)).warn(anyString());
+  }
+
+  @Test
+  void detect_whenDetectorFails_thenLogsWarningAndReturnsResultOfOtherDetectors() {
+    // Given
+    IngressControllerDetector failing = mock(IngressControllerDetector.class);
+    when(failing.hasPermissions()).thenThrow(new IllegalStateException("Connection refused"));
+    IngressControllerDetector detected = mock(IngressControllerDetector.class);
+    when(detected.hasPermissions()).thenReturn(true);
+    when(detected.isDetected()).thenReturn(true);
+
+    // When
+    boolean result = new IngressControllerDetectorManager(logger, Arrays.asList(failing, detected))
+      .detect();
+
+    // Then
+    assertThat(result).isTrue();
+    verify(logger).warn(eq("Unable to detect IngressController with %s: %s"), anyString(), eq("Connection refused"));
+  }
+
+  @Test
+  void detect_whenDetectorFailedInPreviousSession_thenProbesClusterAgain() {
+    // Given
+    IngressControllerDetector ingressControllerDetector = mock(IngressControllerDetector.class);
+    when(ingressControllerDetector.hasPermissions())
+      .thenThrow(new IllegalStateException("Connection refused"))
+      .thenReturn(true);
+    when(ingressControllerDetector.isDetected()).thenReturn(true);
+    IngressControllerDetectorManager manager = new IngressControllerDetectorManager(logger,
+      Collections.singletonList(ingressControllerDetector));
+    manager.detect();
+
+    // When
+    boolean result = manager.detect();
+
+    // Then
+    assertThat(result).isTrue();
+    verify(ingressControllerDetector, times(2)).hasPermissions();
+  }
+
+  @Test
+  void detect_whenAnyDetectorDetectsController_thenReturnTrue() {
+    // Given
+    IngressControllerDetector notPermitted = mock(IngressControllerDetector.class);
+    when(notPermitted.hasPermissions()).thenReturn(false);
+    IngressControllerDetector notDetected = mock(IngressControllerDetector.class);
+    when(notDetected.hasPermissions()).thenReturn(true);
+    IngressControllerDetector detected = mock(IngressControllerDetector.class);
+    when(detected.hasPermissions()).thenReturn(true);
+    when(detected.isDetected()).thenReturn(true);
+
+    // When
+    boolean result = new IngressControllerDetectorManager(logger, Arrays.asList(notPermitted, notDetected, detected))
+      .detect();
+
+    // Then
+    assertThat(result).isTrue();
+    verify(logger, times(0)).warn(anyString());
+  }
+
+  @Test
+  void reportDetection_whenDetectionNotStarted_thenReturnFalse() {
+    // Given
+    IngressControllerDetector ingressControllerDetector = mock(IngressControllerDetector.class);
+
+    // When
+    boolean result = new IngressControllerDetectorManager(logger, Collections.singletonList(ingressControllerDetector))
+      .reportDetection();
+
+    // Then
+    assertThat(result).isFalse();
+    verify(ingressControllerDetector, times(0)).hasPermissions();
+  }
+
+  @Test
+  void detectAsync_whenInvokedMultipleTimesInSession_thenProbesClusterAndLogsWarningOnce() {
+    // Given
+    IngressControllerDetector ingressControllerDetector = mock(IngressControllerDetector.class);
+    when(ingressControllerDetector.hasPermissions()).thenReturn(true);
+    IngressControllerDetectorManager manager = new IngressControllerDetectorManager(logger,
+      Collections.singletonList(ingressControllerDetector));
+    manager.detectAsync();
+    manager.detectAsync();
+
+    // When
+    boolean result = manager.reportDetection();
+    manager.reportDetection();
+
+    // Then
+    assertThat(result).isFalse();
+    verify(ingressControllerDetector, times(1)).hasPermissions();
+    verify(logger, times(1)).warn("Ingress resources applied. However, no IngressController seems to be running at the moment, your service will most likely be not accessible.");
+  }
 }
@@ -174,7 +174,7 @@ class BuildPackBuildServiceTest {
         Files.write(localPackConfig.toPath(), String.format("default-builder-image=\"%s\"", "cnbs/sample-builder:bionic").getBytes());
 
         // When
-        buildPackBuildService.buildSingleImage(imageConfiguration);
+        buildPackBuildService.buildSingleImage(imageConfiguration, kitLogger);
 
         // Then
         verify(kitLogger).info("[[s]]%s","build foo/bar:latest --builder cnbs/sample-builder:bionic --creation-time now --path " + temporaryFolder.getAbsolutePath());
@@ -187,7 +187,7 @@ class BuildPackBuildServiceTest {
         Files.write(localPackConfig.toPath(), "default-builder-image@@=".getBytes());
 
         // When
-        buildPackBuildService.buildSingleImage(imageConfiguration);
+        buildPackBuildService.buildSingleImage(imageConfiguration, kitLogger);
 
         // Then
         verify(kitLogger).info("[[s]]%s","build foo/bar:latest --builder paketobuildpacks/builder-jammy-base --creation-time now --path " + temporaryFolder.getAbsolutePath());
@@ -201,7 +201,7 @@ class BuildPackBuildServiceTest {
       @DisplayName("use opinionated builder image")
       void whenLocalPackCLIAndNoDefaultBuilderInPackConfig_thenUseOpinionatedBuilderImage() {
         // When
-        buildPackBuildService.buildSingleImage(imageConfiguration);
+        buildPackBuildService.buildSingleImage(imageConfiguration, kitLogger);
 
         // Then
         verify(kitLogger).info("[[s]]%s", "build foo/bar:latest --builder paketobuildpacks/builder-jammy-base --creation-time now --path " + temporaryFolder.getAbsolutePath());
@@ -223,7 +223,7 @@ class BuildPackBuildServiceTest {
             .build();
 
         // When
-        buildPackBuildService.buildSingleImage(imageConfiguration);
+        buildPackBuildService.buildSingleImage(imageConfiguration, kitLogger);
 
         // Then
         verify(kitLogger).info("[[s]]%s", "build foo/bar:latest --builder paketobuildpacks/builder:tiny --creation-time now --pull-policy if-not-present --volume /tmp/volume:/platform/volume:ro --tag foo/bar:t1 --tag foo/bar:t2 --tag foo/bar:t3 --env BP_SPRING_CLOUD_BINDINGS_DISABLED=true --clear-cache --path " + temporaryFolder.getAbsolutePath());
@@ -252,7 +252,7 @@ class BuildPackBuildServiceTest {
         buildPackBuildService = new BuildPackBuildService(jKubeServiceHub, packProperties);
 
         // When
-        buildPackBuildService.buildSingleImage(imageConfiguration);
+        buildPackBuildService.buildSingleImage(imageConfiguration, kitLogger);
 
         // Then
         String expectedPullPolicyFragment = expectedPackPullPolicy != null ? " --pull-policy " + expectedPackPullPolicy : "";
@@ -277,7 +277,7 @@ class BuildPackBuildServiceTest {
             .build();
 
         // When
-        buildPackBuildService.buildSingleImage(imageConfiguration);
+        buildPackBuildService.buildSingleImage(imageConfiguration, kitLogger);
 
         // Then
         verify(kitLogger).info("[[s]]%s", "build foo/bar:latest --builder paketobuildpacks/builder-jammy-base --creation-time now --pull-policy never --path " + temporaryFolder.getAbsolutePath());
@@ -289,7 +289,7 @@ class BuildPackBuildServiceTest {
         // Given: no ImagePullManager on buildServiceConfig, no per-image policy
 
         // When
-        buildPackBuildService.buildSingleImage(imageConfiguration);
+        buildPackBuildService.buildSingleImage(imageConfiguration, kitLogger);
 
         // Then
         verify(kitLogger).info("[[s]]%s", "build foo/bar:latest --builder paketobuildpacks/builder-jammy-base --creation-time now --path " + temporaryFolder.getAbsolutePath());
@@ -322,7 +322,7 @@ class BuildPackBuildServiceTest {
     @DisplayName("push successfully done via docker daemon")
     void whenPushSuccessful_thenImagePushedViaDockerAccess() throws JKubeServiceException, DockerAccessException {
       // When
-      buildPackBuildService.pushSingleImage(imageConfiguration, 0, true);
+      buildPackBuildService.pushSingleImage(imageConfiguration, 0, true, kitLogger);
 
       // Then
       verify(dockerAccess).pushImage("foo/bar:latest", null, "example.com", 0);
@@ -337,7 +337,7 @@ class BuildPackBuildServiceTest {
 
       // When + Then
       assertThatExceptionOfType(JKubeServiceException.class)
-          .isThrownBy(() -> buildPackBuildService.pushSingleImage(imageConfiguration, 0, false))
+          .isThrownBy(() -> buildPackBuildService.pushSingleImage(imageConfiguration, 0, false, kitLogger))
           .withMessage("Error while trying to push the image: Push failure");
     }
   }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.config.service.kubernetes;
+
+import java.util.Collections;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class ClusterStateCacheTest {
+  KubernetesMockServer kubernetesMockServer;
+  KubernetesClient kubernetesClient;
+  private ClusterStateCache clusterStateCache;
+  private ConfigMap configMap;
+
+  @BeforeEach
+  void setUp() {
+    clusterStateCache = new ClusterStateCache(kubernetesClient, new KitLogger.SilentLogger());
+    configMap = new ConfigMapBuilder()
+    .withNewMetadata().withName("cm1").endMetadata()
+    .addToData("key", "value")
+    .build();
+    kubernetesClient.configMaps().inNamespace("ns1").resource(configMap).create();
+  }
+
+  @AfterEach
+  void tearDown() {
+    clusterStateCache.close();
+  }
+
+  @Test
+  void isDisabledByDefault() {
+    assertThat(clusterStateCache.isEnabled()).isFalse();
+  }
+
+  @Test
+  void get_whenDisabled_retrievesResourceFromCluster() {
+    // Given
+    final int initialRequestCount = kubernetesMockServer.getRequestCount();
+    // When
+    final ConfigMap result = clusterStateCache.get(configMap, "ns1");
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("data", Collections.singletonMap("key", "value"));
+    assertThat(kubernetesMockServer.getRequestCount()).isEqualTo(initialRequestCount + 1);
+  }
+
+  @Test
+  void get_whenDisabled_withMissingResource_returnsNull() {
+    assertThat(clusterStateCache.get(configMap, "other-ns")).isNull();
+  }
+
+  @Test
+  void get_whenEnabled_retrievesResourceFromInformer() {
+    // Given
+    clusterStateCache.setEnabled(true);
+    // When
+    final ConfigMap result = clusterStateCache.get(configMap, "ns1");
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("data", Collections.singletonMap("key", "value"));
+  }
+
+  @Test
+  void get_whenEnabled_withMissingResource_returnsNull() {
+    // Given
+    clusterStateCache.setEnabled(true);
+    // When + Then
+    assertThat(clusterStateCache.get(configMap, "other-ns")).isNull();
+  }
+
+  @Test
+  void get_whenEnabled_subsequentLookupsPerformNoRequests() {
+    // Given
+    clusterStateCache.setEnabled(true);
+    clusterStateCache.get(configMap, "ns1");
+    final int requestCount = kubernetesMockServer.getRequestCount();
+    // When
+    for (int it = 0; it < 10; it++) {
+      clusterStateCache.get(configMap, "ns1");
+    }
+    // Then
+    assertThat(kubernetesMockServer.getRequestCount()).isEqualTo(requestCount);
+  }
+
+  @Test
+  void get_whenEnabled_returnsCopyOfInformerStoreObject() {
+    // Given
+    clusterStateCache.setEnabled(true);
+    clusterStateCache.get(configMap, "ns1").getData().put("key", "modified");
+    // When
+    final ConfigMap result = clusterStateCache.get(configMap, "ns1");
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("data", Collections.singletonMap("key", "value"));
+  }
+
+  @Test
+  void getNewestApplicationPodName_whenEnabled_returnsPodMatchingSelector() {
+    // Given
+    clusterStateCache.setEnabled(true);
+    kubernetesClient.pods().inNamespace("ns1").resource(new PodBuilder()
+      .withNewMetadata().withName("pod1").addToLabels("app", "test").endMetadata().build()).create();
+    kubernetesClient.pods().inNamespace("ns1").resource(new PodBuilder()
+      .withNewMetadata().withName("other").addToLabels("app", "other").endMetadata().build()).create();
+    // When
+    final String result = clusterStateCache.getNewestApplicationPodName("ns1", Collections.singletonList(
+      new DeploymentBuilder().withNewMetadata().withName("test").endMetadata()
+        .withNewSpec().withNewSelector().addToMatchLabels("app", "test").endSelector().endSpec()
+        .build()));
+    // Then
+    assertThat(result).isEqualTo("pod1");
+  }
+}
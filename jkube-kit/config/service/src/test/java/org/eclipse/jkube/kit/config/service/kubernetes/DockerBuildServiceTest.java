@@ -17,6 +17,8 @@ import java.io.IOException;
 import java.util.Collections;
 
 import org.eclipse.jkube.kit.build.service.docker.BuildService;
+import org.eclipse.jkube.kit.common.PrefixedLogger;
+import org.eclipse.jkube.kit.common.util.BuildTimings;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import org.eclipse.jkube.kit.config.image.build.BuildConfiguration;
 import org.eclipse.jkube.kit.config.service.JKubeServiceException;
@@ -50,6 +52,7 @@ class DockerBuildServiceTest {
   @BeforeEach
   void setUp() {
     mockedJKubeServiceHub = mock(JKubeServiceHub.class, RETURNS_DEEP_STUBS);
+    when(mockedJKubeServiceHub.getTimings()).thenReturn(BuildTimings.DISABLED);
     mockedDockerBuildService = mock(BuildService.class, RETURNS_DEEP_STUBS);
     when(mockedJKubeServiceHub.getDockerServiceHub().getBuildService()).thenReturn(mockedDockerBuildService);
     image = ImageConfiguration.builder()
@@ -89,6 +92,18 @@ class DockerBuildServiceTest {
         .tagImage("image-name", image);
   }
 
+  @Test
+  void build_withParallelism_shouldBuildWithPrefixedLogger() throws Exception {
+    // Given
+    when(mockedJKubeServiceHub.getBuildServiceConfig().getParallelism()).thenReturn(2);
+    final ImageConfiguration otherImage = image.toBuilder().name("other-image-name").build();
+    // When
+    new DockerBuildService(mockedJKubeServiceHub).build(image, otherImage);
+    // Then
+    verify(mockedJKubeServiceHub.getDockerServiceHub(), times(2))
+        .withLogger(any(PrefixedLogger.class));
+  }
+
   @Test
   void build_withValidConfiguration_shouldCallPluginServiceAddFiles() throws Exception {
     // When
@@ -22,6 +22,7 @@ import org.eclipse.jkube.kit.common.JKubeConfiguration;
 import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.RegistryConfig;
+import org.eclipse.jkube.kit.common.util.BuildTimings;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import org.eclipse.jkube.kit.config.image.build.BuildConfiguration;
 import org.eclipse.jkube.kit.config.image.build.JKubeBuildStrategy;
@@ -59,6 +60,7 @@ class OpenShiftBuildServiceTest {
   void setUp() {
     kitLogger = spy(new KitLogger.SilentLogger());
     jKubeServiceHub = mock(JKubeServiceHub.class, RETURNS_DEEP_STUBS);
+    when(jKubeServiceHub.getTimings()).thenReturn(BuildTimings.DISABLED);
     final OpenShiftClient oc = mock(OpenShiftClient.class);
     when(jKubeServiceHub.getClient()).thenReturn(oc);
     when(jKubeServiceHub.getConfiguration()).thenReturn(JKubeConfiguration.builder()
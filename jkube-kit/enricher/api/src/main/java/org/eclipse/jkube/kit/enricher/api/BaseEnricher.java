@@ -27,6 +27,7 @@ import org.eclipse.jkube.kit.config.resource.RuntimeMode;
 import org.eclipse.jkube.kit.config.resource.PlatformMode;
 import org.eclipse.jkube.kit.config.resource.ResourceConfig;
 import org.eclipse.jkube.kit.enricher.api.model.Configuration;
+import org.eclipse.jkube.kit.enricher.api.visitor.FusedVisitorWalker;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -77,10 +78,14 @@ public class BaseEnricher implements Enricher {
     }
 
     @Override
-    public void enrich(PlatformMode platformMode, KubernetesListBuilder builder) { }
+    public void enrich(PlatformMode platformMode, KubernetesListBuilder builder) {
+        getEnrichVisitors(platformMode).ifPresent(visitors -> FusedVisitorWalker.walk(builder, visitors));
+    }
 
     @Override
-    public void create(PlatformMode platformMode, KubernetesListBuilder builder) { }
+    public void create(PlatformMode platformMode, KubernetesListBuilder builder) {
+        getCreateVisitors(platformMode).ifPresent(visitors -> FusedVisitorWalker.walk(builder, visitors));
+    }
 
 
     @Override
@@ -13,17 +13,22 @@
  */
 package org.eclipse.jkube.kit.enricher.api;
 
+import io.fabric8.kubernetes.api.builder.Visitor;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
 import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.BuildTimings;
 import org.eclipse.jkube.kit.common.util.ClassUtil;
 import org.eclipse.jkube.kit.common.util.PluginServiceFactory;
 import org.eclipse.jkube.kit.config.resource.EnricherManager;
 import org.eclipse.jkube.kit.config.resource.PlatformMode;
 import org.eclipse.jkube.kit.config.resource.ProcessorConfig;
+import org.eclipse.jkube.kit.enricher.api.visitor.FusedVisitorWalker;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static org.eclipse.jkube.kit.enricher.api.util.Misc.filterEnrichers;
@@ -45,22 +50,54 @@ public class DefaultEnricherManager implements EnricherManager {
 
   private final KitLogger log;
 
+  private final BuildTimings timings;
+
+  private final EnricherContext enricherContext;
+
+  // Loads the enrichers from the project classpath, shared with the forks
+  private final ClassLoader projectClassLoader;
+
   public DefaultEnricherManager(EnricherContext enricherContext) {
     this(enricherContext, Collections.emptyList());
   }
 
   public DefaultEnricherManager(EnricherContext enricherContext, List<String> extraClasspathElements) {
+    this(enricherContext, extraClasspathElements.isEmpty() ?
+        null : ClassUtil.createProjectClassLoader(extraClasspathElements, enricherContext.getLog()), true);
+  }
+
+  private DefaultEnricherManager(EnricherContext enricherContext, ClassLoader projectClassLoader, boolean logEnrichers) {
+    this.enricherContext = enricherContext;
+    this.projectClassLoader = projectClassLoader;
     this.defaultEnricherConfig = Optional.ofNullable(enricherContext.getConfiguration().getProcessorConfig())
         .orElse(ProcessorConfig.EMPTY);
     this.log = enricherContext.getLog();
+    this.timings = enricherContext.getTimings();
     final PluginServiceFactory<EnricherContext> pluginFactory = new PluginServiceFactory<>(enricherContext);
-    if (!extraClasspathElements.isEmpty()) {
-      pluginFactory.addAdditionalClassLoader(
-          ClassUtil.createProjectClassLoader(extraClasspathElements, enricherContext.getLog()));
+    if (projectClassLoader != null) {
+      pluginFactory.addAdditionalClassLoader(projectClassLoader);
     }
     this.enrichers = pluginFactory.createServiceObjects(SERVICE_PATHS);
 
-    logEnrichers(filterEnrichers(defaultEnricherConfig, enrichers));
+    if (logEnrichers) {
+      logEnrichers(filterEnrichers(defaultEnricherConfig, enrichers));
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p> The fork reuses the project class loader of this manager and a copy of its {@link EnricherContext} that only
+   * differs in the logger. The context is only read by the enrichers, the lazily computed state of its
+   * {@link org.eclipse.jkube.kit.common.JavaProject} (framework configuration cache, dependency index), its project
+   * class loaders and its {@link BuildTimings} are thread-safe.
+   */
+  @Override
+  public Optional<EnricherManager> fork(KitLogger log) {
+    if (!(enricherContext instanceof JKubeEnricherContext)) {
+      return Optional.empty();
+    }
+    return Optional.of(new DefaultEnricherManager(((JKubeEnricherContext) enricherContext).withLog(log), projectClassLoader, false));
   }
 
   @Override
@@ -72,10 +109,8 @@ public class DefaultEnricherManager implements EnricherManager {
   public void createDefaultResources(PlatformMode platformMode, ProcessorConfig enricherConfig,
       final KubernetesListBuilder builder) {
     // Add default resources
-    loop(enricherConfig, enricher -> {
-      enricher.create(platformMode, builder);
-      return null;
-    });
+    loop("create", enricherConfig, builder, enricher -> enricher.getCreateVisitors(platformMode),
+        enricher -> enricher.create(platformMode, builder));
   }
 
   @Override
@@ -90,10 +125,8 @@ public class DefaultEnricherManager implements EnricherManager {
    */
   @Override
   public void enrich(PlatformMode platformMode, final ProcessorConfig enricherConfig, final KubernetesListBuilder builder) {
-    loop(enricherConfig, enricher -> {
-      enricher.enrich(platformMode, builder);
-      return null;
-    });
+    loop("enrich", enricherConfig, builder, enricher -> enricher.getEnrichVisitors(platformMode),
+        enricher -> enricher.enrich(platformMode, builder));
   }
 
   // =============================================================================================
@@ -104,9 +137,37 @@ public class DefaultEnricherManager implements EnricherManager {
     }
   }
 
-  private void loop(ProcessorConfig config, Function<Enricher, Void> function) {
+  /**
+   * Runs the function for each of the enabled enrichers in order.
+   *
+   * <p> Enrichers that provide visitors for the step are not invoked, their visitors are collected instead and applied
+   * in a single traversal of the builder before the next enricher that needs its own pass (or at the end).
+   *
+   * <p> When timings are enabled, the timings of each enricher are recorded for the provided phase. Since a shared
+   * traversal can't be attributed to a single enricher, the visitors of each enricher are then applied in a traversal
+   * of their own.
+   */
+  private void loop(String phase, ProcessorConfig config, KubernetesListBuilder builder,
+      Function<Enricher, Optional<List<Visitor<?>>>> visitorsFunction, Consumer<Enricher> function) {
+    final List<Visitor<?>> fusedVisitors = new ArrayList<>();
     for (Enricher enricher : filterEnrichers(config, enrichers)) {
-      function.apply(enricher);
+      final Optional<List<Visitor<?>>> visitors = visitorsFunction.apply(enricher);
+      if (visitors.isPresent() && timings.isEnabled()) {
+        timings.run(phase, enricher.getName(), () -> FusedVisitorWalker.walk(builder, visitors.get()));
+      } else if (visitors.isPresent()) {
+        fusedVisitors.addAll(visitors.get());
+      } else {
+        applyFusedVisitors(builder, fusedVisitors);
+        timings.run(phase, enricher.getName(), () -> function.accept(enricher));
+      }
+    }
+    applyFusedVisitors(builder, fusedVisitors);
+  }
+
+  private static void applyFusedVisitors(KubernetesListBuilder builder, List<Visitor<?>> fusedVisitors) {
+    if (!fusedVisitors.isEmpty()) {
+      FusedVisitorWalker.walk(builder, fusedVisitors);
+      fusedVisitors.clear();
     }
   }
 }
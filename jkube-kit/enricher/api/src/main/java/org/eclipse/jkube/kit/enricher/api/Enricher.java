@@ -13,6 +13,10 @@
  */
 package org.eclipse.jkube.kit.enricher.api;
 
+import java.util.List;
+import java.util.Optional;
+
+import io.fabric8.kubernetes.api.builder.Visitor;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
 import org.eclipse.jkube.kit.common.Named;
 import org.eclipse.jkube.kit.config.resource.PlatformMode;
@@ -46,6 +50,37 @@ public interface Enricher extends Named {
      */
     void enrich(PlatformMode platformMode, KubernetesListBuilder builder);
 
+    /**
+     * Visitors that perform the whole {@link #create(PlatformMode, KubernetesListBuilder)} step of this enricher.
+     *
+     * <p> When provided, the enricher manager doesn't call {@link #create(PlatformMode, KubernetesListBuilder)} but
+     * applies these visitors together with those of the adjacent enrichers in a single traversal of the resource list
+     * (see {@link org.eclipse.jkube.kit.enricher.api.visitor.FusedVisitorWalker}). The outcome is the same as
+     * applying each of the visitors in turn, provided that they only read and modify the element they visit and its
+     * descendants.
+     *
+     * <p> Implementations must still support direct invocations of {@link #create(PlatformMode, KubernetesListBuilder)}
+     * by applying the very same visitors.
+     *
+     * @param platformMode platform mode for generated resource descriptors
+     * @return the visitors to apply, or empty if the enricher needs its own pass over the resource list
+     */
+    default Optional<List<Visitor<?>>> getCreateVisitors(PlatformMode platformMode) {
+        return Optional.empty();
+    }
+
+    /**
+     * Visitors that perform the whole {@link #enrich(PlatformMode, KubernetesListBuilder)} step of this enricher.
+     *
+     * <p> Same as {@link #getCreateVisitors(PlatformMode)} but for the enrich step.
+     *
+     * @param platformMode platform mode for generated resource descriptors
+     * @return the visitors to apply, or empty if the enricher needs its own pass over the resource list
+     */
+    default Optional<List<Visitor<?>>> getEnrichVisitors(PlatformMode platformMode) {
+        return Optional.empty();
+    }
+
     /**
      * Returns the {@link EnricherContext} for this Enricher.
      * @return the EnricherContext
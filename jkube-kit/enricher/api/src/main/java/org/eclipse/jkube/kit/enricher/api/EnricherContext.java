@@ -22,6 +22,7 @@ import java.util.Properties;
 import org.eclipse.jkube.kit.common.Dependency;
 import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.BuildTimings;
 import org.eclipse.jkube.kit.config.resource.GroupArtifactVersion;
 import org.eclipse.jkube.kit.enricher.api.model.Configuration;
 import org.eclipse.jkube.kit.common.util.ProjectClassLoaders;
@@ -42,6 +43,14 @@ public interface EnricherContext {
      */
     KitLogger getLog();
 
+    /**
+     * Get the recorder for the timings of the enrichers.
+     * @return the timings recorder, {@link BuildTimings#DISABLED} if timings are not enabled.
+     */
+    default BuildTimings getTimings() {
+        return BuildTimings.DISABLED;
+    }
+
     /**
      * The configuration specific to the enricher.
      *
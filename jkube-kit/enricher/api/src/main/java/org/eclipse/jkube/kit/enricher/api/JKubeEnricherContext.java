@@ -34,6 +34,7 @@ import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.Dependency;
 import org.eclipse.jkube.kit.common.Plugin;
 import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.BuildTimings;
 import org.eclipse.jkube.kit.common.util.ClassUtil;
 import org.eclipse.jkube.kit.common.util.JKubeProjectUtil;
 import org.eclipse.jkube.kit.config.image.build.JKubeBuildStrategy;
@@ -73,13 +74,24 @@ public class JKubeEnricherContext implements EnricherContext {
     private HandlerHub handlerHub;
     @Getter(AccessLevel.NONE)
     private JKubeBuildStrategy jKubeBuildStrategy;
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private BuildTimings timings;
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private ProjectClassLoaders projectClassLoaders;
+    // Context this one was copied from (see withLog), owns the project class loaders
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private JKubeEnricherContext origin;
 
 
     @Builder(toBuilder = true)
     public JKubeEnricherContext(
         @Singular  List<RegistryServerConfiguration> settings, @Singular Map<String, String> processingInstructions,
         JavaProject project, KitLogger log,
-        ResourceConfig resources, @Singular List<ImageConfiguration> images, ProcessorConfig processorConfig, JKubeBuildStrategy jKubeBuildStrategy) {
+        ResourceConfig resources, @Singular List<ImageConfiguration> images, ProcessorConfig processorConfig, JKubeBuildStrategy jKubeBuildStrategy,
+        BuildTimings timings) {
         this.settings = settings;
         this.processingInstructions = processingInstructions;
         this.project = project;
@@ -87,6 +99,7 @@ public class JKubeEnricherContext implements EnricherContext {
         this.resources = resources;
         this.images = images;
         this.processorConfig = processorConfig;
+        this.timings = timings;
         this.handlerHub = new HandlerHub(getGav(), getProperties());
         this.configuration = Configuration.builder()
             .images(images)
@@ -122,6 +135,11 @@ public class JKubeEnricherContext implements EnricherContext {
             .build();
     }
 
+    @Override
+    public BuildTimings getTimings() {
+        return Optional.ofNullable(timings).orElse(BuildTimings.DISABLED);
+    }
+
     @Override
     public Map<String, String> getProcessingInstructions() {
         return processingInstructions;
@@ -158,10 +176,45 @@ public class JKubeEnricherContext implements EnricherContext {
         }
     }
 
+    /**
+     * Returns the class loaders of the project.
+     *
+     * <p> They are created once and shared by all the enrichers (and enricher manager forks) of this context, so that
+     * the compile classpath index is only computed once.
+     */
     @Override
     public ProjectClassLoaders getProjectClassLoaders() {
+        if (origin != null) {
+            return origin.getProjectClassLoaders();
+        }
+        synchronized (this) {
+            if (projectClassLoaders == null) {
+                projectClassLoaders = createProjectClassLoaders();
+            }
+            return projectClassLoaders;
+        }
+    }
+
+    /**
+     * Returns a copy of this context that logs through the provided logger.
+     *
+     * <p> The copy shares the project class loaders with this context.
+     */
+    JKubeEnricherContext withLog(KitLogger log) {
+        final JKubeEnricherContext copy = toBuilder()
+            .log(log)
+            .jKubeBuildStrategy(configuration.getJKubeBuildStrategy())
+            .build();
+        copy.origin = origin != null ? origin : this;
+        return copy;
+    }
+
+    private ProjectClassLoaders createProjectClassLoaders() {
         return new ProjectClassLoaders(ClassUtil.createClassLoader(
-            getProject().getCompileClassPathElements(), getProject().getOutputDirectory().getAbsolutePath())
+            getProject().getCompileClassPathElements(), getProject().getOutputDirectory().getAbsolutePath()),
+            Optional.ofNullable(getProject().getBuildDirectory())
+                .map(buildDirectory -> new File(buildDirectory, "jkube/classpath-index"))
+                .orElse(null)
         );
     }
 
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.enricher.api.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import lombok.Value;
+import org.eclipse.jkube.kit.common.util.KubernetesHelper;
+
+/**
+ * Indexed view over the items of a {@link KubernetesListBuilder}.
+ *
+ * <p> The items are built once and indexed by apiVersion, kind, namespace and name (and by kind and name) so that
+ * they can be looked up, replaced and removed without building the complete list again for each operation.
+ * Changes are tracked by the view and written back to the builder (preserving the item order) when
+ * {@link #apply()} is invoked.
+ */
+public class KubernetesListIndex {
+
+  private final KubernetesListBuilder builder;
+  private final List<HasMetadata> items;
+  private final Map<Key, List<Integer>> byKey;
+  private final Map<Key, List<Integer>> byKindAndName;
+  private final Map<String, Integer> kinds;
+  private boolean modified;
+
+  public KubernetesListIndex(KubernetesListBuilder builder) {
+    this.builder = builder;
+    this.items = new ArrayList<>();
+    this.byKey = new HashMap<>();
+    this.byKindAndName = new HashMap<>();
+    this.kinds = new HashMap<>();
+    for (HasMetadata item : builder.buildItems()) {
+      index(item);
+    }
+  }
+
+  /**
+   * Returns the live items of the view in the builder order.
+   *
+   * @return a snapshot of the items, safe to iterate while modifying the view.
+   */
+  public List<HasMetadata> getItems() {
+    final List<HasMetadata> ret = new ArrayList<>(items.size());
+    for (HasMetadata item : items) {
+      if (item != null) {
+        ret.add(item);
+      }
+    }
+    return ret;
+  }
+
+  /**
+   * Returns the first item with the same apiVersion, kind, namespace and name as the provided one.
+   *
+   * @param item the item to look up.
+   * @return the indexed item or empty if none.
+   */
+  public Optional<HasMetadata> get(HasMetadata item) {
+    return first(byKey, keyOf(item));
+  }
+
+  public Optional<HasMetadata> get(String apiVersion, String kind, String namespace, String name) {
+    return first(byKey, new Key(apiVersion, kind, namespace, name));
+  }
+
+  /**
+   * Returns the first item with the same kind and name as the provided one, regardless of its apiVersion or
+   * namespace.
+   *
+   * @param item the item to look up.
+   * @return the indexed item or empty if none.
+   */
+  public Optional<HasMetadata> getByKindAndName(HasMetadata item) {
+    return first(byKindAndName, kindAndNameOf(item));
+  }
+
+  /**
+   * Returns the last item with the same kind and name as the provided one, regardless of its apiVersion or
+   * namespace.
+   *
+   * @param item the item to look up.
+   * @return the indexed item or empty if none.
+   */
+  public Optional<HasMetadata> getLastByKindAndName(HasMetadata item) {
+    final List<Integer> positions = byKindAndName.get(kindAndNameOf(item));
+    if (positions == null || positions.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(items.get(Collections.max(positions)));
+  }
+
+  public boolean containsKind(String... kinds) {
+    for (String kind : kinds) {
+      if (this.kinds.getOrDefault(kind, 0) > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Appends the provided item to the view.
+   *
+   * @param item the item to add.
+   */
+  public void add(HasMetadata item) {
+    index(item);
+    modified = true;
+  }
+
+  /**
+   * Replaces the provided indexed item with a new one keeping its position.
+   *
+   * @param existing the item to replace (must be the same instance returned by this view).
+   * @param replacement the new item.
+   * @return true if the item was found and replaced, false otherwise.
+   */
+  public boolean replace(HasMetadata existing, HasMetadata replacement) {
+    final List<Integer> positions = byKey.getOrDefault(keyOf(existing), Collections.emptyList());
+    for (Integer position : positions) {
+      if (items.get(position) == existing) {
+        unindex(existing, position);
+        items.set(position, replacement);
+        index(replacement, position);
+        modified = true;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Removes every indexed item equal to the provided one.
+   *
+   * @param item the item to remove.
+   * @return true if any item was removed, false otherwise.
+   */
+  public boolean remove(HasMetadata item) {
+    final List<Integer> positions = new ArrayList<>(byKey.getOrDefault(keyOf(item), Collections.emptyList()));
+    boolean removed = false;
+    for (Integer position : positions) {
+      if (Objects.equals(items.get(position), item)) {
+        unindex(items.get(position), position);
+        items.set(position, null);
+        removed = true;
+      }
+    }
+    modified |= removed;
+    return removed;
+  }
+
+  /**
+   * Writes the changes performed through this view back to the builder.
+   */
+  public void apply() {
+    if (modified) {
+      builder.withItems(getItems());
+      modified = false;
+    }
+  }
+
+  private void index(HasMetadata item) {
+    items.add(item);
+    index(item, items.size() - 1);
+  }
+
+  private void index(HasMetadata item, int position) {
+    byKey.computeIfAbsent(keyOf(item), k -> new ArrayList<>(1)).add(position);
+    byKindAndName.computeIfAbsent(kindAndNameOf(item), k -> new ArrayList<>(1)).add(position);
+    kinds.merge(KubernetesHelper.getKind(item), 1, Integer::sum);
+  }
+
+  private void unindex(HasMetadata item, int position) {
+    removePosition(byKey, keyOf(item), position);
+    removePosition(byKindAndName, kindAndNameOf(item), position);
+    kinds.merge(KubernetesHelper.getKind(item), -1, Integer::sum);
+  }
+
+  private Optional<HasMetadata> first(Map<Key, List<Integer>> index, Key key) {
+    final List<Integer> positions = index.get(key);
+    if (positions == null || positions.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(items.get(Collections.min(positions)));
+  }
+
+  private static void removePosition(Map<Key, List<Integer>> index, Key key, int position) {
+    final List<Integer> positions = index.get(key);
+    if (positions != null) {
+      final Iterator<Integer> it = positions.iterator();
+      while (it.hasNext()) {
+        if (it.next() == position) {
+          it.remove();
+        }
+      }
+    }
+  }
+
+  private static Key keyOf(HasMetadata item) {
+    return new Key(item.getApiVersion(), KubernetesHelper.getKind(item),
+      item.getMetadata() != null ? item.getMetadata().getNamespace() : null, KubernetesHelper.getName(item));
+  }
+
+  private static Key kindAndNameOf(HasMetadata item) {
+    return new Key(null, KubernetesHelper.getKind(item), null, KubernetesHelper.getName(item));
+  }
+
+  @Value
+  private static class Key {
+    String apiVersion;
+    String kind;
+    String namespace;
+    String name;
+  }
+}
@@ -21,14 +21,21 @@ import org.eclipse.jkube.kit.common.util.KindFilenameMapperUtil;
 import org.eclipse.jkube.kit.common.util.Serialization;
 import org.eclipse.jkube.kit.config.resource.MappingConfig;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
@@ -53,6 +60,15 @@ public class KubernetesResourceFragments {
     KIND_TO_FILENAME_MAPPER.put(mappingConfig.getKind(), fileNameTypes[fileNameTypes.length- 1]);
   };
   static final Set<String> EXCLUDED_RESOURCE_FILENAME_SUFFIXES = new HashSet<>();
+  private static final int FRAGMENT_CACHE_SIZE = 256;
+  // Parsed (and enriched) fragments by file name and content hash, least recently used entries are evicted
+  private static final Map<String, List<Map<String, Object>>> FRAGMENT_CACHE = Collections.synchronizedMap(
+    new LinkedHashMap<String, List<Map<String, Object>>>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, List<Map<String, Object>>> eldest) {
+        return size() > FRAGMENT_CACHE_SIZE;
+      }
+    });
   static {
     EXCLUDED_RESOURCE_FILENAME_SUFFIXES.add(".helm.yaml");
     EXCLUDED_RESOURCE_FILENAME_SUFFIXES.add(".helm.yml");
@@ -75,6 +91,8 @@ public class KubernetesResourceFragments {
   public static void updateKindFilenameMappings(List<MappingConfig> mappings) {
     if (mappings != null) {
       mappings.forEach(KIND_FILENAME_MAPPER_UPDATER);
+      // Cached fragments might have been enriched with the previous mappings
+      FRAGMENT_CACHE.clear();
     }
   }
 
@@ -87,6 +105,9 @@ public class KubernetesResourceFragments {
    * Read all Kubernetes resource fragments from a directory and create a {@link KubernetesListBuilder} which
    * can be adapted later.
    *
+   * <p> Each file may contain multiple YAML documents. The resources are added to the builder in the order of the
+   * provided files and documents.
+   *
    * @param resourceFiles files to add.
    * @return the list builder
    * @throws IOException in case file is not found
@@ -97,7 +118,7 @@ public class KubernetesResourceFragments {
       for (File file : resourceFiles) {
         if (EXCLUDED_RESOURCE_FILENAME_SUFFIXES.stream()
           .noneMatch(s -> file.getName().toLowerCase(Locale.ROOT).endsWith(s))) {
-          builder.addToItems(getResource(file));
+          builder.addAllToItems(getResources(file));
         }
       }
     }
@@ -105,8 +126,8 @@ public class KubernetesResourceFragments {
   }
 
   /**
-   * Read a Kubernetes resource fragment and add meta information extracted from the filename
-   * to the resource descriptor. I.e. the following elements are added if not provided in the fragment:
+   * Read a Kubernetes resource fragment file and add meta information extracted from the filename
+   * to each of its resource descriptors. I.e. the following elements are added if not provided in the fragment:
    *
    * <ul>
    *     <li>name - Name of the resource added to metadata</li>
@@ -115,22 +136,68 @@ public class KubernetesResourceFragments {
    * </ul>
    *
    * @param file file to read.
-   * @return HasMetadata object for resource
+   * @return HasMetadata objects for the resources in the file
    * @throws IOException in case file loading is failed
    */
-  private static HasMetadata getResource(File file) throws IOException {
-    final Map<String, Object> fragment = Optional.ofNullable(Serialization.unmarshal(file, new TypeReference<Map<String, Object>>() {}))
-      .orElse(new HashMap<>());
-    if (StringUtils.isBlank((String) fragment.get("apiVersion")) ||
-      StringUtils.isBlank((String) fragment.get("kind")) ||
-      StringUtils.isBlank((String) getOrInitMetadata(fragment).get("name"))) {
-      // Fragment is incomplete let's enrich the missing parts
-      enrichFragment(fragment, file);
+  private static List<HasMetadata> getResources(File file) throws IOException {
+    final List<Map<String, Object>> fragments = getFragments(file);
+    final List<HasMetadata> ret = new ArrayList<>(fragments.size());
+    for (Map<String, Object> fragment : fragments) {
+      try {
+        ret.add(Serialization.convertValue(fragment, HasMetadata.class));
+      } catch (ClassCastException exp) {
+        throw new IllegalArgumentException(String.format("Resource fragment %s has an invalid syntax (%s)", file.getPath(), exp.getMessage()));
+      }
+    }
+    return ret;
+  }
+
+  private static List<Map<String, Object>> getFragments(File file) throws IOException {
+    final byte[] content = Files.readAllBytes(file.toPath());
+    // Fragments are enriched from the file name
+    final String key = file.getName() + ":" + sha256(content);
+    final List<Map<String, Object>> cached = FRAGMENT_CACHE.get(key);
+    if (cached != null) {
+      return cached;
+    }
+    final List<Map<String, Object>> fragments = readDocuments(file, content);
+    for (Map<String, Object> fragment : fragments) {
+      if (StringUtils.isBlank((String) fragment.get("apiVersion")) ||
+        StringUtils.isBlank((String) fragment.get("kind")) ||
+        StringUtils.isBlank((String) getOrInitMetadata(fragment).get("name"))) {
+        // Fragment is incomplete let's enrich the missing parts
+        enrichFragment(fragment, file);
+      }
     }
+    FRAGMENT_CACHE.put(key, Collections.unmodifiableList(fragments));
+    return fragments;
+  }
+
+  // Read the documents of the file (an empty file is an empty fragment)
+  private static List<Map<String, Object>> readDocuments(File file, byte[] content) throws IOException {
+    final List<Map<String, Object>> documents = new ArrayList<>();
+    if (file.getName().toLowerCase(Locale.ROOT).endsWith(".json")) {
+      final Map<String, Object> document = Serialization.unmarshal(
+        new ByteArrayInputStream(content), new TypeReference<Map<String, Object>>() {});
+      if (document != null) {
+        documents.add(document);
+      }
+    } else {
+      documents.addAll(Serialization.unmarshalDocuments(
+        new ByteArrayInputStream(content), new TypeReference<Map<String, Object>>() {}));
+    }
+    if (documents.isEmpty()) {
+      documents.add(new HashMap<>());
+    }
+    return documents;
+  }
+
+  private static String sha256(byte[] content) {
     try {
-      return Serialization.convertValue(fragment, HasMetadata.class);
-    } catch (ClassCastException exp) {
-      throw new IllegalArgumentException(String.format("Resource fragment %s has an invalid syntax (%s)", file.getPath(), exp.getMessage()));
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return String.format("%064x", new BigInteger(1, digest.digest(content)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 algorithm is not available", e);
     }
   }
 
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.enricher.api.visitor;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import io.fabric8.kubernetes.api.builder.Visitable;
+import io.fabric8.kubernetes.api.builder.VisitableMap;
+import io.fabric8.kubernetes.api.builder.Visitor;
+import io.fabric8.kubernetes.api.builder.VisitorListener;
+
+/**
+ * Applies a sequence of visitors to a {@link Visitable} tree sharing the traversal among them.
+ *
+ * <p> The result is the same as applying each of the visitors in turn with {@link Visitable#accept(Visitor[])}, as long
+ * as each visitor only reads and modifies the element it visits and its descendants. Every element is visited once by
+ * all of the visitors, except when one of the visitors matches an element and there are previous visitors in the
+ * sequence. In that case, the previous visitors complete the element's subtree before the matching visitor is
+ * applied, and the remaining ones continue from there.
+ *
+ * <p> For example, for labels applied to every ObjectMeta followed by labels applied to every Deployment, the items of
+ * the list are traversed once, and each Deployment's subtree twice (once per visitor) instead of traversing the whole
+ * list once per visitor.
+ *
+ * <p> Same as the builders' own traversal, visitors with a higher {@link Visitor#order()} are applied first (the
+ * provided order is kept for visitors with the same one), and every visitor is wrapped with the registered
+ * {@link VisitorListener}s.
+ */
+public class FusedVisitorWalker {
+
+  private FusedVisitorWalker() { }
+
+  /**
+   * Applies the provided visitors in order to the root element and all of its descendants.
+   *
+   * @param root the root of the tree to visit (e.g. a KubernetesListBuilder).
+   * @param visitors the visitors to apply (sorted by {@link Visitor#order()}).
+   */
+  public static void walk(Visitable<?> root, List<? extends Visitor<?>> visitors) {
+    if (visitors.isEmpty()) {
+      return;
+    }
+    final List<Visitor<?>> sortedVisitors = new ArrayList<>(visitors);
+    sortedVisitors.sort((l, r) -> Integer.compare(r.order(), l.order()));
+    final VisitorEntry[] entries = new VisitorEntry[sortedVisitors.size()];
+    for (int it = 0; it < entries.length; it++) {
+      entries[it] = new VisitorEntry(VisitorListener.wrap(sortedVisitors.get(it)));
+    }
+    walk(Collections.emptyList(), "", root, entries, 0, entries.length);
+  }
+
+  private static void walk(List<Map.Entry<String, Object>> path, String key, Visitable<?> element,
+      VisitorEntry[] entries, int from, int to) {
+    int segmentStart = from;
+    boolean segmentStartMatches = entries[from].canVisit(path, element);
+    for (int it = from + 1; it < to; it++) {
+      if (entries[it].canVisit(path, element)) {
+        // Previous visitors must complete the subtree before this one visits the element
+        visitSegment(path, key, element, entries, segmentStart, it, segmentStartMatches);
+        segmentStart = it;
+        segmentStartMatches = true;
+      }
+    }
+    visitSegment(path, key, element, entries, segmentStart, to, segmentStartMatches);
+  }
+
+  // Only the first visitor of a segment can match the element
+  private static void visitSegment(List<Map.Entry<String, Object>> path, String key, Visitable<?> element,
+      VisitorEntry[] entries, int from, int to, boolean firstMatches) {
+    if (firstMatches) {
+      entries[from].visit(path, element);
+    }
+    final VisitableMap children = element.getVisitableMap().orElse(null);
+    if (children == null || children.isEmpty()) {
+      return;
+    }
+    final List<Map.Entry<String, Object>> childPath = new ArrayList<>(path.size() + 1);
+    childPath.addAll(path);
+    childPath.add(new AbstractMap.SimpleEntry<>(key, element));
+    final List<Map.Entry<String, Object>> unmodifiableChildPath = Collections.unmodifiableList(childPath);
+    for (Map.Entry<String, List<Visitable<?>>> child : children.entrySet()) {
+      for (Visitable<?> visitable : new ArrayList<>(child.getValue())) {
+        walk(unmodifiableChildPath, child.getKey(), visitable, entries, from, to);
+      }
+    }
+  }
+
+  private static final class VisitorEntry {
+    private final Visitor<?> visitor;
+    // Resolving the type of a TypedVisitor involves reflection, resolve it once per walk
+    private final Class<?> type;
+
+    private VisitorEntry(Visitor<?> visitor) {
+      this.visitor = visitor;
+      this.type = visitor.getType();
+    }
+
+    private boolean canVisit(List<Map.Entry<String, Object>> path, Object element) {
+      return (type == null || type.isAssignableFrom(element.getClass()))
+          && Boolean.TRUE.equals(visitor.canVisit(path, element));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void visit(List<Map.Entry<String, Object>> path, Object element) {
+      ((Visitor) visitor).visit(path, element);
+    }
+  }
+}
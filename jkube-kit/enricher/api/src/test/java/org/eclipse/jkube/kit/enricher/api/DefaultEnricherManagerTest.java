@@ -13,20 +13,28 @@
  */
 package org.eclipse.jkube.kit.enricher.api;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.BuildTimings;
 import org.eclipse.jkube.kit.config.resource.EnricherManager;
 import org.eclipse.jkube.kit.config.resource.PlatformMode;
 import org.eclipse.jkube.kit.config.resource.ProcessorConfig;
 
+import io.fabric8.kubernetes.api.builder.TypedVisitor;
+import io.fabric8.kubernetes.api.builder.Visitor;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -40,14 +48,7 @@ class DefaultEnricherManagerTest {
   @BeforeEach
   void setUp() {
     logger = spy(new KitLogger.SilentLogger());
-    final ProcessorConfig processorConfig = new ProcessorConfig();
-    processorConfig.setIncludes(Collections.singletonList("fake-enricher"));
-    final EnricherContext enricherContext = JKubeEnricherContext.builder()
-        .project(JavaProject.builder().build())
-        .log(logger)
-        .processorConfig(processorConfig)
-        .build();
-    enricherManager = new DefaultEnricherManager(enricherContext);
+    enricherManager = enricherManager(Collections.singletonList("fake-enricher"));
   }
 
   @Test
@@ -81,6 +82,114 @@ class DefaultEnricherManagerTest {
         .hasFieldOrPropertyWithValue("metadata.name", "enriched-by-test");
   }
 
+  @Test
+  void enrich_withVisitorEnricher_appliesVisitorsToResourcesAddedByPreviousEnrichers() {
+    // Given
+    final KubernetesListBuilder klb = new KubernetesListBuilder();
+    enricherManager = enricherManager(Arrays.asList("fake-enricher", "fake-visitor-enricher"));
+    // When
+    enricherManager.enrich(PlatformMode.kubernetes, klb);
+    // Then
+    assertThat(klb.build().getItems())
+        .singleElement()
+        .hasFieldOrPropertyWithValue("metadata.name", "enriched-by-test")
+        .hasFieldOrPropertyWithValue("metadata.labels.visited-by-test", "enrich");
+  }
+
+  @Test
+  void createDefaultResources_withVisitorEnricher_appliesVisitorsToResourcesAddedByPreviousEnrichers() {
+    // Given
+    final KubernetesListBuilder klb = new KubernetesListBuilder();
+    enricherManager = enricherManager(Arrays.asList("fake-enricher", "fake-visitor-enricher"));
+    // When
+    enricherManager.createDefaultResources(PlatformMode.kubernetes, klb);
+    // Then
+    assertThat(klb.build().getItems())
+        .singleElement()
+        .hasFieldOrPropertyWithValue("metadata.name", "created-by-test")
+        .hasFieldOrPropertyWithValue("metadata.labels.visited-by-test", "create");
+  }
+
+  @Test
+  void enrich_withTimings_recordsTimingsForEachPass() {
+    // Given
+    final BuildTimings timings = new BuildTimings();
+    enricherManager = enricherManager(Arrays.asList("fake-enricher", "fake-visitor-enricher"), timings);
+    // When
+    enricherManager.enrich(PlatformMode.kubernetes, new KubernetesListBuilder());
+    // Then
+    assertThat(timings.getSummary())
+        .extracting("phase", "name")
+        .containsExactlyInAnyOrder(
+            tuple("enrich", "fake-enricher"),
+            tuple("enrich", "fake-visitor-enricher"));
+  }
+
+  @Test
+  void enrich_withTimingsAndAdjacentVisitorEnrichers_recordsTimingsForEachEnricher() {
+    // Given
+    final BuildTimings timings = new BuildTimings();
+    final KubernetesListBuilder klb = new KubernetesListBuilder()
+        .addNewConfigMapItem().withNewMetadata().withName("existing").endMetadata().endConfigMapItem();
+    enricherManager = enricherManager(Arrays.asList("fake-visitor-enricher", "fake-other-visitor-enricher"), timings);
+    // When
+    enricherManager.enrich(PlatformMode.kubernetes, klb);
+    // Then
+    assertThat(timings.getSummary())
+        .extracting("phase", "name")
+        .containsExactlyInAnyOrder(
+            tuple("enrich", "fake-visitor-enricher"),
+            tuple("enrich", "fake-other-visitor-enricher"));
+    assertThat(klb.build().getItems())
+        .singleElement()
+        .hasFieldOrPropertyWithValue("metadata.labels.visited-by-test", "enrich")
+        .hasFieldOrPropertyWithValue("metadata.labels.visited-by-other-test", "enrich");
+  }
+
+  @Test
+  void fork_createsNewManagerWithSameConfiguration() {
+    // When
+    final EnricherManager result = enricherManager.fork(new KitLogger.SilentLogger()).orElseThrow(IllegalStateException::new);
+    // Then
+    final KubernetesListBuilder klb = new KubernetesListBuilder();
+    result.enrich(PlatformMode.kubernetes, klb);
+    assertThat(result).isNotSameAs(enricherManager);
+    assertThat(klb.build().getItems())
+        .singleElement()
+        .hasFieldOrPropertyWithValue("metadata.name", "enriched-by-test");
+    verify(logger, times(1)).verbose("- %s", "fake-enricher");
+  }
+
+  @Test
+  void fork_createsNewManagerWithProvidedLogger() {
+    // Given
+    final KitLogger forkLogger = new KitLogger.SilentLogger();
+    // When
+    final EnricherManager result = enricherManager.fork(forkLogger).orElseThrow(IllegalStateException::new);
+    // Then
+    assertThat(result)
+        .extracting("enricherContext")
+        .isInstanceOf(JKubeEnricherContext.class)
+        .hasFieldOrPropertyWithValue("log", forkLogger)
+        .hasFieldOrPropertyWithValue("project", JavaProject.builder().build());
+  }
+
+  private EnricherManager enricherManager(List<String> includes) {
+    return enricherManager(includes, null);
+  }
+
+  private EnricherManager enricherManager(List<String> includes, BuildTimings timings) {
+    final ProcessorConfig processorConfig = new ProcessorConfig();
+    processorConfig.setIncludes(includes);
+    final EnricherContext enricherContext = JKubeEnricherContext.builder()
+        .project(JavaProject.builder().build())
+        .log(logger)
+        .processorConfig(processorConfig)
+        .timings(timings)
+        .build();
+    return new DefaultEnricherManager(enricherContext);
+  }
+
   // Loaded from META-INF/jkube/enricher-default
   public static final class TestEnricher implements Enricher {
 
@@ -110,4 +219,93 @@ class DefaultEnricherManagerTest {
       return context;
     }
   }
+
+  // Loaded from META-INF/jkube/enricher-default
+  public static final class TestVisitorEnricher implements Enricher {
+
+    private final JKubeEnricherContext context;
+
+    public TestVisitorEnricher(JKubeEnricherContext context) {
+      this.context = context;
+    }
+
+    @Override
+    public String getName() {
+      return "fake-visitor-enricher";
+    }
+
+    @Override
+    public void create(PlatformMode platformMode, KubernetesListBuilder builder) {
+      throw new UnsupportedOperationException("Visitors should be applied by the manager");
+    }
+
+    @Override
+    public void enrich(PlatformMode platformMode, KubernetesListBuilder builder) {
+      throw new UnsupportedOperationException("Visitors should be applied by the manager");
+    }
+
+    @Override
+    public Optional<List<Visitor<?>>> getCreateVisitors(PlatformMode platformMode) {
+      return Optional.of(Collections.singletonList(labelVisitor("visited-by-test", "create")));
+    }
+
+    @Override
+    public Optional<List<Visitor<?>>> getEnrichVisitors(PlatformMode platformMode) {
+      return Optional.of(Collections.singletonList(labelVisitor("visited-by-test", "enrich")));
+    }
+
+    @Override
+    public EnricherContext getContext() {
+      return context;
+    }
+  }
+
+  // Loaded from META-INF/jkube/enricher-default
+  public static final class TestOtherVisitorEnricher implements Enricher {
+
+    private final JKubeEnricherContext context;
+
+    public TestOtherVisitorEnricher(JKubeEnricherContext context) {
+      this.context = context;
+    }
+
+    @Override
+    public String getName() {
+      return "fake-other-visitor-enricher";
+    }
+
+    @Override
+    public void create(PlatformMode platformMode, KubernetesListBuilder builder) {
+      throw new UnsupportedOperationException("Visitors should be applied by the manager");
+    }
+
+    @Override
+    public void enrich(PlatformMode platformMode, KubernetesListBuilder builder) {
+      throw new UnsupportedOperationException("Visitors should be applied by the manager");
+    }
+
+    @Override
+    public Optional<List<Visitor<?>>> getCreateVisitors(PlatformMode platformMode) {
+      return Optional.of(Collections.singletonList(labelVisitor("visited-by-other-test", "create")));
+    }
+
+    @Override
+    public Optional<List<Visitor<?>>> getEnrichVisitors(PlatformMode platformMode) {
+      return Optional.of(Collections.singletonList(labelVisitor("visited-by-other-test", "enrich")));
+    }
+
+    @Override
+    public EnricherContext getContext() {
+      return context;
+    }
+  }
+
+  private static Visitor<ObjectMetaBuilder> labelVisitor(String label, String value) {
+    return new TypedVisitor<ObjectMetaBuilder>() {
+      @Override
+      public void visit(ObjectMetaBuilder element) {
+        element.addToLabels(label, value);
+      }
+    };
+  }
 }
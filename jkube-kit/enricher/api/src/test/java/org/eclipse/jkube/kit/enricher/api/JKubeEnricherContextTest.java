@@ -15,6 +15,7 @@ package org.eclipse.jkube.kit.enricher.api;
 
 import org.eclipse.jkube.kit.common.Dependency;
 import org.eclipse.jkube.kit.common.JavaProject;
+import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.RegistryServerConfiguration;
 import org.eclipse.jkube.kit.common.util.ClassUtil;
 import org.eclipse.jkube.kit.common.util.JKubeProjectUtil;
@@ -33,7 +34,10 @@ import java.util.List;
 import java.util.Properties;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 
 class JKubeEnricherContextTest {
 
@@ -236,4 +240,65 @@ class JKubeEnricherContextTest {
     }
   }
 
+  @Test
+  void getProjectClassLoaders_whenInvokedTwice_shouldCreateClassLoaderOnce() {
+    try (MockedStatic<ClassUtil> classUtilMockedStatic = mockStatic(ClassUtil.class)) {
+      // Given
+      jKubeEnricherContext = jKubeEnricherContext.toBuilder()
+          .project(javaProject.toBuilder()
+                      .compileClassPathElements(Collections.singletonList("/test/foo.jar"))
+                      .outputDirectory(new File("target"))
+                      .build())
+              .build();
+      final ProjectClassLoaders first = jKubeEnricherContext.getProjectClassLoaders();
+
+      // When
+      final ProjectClassLoaders second = jKubeEnricherContext.getProjectClassLoaders();
+
+      // Then
+      assertThat(second).isSameAs(first);
+      classUtilMockedStatic.verify(() -> ClassUtil.createClassLoader(anyList(), anyString()), times(1));
+    }
+  }
+
+  @Test
+  void withLog_whenInvoked_shouldCopyContextWithLoggerAndBuildStrategy() {
+    // Given
+    final KitLogger log = new KitLogger.SilentLogger();
+    jKubeEnricherContext = jKubeEnricherContext.toBuilder()
+        .jKubeBuildStrategy(JKubeBuildStrategy.jib)
+        .build();
+
+    // When
+    final JKubeEnricherContext result = jKubeEnricherContext.withLog(log);
+
+    // Then
+    assertThat(result)
+        .isNotSameAs(jKubeEnricherContext)
+        .hasFieldOrPropertyWithValue("log", log)
+        .hasFieldOrPropertyWithValue("project", javaProject)
+        .hasFieldOrPropertyWithValue("configuration.jKubeBuildStrategy", JKubeBuildStrategy.jib);
+  }
+
+  @Test
+  void withLog_whenProjectClassLoadersRequested_shouldShareThemWithOriginalContext() {
+    try (MockedStatic<ClassUtil> classUtilMockedStatic = mockStatic(ClassUtil.class)) {
+      // Given
+      jKubeEnricherContext = jKubeEnricherContext.toBuilder()
+          .project(javaProject.toBuilder()
+                      .compileClassPathElements(Collections.singletonList("/test/foo.jar"))
+                      .outputDirectory(new File("target"))
+                      .build())
+              .build();
+      final JKubeEnricherContext copy = jKubeEnricherContext.withLog(new KitLogger.SilentLogger());
+
+      // When
+      final ProjectClassLoaders fromCopy = copy.getProjectClassLoaders();
+
+      // Then
+      assertThat(jKubeEnricherContext.getProjectClassLoaders()).isSameAs(fromCopy);
+      classUtilMockedStatic.verify(() -> ClassUtil.createClassLoader(anyList(), anyString()), times(1));
+    }
+  }
+
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.enricher.api.util;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class KubernetesListIndexTest {
+
+  private KubernetesListBuilder builder;
+
+  private KubernetesListIndex index;
+
+  @BeforeEach
+  void setUp() {
+    builder = new KubernetesListBuilder()
+        .addToItems(new ConfigMapBuilder().withNewMetadata().withName("config").withNamespace("ns").endMetadata().build())
+        .addToItems(new DeploymentBuilder().withNewMetadata().withName("app").endMetadata().build())
+        .addToItems(new ServiceBuilder().withNewMetadata().withName("app").endMetadata().build());
+    index = new KubernetesListIndex(builder);
+  }
+
+  @Test
+  void get_withMatchingKey_returnsItem() {
+    // When
+    final HasMetadata result = index.get("v1", "ConfigMap", "ns", "config").orElse(null);
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("metadata.name", "config");
+  }
+
+  @Test
+  void get_withDifferentNamespace_returnsEmpty() {
+    // When + Then
+    assertThat(index.get("v1", "ConfigMap", "other", "config")).isEmpty();
+  }
+
+  @Test
+  void getByKindAndName_ignoresApiVersionAndNamespace() {
+    // Given
+    final ConfigMap lookup = new ConfigMapBuilder().withApiVersion("other/v1")
+        .withNewMetadata().withName("config").endMetadata().build();
+    // When + Then
+    assertThat(index.getByKindAndName(lookup)).isPresent();
+  }
+
+  @Test
+  void getByKindAndName_withDuplicates_returnsFirst() {
+    // Given
+    index.add(new ConfigMapBuilder().withNewMetadata().withName("config").withNamespace("other").endMetadata().build());
+    // When
+    final HasMetadata result = index.getByKindAndName(new ConfigMapBuilder().withNewMetadata().withName("config").endMetadata().build())
+        .orElse(null);
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("metadata.namespace", "ns");
+  }
+
+  @Test
+  void getLastByKindAndName_withDuplicates_returnsLast() {
+    // Given
+    index.add(new ConfigMapBuilder().withNewMetadata().withName("config").withNamespace("other").endMetadata().build());
+    // When
+    final HasMetadata result = index.getLastByKindAndName(new ConfigMapBuilder().withNewMetadata().withName("config").endMetadata().build())
+        .orElse(null);
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("metadata.namespace", "other");
+  }
+
+  @Test
+  void getLastByKindAndName_afterReplacingFirstDuplicate_returnsLast() {
+    // Given
+    index.add(new ConfigMapBuilder().withNewMetadata().withName("config").withNamespace("other").endMetadata().build());
+    final HasMetadata first = index.get("v1", "ConfigMap", "ns", "config").orElseThrow(IllegalStateException::new);
+    index.replace(first, new ConfigMapBuilder().withNewMetadata().withName("config").withNamespace("ns").endMetadata().build());
+    // When
+    final HasMetadata result = index.getLastByKindAndName(first).orElse(null);
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("metadata.namespace", "other");
+  }
+
+  @Test
+  void containsKind_withIndexedKind_returnsTrue() {
+    // When + Then
+    assertThat(index.containsKind("StatefulSet", "Deployment")).isTrue();
+  }
+
+  @Test
+  void containsKind_afterRemove_returnsFalse() {
+    // Given
+    index.remove(builder.buildItems().get(1));
+    // When + Then
+    assertThat(index.containsKind("Deployment")).isFalse();
+  }
+
+  @Test
+  void apply_withoutChanges_leavesBuilderUnchanged() {
+    // Given
+    final KubernetesListBuilder original = new KubernetesListBuilder(builder.build());
+    // When
+    index.apply();
+    // Then
+    assertThat(builder.buildItems()).isEqualTo(original.buildItems());
+  }
+
+  @Test
+  void apply_withChanges_writesItemsInOrder() {
+    // Given
+    final HasMetadata deployment = index.get("apps/v1", "Deployment", null, "app").orElseThrow(IllegalStateException::new);
+    final HasMetadata configMap = index.get("v1", "ConfigMap", "ns", "config").orElseThrow(IllegalStateException::new);
+    index.remove(configMap);
+    index.replace(deployment, new DeploymentBuilder().withNewMetadata().withName("app")
+        .addToLabels("replaced", "true").endMetadata().build());
+    index.add(new ConfigMapBuilder().withNewMetadata().withName("added").endMetadata().build());
+    // When
+    index.apply();
+    // Then
+    assertThat(builder.buildItems())
+        .extracting("kind", "metadata.name")
+        .containsExactly(
+            tuple("Deployment", "app"),
+            tuple("Service", "app"),
+            tuple("ConfigMap", "added"));
+    assertThat(builder.buildItems().get(0)).hasFieldOrPropertyWithValue("metadata.labels.replaced", "true");
+  }
+
+  @Test
+  void replace_updatesIndex() {
+    // Given
+    final HasMetadata deployment = index.get("apps/v1", "Deployment", null, "app").orElseThrow(IllegalStateException::new);
+    final HasMetadata replacement = new DeploymentBuilder().withNewMetadata().withName("app").endMetadata().build();
+    // When
+    final boolean result = index.replace(deployment, replacement);
+    // Then
+    assertThat(result).isTrue();
+    assertThat(index.get("apps/v1", "Deployment", null, "app")).containsSame(replacement);
+  }
+}
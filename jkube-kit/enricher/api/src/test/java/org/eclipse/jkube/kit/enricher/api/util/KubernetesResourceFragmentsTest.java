@@ -36,6 +36,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -414,5 +415,98 @@ public class KubernetesResourceFragmentsTest {
         .hasFieldOrPropertyWithValue("kind", "NetworkPolicy")
         .hasFieldOrPropertyWithValue("spec.podSelector.matchLabels.role", "db");
     }
+
+    @Test
+    @DisplayName("with multi-document file, should read all documents in order")
+    void withMultiDocumentFile_shouldReadAllDocumentsInOrder(@TempDir Path resourceDir) throws IOException {
+      // Given
+      final File resource = Files.write(resourceDir.resolve("multi-cm.yml"), (
+        "---\n" +
+        "kind: ConfigMap\n" +
+        "metadata:\n" +
+        "  name: first\n" +
+        "---\n" +
+        "# Comment only document\n" +
+        "--- # Second document\n" +
+        "kind: Secret\n" +
+        "metadata:\n" +
+        "  name: second\n" +
+        "---\n").getBytes(StandardCharsets.UTF_8)).toFile();
+      // When
+      final KubernetesListBuilder result = KubernetesResourceFragments.readResourceFragmentsFrom(resource);
+      // Then
+      assertThat(result.buildItems())
+        .extracting("apiVersion", "kind", "metadata.name")
+        .containsExactly(
+          tuple("v1", "ConfigMap", "first"),
+          tuple("v1", "Secret", "second"));
+    }
+
+    @Test
+    @DisplayName("with multiple files, should keep the order of the files")
+    void withMultipleFiles_shouldKeepFileOrder(@TempDir Path resourceDir) throws IOException {
+      // Given
+      final File[] resourceFiles = new File[20];
+      for (int it = 0; it < resourceFiles.length; it++) {
+        resourceFiles[it] = Files.write(resourceDir.resolve("cm-" + it + ".yml"),
+          ("kind: ConfigMap\nmetadata:\n  name: cm-" + it + "\n").getBytes(StandardCharsets.UTF_8)).toFile();
+      }
+      // When
+      final KubernetesListBuilder result = KubernetesResourceFragments.readResourceFragmentsFrom(resourceFiles);
+      // Then
+      assertThat(result.buildItems())
+        .extracting("metadata.name")
+        .containsExactly(Arrays.stream(resourceFiles).map(f -> f.getName().replace(".yml", "")).toArray());
+    }
+
+    @Test
+    @DisplayName("with modified file, should read the updated file")
+    void withModifiedFile_shouldReadUpdatedFile(@TempDir Path resourceDir) throws IOException {
+      // Given
+      final Path resource = Files.write(resourceDir.resolve("cached-cm.yml"),
+        "kind: ConfigMap\nmetadata:\n  name: original\n".getBytes(StandardCharsets.UTF_8));
+      KubernetesResourceFragments.readResourceFragmentsFrom(resource.toFile());
+      Files.write(resource, "kind: ConfigMap\nmetadata:\n  name: modified-name\n".getBytes(StandardCharsets.UTF_8));
+      // When
+      final KubernetesListBuilder result = KubernetesResourceFragments.readResourceFragmentsFrom(resource.toFile());
+      // Then
+      assertThat(result.buildItems())
+        .singleElement()
+        .hasFieldOrPropertyWithValue("metadata.name", "modified-name");
+    }
+
+    @Test
+    @DisplayName("with modified file keeping size and modification time, should read the updated file")
+    void withModifiedFileKeepingSizeAndModificationTime_shouldReadUpdatedFile(@TempDir Path resourceDir) throws IOException {
+      // Given
+      final Path resource = Files.write(resourceDir.resolve("cached-cm.yml"),
+        "kind: ConfigMap\nmetadata:\n  name: original-a\n".getBytes(StandardCharsets.UTF_8));
+      final FileTime lastModified = Files.getLastModifiedTime(resource);
+      KubernetesResourceFragments.readResourceFragmentsFrom(resource.toFile());
+      Files.write(resource, "kind: ConfigMap\nmetadata:\n  name: original-b\n".getBytes(StandardCharsets.UTF_8));
+      Files.setLastModifiedTime(resource, lastModified);
+      // When
+      final KubernetesListBuilder result = KubernetesResourceFragments.readResourceFragmentsFrom(resource.toFile());
+      // Then
+      assertThat(result.buildItems())
+        .singleElement()
+        .hasFieldOrPropertyWithValue("metadata.name", "original-b");
+    }
+
+    @Test
+    @DisplayName("with cached file, should return independent resources")
+    void withCachedFile_shouldReturnIndependentResources(@TempDir Path resourceDir) throws IOException {
+      // Given
+      final File resource = Files.write(resourceDir.resolve("cached-cm.yml"),
+        "kind: ConfigMap\nmetadata:\n  name: cached\n".getBytes(StandardCharsets.UTF_8)).toFile();
+      KubernetesResourceFragments.readResourceFragmentsFrom(resource).buildItems().get(0)
+        .getMetadata().setName("mutated");
+      // When
+      final KubernetesListBuilder result = KubernetesResourceFragments.readResourceFragmentsFrom(resource);
+      // Then
+      assertThat(result.buildItems())
+        .singleElement()
+        .hasFieldOrPropertyWithValue("metadata.name", "cached");
+    }
   }
 }
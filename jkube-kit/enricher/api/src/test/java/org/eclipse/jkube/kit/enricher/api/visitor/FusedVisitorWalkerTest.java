@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.enricher.api.visitor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import io.fabric8.kubernetes.api.builder.TypedVisitor;
+import io.fabric8.kubernetes.api.builder.Visitor;
+import io.fabric8.kubernetes.api.builder.VisitorListener;
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FusedVisitorWalkerTest {
+
+  private KubernetesListBuilder builder;
+
+  @BeforeEach
+  void setUp() {
+    builder = new KubernetesListBuilder()
+        .addNewConfigMapItem().withNewMetadata().withName("config").endMetadata().endConfigMapItem()
+        .addToItems(new DeploymentBuilder().withNewMetadata().withName("app").endMetadata().build());
+  }
+
+  @Test
+  void walk_withNoVisitors_leavesBuilderUnchanged() {
+    // Given
+    final KubernetesList original = builder.build();
+    // When
+    FusedVisitorWalker.walk(builder, Collections.emptyList());
+    // Then
+    assertThat(builder.build().getItems()).isEqualTo(original.getItems());
+  }
+
+  @Test
+  void walk_withVisitorsForSameType_appliesThemInOrder() {
+    // Given
+    final List<String> visits = new ArrayList<>();
+    final List<Visitor<?>> visitors = Arrays.asList(
+        metadataVisitor(m -> visits.add("first:" + m.getName())),
+        metadataVisitor(m -> visits.add("second:" + m.getName())));
+    // When
+    FusedVisitorWalker.walk(builder, visitors);
+    // Then
+    assertThat(visits).containsExactly("first:config", "second:config", "first:app", "second:app");
+  }
+
+  @Test
+  void walk_withLaterVisitorForAncestor_hasSameOutcomeAsSequentialTraversals() {
+    // Given
+    final KubernetesListBuilder sequential = new KubernetesListBuilder(builder.build());
+    final List<Visitor<?>> visitors = Arrays.asList(
+        metadataVisitor(m -> {
+          if (!m.hasLabels() || !m.getLabels().containsKey("app")) {
+            m.addToLabels("app", "from-metadata");
+          }
+        }),
+        new TypedVisitor<DeploymentBuilder>() {
+          @Override
+          public void visit(DeploymentBuilder deployment) {
+            if (!deployment.buildMetadata().getLabels().containsKey("app")) {
+              deployment.editMetadata().addToLabels("app", "from-deployment").endMetadata();
+            }
+          }
+        });
+    visitors.forEach(sequential::accept);
+    // When
+    FusedVisitorWalker.walk(builder, visitors);
+    // Then
+    assertThat(builder.build().getItems())
+        .isEqualTo(sequential.build().getItems())
+        .last()
+        .hasFieldOrPropertyWithValue("metadata.labels.app", "from-metadata");
+  }
+
+  @Test
+  void walk_withElementsAddedByPreviousVisitor_visitsAddedElements() {
+    // Given
+    final List<Visitor<?>> visitors = Arrays.asList(
+        new TypedVisitor<DeploymentBuilder>() {
+          @Override
+          public void visit(DeploymentBuilder deployment) {
+            deployment.editOrNewSpec().editOrNewTemplate().editOrNewSpec()
+                .addNewContainer().withName("app").endContainer()
+                .endSpec().endTemplate().endSpec();
+          }
+        },
+        new TypedVisitor<ContainerBuilder>() {
+          @Override
+          public void visit(ContainerBuilder container) {
+            container.withImage("example/app:latest");
+          }
+        });
+    // When
+    FusedVisitorWalker.walk(builder, visitors);
+    // Then
+    assertThat(builder.build().getItems())
+        .last()
+        .asInstanceOf(InstanceOfAssertFactories.type(Deployment.class))
+        .extracting(d -> d.getSpec().getTemplate().getSpec().getContainers().get(0).getImage())
+        .isEqualTo("example/app:latest");
+  }
+
+  @Test
+  void walk_withVisitorOrder_appliesHigherOrderFirst() {
+    // Given
+    final List<String> visits = new ArrayList<>();
+    final List<Visitor<?>> visitors = Arrays.asList(
+        metadataVisitor(m -> visits.add("default:" + m.getName())),
+        new TypedVisitor<ObjectMetaBuilder>() {
+          @Override
+          public void visit(ObjectMetaBuilder element) {
+            visits.add("ordered:" + element.getName());
+          }
+
+          @Override
+          public int order() {
+            return 10;
+          }
+        });
+    // When
+    FusedVisitorWalker.walk(builder, visitors);
+    // Then
+    assertThat(visits).containsExactly("ordered:config", "default:config", "ordered:app", "default:app");
+  }
+
+  @Test
+  void walk_withVisitorListener_notifiesListener() {
+    // Given
+    final List<String> visits = new ArrayList<>();
+    final VisitorListener listener = new VisitorListener() {
+      @Override
+      public <T> void beforeVisit(Visitor<T> visitor, List<Map.Entry<String, Object>> path, T target) {
+        if (target instanceof ObjectMetaBuilder) {
+          visits.add("listener:" + ((ObjectMetaBuilder) target).getName());
+        }
+      }
+    };
+    VisitorListener.register(listener);
+    try {
+      // When
+      FusedVisitorWalker.walk(builder, Collections.singletonList(metadataVisitor(m -> visits.add("visitor:" + m.getName()))));
+    } finally {
+      VisitorListener.getListeners().remove(listener);
+    }
+    // Then
+    assertThat(visits).containsExactly("listener:config", "visitor:config", "listener:app", "visitor:app");
+  }
+
+  private static Visitor<ObjectMetaBuilder> metadataVisitor(Consumer<ObjectMetaBuilder> consumer) {
+    return new TypedVisitor<ObjectMetaBuilder>() {
+      @Override
+      public void visit(ObjectMetaBuilder element) {
+        consumer.accept(element);
+      }
+    };
+  }
+}
@@ -14,7 +14,7 @@
 package org.eclipse.jkube.enricher.generic;
 
 import io.fabric8.kubernetes.api.builder.TypedVisitor;
-import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.builder.Visitor;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
@@ -40,7 +40,10 @@ import org.eclipse.jkube.kit.enricher.api.BaseEnricher;
 import org.eclipse.jkube.kit.enricher.api.EnricherContext;
 import org.eclipse.jkube.kit.enricher.api.model.Configuration;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -53,121 +56,118 @@ public abstract class AbstractLabelEnricher extends BaseEnricher {
   abstract Map<String, String> createLabels(boolean includeVersion, Map<String, String> labelsViaResourceConfig);
 
   @Override
-  public void create(PlatformMode platformMode, KubernetesListBuilder builder) {
-    builder.accept(new TypedVisitor<ServiceBuilder>() {
-      @Override
-      public void visit(ServiceBuilder serviceBuilder) {
-        final Map<String, String> selectors = processSelectors(
-          Optional.ofNullable(serviceBuilder.buildSpec())
-            .map(ServiceSpec::getSelector)
-            .orElse(new HashMap<>()),
-          false,
-          getResourceConfigLabels().getService(),getResourceConfigLabels().getAll());
-        serviceBuilder.editOrNewSpec().addToSelector(selectors).endSpec();
+  public Optional<List<Visitor<?>>> getCreateVisitors(PlatformMode platformMode) {
+    return Optional.of(Arrays.asList(
+      new TypedVisitor<ServiceBuilder>() {
+        @Override
+        public void visit(ServiceBuilder serviceBuilder) {
+          final Map<String, String> selectors = processSelectors(
+            Optional.ofNullable(serviceBuilder.buildSpec())
+              .map(ServiceSpec::getSelector)
+              .orElse(new HashMap<>()),
+            false,
+            getResourceConfigLabels().getService(),getResourceConfigLabels().getAll());
+          serviceBuilder.editOrNewSpec().addToSelector(selectors).endSpec();
+        }
+      },
+      new TypedVisitor<DeploymentBuilder>() {
+        @Override
+        public void visit(DeploymentBuilder builder) {
+          final Map<String, String> selectors = processSelectors(
+            Optional.ofNullable(builder.buildSpec())
+              .map(DeploymentSpec::getSelector)
+              .map(LabelSelector::getMatchLabels)
+              .orElse(new HashMap<>()),
+            false,
+            getResourceConfigLabels().getDeployment(),
+            getResourceConfigLabels().getPod(),
+            getResourceConfigLabels().getAll());
+          builder.editOrNewSpec().editOrNewSelector().withMatchLabels(selectors).endSelector().endSpec();
+        }
+      },
+      new TypedVisitor<DeploymentConfigBuilder>() {
+        @Override
+        public void visit(DeploymentConfigBuilder builder) {
+          final Map<String, String> selectors = processSelectors(
+            Optional.ofNullable(builder.buildSpec())
+              .map(DeploymentConfigSpec::getSelector)
+              .orElse(new HashMap<>()),
+            false,
+            getResourceConfigLabels().getPod(), getResourceConfigLabels().getAll());
+          builder.editOrNewSpec().addToSelector(selectors).endSpec();
+        }
+      },
+      new TypedVisitor<DaemonSetBuilder>() {
+        @Override
+        public void visit(DaemonSetBuilder builder) {
+          final Map<String, String> selectors = processSelectors(
+            Optional.ofNullable(builder.buildSpec())
+              .map(DaemonSetSpec::getSelector)
+              .map(LabelSelector::getMatchLabels)
+              .orElse(new HashMap<>()),
+            false, getResourceConfigLabels().getAll());
+          builder.editOrNewSpec().editOrNewSelector().withMatchLabels(selectors).endSelector().endSpec();
+        }
+      },
+      new TypedVisitor<ReplicationControllerBuilder>() {
+        @Override
+        public void visit(ReplicationControllerBuilder builder) {
+          final Map<String, String> selectors = processSelectors(
+            Optional.ofNullable(builder.buildSpec())
+              .map(ReplicationControllerSpec::getSelector)
+              .orElse(new HashMap<>()),
+            false,
+            getResourceConfigLabels().getPod(), getResourceConfigLabels().getAll());
+          builder.editOrNewSpec().addToSelector(selectors).endSpec();
+        }
+      },
+      new TypedVisitor<ReplicaSetBuilder>() {
+        @Override
+        public void visit(ReplicaSetBuilder builder) {
+          final Map<String, String> selectors = processSelectors(
+            Optional.ofNullable(builder.buildSpec())
+              .map(ReplicaSetSpec::getSelector)
+              .map(LabelSelector::getMatchLabels)
+              .orElse(new HashMap<>()),
+            false,
+            getResourceConfigLabels().getReplicaSet(),
+            getResourceConfigLabels().getPod(),
+            getResourceConfigLabels().getAll());
+          builder.editOrNewSpec().editOrNewSelector().withMatchLabels(selectors).endSelector().endSpec();
+        }
+      },
+      new TypedVisitor<StatefulSetBuilder>() {
+        @Override
+        public void visit(StatefulSetBuilder builder) {
+          final Map<String, String> selectors = processSelectors(
+            Optional.ofNullable(builder.buildSpec())
+              .map(StatefulSetSpec::getSelector)
+              .map(LabelSelector::getMatchLabels)
+              .orElse(new HashMap<>()),
+            false,
+            getResourceConfigLabels().getPod(), getResourceConfigLabels().getAll());
+          builder.editOrNewSpec().editOrNewSelector().withMatchLabels(selectors).endSelector().endSpec();
+        }
       }
-    });
-
-    builder.accept(new TypedVisitor<DeploymentBuilder>() {
-      @Override
-      public void visit(DeploymentBuilder builder) {
-        final Map<String, String> selectors = processSelectors(
-          Optional.ofNullable(builder.buildSpec())
-            .map(DeploymentSpec::getSelector)
-            .map(LabelSelector::getMatchLabels)
-            .orElse(new HashMap<>()),
-          false,
-          getResourceConfigLabels().getDeployment(),
-          getResourceConfigLabels().getPod(),
-          getResourceConfigLabels().getAll());
-        builder.editOrNewSpec().editOrNewSelector().withMatchLabels(selectors).endSelector().endSpec();
-      }
-    });
-
-    builder.accept(new TypedVisitor<DeploymentConfigBuilder>() {
-      @Override
-      public void visit(DeploymentConfigBuilder builder) {
-        final Map<String, String> selectors = processSelectors(
-          Optional.ofNullable(builder.buildSpec())
-            .map(DeploymentConfigSpec::getSelector)
-            .orElse(new HashMap<>()),
-          false,
-          getResourceConfigLabels().getPod(), getResourceConfigLabels().getAll());
-        builder.editOrNewSpec().addToSelector(selectors).endSpec();
-      }
-    });
-
-    builder.accept(new TypedVisitor<DaemonSetBuilder>() {
-      @Override
-      public void visit(DaemonSetBuilder builder) {
-        final Map<String, String> selectors = processSelectors(
-          Optional.ofNullable(builder.buildSpec())
-            .map(DaemonSetSpec::getSelector)
-            .map(LabelSelector::getMatchLabels)
-            .orElse(new HashMap<>()),
-          false, getResourceConfigLabels().getAll());
-        builder.editOrNewSpec().editOrNewSelector().withMatchLabels(selectors).endSelector().endSpec();
-      }
-    });
-
-    builder.accept(new TypedVisitor<ReplicationControllerBuilder>() {
-      @Override
-      public void visit(ReplicationControllerBuilder builder) {
-        final Map<String, String> selectors = processSelectors(
-          Optional.ofNullable(builder.buildSpec())
-            .map(ReplicationControllerSpec::getSelector)
-            .orElse(new HashMap<>()),
-          false,
-          getResourceConfigLabels().getPod(), getResourceConfigLabels().getAll());
-        builder.editOrNewSpec().addToSelector(selectors).endSpec();
-      }
-    });
-
-    builder.accept(new TypedVisitor<ReplicaSetBuilder>() {
-      @Override
-      public void visit(ReplicaSetBuilder builder) {
-        final Map<String, String> selectors = processSelectors(
-          Optional.ofNullable(builder.buildSpec())
-            .map(ReplicaSetSpec::getSelector)
-            .map(LabelSelector::getMatchLabels)
-            .orElse(new HashMap<>()),
-          false,
-          getResourceConfigLabels().getReplicaSet(),
-          getResourceConfigLabels().getPod(),
-          getResourceConfigLabels().getAll());
-        builder.editOrNewSpec().editOrNewSelector().withMatchLabels(selectors).endSelector().endSpec();
-      }
-    });
-
-    builder.accept(new TypedVisitor<StatefulSetBuilder>() {
-      @Override
-      public void visit(StatefulSetBuilder builder) {
-        final Map<String, String> selectors = processSelectors(
-          Optional.ofNullable(builder.buildSpec())
-            .map(StatefulSetSpec::getSelector)
-            .map(LabelSelector::getMatchLabels)
-            .orElse(new HashMap<>()),
-          false,
-          getResourceConfigLabels().getPod(), getResourceConfigLabels().getAll());
-        builder.editOrNewSpec().editOrNewSelector().withMatchLabels(selectors).endSelector().endSpec();
-      }
-    });
-
+    ));
   }
 
   @Override
-  public void enrich(PlatformMode platformMode, KubernetesListBuilder builder) {
+  public Optional<List<Visitor<?>>> getEnrichVisitors(PlatformMode platformMode) {
     // Add to all objects in the builder
-    builder.accept(new TypedVisitor<ObjectMetaBuilder>() {
-      @Override
-      public void visit(ObjectMetaBuilder element) {
-        final Map<String, String> labels = processSelectors(
-          Optional.ofNullable(element.build())
-            .map(ObjectMeta::getLabels)
-            .orElse(new HashMap<>()),
-          true);
-        element.withLabels(labels);
+    return Optional.of(Collections.singletonList(
+      new TypedVisitor<ObjectMetaBuilder>() {
+        @Override
+        public void visit(ObjectMetaBuilder element) {
+          final Map<String, String> labels = processSelectors(
+            Optional.ofNullable(element.build())
+              .map(ObjectMeta::getLabels)
+              .orElse(new HashMap<>()),
+            true);
+          element.withLabels(labels);
+        }
       }
-    });
+    ));
   }
 
   private Map<String, String> processSelectors(Map<String, String> selectors, boolean includeVersion, Properties... labelPropertyList) {
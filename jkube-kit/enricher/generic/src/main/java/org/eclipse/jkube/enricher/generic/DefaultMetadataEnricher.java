@@ -19,7 +19,11 @@ import org.eclipse.jkube.kit.enricher.api.BaseEnricher;
 import org.eclipse.jkube.kit.enricher.api.JKubeEnricherContext;
 import org.eclipse.jkube.kit.enricher.api.visitor.MetadataVisitor;
 
-import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.builder.Visitor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 public class DefaultMetadataEnricher extends BaseEnricher {
 
@@ -30,8 +34,8 @@ public class DefaultMetadataEnricher extends BaseEnricher {
         this.resourceConfig = buildContext.getConfiguration().getResource();
     }
 
-    private MetadataVisitor<?>[]  visitors() {
-        return new MetadataVisitor[] {
+    private List<Visitor<?>> visitors() {
+        return Arrays.asList(
             MetadataVisitor.deployment(resourceConfig),
             MetadataVisitor.extensionsDeployment(resourceConfig),
             MetadataVisitor.deploymentConfig(resourceConfig),
@@ -52,27 +56,12 @@ public class DefaultMetadataEnricher extends BaseEnricher {
             MetadataVisitor.route(resourceConfig),
             // Apply last: Other MetadataVisitor might initiate the metadata field for the item
             MetadataVisitor.metadata(resourceConfig)
-        };
+        );
     }
 
     @Override
-    public void enrich(PlatformMode platformMode, KubernetesListBuilder builder) {
-        enrichLabelsAndAnnotations(builder);
-    }
-
-    /**
-     * Enrich the given list with labels.
-     *
-     * @param builder the build to create with labels and annotations
-     */
-    private void enrichLabelsAndAnnotations(KubernetesListBuilder builder) {
-        visit(builder, visitors());
-    }
-
-    private void visit(KubernetesListBuilder builder, MetadataVisitor<?>[] visitors) {
-        for (MetadataVisitor<?> visitor : visitors) {
-            builder.accept(visitor);
-        }
+    public Optional<List<Visitor<?>>> getEnrichVisitors(PlatformMode platformMode) {
+        return Optional.of(visitors());
     }
 
 }
\ No newline at end of file
@@ -25,8 +25,8 @@ import org.eclipse.jkube.kit.common.util.Serialization;
 import org.eclipse.jkube.kit.config.resource.PlatformMode;
 import org.eclipse.jkube.kit.enricher.api.BaseEnricher;
 import org.eclipse.jkube.kit.enricher.api.JKubeEnricherContext;
-import org.eclipse.jkube.kit.enricher.api.model.KindAndName;
 import org.eclipse.jkube.kit.common.util.KubernetesHelper;
+import org.eclipse.jkube.kit.enricher.api.util.KubernetesListIndex;
 import org.eclipse.jkube.kit.enricher.api.util.KubernetesResourceUtil;
 
 import java.io.File;
@@ -37,11 +37,10 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -176,29 +175,17 @@ public class DependencyEnricher extends BaseEnricher {
     }
 
     public void filterAndAddItemsToBuilder(KubernetesListBuilder builder, List<HasMetadata> items) {
-        Map<KindAndName, Integer> aIndexMap = new HashMap<>();
-        int nItems = 0;
-
-        // Populate map with existing items in the builder
-        for(int index = 0; index < builder.buildItems().size(); index++, nItems++) {
-            HasMetadata aItem = builder.buildItems().get(index);
-            KindAndName aKey = new KindAndName(aItem);
-            aIndexMap.put(aKey, index);
-        }
-
+        final KubernetesListIndex index = new KubernetesListIndex(builder);
         for(HasMetadata item : items) {
-            KindAndName aKey = new KindAndName(item);
-
-            if(aIndexMap.containsKey(aKey)) { // Merge the override fragments, and remove duplicate
-                HasMetadata duplicateItem = builder.buildItems().get(aIndexMap.get(aKey));
-                item = KubernetesResourceUtil.mergeResources(item, duplicateItem, log, false);
-                builder.setToItems(aIndexMap.get(aKey), item);
+            final Optional<HasMetadata> duplicateItem = index.getLastByKindAndName(item);
+            if(duplicateItem.isPresent()) { // Merge the override fragments, and remove duplicate
+                index.replace(duplicateItem.get(), KubernetesResourceUtil.mergeResources(item, duplicateItem.get(), log, false));
             }
             else {
-                aIndexMap.put(aKey, nItems++);
-                builder.addToItems(item);
+                index.add(item);
             }
         }
+        index.apply();
     }
 
     private void processArtifactSetResources(Set<URI> artifactSet, Function<List<HasMetadata>, Void> function) {
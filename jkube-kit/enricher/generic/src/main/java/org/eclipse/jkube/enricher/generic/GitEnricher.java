@@ -14,7 +14,7 @@
 package org.eclipse.jkube.enricher.generic;
 
 import io.fabric8.kubernetes.api.builder.TypedVisitor;
-import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.builder.Visitor;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import org.eclipse.jkube.kit.common.util.GitUtil;
 import org.eclipse.jkube.kit.config.resource.JKubeAnnotations;
@@ -28,7 +28,9 @@ import org.eclipse.jgit.lib.Repository;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.eclipse.jkube.kit.common.util.GitUtil.sanitizeRemoteUrl;
 
@@ -74,13 +76,15 @@ public class GitEnricher extends BaseEnricher {
     }
 
     @Override
-    public void enrich(PlatformMode platformMode, KubernetesListBuilder builder) {
-        builder.accept(new TypedVisitor<ObjectMetaBuilder>() {
-            @Override
-            public void visit(ObjectMetaBuilder objectMetaBuilder) {
-                objectMetaBuilder.addToAnnotations(getAnnotations(platformMode));
+    public Optional<List<Visitor<?>>> getEnrichVisitors(PlatformMode platformMode) {
+        return Optional.of(Collections.singletonList(
+            new TypedVisitor<ObjectMetaBuilder>() {
+                @Override
+                public void visit(ObjectMetaBuilder objectMetaBuilder) {
+                    objectMetaBuilder.addToAnnotations(getAnnotations(platformMode));
+                }
             }
-        });
+        ));
     }
 
     protected static Map<String, String> getAnnotations(PlatformMode platformMode, String gitRemoteUrl, String branch, String commitId, boolean useDeprecatedAnnotationPrefix) {
@@ -14,10 +14,10 @@
 package org.eclipse.jkube.enricher.generic;
 
 import io.fabric8.kubernetes.api.builder.TypedVisitor;
+import io.fabric8.kubernetes.api.builder.Visitor;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.EnvVarBuilder;
-import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
 import io.fabric8.kubernetes.api.model.PodTemplateSpecBuilder;
 import io.fabric8.kubernetes.api.model.PodTemplateSpecFluent;
 import io.fabric8.kubernetes.api.model.ReplicationControllerBuilder;
@@ -49,6 +49,8 @@ import org.eclipse.jkube.kit.enricher.api.JKubeEnricherContext;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -88,32 +90,29 @@ public class ImageEnricher extends BaseEnricher {
     }
 
     @Override
-    public void create(PlatformMode platformMode, KubernetesListBuilder builder) {
+    public Optional<List<Visitor<?>>> getCreateVisitors(PlatformMode platformMode) {
         if (!hasImageConfiguration()) {
             log.verbose("No images resolved. Skipping ...");
-            return;
+            return Optional.of(Collections.emptyList());
         }
 
-        // Ensure that all controller have template specs
-        ensureTemplateSpecs(builder);
-
-        // Update containers in template specs
-        updateContainers(builder);
+        return Optional.of(Arrays.asList(
+            // Ensure that all controller have template specs
+            ensureTemplateSpecsInReplicationControllers(),
+            ensureTemplateSpecsInRelicaSet(),
+            ensureTemplateSpecsInDeployments(),
+            ensureTemplateSpecsInDaemonSet(),
+            ensureTemplateSpecsInStatefulSet(),
+            ensureTemplateSpecsInDeploymentConfig(),
+            // Update containers in template specs
+            updateContainers()
+        ));
     }
 
     // ============================================================================================================
 
-    private void ensureTemplateSpecs(KubernetesListBuilder builder) {
-        ensureTemplateSpecsInReplicationControllers(builder);
-        ensureTemplateSpecsInRelicaSet(builder);
-        ensureTemplateSpecsInDeployments(builder);
-        ensureTemplateSpecsInDaemonSet(builder);
-        ensureTemplateSpecsInStatefulSet(builder);
-        ensureTemplateSpecsInDeploymentConfig(builder);
-    }
-
-    private void ensureTemplateSpecsInReplicationControllers(KubernetesListBuilder builder) {
-        builder.accept(new TypedVisitor<ReplicationControllerBuilder>() {
+    private TypedVisitor<ReplicationControllerBuilder> ensureTemplateSpecsInReplicationControllers() {
+        return new TypedVisitor<ReplicationControllerBuilder>() {
             @Override
             public void visit(ReplicationControllerBuilder item) {
                 ReplicationControllerFluent<ReplicationControllerBuilder>.SpecNested<ReplicationControllerBuilder> spec =
@@ -123,11 +122,11 @@ public class ImageEnricher extends BaseEnricher {
                     spec.buildTemplate() == null ? spec.withNewTemplate() : spec.editTemplate();
                 template.endTemplate().endSpec();
             }
-        });
+        };
     }
 
-    private void ensureTemplateSpecsInRelicaSet(KubernetesListBuilder builder) {
-        builder.accept(new TypedVisitor<ReplicaSetBuilder>() {
+    private TypedVisitor<ReplicaSetBuilder> ensureTemplateSpecsInRelicaSet() {
+        return new TypedVisitor<ReplicaSetBuilder>() {
             @Override
             public void visit(ReplicaSetBuilder item) {
                 ReplicaSetFluent<ReplicaSetBuilder>.SpecNested<ReplicaSetBuilder> spec =
@@ -136,11 +135,11 @@ public class ImageEnricher extends BaseEnricher {
                     spec.buildTemplate() == null ? spec.withNewTemplate() : spec.editTemplate();
                 template.endTemplate().endSpec();
             }
-        });
+        };
     }
 
-    private void ensureTemplateSpecsInDeployments(KubernetesListBuilder builder) {
-        builder.accept(new TypedVisitor<DeploymentBuilder>() {
+    private TypedVisitor<DeploymentBuilder> ensureTemplateSpecsInDeployments() {
+        return new TypedVisitor<DeploymentBuilder>() {
             @Override
             public void visit(DeploymentBuilder item) {
                 DeploymentFluent<DeploymentBuilder>.SpecNested<DeploymentBuilder> spec =
@@ -149,11 +148,11 @@ public class ImageEnricher extends BaseEnricher {
                     spec.buildTemplate() == null ? spec.withNewTemplate() : spec.editTemplate();
                 template.endTemplate().endSpec();
             }
-        });
+        };
     }
 
-    private void ensureTemplateSpecsInDaemonSet(KubernetesListBuilder builder) {
-        builder.accept(new TypedVisitor<DaemonSetBuilder>() {
+    private TypedVisitor<DaemonSetBuilder> ensureTemplateSpecsInDaemonSet() {
+        return new TypedVisitor<DaemonSetBuilder>() {
             @Override
             public void visit(DaemonSetBuilder item) {
                 DaemonSetFluent<DaemonSetBuilder>.SpecNested<DaemonSetBuilder> spec =
@@ -162,11 +161,11 @@ public class ImageEnricher extends BaseEnricher {
                         spec.buildTemplate() == null ? spec.withNewTemplate() : spec.editTemplate();
                 template.endTemplate().endSpec();
             }
-        });
+        };
     }
 
-    private void ensureTemplateSpecsInStatefulSet(KubernetesListBuilder builder) {
-        builder.accept(new TypedVisitor<StatefulSetBuilder>() {
+    private TypedVisitor<StatefulSetBuilder> ensureTemplateSpecsInStatefulSet() {
+        return new TypedVisitor<StatefulSetBuilder>() {
             @Override
             public void visit(StatefulSetBuilder item) {
                 StatefulSetFluent<StatefulSetBuilder>.SpecNested<StatefulSetBuilder> spec =
@@ -175,11 +174,11 @@ public class ImageEnricher extends BaseEnricher {
                         spec.buildTemplate() == null ? spec.withNewTemplate() : spec.editTemplate();
                 template.endTemplate().endSpec();
             }
-        });
+        };
     }
 
-    private void ensureTemplateSpecsInDeploymentConfig(KubernetesListBuilder builder) {
-        builder.accept(new TypedVisitor<DeploymentConfigBuilder>() {
+    private TypedVisitor<DeploymentConfigBuilder> ensureTemplateSpecsInDeploymentConfig() {
+        return new TypedVisitor<DeploymentConfigBuilder>() {
             @Override
             public void visit(DeploymentConfigBuilder item) {
                 DeploymentConfigFluent<DeploymentConfigBuilder>.SpecNested<DeploymentConfigBuilder> spec =
@@ -188,14 +187,14 @@ public class ImageEnricher extends BaseEnricher {
                         spec.buildTemplate() == null ? spec.withNewTemplate() : spec.editTemplate();
                 template.endTemplate().endSpec();
             }
-        });
+        };
     }
 
 
     // ============================================================================================================
 
-    private void updateContainers(KubernetesListBuilder builder) {
-        builder.accept(new TypedVisitor<PodTemplateSpecBuilder>() {
+    private TypedVisitor<PodTemplateSpecBuilder> updateContainers() {
+        return new TypedVisitor<PodTemplateSpecBuilder>() {
             @Override
             public void visit(PodTemplateSpecBuilder templateBuilder) {
                 PodTemplateSpecFluent<?>.SpecNested<PodTemplateSpecBuilder> podSpec =
@@ -208,7 +207,7 @@ public class ImageEnricher extends BaseEnricher {
                 mergeImageConfigurationWithContainerSpec(containers);
                 podSpec.withContainers(containers).endSpec();
             }
-        });
+        };
     }
 
     // Add missing information to the given containers as found
@@ -14,7 +14,7 @@
 package org.eclipse.jkube.enricher.generic;
 
 import io.fabric8.kubernetes.api.builder.TypedVisitor;
-import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.builder.Visitor;
 import io.fabric8.kubernetes.api.model.ReplicationControllerBuilder;
 import io.fabric8.kubernetes.api.model.ServiceBuilder;
 import io.fabric8.kubernetes.api.model.apps.DaemonSetBuilder;
@@ -30,8 +30,11 @@ import org.eclipse.jkube.kit.enricher.api.BaseEnricher;
 import org.eclipse.jkube.kit.enricher.api.JKubeEnricherContext;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * This enricher will add the maven &gt;scm&lt; related metadata as annotations
@@ -75,63 +78,57 @@ public class MavenScmEnricher extends BaseEnricher {
     }
 
     @Override
-    public void create(PlatformMode platformMode, KubernetesListBuilder builder) {
-        builder.accept(new TypedVisitor<ServiceBuilder>() {
-            @Override
-            public void visit(ServiceBuilder serviceBuilder) {
-                serviceBuilder.editMetadata().addToAnnotations(getAnnotations()).endMetadata();
-            }
-        });
-
-        builder.accept(new TypedVisitor<DeploymentBuilder>() {
-            @Override
-            public void visit(DeploymentBuilder builder) {
-                builder.editMetadata().addToAnnotations(getAnnotations()).endMetadata();
-            }
-        });
-
-        builder.accept(new TypedVisitor<DeploymentConfigBuilder>() {
-            @Override
-            public void visit(DeploymentConfigBuilder builder) {
-                builder.editMetadata().addToAnnotations(getAnnotations()).endMetadata();
-            }
-        });
-
-        builder.accept(new TypedVisitor<ReplicaSetBuilder>() {
-            @Override
-            public void visit(ReplicaSetBuilder builder) {
-                builder.editMetadata().addToAnnotations(getAnnotations()).endMetadata();
-            }
-        });
-
-        builder.accept(new TypedVisitor<ReplicationControllerBuilder>() {
-            @Override
-            public void visit(ReplicationControllerBuilder builder) {
-                builder.editMetadata().addToAnnotations(getAnnotations()).endMetadata();
-            }
-        });
-
-        builder.accept(new TypedVisitor<DaemonSetBuilder>() {
-            @Override
-            public void visit(DaemonSetBuilder builder) {
-                builder.editMetadata().addToAnnotations(getAnnotations()).endMetadata();
-            }
-        });
-
-        builder.accept(new TypedVisitor<StatefulSetBuilder>() {
-            @Override
-            public void visit(StatefulSetBuilder builder) {
-                builder.editMetadata().addToAnnotations(getAnnotations()).endMetadata();
-            }
-        });
-
-        builder.accept(new TypedVisitor<JobBuilder>() {
-            @Override
-            public void visit(JobBuilder builder) {
-                builder.editMetadata().addToAnnotations(getAnnotations()).endMetadata();
+    public Optional<List<Visitor<?>>> getCreateVisitors(PlatformMode platformMode) {
+        return Optional.of(Arrays.asList(
+            new TypedVisitor<ServiceBuilder>() {
+                @Override
+                public void visit(ServiceBuilder serviceBuilder) {
+                    serviceBuilder.editMetadata().addToAnnotations(getAnnotations()).endMetadata();
+                }
+            },
+            new TypedVisitor<DeploymentBuilder>() {
+                @Override
+                public void visit(DeploymentBuilder builder) {
+                    builder.editMetadata().addToAnnotations(getAnnotations()).endMetadata();
+                }
+            },
+            new TypedVisitor<DeploymentConfigBuilder>() {
+                @Override
+                public void visit(DeploymentConfigBuilder builder) {
+                    builder.editMetadata().addToAnnotations(getAnnotations()).endMetadata();
+                }
+            },
+            new TypedVisitor<ReplicaSetBuilder>() {
+                @Override
+                public void visit(ReplicaSetBuilder builder) {
+                    builder.editMetadata().addToAnnotations(getAnnotations()).endMetadata();
+                }
+            },
+            new TypedVisitor<ReplicationControllerBuilder>() {
+                @Override
+                public void visit(ReplicationControllerBuilder builder) {
+                    builder.editMetadata().addToAnnotations(getAnnotations()).endMetadata();
+                }
+            },
+            new TypedVisitor<DaemonSetBuilder>() {
+                @Override
+                public void visit(DaemonSetBuilder builder) {
+                    builder.editMetadata().addToAnnotations(getAnnotations()).endMetadata();
+                }
+            },
+            new TypedVisitor<StatefulSetBuilder>() {
+                @Override
+                public void visit(StatefulSetBuilder builder) {
+                    builder.editMetadata().addToAnnotations(getAnnotations()).endMetadata();
+                }
+            },
+            new TypedVisitor<JobBuilder>() {
+                @Override
+                public void visit(JobBuilder builder) {
+                    builder.editMetadata().addToAnnotations(getAnnotations()).endMetadata();
+                }
             }
-        });
-
+        ));
     }
 
     private boolean hasScm(JavaProject project) {
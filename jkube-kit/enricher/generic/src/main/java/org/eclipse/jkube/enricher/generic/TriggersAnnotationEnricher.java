@@ -16,10 +16,10 @@ package org.eclipse.jkube.enricher.generic;
 import io.fabric8.kubernetes.api.builder.TypedVisitor;
 import io.fabric8.kubernetes.api.builder.Visitable;
 import io.fabric8.kubernetes.api.builder.VisitableBuilder;
+import io.fabric8.kubernetes.api.builder.Visitor;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.api.model.apps.DaemonSet;
@@ -40,8 +40,11 @@ import org.eclipse.jkube.kit.enricher.api.BaseEnricher;
 import org.eclipse.jkube.kit.enricher.api.JKubeEnricherContext;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -71,40 +74,39 @@ public class TriggersAnnotationEnricher extends BaseEnricher {
     }
 
     @Override
-    public void enrich(PlatformMode platformMode, KubernetesListBuilder builder) {
+    public Optional<List<Visitor<?>>> getEnrichVisitors(PlatformMode platformMode) {
         if (platformMode != PlatformMode.openshift) {
-            return;
+            return Optional.of(Collections.emptyList());
         }
-        builder.accept(new TypedVisitor<StatefulSetBuilder>() {
-            @Override
-            public void visit(StatefulSetBuilder o) {
-                StatefulSet s = o.build();
-                if (canWriteTriggers(s)) {
-                    o.withMetadata(getMetaEnrichedWithTriggers(s.getMetadata(), o));
+        return Optional.of(Arrays.asList(
+            new TypedVisitor<StatefulSetBuilder>() {
+                @Override
+                public void visit(StatefulSetBuilder o) {
+                    StatefulSet s = o.build();
+                    if (canWriteTriggers(s)) {
+                        o.withMetadata(getMetaEnrichedWithTriggers(s.getMetadata(), o));
+                    }
                 }
-            }
-        });
-
-        builder.accept(new TypedVisitor<ReplicaSetBuilder>() {
-            @Override
-            public void visit(ReplicaSetBuilder o) {
-                ReplicaSet s = o.build();
-                if (canWriteTriggers(s)) {
-                    o.withMetadata(getMetaEnrichedWithTriggers(s.getMetadata(), o));
+            },
+            new TypedVisitor<ReplicaSetBuilder>() {
+                @Override
+                public void visit(ReplicaSetBuilder o) {
+                    ReplicaSet s = o.build();
+                    if (canWriteTriggers(s)) {
+                        o.withMetadata(getMetaEnrichedWithTriggers(s.getMetadata(), o));
+                    }
                 }
-            }
-        });
-
-        builder.accept(new TypedVisitor<DaemonSetBuilder>() {
-            @Override
-            public void visit(DaemonSetBuilder o) {
-                DaemonSet s = o.build();
-                if (canWriteTriggers(s)) {
-                    o.withMetadata(getMetaEnrichedWithTriggers(s.getMetadata(), o));
+            },
+            new TypedVisitor<DaemonSetBuilder>() {
+                @Override
+                public void visit(DaemonSetBuilder o) {
+                    DaemonSet s = o.build();
+                    if (canWriteTriggers(s)) {
+                        o.withMetadata(getMetaEnrichedWithTriggers(s.getMetadata(), o));
+                    }
                 }
             }
-        });
-
+        ));
     }
 
     protected ObjectMeta getMetaEnrichedWithTriggers(ObjectMeta meta, VisitableBuilder<?, ?> o) {
@@ -31,12 +31,12 @@ import org.eclipse.jkube.kit.config.resource.PlatformMode;
 import org.eclipse.jkube.kit.enricher.api.BaseEnricher;
 import org.eclipse.jkube.kit.enricher.api.EnricherConfig;
 import org.eclipse.jkube.kit.enricher.api.EnricherContext;
+import org.eclipse.jkube.kit.enricher.api.util.KubernetesListIndex;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Map;
 import java.util.Objects;
 
-import static org.eclipse.jkube.kit.enricher.api.util.KubernetesResourceUtil.removeItemFromKubernetesBuilder;
 
 
 public class DeploymentConfigEnricher extends BaseEnricher {
@@ -50,19 +50,21 @@ public class DeploymentConfigEnricher extends BaseEnricher {
     @Override
     public void create(PlatformMode platformMode, KubernetesListBuilder builder) {
         if (isApplicable(platformMode)) {
-            for(HasMetadata item : builder.buildItems()) {
+            final KubernetesListIndex index = new KubernetesListIndex(builder);
+            for(HasMetadata item : index.getItems()) {
                 if(item instanceof Deployment) {
                     DeploymentConfig deploymentConfig = convertFromAppsV1Deployment(item);
-                    removeItemFromKubernetesBuilder(builder, item);
-                    builder.addToItems(deploymentConfig);
+                    index.remove(item);
+                    index.add(deploymentConfig);
                     log.info("Converting Deployment to DeploymentConfig");
                 } else if (item instanceof io.fabric8.kubernetes.api.model.extensions.Deployment) {
                     DeploymentConfig deploymentConfig = convertFromExtensionsV1Beta1Deployment(item);
-                    removeItemFromKubernetesBuilder(builder, item);
-                    builder.addToItems(deploymentConfig);
+                    index.remove(item);
+                    index.add(deploymentConfig);
                     log.info("Converting Deployment to DeploymentConfig");
                 }
             }
+            index.apply();
         }
     }
 
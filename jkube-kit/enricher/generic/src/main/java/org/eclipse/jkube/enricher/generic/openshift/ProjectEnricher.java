@@ -25,8 +25,8 @@ import io.fabric8.openshift.api.model.ProjectStatusBuilder;
 import org.eclipse.jkube.kit.config.resource.PlatformMode;
 import org.eclipse.jkube.kit.enricher.api.BaseEnricher;
 import org.eclipse.jkube.kit.enricher.api.JKubeEnricherContext;
+import org.eclipse.jkube.kit.enricher.api.util.KubernetesListIndex;
 
-import static org.eclipse.jkube.kit.enricher.api.util.KubernetesResourceUtil.removeItemFromKubernetesBuilder;
 
 
 public class ProjectEnricher extends BaseEnricher {
@@ -39,13 +39,15 @@ public class ProjectEnricher extends BaseEnricher {
     @Override
     public void create(PlatformMode platformMode, KubernetesListBuilder builder) {
         if(platformMode == PlatformMode.openshift) {
-            for(HasMetadata item : builder.buildItems()) {
+            final KubernetesListIndex index = new KubernetesListIndex(builder);
+            for(HasMetadata item : index.getItems()) {
                 if(item instanceof Namespace) {
                     Project project = convertToProject((Namespace) item);
-                    removeItemFromKubernetesBuilder(builder, item);
-                    builder.addToItems(project);
+                    index.remove(item);
+                    index.add(project);
                 }
             }
+            index.apply();
         }
     }
 
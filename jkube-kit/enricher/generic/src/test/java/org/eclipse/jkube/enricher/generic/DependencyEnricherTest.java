@@ -16,6 +16,8 @@ package org.eclipse.jkube.enricher.generic;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
 import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.Dependency;
 import org.eclipse.jkube.kit.common.KitLogger;
@@ -36,7 +38,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 
 class DependencyEnricherTest {
 
@@ -72,6 +74,26 @@ class DependencyEnricherTest {
         assertThat(checkUniqueResources(aResourceList.getItems())).isTrue();
     }
 
+    @Test
+    void filterAndAddItemsToBuilder_withDuplicateKindAndName_mergesIntoLastDuplicate() throws Exception {
+        // Given
+        final KubernetesListBuilder builder = new KubernetesListBuilder()
+            .addToItems(new SecretBuilder().withNewMetadata().withName("the-secret").withNamespace("first")
+                .addToLabels("position", "first").endMetadata().build())
+            .addToItems(new SecretBuilder().withNewMetadata().withName("the-secret").withNamespace("last")
+                .addToLabels("position", "last").endMetadata().build());
+        final Secret fragment = new SecretBuilder().withNewMetadata().withName("the-secret")
+            .addToAnnotations("merged", "true").endMetadata().build();
+        // When
+        new DependencyEnricher(context).filterAndAddItemsToBuilder(builder, Collections.singletonList(fragment));
+        // Then
+        final List<HasMetadata> items = builder.buildItems();
+        assertThat(items.size()).isEqualTo(2);
+        assertThat(items.get(0).getMetadata().getAnnotations()).doesNotContainKey("merged");
+        assertThat(items.get(1).getMetadata().getAnnotations()).containsEntry("merged", "true");
+        assertThat(items.get(1).getMetadata().getLabels()).containsEntry("position", "last");
+    }
+
     private KubernetesList enrichResources(KubernetesListBuilder aBuilder) throws URISyntaxException {
         DependencyEnricher enricher = new DependencyEnricher(context);
         enricher.create(PlatformMode.kubernetes, aBuilder);
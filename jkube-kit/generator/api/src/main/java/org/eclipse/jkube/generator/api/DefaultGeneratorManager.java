@@ -100,7 +100,9 @@ public class DefaultGeneratorManager implements GeneratorManager {
       log.verbose(" - %s", generator.getName());
       if (generator.isApplicable(imageConfigs)) {
         log.info("Running generator %s", generator.getName());
-        imageConfigs = generator.customize(imageConfigs, genCtx.isPrePackagePhase());
+        final List<ImageConfiguration> generatorInput = imageConfigs;
+        imageConfigs = genCtx.getTimings().call("generate", generator.getName(),
+          () -> generator.customize(generatorInput, genCtx.isPrePackagePhase()));
       }
     }
     return imageConfigs.stream()
@@ -22,6 +22,7 @@ import lombok.NoArgsConstructor;
 import org.eclipse.jkube.kit.common.BuildRecreateMode;
 import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.BuildTimings;
 import org.eclipse.jkube.kit.config.image.WatchMode;
 import org.eclipse.jkube.kit.config.image.build.JKubeBuildStrategy;
 import org.eclipse.jkube.kit.config.resource.RuntimeMode;
@@ -61,9 +62,14 @@ public class GeneratorContext {
     private String openshiftBuildOutputKind;
     private String openshiftNamespace;
     private BuildRecreateMode openshiftBuildRecreate;
+    private BuildTimings timings;
 
 
     public GeneratorMode getGeneratorMode() {
         return Optional.ofNullable(generatorMode).orElse(GeneratorMode.BUILD);
     }
+
+    public BuildTimings getTimings() {
+        return Optional.ofNullable(timings).orElse(BuildTimings.DISABLED);
+    }
 }
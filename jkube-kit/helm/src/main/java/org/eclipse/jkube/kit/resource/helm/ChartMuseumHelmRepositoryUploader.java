@@ -25,4 +25,10 @@ public class ChartMuseumHelmRepositoryUploader extends StandardRepositoryUploade
   public String url(File helmChart, HelmRepository repository) {
     return repository.getUrl();
   }
+
+  @Override
+  protected String chartUrl(File helmChart, HelmRepository repository) {
+    // Charts are posted to the API endpoint, their download URL can't be inferred from the upload URL
+    return null;
+  }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.resource.helm;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Replaces the <code>"${name}"</code>, <code>${name}</code> and <code>$name</code> placeholders of a set of
+ * {@link HelmParameter}s with their Helm expressions in a single scan of the template.
+ *
+ * <p> When several parameters match at the same position, the one declared first wins (e.g. <code>$foo</code>
+ * declared before <code>$foobar</code> matches <code>$foobar</code>), as it did when each parameter was replaced
+ * in turn. Replaced expressions are not interpolated again.
+ */
+class HelmParameterInterpolator {
+
+  private static final char PLACEHOLDER_START = '$';
+  private static final char QUOTE = '"';
+
+  private final Map<String, String> expressions;
+  private final Map<String, Integer> declarationOrder;
+  private final int[] nameLengths;
+
+  HelmParameterInterpolator(List<HelmParameter> parameters) {
+    expressions = new HashMap<>();
+    declarationOrder = new HashMap<>();
+    final TreeSet<Integer> lengths = new TreeSet<>();
+    for (HelmParameter parameter : parameters) {
+      if (!expressions.containsKey(parameter.getName())) {
+        expressions.put(parameter.getName(), parameter.toExpression());
+        declarationOrder.put(parameter.getName(), declarationOrder.size());
+        lengths.add(parameter.getName().length());
+      }
+    }
+    nameLengths = lengths.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  String interpolate(String template) {
+    if (expressions.isEmpty()) {
+      return template;
+    }
+    StringBuilder sb = null;
+    int copied = 0;
+    int position = template.indexOf(PLACEHOLDER_START);
+    while (position >= 0) {
+      int start = position;
+      int end = -1;
+      String expression = null;
+      final String bracedName = bracedNameAt(template, position);
+      if (bracedName != null && expressions.containsKey(bracedName)) {
+        expression = expressions.get(bracedName);
+        end = position + bracedName.length() + 3;
+        if (start > copied && template.charAt(start - 1) == QUOTE
+          && end < template.length() && template.charAt(end) == QUOTE) {
+          start--;
+          end++;
+        }
+      } else {
+        final String name = bareNameAt(template, position);
+        if (name != null) {
+          expression = expressions.get(name);
+          end = position + name.length() + 1;
+        }
+      }
+      if (expression != null) {
+        if (sb == null) {
+          sb = new StringBuilder(template.length() + 64);
+        }
+        sb.append(template, copied, start).append(expression);
+        copied = end;
+        position = template.indexOf(PLACEHOLDER_START, end);
+      } else {
+        position = template.indexOf(PLACEHOLDER_START, position + 1);
+      }
+    }
+    if (sb == null) {
+      return template;
+    }
+    return sb.append(template, copied, template.length()).toString();
+  }
+
+  private static String bracedNameAt(String template, int position) {
+    if (position + 1 >= template.length() || template.charAt(position + 1) != '{') {
+      return null;
+    }
+    final int close = template.indexOf('}', position + 2);
+    return close < 0 ? null : template.substring(position + 2, close);
+  }
+
+  private String bareNameAt(String template, int position) {
+    String ret = null;
+    int retOrder = Integer.MAX_VALUE;
+    for (int length : nameLengths) {
+      final int end = position + 1 + length;
+      if (end > template.length()) {
+        break;
+      }
+      final String candidate = template.substring(position + 1, end);
+      final Integer order = declarationOrder.get(candidate);
+      if (order != null && order < retOrder) {
+        ret = candidate;
+        retOrder = order;
+      }
+    }
+    return ret;
+  }
+}
@@ -15,6 +15,7 @@ package org.eclipse.jkube.kit.resource.helm;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -29,6 +30,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
@@ -52,6 +56,7 @@ import org.eclipse.jkube.kit.common.RegistryServerConfiguration;
 import org.eclipse.jkube.kit.common.ResourceFileType;
 import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
 import org.eclipse.jkube.kit.common.archive.JKubeTarArchiver;
+import org.eclipse.jkube.kit.common.util.AsyncUtil;
 import org.eclipse.jkube.kit.common.util.FileUtil;
 import org.eclipse.jkube.kit.common.util.KubernetesHelper;
 import org.eclipse.jkube.kit.common.util.ResourceUtil;
@@ -112,49 +117,92 @@ public class HelmService {
    * @throws IOException in case of any I/O exception when writing the Chart files.
    */
   public void generateHelmCharts(HelmConfig helmConfig) throws IOException {
-    for (HelmConfig.HelmType helmType : helmConfig.getTypes()) {
-      logger.info("Creating Helm Chart \"%s\" for %s", helmConfig.getChart(), helmType.getDescription());
-      logger.debug("Source directory: %s", helmConfig.getSourceDir());
-      logger.debug("OutputDir: %s", helmConfig.getOutputDir());
-
-      final File sourceDir = prepareSourceDir(helmConfig, helmType);
-      final File outputDir = prepareOutputDir(helmConfig, helmType);
-      final File tarballOutputDir = new File(Objects.requireNonNull(helmConfig.getTarballOutputDir(),
-          "Tarball output directory is required"), helmType.getOutputDir());
-      final File templatesDir = new File(outputDir, "templates");
-      FileUtils.forceMkdir(templatesDir);
-
-      logger.debug("Processing source files");
-      processSourceFiles(sourceDir, templatesDir);
-      logger.debug("Creating %s", CHART_FILENAME);
-      createChartYaml(helmConfig, outputDir);
-      logger.debug("Copying additional files");
-      copyAdditionalFiles(helmConfig, outputDir);
-      logger.debug("Copying test files");
-      processTestFiles(templatesDir);
-      logger.debug("Gathering parameters for placeholders");
-      final List<HelmParameter> parameters = collectParameters(helmConfig);
-      logger.debug("Generating values.yaml");
-      createValuesYaml(parameters, outputDir);
-      logger.debug("Interpolating YAML Chart templates");
-      interpolateChartTemplates(parameters, templatesDir);
-      final File tarballFile = new File(tarballOutputDir, String.format("%s-%s%s.%s",
-          helmConfig.getChart(), helmConfig.getVersion(), resolveHelmClassifier(helmConfig), helmConfig.getChartExtension()));
-      logger.debug("Creating Helm configuration Tarball: '%s'", tarballFile.getAbsolutePath());
-      final Consumer<TarArchiveEntry> prependNameAsDirectory = tae ->
-          tae.setName(String.format("%s/%s", helmConfig.getChart(), tae.getName()));
-      // outputDir might contain tarball already from previous run, filter out tarball file outputDir from recursive listing
-      List<File> helmTarballContents = FileUtil.listFilesAndDirsRecursivelyInDirectory(outputDir).stream()
-          .filter(f -> !f.equals(tarballFile))
-          .collect(Collectors.toList());
-      JKubeTarArchiver.createTarBall(
-          tarballFile, outputDir, helmTarballContents, Collections.emptyMap(),
-          ArchiveCompression.fromFileName(tarballFile.getName()), null, prependNameAsDirectory);
+    final List<HelmConfig.HelmType> helmTypes = helmConfig.getTypes();
+    final List<File> tarballFiles = new ArrayList<>();
+    if (helmTypes.size() <= 1) {
+      for (HelmConfig.HelmType helmType : helmTypes) {
+        tarballFiles.add(generateHelmChart(helmConfig, helmType));
+      }
+    } else {
+      // Each type is generated in its own output directory, charts can be generated and packaged concurrently
+      final ExecutorService executorService = Executors.newFixedThreadPool(helmTypes.size());
+      try {
+        final List<CompletableFuture<File>> generated = new ArrayList<>();
+        for (HelmConfig.HelmType helmType : helmTypes) {
+          generated.add(CompletableFuture.supplyAsync(() -> {
+            try {
+              return generateHelmChart(helmConfig, helmType);
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          }, executorService));
+        }
+        try {
+          tarballFiles.addAll(AsyncUtil.joinAll(generated));
+        } catch (UncheckedIOException e) {
+          throw unwrapGenerationFailure(e);
+        }
+      } finally {
+        executorService.shutdownNow();
+      }
+    }
+    // Listeners are notified from the calling thread and in the configured type order
+    for (int it = 0; it < helmTypes.size(); it++) {
+      final HelmConfig.HelmType helmType = helmTypes.get(it);
+      final File tarballFile = tarballFiles.get(it);
       Optional.ofNullable(helmConfig.getGeneratedChartListeners()).orElse(Collections.emptyList())
           .forEach(listener -> listener.chartFileGenerated(helmConfig, helmType, tarballFile));
     }
   }
 
+  private File generateHelmChart(HelmConfig helmConfig, HelmConfig.HelmType helmType) throws IOException {
+    logger.info("Creating Helm Chart \"%s\" for %s", helmConfig.getChart(), helmType.getDescription());
+    logger.debug("Source directory: %s", helmConfig.getSourceDir());
+    logger.debug("OutputDir: %s", helmConfig.getOutputDir());
+
+    final File sourceDir = prepareSourceDir(helmConfig, helmType);
+    final File outputDir = prepareOutputDir(helmConfig, helmType);
+    final File tarballOutputDir = new File(Objects.requireNonNull(helmConfig.getTarballOutputDir(),
+        "Tarball output directory is required"), helmType.getOutputDir());
+    final File templatesDir = new File(outputDir, "templates");
+    FileUtils.forceMkdir(templatesDir);
+
+    logger.debug("Processing source files");
+    processSourceFiles(sourceDir, templatesDir);
+    logger.debug("Creating %s", CHART_FILENAME);
+    createChartYaml(helmConfig, outputDir);
+    logger.debug("Copying additional files");
+    copyAdditionalFiles(helmConfig, outputDir);
+    logger.debug("Copying test files");
+    processTestFiles(templatesDir);
+    logger.debug("Gathering parameters for placeholders");
+    final List<HelmParameter> parameters = collectParameters(helmConfig);
+    logger.debug("Generating values.yaml");
+    createValuesYaml(parameters, outputDir);
+    logger.debug("Interpolating YAML Chart templates");
+    interpolateChartTemplates(parameters, templatesDir);
+    final File tarballFile = new File(tarballOutputDir, String.format("%s-%s%s.%s",
+        helmConfig.getChart(), helmConfig.getVersion(), resolveHelmClassifier(helmConfig), helmConfig.getChartExtension()));
+    logger.debug("Creating Helm configuration Tarball: '%s'", tarballFile.getAbsolutePath());
+    final Consumer<TarArchiveEntry> prependNameAsDirectory = tae ->
+        tae.setName(String.format("%s/%s", helmConfig.getChart(), tae.getName()));
+    // outputDir might contain tarball already from previous run, filter out tarball file outputDir from recursive listing
+    List<File> helmTarballContents = FileUtil.listFilesAndDirsRecursivelyInDirectory(outputDir).stream()
+        .filter(f -> !f.equals(tarballFile))
+        .collect(Collectors.toList());
+    JKubeTarArchiver.createTarBall(
+        tarballFile, outputDir, helmTarballContents, Collections.emptyMap(),
+        ArchiveCompression.fromFileName(tarballFile.getName()), null, prependNameAsDirectory);
+    return tarballFile;
+  }
+
+  private static IOException unwrapGenerationFailure(UncheckedIOException failure) {
+    final IOException cause = failure.getCause();
+    for (Throwable suppressed : failure.getSuppressed()) {
+      cause.addSuppressed(suppressed instanceof UncheckedIOException ? suppressed.getCause() : suppressed);
+    }
+    return cause;
+  }
 
   /**
    * Uploads the charts defined in the provided {@link HelmConfig} to the applicable configured repository.
@@ -307,11 +355,17 @@ public class HelmService {
       throws IOException, BadUploadException {
 
     final HelmUploaderManager helmUploaderManager = new HelmUploaderManager();
+    // Every type's tarball shares the same name (and remote location), uploads must remain sequential and ordered
     for (HelmConfig.HelmType helmType : helmConfig.getTypes()) {
       logger.info("Uploading Helm Chart \"%s\" to %s", helmConfig.getChart(), helmRepository.getName());
       logger.debug("OutputDir: %s", helmConfig.getOutputDir());
-      helmUploaderManager.getHelmUploader(helmRepository.getType())
-        .uploadSingle(resolveTarballFile(helmConfig, helmType).toFile(), helmRepository);
+      final HelmUploader helmUploader = helmUploaderManager.getHelmUploader(helmRepository.getType());
+      final File tarballFile = resolveTarballFile(helmConfig, helmType).toFile();
+      if (helmUploader.isUploaded(tarballFile, helmRepository)) {
+        logger.info("Helm Chart \"%s\" is already present in %s, skipping upload", tarballFile.getName(), helmRepository.getName());
+        continue;
+      }
+      helmUploader.uploadSingle(tarballFile, helmRepository);
       logger.info("Upload Successful");
     }
   }
@@ -450,27 +504,10 @@ public class HelmService {
     }
   }
 
-  private static String interpolateTemplateWithHelmParameter(String template, HelmParameter parameter) {
-    final String name = parameter.getName();
-    final String from = "$" + name;
-    final String braceEnclosedFrom = "${" + name + "}";
-    final String quotedBraceEnclosedFrom = "\"" + braceEnclosedFrom + "\"";
-    String answer = template;
-    final String to = parameter.toExpression();
-    answer = answer.replace(quotedBraceEnclosedFrom, to);
-    answer = answer.replace(braceEnclosedFrom, to);
-    answer = answer.replace(from, to);
-    return answer;
-  }
-
-
-  private static void interpolateTemplateParameterExpressionsWithHelmExpressions(File file, List<HelmParameter> helmParameters) throws IOException {
+  private static void interpolateTemplateParameterExpressionsWithHelmExpressions(
+      File file, HelmParameterInterpolator interpolator) throws IOException {
     final String originalTemplate = FileUtils.readFileToString(file, Charset.defaultCharset());
-
-    String interpolatedTemplate = originalTemplate;
-    for (HelmParameter helmParameter : helmParameters) {
-      interpolatedTemplate = interpolateTemplateWithHelmParameter(interpolatedTemplate, helmParameter);
-    }
+    final String interpolatedTemplate = interpolator.interpolate(originalTemplate);
     if (!originalTemplate.equals(interpolatedTemplate)) {
       FileUtils.writeStringToFile(file, interpolatedTemplate, Charset.defaultCharset());
     }
@@ -478,9 +515,10 @@ public class HelmService {
 
   private static void interpolateChartTemplates(List<HelmParameter> helmParameters, File templatesDir) throws IOException {
     // now let's replace all the parameter expressions in each template
+    final HelmParameterInterpolator interpolator = new HelmParameterInterpolator(helmParameters);
     for (File directory : new File[]{templatesDir, new File(templatesDir, "tests")}) {
       for (File file : listYamls(directory)) {
-        interpolateTemplateParameterExpressionsWithHelmExpressions(file, helmParameters);
+        interpolateTemplateParameterExpressionsWithHelmExpressions(file, interpolator);
       }
     }
   }
@@ -19,4 +19,18 @@ import java.io.IOException;
 public interface HelmUploader {
   HelmRepository.HelmRepoType getType();
   void uploadSingle(File file, HelmRepository repository) throws IOException, BadUploadException ;
+
+  /**
+   * Checks if the repository already contains the provided chart file with the very same content.
+   *
+   * <p> Uploaders that can't verify the remote content should return false so that the chart is always uploaded.
+   *
+   * @param file the chart file.
+   * @param repository the target repository.
+   * @return true if the chart doesn't need to be uploaded again, false otherwise.
+   * @throws IOException in case the local chart file can't be read.
+   */
+  default boolean isUploaded(File file, HelmRepository repository) throws IOException {
+    return false;
+  }
 }
\ No newline at end of file
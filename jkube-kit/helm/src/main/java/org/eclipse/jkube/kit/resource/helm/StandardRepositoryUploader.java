@@ -18,11 +18,13 @@ import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.HttpResponse;
 import io.fabric8.kubernetes.client.utils.HttpClientUtils;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jkube.kit.common.util.Base64Util;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.time.Duration;
 
@@ -32,6 +34,11 @@ public abstract class StandardRepositoryUploader implements HelmUploader {
   private final String method;
   private final HelmRepository.HelmRepoType type;
   private static final long HELM_UPLOAD_TIMEOUT_MINUTES = 30;
+  private static final String CHECKSUM_SHA256_HEADER = "X-Checksum-Sha256";
+  private static final String CHECKSUM_SHA1_HEADER = "X-Checksum-Sha1";
+  private static final String ETAG_HEADER = "ETag";
+  private static final int SHA1_HEX_LENGTH = 40;
+  private static final int SHA256_HEX_LENGTH = 64;
 
   protected StandardRepositoryUploader(String method, HelmRepository.HelmRepoType type) {
     this.method = method;
@@ -40,6 +47,17 @@ public abstract class StandardRepositoryUploader implements HelmUploader {
 
   public abstract String url(File helmChart, HelmRepository repository);
 
+  /**
+   * Returns the URL where the uploaded chart file can be retrieved from or null if unknown.
+   *
+   * @param helmChart the chart file.
+   * @param repository the target repository.
+   * @return the chart URL or null.
+   */
+  protected String chartUrl(File helmChart, HelmRepository repository) {
+    return url(helmChart, repository);
+  }
+
   @Override
   public HelmRepository.HelmRepoType getType() {
     return type;
@@ -49,11 +67,11 @@ public abstract class StandardRepositoryUploader implements HelmUploader {
   public void uploadSingle(File file, HelmRepository repository) throws IOException, BadUploadException {
     String uploadUrl = url(file, repository);
 
-    try (HttpClient httpClient = HttpClientUtils.getHttpClientFactory().newBuilder().tag(new RequestConfigBuilder().withRequestRetryBackoffLimit(0).build()).build()) {
+    try (HttpClient httpClient = newHttpClient()) {
       HttpRequest httpRequest = httpClient.newHttpRequestBuilder()
           .method(method, "application/gzip", Files.newInputStream(file.toPath()), file.length())
           // At this point username and password are always populated since this is requirement in HelmService
-          .header("Authorization", String.format("Basic %s", Base64Util.encodeToString(repository.getUsername() + ":" + repository.getPassword())))
+          .header("Authorization", authorization(repository))
           .uri(uploadUrl)
           .build();
       HttpResponse<byte[]> response = get(httpClient.sendAsync(httpRequest, byte[].class), Duration.ofMinutes(HELM_UPLOAD_TIMEOUT_MINUTES));
@@ -61,6 +79,73 @@ public abstract class StandardRepositoryUploader implements HelmUploader {
     }
   }
 
+  /**
+   * Checks the checksum headers (X-Checksum-Sha256, X-Checksum-Sha1 or ETag) returned for the chart URL against the
+   * local file's digests.
+   *
+   * <p> A ranged GET request for the first byte is used instead of HEAD since not every repository (or proxy) handles
+   * HEAD requests properly.
+   */
+  @Override
+  public boolean isUploaded(File file, HelmRepository repository) throws IOException {
+    final String chartUrl = chartUrl(file, repository);
+    if (StringUtils.isBlank(chartUrl)) {
+      return false;
+    }
+    final HttpResponse<byte[]> response;
+    try (HttpClient httpClient = newHttpClient()) {
+      final HttpRequest httpRequest = httpClient.newHttpRequestBuilder()
+          .header("Authorization", authorization(repository))
+          .header("Range", "bytes=0-0")
+          .uri(chartUrl)
+          .build();
+      response = get(httpClient.sendAsync(httpRequest, byte[].class), Duration.ofMinutes(HELM_UPLOAD_TIMEOUT_MINUTES));
+    } catch (IllegalStateException e) {
+      // The pre-flight check is best effort, any failure will be reported by the upload itself
+      return false;
+    }
+    if (!response.isSuccessful()) {
+      return false;
+    }
+    final String sha256 = response.header(CHECKSUM_SHA256_HEADER);
+    if (StringUtils.isNotBlank(sha256)) {
+      return sha256.trim().equalsIgnoreCase(digest(file, DigestUtils::sha256Hex));
+    }
+    final String sha1 = response.header(CHECKSUM_SHA1_HEADER);
+    if (StringUtils.isNotBlank(sha1)) {
+      return sha1.trim().equalsIgnoreCase(digest(file, DigestUtils::sha1Hex));
+    }
+    final String etag = parseETag(response.header(ETAG_HEADER));
+    if (etag.length() == SHA1_HEX_LENGTH) {
+      return etag.equalsIgnoreCase(digest(file, DigestUtils::sha1Hex));
+    } else if (etag.length() == SHA256_HEX_LENGTH) {
+      return etag.equalsIgnoreCase(digest(file, DigestUtils::sha256Hex));
+    }
+    return false;
+  }
+
+  private static HttpClient newHttpClient() {
+    return HttpClientUtils.getHttpClientFactory().newBuilder().tag(new RequestConfigBuilder().withRequestRetryBackoffLimit(0).build()).build();
+  }
+
+  private static String authorization(HelmRepository repository) {
+    return String.format("Basic %s", Base64Util.encodeToString(repository.getUsername() + ":" + repository.getPassword()));
+  }
+
+  private static String digest(File file, Digester digester) throws IOException {
+    try (InputStream is = Files.newInputStream(file.toPath())) {
+      return digester.digest(is);
+    }
+  }
+
+  // Nexus returns the SHA-1 as ETag, either plain or as {SHA1{<digest>}}
+  private static String parseETag(String etag) {
+    String ret = StringUtils.removeStart(StringUtils.trimToEmpty(etag), "W/");
+    ret = StringUtils.strip(ret, "\"");
+    ret = StringUtils.removeStart(ret, "{SHA1{");
+    return StringUtils.removeEnd(ret, "}}");
+  }
+
   private void handleHttpResponse(HttpResponse<byte[]> response) throws BadUploadException {
     if (!response.isSuccessful()) {
       String responseStr;
@@ -75,6 +160,11 @@ public abstract class StandardRepositoryUploader implements HelmUploader {
     }
   }
 
+  @FunctionalInterface
+  private interface Digester {
+    String digest(InputStream inputStream) throws IOException;
+  }
+
   protected String formatRepositoryURL(File file, HelmRepository repository) {
     return String.format("%s%s", StringUtils.appendIfMissing(repository.getUrl(), "/"), file.getName());
   }
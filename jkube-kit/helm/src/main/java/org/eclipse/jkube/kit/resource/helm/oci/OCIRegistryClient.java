@@ -17,6 +17,9 @@ import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.HttpResponse;
 import io.fabric8.kubernetes.client.utils.URLUtils;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.input.BoundedInputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jkube.kit.common.util.Serialization;
@@ -28,10 +31,15 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.net.HttpURLConnection.HTTP_ACCEPTED;
+import static java.net.HttpURLConnection.HTTP_CREATED;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static java.net.HttpURLConnection.HTTP_OK;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.eclipse.jkube.kit.common.util.AsyncUtil.get;
@@ -43,13 +51,26 @@ public class OCIRegistryClient {
   private static final String HELM_CONFIG_MEDIA_TYPE = "application/vnd.cncf.helm.config.v1+json";
   private static final String HELM_CHART_CONTENT_MEDIA_TYPE = "application/vnd.cncf.helm.chart.content.v1.tar+gzip";
   private static final String LOCATION_HEADER = "Location";
+  private static final String RANGE_HEADER = "Range";
   private static final long OCI_UPLOAD_HTTP_REQUEST_TIMEOUT = 30;
+  private static final int OCI_UPLOAD_CHUNK_SIZE = 10 * 1024 * 1024;
+  private static final int OCI_UPLOAD_MAX_ATTEMPTS = 3;
+  private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+  // Repository where each blob was last pushed to (or found) per registry, used as source for cross-repository mounts.
+  // It's only populated by the uploads of this JVM, blobs pushed by other processes are never mounted.
+  private static final Map<String, String> BLOB_REPOSITORIES = new ConcurrentHashMap<>();
   private final OCIRegistryEndpoint ociRegistryEndpoint;
   private final HttpClient httpClient;
+  private final int chunkSize;
 
   public OCIRegistryClient(HelmRepository repository, HttpClient httpClient) {
+    this(repository, httpClient, OCI_UPLOAD_CHUNK_SIZE);
+  }
+
+  OCIRegistryClient(HelmRepository repository, HttpClient httpClient, int chunkSize) {
     this.ociRegistryEndpoint = new OCIRegistryEndpoint(repository);
     this.httpClient = httpClient;
+    this.chunkSize = chunkSize;
   }
 
   public void uploadOCIManifest(Chart chart, OCIManifestLayer chartConfig, OCIManifestLayer chartTarball) throws IOException, BadUploadException {
@@ -60,7 +81,7 @@ public class OCIRegistryClient {
         .uri(ociRegistryEndpoint.getManifestUrl(chart))
         .method("PUT", OCI_IMAGE_MANIFEST_MEDIA_TYPE, requestBodyInputStream, manifestPayload.length)
         .build();
-      HttpResponse<byte[]> response = get(httpClient.sendAsync(httpRequest, byte[].class), Duration.ofMinutes(OCI_UPLOAD_HTTP_REQUEST_TIMEOUT));
+      HttpResponse<byte[]> response = send(httpRequest);
       if (!response.isSuccessful()) {
         handleFailure(response);
       }
@@ -68,30 +89,75 @@ public class OCIRegistryClient {
     }
   }
 
+  /**
+   * Uploads the provided blob to the chart's repository unless it's already there.
+   *
+   * <p> If the blob was pushed to a different repository of the same registry before, a cross-repository mount is
+   * requested first. Otherwise, the blob is streamed in chunks of up to 10 MiB, the last one within the request that
+   * completes the upload. Chunks that fail transiently are resumed from the offset reported by the upload session.
+   *
+   * @param chart the chart the blob belongs to.
+   * @param inputStream the blob content.
+   * @return the uploaded blob layer.
+   * @throws IOException in case the blob can't be read.
+   * @throws BadUploadException in case the registry rejects the upload.
+   */
   public OCIManifestLayer uploadBlobIfNotUploadedYet(Chart chart, InputStream inputStream) throws IOException, BadUploadException {
     try (BoundedInputStream blobStream = new BoundedInputStream(inputStream)) {
       final OCIManifestLayer ociBlob = OCIManifestLayer.from(blobStream);
       if (isLayerUploadedAlready(chart, ociBlob)) {
+        recordBlobRepository(chart, ociBlob);
         return ociBlob;
       }
-      final String uploadUrl = initiateUploadProcess(chart);
-      return uploadBlob(uploadUrl, blobStream);
+      final String uploadUrl = initiateUploadProcess(chart, ociBlob);
+      if (uploadUrl != null) {
+        uploadBlob(uploadUrl, blobStream, ociBlob);
+      }
+      recordBlobRepository(chart, ociBlob);
+      return ociBlob;
     }
   }
 
   private boolean isLayerUploadedAlready(Chart chart, OCIManifestLayer blob) {
     HttpRequest httpRequest = newRequest()
       .uri(ociRegistryEndpoint.getBlobUrl(chart, blob)).build();
-    HttpResponse<byte[]> response = get(httpClient.sendAsync(httpRequest, byte[].class), Duration.ofMinutes(OCI_UPLOAD_HTTP_REQUEST_TIMEOUT));
+    HttpResponse<byte[]> response = send(httpRequest);
     return response.code() == HTTP_OK;
   }
 
+  /**
+   * Starts an upload session, or mounts the blob from a sibling repository where it was pushed before.
+   *
+   * @return the upload session location or null if the blob was mounted.
+   */
+  private String initiateUploadProcess(Chart chart, OCIManifestLayer blob) {
+    final String mountFrom = BLOB_REPOSITORIES.get(blobRepositoryKey(blob));
+    if (mountFrom != null && !mountFrom.equals(ociRegistryEndpoint.getRepositoryName(chart))) {
+      final HttpResponse<byte[]> response = send(newRequest()
+        .url(new URLUtils.URLBuilder(ociRegistryEndpoint.getBlobUploadInitUrl(chart))
+          .addQueryParameter("mount", blob.getDigest())
+          .addQueryParameter("from", mountFrom)
+          .build())
+        .post("application/json", EMPTY)
+        .build());
+      if (response.code() == HTTP_CREATED) {
+        return null;
+      }
+      // Registries that don't support (or deny) the mount fall back to a regular upload session
+      final String locationHeader = parseLocationHeaderFromResponse(response);
+      if (response.code() == HTTP_ACCEPTED && StringUtils.isNotBlank(locationHeader)) {
+        return locationHeader;
+      }
+    }
+    return initiateUploadProcess(chart);
+  }
+
   private String initiateUploadProcess(Chart chart) {
     HttpRequest httpRequest = newRequest()
       .uri(ociRegistryEndpoint.getBlobUploadInitUrl(chart))
       .post("application/json", EMPTY)
       .build();
-    HttpResponse<byte[]> response = get(httpClient.sendAsync(httpRequest, byte[].class), Duration.ofMinutes(OCI_UPLOAD_HTTP_REQUEST_TIMEOUT));
+    HttpResponse<byte[]> response = send(httpRequest);
 
     final int responseCode = response.code();
     if (responseCode != HTTP_ACCEPTED) {
@@ -105,22 +171,135 @@ public class OCIRegistryClient {
     }
   }
 
-  private OCIManifestLayer uploadBlob(String uploadUrl, BoundedInputStream blobStream) throws IOException, BadUploadException {
-    final OCIManifestLayer ociBlob = OCIManifestLayer.from(blobStream);
-    HttpRequest httpRequest = newRequest()
-        .url(new URLUtils.URLBuilder(uploadUrl).addQueryParameter("digest", ociBlob.getDigest()).build())
-        .method("PUT", "application/octet-stream", blobStream, ociBlob.getSize())
-        .build();
-    HttpResponse<byte[]> response = get(httpClient.sendAsync(httpRequest, byte[].class), Duration.ofMinutes(OCI_UPLOAD_HTTP_REQUEST_TIMEOUT));
-
-    if (!response.isSuccessful()) {
-      handleFailure(response);
+  private void uploadBlob(String uploadUrl, BoundedInputStream blobStream, OCIManifestLayer ociBlob) throws IOException, BadUploadException {
+    final MessageDigest streamedDigest = DigestUtils.getSha256Digest();
+    final byte[] chunk = new byte[(int) Math.min(chunkSize, Math.max(ociBlob.getSize(), 1L))];
+    String location = uploadUrl;
+    long offset = 0;
+    while (true) {
+      final int length = IOUtils.read(blobStream, chunk, 0, (int) Math.min(chunk.length, ociBlob.getSize() - offset));
+      streamedDigest.update(chunk, 0, length);
+      if (offset + length < ociBlob.getSize()) {
+        location = uploadChunk(location, chunk, length, offset);
+        offset += length;
+      } else {
+        // The digest is computed while streaming, the blob must not have changed since it was hashed
+        final String digest = "sha256:" + Hex.encodeHexString(streamedDigest.digest());
+        if (offset + length != ociBlob.getSize() || !ociBlob.getDigest().equals(digest)) {
+          throw new BadUploadException(String.format("Blob content changed while uploading. Expected %s, got %s",
+            ociBlob.getDigest(), digest));
+        }
+        completeUpload(location, chunk, length, offset, ociBlob);
+        return;
+      }
     }
+  }
+
+  private String uploadChunk(String location, byte[] chunk, int length, long offset) throws BadUploadException {
+    final HttpResponse<byte[]> response = sendChunk(location, chunk, length, offset, null);
+    final String nextLocation = parseLocationHeaderFromResponse(response);
+    return StringUtils.isBlank(nextLocation) ? location : nextLocation;
+  }
+
+  private void completeUpload(String location, byte[] chunk, int length, long offset, OCIManifestLayer ociBlob) throws BadUploadException {
+    final HttpResponse<byte[]> response = sendChunk(location, chunk, length, offset, ociBlob);
     final String dockerContentDigest = extractDockerContentDigestFromResponseHeaders(response);
     if (!ociBlob.getDigest().equals(dockerContentDigest)) {
       throw new BadUploadException(String.format("Digest mismatch. Expected %s, got %s", ociBlob.getDigest(), dockerContentDigest));
     }
-    return ociBlob;
+  }
+
+  /**
+   * Sends the chunk with a PATCH request, or with the final PUT request if the completed blob is provided.
+   *
+   * <p> After a transient failure, the upload session is queried and only the part of the chunk that the registry
+   * didn't persist yet is sent again.
+   */
+  private HttpResponse<byte[]> sendChunk(
+    String location, byte[] chunk, int length, long offset, OCIManifestLayer completedBlob) throws BadUploadException {
+
+    String currentLocation = location;
+    int sent = 0;
+    for (int attempt = 1; ; attempt++) {
+      HttpResponse<byte[]> response = null;
+      RuntimeException exception = null;
+      try {
+        response = send(chunkRequest(currentLocation, chunk, sent, length - sent, offset + sent, completedBlob));
+      } catch (IllegalStateException e) {
+        exception = e;
+      }
+      if (response != null && response.isSuccessful()) {
+        return response;
+      }
+      if (attempt >= OCI_UPLOAD_MAX_ATTEMPTS || (response != null && !isTransientFailure(response))) {
+        if (exception != null) {
+          throw exception;
+        }
+        handleFailure(response);
+      }
+      final HttpResponse<byte[]> status = send(newRequest().uri(currentLocation).build());
+      if (!status.isSuccessful()) {
+        handleFailure(status);
+      }
+      currentLocation = Optional.ofNullable(parseLocationHeaderFromResponse(status))
+        .filter(StringUtils::isNotBlank).orElse(currentLocation);
+      final long persisted = parseUploadOffset(status);
+      if (persisted < offset || persisted > offset + length) {
+        throw new BadUploadException(String.format("Unable to resume upload at offset %s, registry reported %s",
+          offset, persisted));
+      }
+      sent = (int) (persisted - offset);
+      if (completedBlob == null && sent == length) {
+        // The registry persisted the whole chunk before failing, the session status provides the next location
+        return status;
+      }
+    }
+  }
+
+  private HttpRequest chunkRequest(
+    String location, byte[] chunk, int from, int length, long offset, OCIManifestLayer completedBlob) {
+
+    final HttpRequest.Builder builder = newRequest();
+    if (length > 0) {
+      builder.header("Content-Range", offset + "-" + (offset + length - 1));
+    }
+    if (completedBlob == null) {
+      builder.uri(location);
+      builder.method("PATCH", "application/octet-stream", new ByteArrayInputStream(chunk, from, length), (long) length);
+    } else {
+      builder.url(new URLUtils.URLBuilder(location).addQueryParameter("digest", completedBlob.getDigest()).build());
+      builder.method("PUT", "application/octet-stream", new ByteArrayInputStream(chunk, from, length), (long) length);
+    }
+    return builder.build();
+  }
+
+  private HttpResponse<byte[]> send(HttpRequest httpRequest) {
+    return get(httpClient.sendAsync(httpRequest, byte[].class), Duration.ofMinutes(OCI_UPLOAD_HTTP_REQUEST_TIMEOUT));
+  }
+
+  private void recordBlobRepository(Chart chart, OCIManifestLayer blob) {
+    BLOB_REPOSITORIES.put(blobRepositoryKey(blob), ociRegistryEndpoint.getRepositoryName(chart));
+  }
+
+  private String blobRepositoryKey(OCIManifestLayer blob) {
+    return ociRegistryEndpoint.getBaseUrl() + "@" + blob.getDigest();
+  }
+
+  private static boolean isTransientFailure(HttpResponse<byte[]> response) {
+    return response.code() >= HTTP_INTERNAL_ERROR || response.code() == HTTP_RANGE_NOT_SATISFIABLE;
+  }
+
+  private static long parseUploadOffset(HttpResponse<byte[]> response) {
+    // Range: 0-<last persisted byte>, both ends inclusive, so the upload resumes from the byte after the end
+    final String range = response.header(RANGE_HEADER);
+    if (StringUtils.isBlank(range) || !range.contains("-")) {
+      return 0L;
+    }
+    try {
+      return Long.parseLong(StringUtils.substringAfterLast(range, "-").trim()) + 1;
+    } catch (NumberFormatException e) {
+      return 0L;
+    }
   }
 
   private HttpRequest.Builder newRequest() {
@@ -49,6 +49,18 @@ public class OCIRegistryEndpoint {
     return String.format("%s/%s/blobs/uploads/", apiV2Url, chart.getName());
   }
 
+  /**
+   * Returns the repository name of the provided chart as used by the distribution API, e.g. in the <code>from</code>
+   * parameter of cross-repository blob mounts.
+   *
+   * @param chart the chart.
+   * @return the repository name (e.g. <code>myuser/test-chart</code>).
+   */
+  public String getRepositoryName(Chart chart) {
+    final String repositoryPath = StringUtils.removeStart(StringUtils.removeStart(apiV2Url.getPath(), "/v2"), "/");
+    return repositoryPath.isEmpty() ? chart.getName() : repositoryPath + "/" + chart.getName();
+  }
+
   public String getManifestUrl(Chart chart) {
     return String.format("%s/%s/manifests/%s", apiV2Url, chart.getName(), chart.getVersion());
   }
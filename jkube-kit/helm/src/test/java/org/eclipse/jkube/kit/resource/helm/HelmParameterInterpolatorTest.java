@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.resource.helm;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HelmParameterInterpolatorTest {
+
+  private final HelmParameterInterpolator interpolator = new HelmParameterInterpolator(Arrays.asList(
+    HelmParameter.builder().name("replicas").value(1).build(),
+    HelmParameter.builder().name("image").required(true).build(),
+    HelmParameter.builder().name("annotation").value("{{ .Chart.Name }}").build()
+  ));
+
+  @ParameterizedTest(name = "{0} is interpolated to {1}")
+  @CsvSource(delimiter = '|', value = {
+    "replicas: \"${replicas}\"|replicas: {{ .Values.replicas }}",
+    "replicas: ${replicas}|replicas: {{ .Values.replicas }}",
+    "replicas: $replicas|replicas: {{ .Values.replicas }}",
+    "replicas: \"$replicas\"|replicas: \"{{ .Values.replicas }}\"",
+    "replicas: \"${replicas}|replicas: \"{{ .Values.replicas }}",
+    "image: ${image}|image: {{ required \"A valid .Values.image entry required!\" .Values.image }}",
+    "name: ${annotation}|name: {{ .Chart.Name }}",
+    "$replicas-$image|{{ .Values.replicas }}-{{ required \"A valid .Values.image entry required!\" .Values.image }}",
+    "${replicas}${replicas}|{{ .Values.replicas }}{{ .Values.replicas }}"
+  })
+  void interpolate_withKnownPlaceholders_replacesWithExpressions(String template, String expected) {
+    // When
+    final String result = interpolator.interpolate(template);
+    // Then
+    assertThat(result).isEqualTo(expected);
+  }
+
+  @ParameterizedTest(name = "{0} is left unchanged")
+  @CsvSource(delimiter = '|', value = {
+    "value: ${unknown}",
+    "value: $unknown",
+    "value: $",
+    "value: ${replicas",
+    "value: {{ .Values.replicas }}"
+  })
+  void interpolate_withUnknownPlaceholders_returnsSameTemplate(String template) {
+    // When
+    final String result = interpolator.interpolate(template);
+    // Then
+    assertThat(result).isSameAs(template);
+  }
+
+  @Test
+  void interpolate_withOverlappingNames_firstDeclaredParameterWins() {
+    // Given
+    final HelmParameterInterpolator overlapping = new HelmParameterInterpolator(Arrays.asList(
+      HelmParameter.builder().name("foo").build(),
+      HelmParameter.builder().name("foobar").build()
+    ));
+    // When
+    final String result = overlapping.interpolate("$foobar ${foobar}");
+    // Then
+    assertThat(result).isEqualTo("{{ .Values.foo }}bar {{ .Values.foobar }}");
+  }
+
+  @Test
+  void interpolate_withDuplicateNames_firstDeclaredParameterWins() {
+    // Given
+    final HelmParameterInterpolator duplicated = new HelmParameterInterpolator(Arrays.asList(
+      HelmParameter.builder().name("foo").build(),
+      HelmParameter.builder().name("foo").required(true).build()
+    ));
+    // When
+    final String result = duplicated.interpolate("${foo}");
+    // Then
+    assertThat(result).isEqualTo("{{ .Values.foo }}");
+  }
+
+  @Test
+  void interpolate_withNoParameters_returnsSameTemplate() {
+    // Given
+    final String template = "replicas: ${replicas}";
+    // When
+    final String result = new HelmParameterInterpolator(Collections.emptyList()).interpolate(template);
+    // Then
+    assertThat(result).isSameAs(template);
+  }
+}
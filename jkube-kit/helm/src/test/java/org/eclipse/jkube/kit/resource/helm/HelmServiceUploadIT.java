@@ -32,6 +32,7 @@ import io.fabric8.mockwebserver.ServerRequest;
 import io.fabric8.mockwebserver.ServerResponse;
 import io.fabric8.mockwebserver.dsl.HttpMethod;
 import io.fabric8.mockwebserver.internal.SimpleRequest;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -393,6 +394,106 @@ class HelmServiceUploadIT {
       .isEqualTo("archive content");
   }
 
+  @DisplayName("Pre-flight check of the uploaded chart")
+  @Nested
+  class PreFlight {
+
+    private static final String ARCHIVE_SHA256 = "fa868b2818c90263b5c2c8e056180232a6f3c34547ca49b7f3ca10599a52db3d";
+    private static final String ARCHIVE_SHA1 = "a0171bec8bf16cf0b23e59bdb35c2a3fead501a6";
+
+    private MockWebServer server;
+    private Map<String, String> checksumHeaders;
+
+    @BeforeEach
+    void setUp() throws IOException {
+      checksumHeaders = new HashMap<>();
+      server = new MockWebServer();
+      server.setDispatcher(new Dispatcher() {
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+          if ("GET".equals(request.getMethod())) {
+            final MockResponse response = new MockResponse().setResponseCode(206).setBody("a");
+            checksumHeaders.forEach(response::setHeader);
+            return response;
+          }
+          return new MockResponse().setResponseCode(201).setBody("Upload successful");
+        }
+      });
+      server.start();
+      helmConfig.getSnapshotRepository().setUrl(server.url("/").toString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+      server.shutdown();
+    }
+
+    @Test
+    @DisplayName("With same SHA-256 checksum skips upload")
+    void withSameSha256Checksum_skipsUpload() throws Exception {
+      // Given
+      checksumHeaders.put("X-Checksum-Sha256", ARCHIVE_SHA256);
+      // When
+      helmService.uploadHelmChart(helmConfig);
+      // Then
+      assertThat(server.getRequestCount()).isEqualTo(1);
+      assertThat(server.takeRequest().getMethod()).isEqualTo("GET");
+      verify(logger).info("Helm Chart \"%s\" is already present in %s, skipping upload",
+        "Helm-Chart-1337-SNAPSHOT.tar", "SNAP-REPO");
+    }
+
+    @Test
+    @DisplayName("With same SHA-1 ETag (Nexus) skips upload")
+    void withSameSha1ETag_skipsUpload() throws Exception {
+      // Given
+      helmConfig.getSnapshotRepository().setType("NEXUS");
+      checksumHeaders.put("ETag", "\"{SHA1{" + ARCHIVE_SHA1 + "}}\"");
+      // When
+      helmService.uploadHelmChart(helmConfig);
+      // Then
+      assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("With different checksum uploads chart")
+    void withDifferentChecksum_uploadsChart() throws Exception {
+      // Given
+      checksumHeaders.put("X-Checksum-Sha256", "different");
+      // When
+      helmService.uploadHelmChart(helmConfig);
+      // Then
+      assertThat(server.getRequestCount()).isEqualTo(2);
+      assertThat(server.takeRequest().getMethod()).isEqualTo("GET");
+      assertThat(server.takeRequest())
+        .extracting(RecordedRequest::getMethod, r -> r.getBody().readUtf8())
+        .containsExactly("PUT", "archive content");
+      verify(logger).info("Upload Successful");
+    }
+
+    @Test
+    @DisplayName("With no checksum headers uploads chart")
+    void withNoChecksum_uploadsChart() throws Exception {
+      // When
+      helmService.uploadHelmChart(helmConfig);
+      // Then
+      assertThat(server.getRequestCount()).isEqualTo(2);
+      verify(logger).info("Upload Successful");
+    }
+
+    @Test
+    @DisplayName("With ChartMuseum repository doesn't perform pre-flight check")
+    void withChartMuseum_uploadsChart() throws Exception {
+      // Given
+      helmConfig.getSnapshotRepository().setType("CHARTMUSEUM");
+      checksumHeaders.put("X-Checksum-Sha256", ARCHIVE_SHA256);
+      // When
+      helmService.uploadHelmChart(helmConfig);
+      // Then
+      assertThat(server.getRequestCount()).isEqualTo(1);
+      assertThat(server.takeRequest().getMethod()).isEqualTo("POST");
+    }
+  }
+
   @DisplayName("Nexus repository specifics")
   @Nested
   class Nexus {
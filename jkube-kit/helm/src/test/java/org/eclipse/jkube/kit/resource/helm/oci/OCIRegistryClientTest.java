@@ -14,12 +14,17 @@
 package org.eclipse.jkube.kit.resource.helm.oci;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jkube.kit.resource.helm.BadUploadException;
 import org.eclipse.jkube.kit.resource.helm.Chart;
@@ -29,6 +34,7 @@ import org.eclipse.jkube.kit.resource.helm.TestMockResponseProvider;
 import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.utils.HttpClientUtils;
 import io.fabric8.mockwebserver.DefaultMockServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -41,6 +47,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 class OCIRegistryClientTest {
   private OCIRegistryClient oci;
@@ -209,6 +216,214 @@ class OCIRegistryClientTest {
     }
   }
 
+  @Nested
+  @DisplayName("uploadBlobIfNotUploadedYet with chunked upload")
+  class ChunkedUploadBlobIfNotUploadedYet {
+
+    private static final String DIGEST = "sha256:2ede29ddc2914a307eb3402a3db9f65d63bca95a27cd8f300e1c13538a667778";
+    private static final String ENCODED_DIGEST = "sha256%3A2ede29ddc2914a307eb3402a3db9f65d63bca95a27cd8f300e1c13538a667778";
+
+    private OCIRegistryClient chunkedOci;
+
+    @BeforeEach
+    void setUp() {
+      chunkedOci = new OCIRegistryClient(HelmRepository.builder().url(server.url("/my-registry")).build(), httpClient, 8);
+      server.expect().post()
+        .withPath("/v2/my-registry/test-chart/blobs/uploads/")
+        .andReply(new TestMockResponseProvider(202,
+          Collections.singletonMap("Location", "/v2/my-registry/test-chart/blobs/uploads/location"), null))
+        .once();
+    }
+
+    @Test
+    void withBlobLargerThanChunkSize_uploadsChunksAndCompletesWithLastChunk() throws Exception {
+      // Given
+      expectPatch("/v2/my-registry/test-chart/blobs/uploads/location", 202, "/v2/my-registry/test-chart/blobs/uploads/location-2");
+      expectPatch("/v2/my-registry/test-chart/blobs/uploads/location-2", 202, "/v2/my-registry/test-chart/blobs/uploads/location-3");
+      expectCompletion("/v2/my-registry/test-chart/blobs/uploads/location-3");
+      // When
+      final OCIManifestLayer result = chunkedOci.uploadBlobIfNotUploadedYet(chart, chartTarballStream);
+      // Then
+      assertThat(result)
+        .hasFieldOrPropertyWithValue("digest", DIGEST)
+        .hasFieldOrPropertyWithValue("size", 18L);
+      assertThat(server.getRequestCount()).isEqualTo(5);
+      assertThat(takeRequests(5))
+        .extracting(RecordedRequest::getMethod, r -> r.getHeader("Content-Range"), r -> r.getBody().readUtf8())
+        .containsExactly(
+          tuple("GET", null, ""),
+          tuple("POST", null, ""),
+          tuple("PATCH", "0-7", "helm-cha"),
+          tuple("PATCH", "8-15", "rt-conte"),
+          tuple("PUT", "16-17", "nt"));
+    }
+
+    @Test
+    void withTransientChunkFailure_resumesFromUploadSessionOffset() throws Exception {
+      // Given
+      expectPatch("/v2/my-registry/test-chart/blobs/uploads/location", 503, null);
+      final Map<String, String> status = new HashMap<>();
+      status.put("Location", "/v2/my-registry/test-chart/blobs/uploads/location-resumed");
+      status.put("Range", "0-3");
+      server.expect().get()
+        .withPath("/v2/my-registry/test-chart/blobs/uploads/location")
+        .andReply(new TestMockResponseProvider(202, status, null))
+        .once();
+      expectPatch("/v2/my-registry/test-chart/blobs/uploads/location-resumed", 202, "/v2/my-registry/test-chart/blobs/uploads/location-2");
+      expectPatch("/v2/my-registry/test-chart/blobs/uploads/location-2", 202, "/v2/my-registry/test-chart/blobs/uploads/location-3");
+      expectCompletion("/v2/my-registry/test-chart/blobs/uploads/location-3");
+      // When
+      final OCIManifestLayer result = chunkedOci.uploadBlobIfNotUploadedYet(chart, chartTarballStream);
+      // Then
+      assertThat(result).hasFieldOrPropertyWithValue("digest", DIGEST);
+      assertThat(takeRequests(7))
+        .extracting(RecordedRequest::getMethod, r -> r.getHeader("Content-Range"), r -> r.getBody().readUtf8())
+        .containsExactly(
+          tuple("GET", null, ""),
+          tuple("POST", null, ""),
+          tuple("PATCH", "0-7", "helm-cha"),
+          tuple("GET", null, ""),
+          tuple("PATCH", "4-7", "-cha"),
+          tuple("PATCH", "8-15", "rt-conte"),
+          tuple("PUT", "16-17", "nt"));
+    }
+
+    @Test
+    void withTransientFirstChunkFailureAndFirstBytePersisted_resumesFromSecondByte() throws Exception {
+      // Given
+      expectPatch("/v2/my-registry/test-chart/blobs/uploads/location", 503, null);
+      expectStatus("/v2/my-registry/test-chart/blobs/uploads/location", Collections.singletonMap("Range", "0-0"));
+      expectPatch("/v2/my-registry/test-chart/blobs/uploads/location", 202, "/v2/my-registry/test-chart/blobs/uploads/location-2");
+      expectPatch("/v2/my-registry/test-chart/blobs/uploads/location-2", 202, "/v2/my-registry/test-chart/blobs/uploads/location-3");
+      expectCompletion("/v2/my-registry/test-chart/blobs/uploads/location-3");
+      // When
+      final OCIManifestLayer result = chunkedOci.uploadBlobIfNotUploadedYet(chart, chartTarballStream);
+      // Then
+      assertThat(result).hasFieldOrPropertyWithValue("digest", DIGEST);
+      assertThat(takeRequests(7))
+        .extracting(RecordedRequest::getMethod, r -> r.getHeader("Content-Range"), r -> r.getBody().readUtf8())
+        .containsExactly(
+          tuple("GET", null, ""),
+          tuple("POST", null, ""),
+          tuple("PATCH", "0-7", "helm-cha"),
+          tuple("GET", null, ""),
+          tuple("PATCH", "1-7", "elm-cha"),
+          tuple("PATCH", "8-15", "rt-conte"),
+          tuple("PUT", "16-17", "nt"));
+    }
+
+    @Test
+    void withTransientFirstChunkFailureAndNoRange_resendsWholeChunk() throws Exception {
+      // Given
+      expectPatch("/v2/my-registry/test-chart/blobs/uploads/location", 503, null);
+      expectStatus("/v2/my-registry/test-chart/blobs/uploads/location", Collections.emptyMap());
+      expectPatch("/v2/my-registry/test-chart/blobs/uploads/location", 202, "/v2/my-registry/test-chart/blobs/uploads/location-2");
+      expectPatch("/v2/my-registry/test-chart/blobs/uploads/location-2", 202, "/v2/my-registry/test-chart/blobs/uploads/location-3");
+      expectCompletion("/v2/my-registry/test-chart/blobs/uploads/location-3");
+      // When
+      final OCIManifestLayer result = chunkedOci.uploadBlobIfNotUploadedYet(chart, chartTarballStream);
+      // Then
+      assertThat(result).hasFieldOrPropertyWithValue("digest", DIGEST);
+      assertThat(takeRequests(7))
+        .extracting(RecordedRequest::getMethod, r -> r.getHeader("Content-Range"), r -> r.getBody().readUtf8())
+        .containsExactly(
+          tuple("GET", null, ""),
+          tuple("POST", null, ""),
+          tuple("PATCH", "0-7", "helm-cha"),
+          tuple("GET", null, ""),
+          tuple("PATCH", "0-7", "helm-cha"),
+          tuple("PATCH", "8-15", "rt-conte"),
+          tuple("PUT", "16-17", "nt"));
+    }
+
+    @Test
+    void withNonTransientChunkFailure_throwsException() {
+      // Given
+      expectPatch("/v2/my-registry/test-chart/blobs/uploads/location", 400, null);
+      // When + Then
+      assertThatThrownBy(() -> chunkedOci.uploadBlobIfNotUploadedYet(chart, chartTarballStream))
+        .isInstanceOf(BadUploadException.class)
+        .hasMessageStartingWith("400: ");
+      assertThat(server.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    void withBlobInSiblingRepository_mountsBlob() throws Exception {
+      // Given
+      final Chart sibling = Chart.builder().name("sibling-chart").version("0.0.1").build();
+      server.expect().get()
+        .withPath("/v2/my-registry/test-chart/blobs/" + DIGEST)
+        .andReturn(200, null)
+        .once();
+      chunkedOci.uploadBlobIfNotUploadedYet(chart, chartTarballStream);
+      server.expect().post()
+        .withPath("/v2/my-registry/sibling-chart/blobs/uploads/?mount=" + ENCODED_DIGEST + "&from=my-registry%2Ftest-chart")
+        .andReply(new TestMockResponseProvider(201, Collections.emptyMap(), null))
+        .once();
+      // When
+      final OCIManifestLayer result = chunkedOci.uploadBlobIfNotUploadedYet(sibling,
+        new ByteArrayInputStream("helm-chart-content".getBytes(StandardCharsets.UTF_8)));
+      // Then
+      assertThat(result).hasFieldOrPropertyWithValue("digest", DIGEST);
+      assertThat(server.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    void withBlobInSiblingRepositoryAndMountNotSupported_uploadsBlob() throws Exception {
+      // Given
+      final Chart sibling = Chart.builder().name("sibling-chart").version("0.0.1").build();
+      server.expect().get()
+        .withPath("/v2/my-registry/test-chart/blobs/" + DIGEST)
+        .andReturn(200, null)
+        .once();
+      chunkedOci.uploadBlobIfNotUploadedYet(chart, chartTarballStream);
+      server.expect().post()
+        .withPath("/v2/my-registry/sibling-chart/blobs/uploads/?mount=" + ENCODED_DIGEST + "&from=my-registry%2Ftest-chart")
+        .andReply(new TestMockResponseProvider(202,
+          Collections.singletonMap("Location", "/v2/my-registry/sibling-chart/blobs/uploads/location"), null))
+        .once();
+      final OCIRegistryClient monolithicOci = new OCIRegistryClient(
+        HelmRepository.builder().url(server.url("/my-registry")).build(), httpClient);
+      expectCompletion("/v2/my-registry/sibling-chart/blobs/uploads/location");
+      // When
+      final OCIManifestLayer result = monolithicOci.uploadBlobIfNotUploadedYet(sibling,
+        new ByteArrayInputStream("helm-chart-content".getBytes(StandardCharsets.UTF_8)));
+      // Then
+      assertThat(result).hasFieldOrPropertyWithValue("digest", DIGEST);
+      assertThat(server.getRequestCount()).isEqualTo(4);
+    }
+
+    private void expectPatch(String path, int code, String location) {
+      server.expect().patch()
+        .withPath(path)
+        .andReply(new TestMockResponseProvider(code,
+          location == null ? Collections.emptyMap() : Collections.singletonMap("Location", location), null))
+        .once();
+    }
+
+    private void expectStatus(String path, Map<String, String> headers) {
+      server.expect().get()
+        .withPath(path)
+        .andReply(new TestMockResponseProvider(202, headers, null))
+        .once();
+    }
+
+    private void expectCompletion(String path) {
+      server.expect().put()
+        .withPath(path + "?digest=" + ENCODED_DIGEST)
+        .andReply(new TestMockResponseProvider(201, Collections.singletonMap("Docker-Content-Digest", DIGEST), null))
+        .once();
+    }
+
+    private List<RecordedRequest> takeRequests(int count) throws InterruptedException {
+      final List<RecordedRequest> ret = new ArrayList<>();
+      for (int it = 0; it < count; it++) {
+        ret.add(server.takeRequest());
+      }
+      return ret;
+    }
+  }
+
   @Nested
   @DisplayName("uploadOCIManifest")
   class UploadOCIManifest {
@@ -69,6 +69,23 @@ class OCIRegistryEndpointTest {
       .isEqualTo("https://r.example.com/v2/myuser/test-chart/blobs/uploads/");
   }
 
+  @ParameterizedTest(name = "getRepositoryName with url {0} should return {1}")
+  @CsvSource({
+      "https://r.example.com/myuser,myuser/test-chart",
+      "https://r.example.com/org/team,org/team/test-chart",
+      "https://r.example.com,test-chart"
+  })
+  void getRepositoryName_whenInvoked_shouldReturnRepositoryPathWithChartName(String url, String expectedName) {
+    // Given
+    this.registryEndpoint = new OCIRegistryEndpoint(HelmRepository.builder().url(url).build());
+
+    // When
+    String name = registryEndpoint.getRepositoryName(Chart.builder().name("test-chart").build());
+
+    // Then
+    assertThat(name).isEqualTo(expectedName);
+  }
+
   @Test
   void getManifestUrl_whenInvoked_shouldReturnManifestUrl() {
     assertThat(registryEndpoint.getManifestUrl(Chart.builder().name("test-chart").version("0.0.1").build()))
@@ -67,6 +67,7 @@ class OpenLibertyHealthCheckEnricherTest {
 
     context = mock(JKubeEnricherContext.class, RETURNS_DEEP_STUBS);
     javaProject = mock(JavaProject.class, RETURNS_DEEP_STUBS);
+    when(javaProject.getDependencyIndex()).thenCallRealMethod();
     when(context.getProject()).thenReturn(javaProject);
     when(context.getProperties()).thenReturn(properties);
     when(context.getConfiguration().getProcessorConfig()).thenReturn(processorConfig);
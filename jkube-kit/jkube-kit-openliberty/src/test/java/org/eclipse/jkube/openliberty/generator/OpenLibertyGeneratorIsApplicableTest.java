@@ -37,6 +37,7 @@ class OpenLibertyGeneratorIsApplicableTest {
   @BeforeEach
   void setUp() {
     project = mock(JavaProject.class, Mockito.RETURNS_DEEP_STUBS);
+    when(project.getDependencyIndex()).thenCallRealMethod();
     context = mock(GeneratorContext.class, Mockito.RETURNS_DEEP_STUBS);
     when(context.getProject()).thenReturn(project);
   }
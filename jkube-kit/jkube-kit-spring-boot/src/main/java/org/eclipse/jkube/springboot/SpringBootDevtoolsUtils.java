@@ -46,8 +46,7 @@ public class SpringBootDevtoolsUtils {
 
   public static boolean ensureSpringDevToolSecretToken(JavaProject project) {
     Properties properties = SpringBootUtil.getSpringBootApplicationProperties(
-        SpringBootUtil.getSpringBootActiveProfile(project),
-        JKubeProjectUtil.getClassLoader(project));
+        SpringBootUtil.getSpringBootActiveProfile(project), project);
     String remoteSecret = properties.getProperty(DEV_TOOLS_REMOTE_SECRET);
     if (StringUtils.isBlank(remoteSecret)) {
       addSecretTokenToApplicationProperties(project);
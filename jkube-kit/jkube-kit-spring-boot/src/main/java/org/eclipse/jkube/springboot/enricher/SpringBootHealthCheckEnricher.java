@@ -19,7 +19,6 @@ import io.fabric8.kubernetes.api.model.ProbeBuilder;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.eclipse.jkube.kit.common.Configs;
-import org.eclipse.jkube.kit.common.util.JKubeProjectUtil;
 import org.eclipse.jkube.kit.common.util.ProjectClassLoaders;
 import org.eclipse.jkube.kit.common.util.SpringBootConfiguration;
 import org.eclipse.jkube.kit.common.util.SpringBootUtil;
@@ -76,7 +75,7 @@ public class SpringBootHealthCheckEnricher extends AbstractHealthCheckEnricher {
         super(buildContext, ENRICHER_NAME);
         Properties springBootApplicationConfig = SpringBootUtil.getSpringBootApplicationProperties(
           SpringBootUtil.getSpringBootActiveProfile(getContext().getProject()),
-          JKubeProjectUtil.getClassLoader(getContext().getProject()));
+          getContext().getProject());
         log.debug("Spring Boot Application Config loaded from: %s",
           springBootApplicationConfig.get(JKUBE_INTERNAL_APP_CONFIG_FILE_LOCATION));
     }
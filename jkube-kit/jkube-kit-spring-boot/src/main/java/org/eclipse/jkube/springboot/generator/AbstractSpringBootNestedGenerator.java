@@ -19,7 +19,6 @@ import org.eclipse.jkube.generator.api.GeneratorMode;
 import org.eclipse.jkube.generator.javaexec.JavaExecGenerator;
 import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.KitLogger;
-import org.eclipse.jkube.kit.common.util.JKubeProjectUtil;
 import org.eclipse.jkube.kit.common.util.SpringBootUtil;
 
 import java.util.Map;
@@ -56,8 +55,7 @@ public abstract class AbstractSpringBootNestedGenerator implements SpringBootNes
     if (generatorContext.getGeneratorMode() == GeneratorMode.WATCH) {
       // adding dev tools token to env variables to prevent override during recompile
       final String secret = SpringBootUtil.getSpringBootApplicationProperties(
-          SpringBootUtil.getSpringBootActiveProfile(getProject()),
-          JKubeProjectUtil.getClassLoader(getProject()))
+          SpringBootUtil.getSpringBootActiveProfile(getProject()), getProject())
         .getProperty(SpringBootUtil.DEV_TOOLS_REMOTE_SECRET);
       if (secret != null) {
         res.put(SpringBootUtil.DEV_TOOLS_REMOTE_SECRET_ENV, secret);
@@ -63,7 +63,7 @@ public class SpringBootGenerator extends JavaExecGenerator {
         log.debug("Nested Generator Type: %s", nestedGenerator);
         Properties springBootApplicationConfig = SpringBootUtil.getSpringBootApplicationProperties(
           SpringBootUtil.getSpringBootActiveProfile(getContext().getProject()),
-          JKubeProjectUtil.getClassLoader(getContext().getProject()));
+          getContext().getProject());
         log.debug("Spring Boot Application Config loaded from: %s",
           springBootApplicationConfig.get(JKUBE_INTERNAL_APP_CONFIG_FILE_LOCATION));
     }
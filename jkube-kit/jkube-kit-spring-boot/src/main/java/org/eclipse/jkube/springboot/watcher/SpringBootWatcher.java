@@ -160,7 +160,7 @@ public class SpringBootWatcher extends BaseWatcher {
         }
 
         Properties properties = SpringBootUtil.getSpringBootApplicationProperties(
-            JKubeProjectUtil.getClassLoader(getContext().getBuildContext().getProject()));
+            null, getContext().getBuildContext().getProject());
         String remoteSecret = properties.getProperty(DEV_TOOLS_REMOTE_SECRET, System.getProperty(DEV_TOOLS_REMOTE_SECRET));
         if (StringUtils.isBlank(remoteSecret)) {
             log.warn("There is no `%s` property defined in your src/main/resources/application.properties. Please add one!", DEV_TOOLS_REMOTE_SECRET);
@@ -55,6 +55,7 @@ class VertxGeneratorTest {
     core = Dependency.builder().groupId("io.vertx").artifactId("vertx-core").version("3.4.2").type("jar")
         .scope("compile").file(Files.createTempFile(folder, "vertx-core", ".jar").toFile()).build();
     project = mock(JavaProject.class, RETURNS_DEEP_STUBS);
+    when(project.getDependencyIndex()).thenCallRealMethod();
     KitLogger logger = mock(KitLogger.class, RETURNS_DEEP_STUBS);
     context = GeneratorContext.builder()
         .logger(logger)
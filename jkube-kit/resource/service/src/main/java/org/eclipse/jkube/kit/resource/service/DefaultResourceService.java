@@ -17,11 +17,19 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.validation.ConstraintViolationException;
 
+import org.eclipse.jkube.kit.common.BufferedLogger;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.ResourceFileType;
+import org.eclipse.jkube.kit.common.util.AsyncUtil;
 import org.eclipse.jkube.kit.common.util.ResourceClassifier;
 import org.eclipse.jkube.kit.common.util.ValidationUtil;
 import org.eclipse.jkube.kit.config.resource.EnricherManager;
@@ -56,7 +64,7 @@ public class DefaultResourceService implements ResourceService {
 
     // Generate all resources from the main resource directory, configuration and create them accordingly
     return generateAppResources(platformMode, enricherManager, log)
-        .addAllToItems(generateProfiledResourcesFromSubdirectories(platformMode, enricherManager))
+        .addAllToItems(generateProfiledResourcesFromSubdirectories(platformMode, enricherManager, log))
         .build();
   }
 
@@ -112,9 +120,10 @@ public class DefaultResourceService implements ResourceService {
   }
 
   private List<HasMetadata> generateProfiledResourcesFromSubdirectories(
-      PlatformMode platformMode, EnricherManager enricherManager) throws IOException {
+      PlatformMode platformMode, EnricherManager enricherManager, KitLogger log) throws IOException {
 
-    final List<HasMetadata> ret = new ArrayList<>();
+    // Fragments are read sequentially (the resource file processor might write them to a shared directory)
+    final List<ProfileResources> profileResources = new ArrayList<>();
     final List<File> resourceDirs = resourceServiceConfig.getResourceDirs();
     for (File resourceDir : resourceDirs) {
       File[] profileDirs = resourceDir.listFiles(File::isDirectory);
@@ -125,17 +134,70 @@ public class DefaultResourceService implements ResourceService {
           File[] resourceFiles = listResourceFragments(profileDir);
           final File[] processedResources = processResourceFiles(resourceFiles);
           if (processedResources.length > 0) {
-            KubernetesListBuilder profileBuilder = readResourceFragments(processedResources);
-            enricherManager.createDefaultResources(platformMode, enricherConfig, profileBuilder);
-            enricherManager.enrich(platformMode, enricherConfig, profileBuilder);
-            ret.addAll(profileBuilder.buildItems());
+            profileResources.add(new ProfileResources(enricherConfig, readResourceFragments(processedResources)));
           }
         }
       }
     }
+    if (resourceServiceConfig.getParallelism() > 1 && profileResources.size() > 1) {
+      enrichProfileResourcesConcurrently(platformMode, enricherManager, profileResources, log);
+    } else {
+      profileResources.forEach(pr -> pr.enrich(platformMode, enricherManager));
+    }
+    final List<HasMetadata> ret = new ArrayList<>();
+    profileResources.forEach(pr -> ret.addAll(pr.builder.buildItems()));
     return ret;
   }
 
+  private void enrichProfileResourcesConcurrently(
+      PlatformMode platformMode, EnricherManager enricherManager, List<ProfileResources> profileResources,
+      KitLogger log) {
+
+    // Each worker gets its own enricher instances, enrichers are stateful and not meant to be shared across threads
+    final int workers = Math.min(resourceServiceConfig.getParallelism(), profileResources.size());
+    final List<EnricherManager> enricherManagers = new ArrayList<>();
+    final List<BufferedLogger> workerLogs = new ArrayList<>();
+    for (int it = 0; it < workers; it++) {
+      final BufferedLogger workerLog = new BufferedLogger(log);
+      final Optional<EnricherManager> fork = enricherManager.fork(workerLog);
+      if (!fork.isPresent()) {
+        profileResources.forEach(pr -> pr.enrich(platformMode, enricherManager));
+        return;
+      }
+      enricherManagers.add(fork.get());
+      workerLogs.add(workerLog);
+    }
+    // The output of each profile is buffered and logged in the same order as the sequential enrichment
+    final List<BufferedLogger> profileLogs = new ArrayList<>();
+    final Queue<Integer> pending = new ConcurrentLinkedQueue<>();
+    for (int it = 0; it < profileResources.size(); it++) {
+      profileLogs.add(new BufferedLogger(log));
+      pending.add(it);
+    }
+    final ExecutorService executorService = Executors.newFixedThreadPool(workers);
+    try {
+      final List<CompletableFuture<Void>> enriched = new ArrayList<>();
+      for (int it = 0; it < workers; it++) {
+        final EnricherManager forkedEnricherManager = enricherManagers.get(it);
+        final BufferedLogger workerLog = workerLogs.get(it);
+        enriched.add(CompletableFuture.runAsync(() -> {
+          Integer profileIndex;
+          while ((profileIndex = pending.poll()) != null) {
+            try {
+              profileResources.get(profileIndex).enrich(platformMode, forkedEnricherManager);
+            } finally {
+              workerLog.flushTo(profileLogs.get(profileIndex));
+            }
+          }
+        }, executorService));
+      }
+      AsyncUtil.joinAll(enriched);
+    } finally {
+      executorService.shutdownNow();
+      profileLogs.forEach(BufferedLogger::flush);
+    }
+  }
+
   private KubernetesListBuilder readResourceFragments(File[] resourceFiles) throws IOException {
     return KubernetesResourceFragments.readResourceFragmentsFrom(resourceFiles);
   }
@@ -147,4 +209,18 @@ public class DefaultResourceService implements ResourceService {
     return resourceFiles;
   }
 
+  private static final class ProfileResources {
+    private final ProcessorConfig enricherConfig;
+    private final KubernetesListBuilder builder;
+
+    private ProfileResources(ProcessorConfig enricherConfig, KubernetesListBuilder builder) {
+      this.enricherConfig = enricherConfig;
+      this.builder = builder;
+    }
+
+    private void enrich(PlatformMode platformMode, EnricherManager enricherManager) {
+      enricherManager.createDefaultResources(platformMode, enricherConfig, builder);
+      enricherManager.enrich(platformMode, enricherConfig, builder);
+    }
+  }
 }
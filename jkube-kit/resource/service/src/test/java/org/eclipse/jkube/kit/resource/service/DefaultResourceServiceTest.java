@@ -15,14 +15,21 @@ package org.eclipse.jkube.kit.resource.service;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
+import io.fabric8.kubernetes.api.builder.TypedVisitor;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.ResourceFileType;
@@ -33,6 +40,9 @@ import org.eclipse.jkube.kit.config.resource.ResourceConfig;
 
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import org.eclipse.jkube.kit.config.resource.ResourceServiceConfig;
+import org.eclipse.jkube.kit.enricher.api.BaseEnricher;
+import org.eclipse.jkube.kit.enricher.api.DefaultEnricherManager;
+import org.eclipse.jkube.kit.enricher.api.JKubeEnricherContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -44,7 +54,11 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class DefaultResourceServiceTest {
 
@@ -107,6 +121,83 @@ class DefaultResourceServiceTest {
                 .build());
   }
 
+  @Test
+  void generateResources_withParallelismAndProfileSubdirectories_enrichesProfilesWithOneForkedManagerPerWorker(
+      @TempDir Path resourceDir) throws IOException {
+    // Given
+    final List<String> profiles = Arrays.asList("dev", "test", "prod");
+    final StringBuilder profilesYaml = new StringBuilder();
+    for (String profile : profiles) {
+      profilesYaml.append("- name: ").append(profile).append("\n");
+      Files.createDirectory(resourceDir.resolve(profile));
+      Files.write(resourceDir.resolve(profile).resolve(profile + "-configmap.yml"),
+          ("metadata:\n  name: " + profile + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+    Files.write(resourceDir.resolve("profiles.yml"), profilesYaml.toString().getBytes(StandardCharsets.UTF_8));
+    final List<EnricherManager> forkedEnricherManagers = new ArrayList<>();
+    when(enricherManager.fork(any())).thenAnswer(i -> {
+      final EnricherManager forked = mock(EnricherManager.class);
+      forkedEnricherManagers.add(forked);
+      return Optional.of(forked);
+    });
+    resourceServiceConfig = resourceServiceConfig.toBuilder()
+        .clearResourceDirs().resourceDir(resourceDir.toFile()).parallelism(2).build();
+    final List<String> sequentialOrder = new ArrayList<>();
+    new DefaultResourceService(resourceServiceConfig.toBuilder().parallelism(1).build())
+        .generateResources(PlatformMode.kubernetes, mock(EnricherManager.class), kitLogger)
+        .getItems().forEach(item -> sequentialOrder.add(item.getMetadata().getName()));
+    defaultResourceService = new DefaultResourceService(resourceServiceConfig);
+    // When
+    final KubernetesList result = defaultResourceService
+        .generateResources(PlatformMode.kubernetes, enricherManager, kitLogger);
+    // Then
+    assertThat(result.getItems())
+        .extracting("metadata.name")
+        .containsExactlyElementsOf(sequentialOrder)
+        .containsExactlyInAnyOrder("dev", "test", "prod");
+    assertThat(forkedEnricherManagers).hasSize(2)
+        .flatExtracting(forked -> mockingDetails(forked).getInvocations())
+        .extracting("method.name")
+        .containsExactlyInAnyOrder(
+            "createDefaultResources", "createDefaultResources", "createDefaultResources",
+            "enrich", "enrich", "enrich");
+    verify(enricherManager, never()).enrich(eq(PlatformMode.kubernetes), any(), any());
+  }
+
+  @Test
+  void generateResources_withParallelismAndDefaultEnricherManager_producesSameOutputAsSequential(
+      @TempDir Path resourceDir) throws IOException {
+    // Given
+    final StringBuilder profilesYaml = new StringBuilder();
+    for (String profile : Arrays.asList("dev", "test", "prod", "staging")) {
+      profilesYaml.append("- name: ").append(profile).append("\n")
+          .append("  enricher:\n    includes:\n      - test-logging\n");
+      Files.createDirectory(resourceDir.resolve(profile));
+      for (String item : Arrays.asList("first", "second")) {
+        Files.write(resourceDir.resolve(profile).resolve(profile + "-" + item + "-configmap.yml"),
+            ("metadata:\n  name: " + profile + "-" + item + "\n").getBytes(StandardCharsets.UTF_8));
+      }
+    }
+    Files.write(resourceDir.resolve("profiles.yml"), profilesYaml.toString().getBytes(StandardCharsets.UTF_8));
+    resourceServiceConfig = resourceServiceConfig.toBuilder()
+        .clearResourceDirs().resourceDir(resourceDir.toFile()).build();
+    final List<String> sequentialLog = Collections.synchronizedList(new ArrayList<>());
+    final KubernetesList sequential = new DefaultResourceService(resourceServiceConfig.toBuilder().parallelism(1).build())
+        .generateResources(PlatformMode.kubernetes, loggingEnricherManager(sequentialLog), recordingLogger(sequentialLog));
+    final List<String> parallelLog = Collections.synchronizedList(new ArrayList<>());
+    // When
+    final KubernetesList parallel = new DefaultResourceService(resourceServiceConfig.toBuilder().parallelism(3).build())
+        .generateResources(PlatformMode.kubernetes, loggingEnricherManager(parallelLog), recordingLogger(parallelLog));
+    // Then
+    assertThat(parallel.getItems()).isEqualTo(sequential.getItems());
+    assertThat(parallel.getItems())
+        .hasSize(8)
+        .allSatisfy(item -> assertThat(item.getMetadata().getLabels()).containsEntry("enriched-by", "test-logging"));
+    assertThat(parallelLog)
+        .containsExactlyElementsOf(sequentialLog)
+        .contains("info: test-logging: Enriching dev-first", "info: test-logging: Enriching staging-second");
+  }
+
   @Test
   void writeResources() throws IOException {
     try (
@@ -120,4 +211,41 @@ class DefaultResourceServiceTest {
       templateUtil.verify(() -> TemplateUtil.interpolateTemplateVariables(isNull(), any()), times(1));
     }
   }
+
+  private static KitLogger recordingLogger(List<String> entries) {
+    return new KitLogger.SilentLogger() {
+      @Override
+      public void info(String format, Object... params) {
+        entries.add("info: " + String.format(format, params));
+      }
+    };
+  }
+
+  private static EnricherManager loggingEnricherManager(List<String> entries) {
+    return new DefaultEnricherManager(JKubeEnricherContext.builder()
+        .project(JavaProject.builder().build())
+        .log(recordingLogger(entries))
+        .build());
+  }
+
+  // Loaded from META-INF/jkube/enricher
+  public static final class TestLoggingEnricher extends BaseEnricher {
+
+    public TestLoggingEnricher(JKubeEnricherContext context) {
+      super(context, "test-logging");
+    }
+
+    @Override
+    public void enrich(PlatformMode platformMode, KubernetesListBuilder builder) {
+      for (HasMetadata item : builder.buildItems()) {
+        log.info("Enriching %s", item.getMetadata().getName());
+      }
+      builder.accept(new TypedVisitor<ObjectMetaBuilder>() {
+        @Override
+        public void visit(ObjectMetaBuilder element) {
+          element.addToLabels("enriched-by", "test-logging");
+        }
+      });
+    }
+  }
 }
@@ -78,6 +78,8 @@ public class WatcherManager {
     }
 
     log.info("Running watcher %s", chosen.getName());
+    // Watch sessions repeatedly retrieve the same resources, serve them from informers instead
+    watcherCtx.getJKubeServiceHub().getClusterStateCache().setEnabled(true);
     chosen.watch(ret, namespace, resources, mode);
   }
 }
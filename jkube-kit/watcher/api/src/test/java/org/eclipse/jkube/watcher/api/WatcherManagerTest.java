@@ -69,6 +69,14 @@ class WatcherManagerTest {
     verify(logger,times(1)).info("Running watcher %s", "fake-watcher");
   }
 
+  @Test
+  void watch_withTestWatcher_shouldEnableClusterStateCache() throws Exception {
+    // When
+    WatcherManager.watch(Collections.singletonList(new ImageConfiguration()), null, Collections.emptyList(), watcherContext);
+    // Then
+    verify(watcherContext.getJKubeServiceHub().getClusterStateCache()).setEnabled(true);
+  }
+
   @Test
   void watch_whenBuildPacksBuildStrategy_thenThrowException() {
     // Given
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.watcher.standard;
+
+import java.io.Closeable;
+import java.util.Collection;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.PodResource;
+import org.eclipse.jkube.kit.common.util.KubernetesHelper;
+import org.eclipse.jkube.kit.config.service.kubernetes.ClusterStateCache;
+import org.eclipse.jkube.watcher.api.WatcherContext;
+
+/**
+ * Keeps track of the newest Pod of the application during a watch session.
+ *
+ * <p> The Pod name is resolved once and reused until a Pod of the application is added or deleted (i.e. after a
+ * rollout). These events are received through a Pod watch started from the version of the initial list. If the
+ * watch can't be started (i.e. missing permissions), the Pod name is resolved for every request.
+ *
+ * <p> When the {@link ClusterStateCache} is enabled, lookups are delegated to it since its informers are already
+ * kept up to date through Pod events.
+ */
+class ApplicationPodTracker implements Closeable {
+
+  private final WatcherContext watcherContext;
+  private final Collection<HasMetadata> resources;
+  private String podName;
+  private Watch watch;
+
+  ApplicationPodTracker(WatcherContext watcherContext, Collection<HasMetadata> resources) {
+    this.watcherContext = watcherContext;
+    this.resources = resources;
+  }
+
+  synchronized String getNewestApplicationPodName() {
+    final String namespace = watcherContext.getNamespace();
+    final ClusterStateCache clusterStateCache = watcherContext.getJKubeServiceHub().getClusterStateCache();
+    if (clusterStateCache.isEnabled()) {
+      return clusterStateCache.getNewestApplicationPodName(namespace, resources);
+    }
+    if (podName != null) {
+      return podName;
+    }
+    final FilterWatchListDeletable<Pod, PodList, PodResource> pods = pods(namespace);
+    final PodList podList = pods.list();
+    final Pod newestPod = KubernetesHelper.getNewestPod(podList.getItems());
+    final String newestPodName = newestPod != null ? newestPod.getMetadata().getName() : null;
+    if (watch == null) {
+      watch = watch(pods, podList);
+    }
+    if (watch != null) {
+      podName = newestPodName;
+    }
+    return newestPodName;
+  }
+
+  @Override
+  public void close() {
+    final Watch toClose;
+    synchronized (this) {
+      toClose = watch;
+      watch = null;
+      podName = null;
+    }
+    if (toClose != null) {
+      toClose.close();
+    }
+  }
+
+  private synchronized void invalidate() {
+    podName = null;
+  }
+
+  private synchronized void watchClosed() {
+    watch = null;
+    podName = null;
+  }
+
+  private FilterWatchListDeletable<Pod, PodList, PodResource> pods(String namespace) {
+    final KubernetesClient client = watcherContext.getJKubeServiceHub().getClient();
+    final LabelSelector selector = KubernetesHelper.extractPodLabelSelector(resources);
+    if (namespace != null) {
+      return client.pods().inNamespace(namespace).withLabelSelector(selector);
+    }
+    return client.pods().withLabelSelector(selector);
+  }
+
+  private Watch watch(FilterWatchListDeletable<Pod, PodList, PodResource> pods, PodList podList) {
+    try {
+      final String resourceVersion = podList.getMetadata() != null ? podList.getMetadata().getResourceVersion() : null;
+      return pods.watch(new ListOptionsBuilder().withResourceVersion(resourceVersion).build(), new Watcher<Pod>() {
+        @Override
+        public void eventReceived(Action action, Pod pod) {
+          // The newest Pod is selected by creation timestamp, only additions and deletions can change it
+          if (action != Action.MODIFIED) {
+            invalidate();
+          }
+        }
+
+        @Override
+        public void onClose(WatcherException cause) {
+          watchClosed();
+        }
+      });
+    } catch (KubernetesClientException e) {
+      watcherContext.getLogger().debug("Unable to watch application Pods, resolving the Pod for every request: %s",
+        e.getMessage());
+      return null;
+    }
+  }
+}
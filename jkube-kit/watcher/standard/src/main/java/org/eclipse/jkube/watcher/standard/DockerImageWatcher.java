@@ -25,6 +25,7 @@ import org.eclipse.jkube.kit.build.service.docker.WatchService;
 import org.eclipse.jkube.kit.build.api.helper.ImageNameFormatter;
 import org.eclipse.jkube.kit.build.service.docker.watch.WatchContext;
 import org.eclipse.jkube.kit.build.service.docker.watch.WatchException;
+import org.eclipse.jkube.kit.common.Configs;
 import org.eclipse.jkube.kit.common.util.KubernetesHelper;
 import org.eclipse.jkube.kit.common.util.OpenshiftHelper;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
@@ -47,6 +48,9 @@ import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.openshift.api.model.DeploymentConfig;
 import io.fabric8.openshift.api.model.DeploymentConfigSpec;
 import io.fabric8.openshift.client.OpenShiftClient;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.commons.io.FileUtils;
 
 /**
  * This watcher listens for changes in project workspace and redeploys application.
@@ -79,6 +83,21 @@ public class DockerImageWatcher extends BaseWatcher {
 
     private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(60);
 
+    @AllArgsConstructor
+    private enum Config implements Configs.Config {
+        // How changed files are transferred in copy mode:
+        // 'archive' streams the changed files archive through a single exec session,
+        // 'files' uploads each changed top-level file or directory separately
+        TRANSFER_MODE("transferMode", "archive");
+
+        @Getter
+        protected String key;
+        @Getter
+        protected String defaultValue;
+    }
+
+    private ApplicationPodTracker applicationPodTracker;
+
     public DockerImageWatcher(WatcherContext watcherContext) {
         super(watcherContext, "docker-image");
     }
@@ -103,10 +122,13 @@ public class DockerImageWatcher extends BaseWatcher {
                 .build();
 
         DockerServiceHub hub = getContext().getJKubeServiceHub().getDockerServiceHub();
+        applicationPodTracker = new ApplicationPodTracker(getContext(), resources);
         try {
             hub.getWatchService().watch(watchContext, configs);
         } catch (Exception ex) {
             throw new RuntimeException("Error while watching", ex);
+        } finally {
+            applicationPodTracker.close();
         }
     }
 
@@ -193,7 +215,7 @@ public class DockerImageWatcher extends BaseWatcher {
 
     private String executeCommandInPod(String command, Collection<HasMetadata> resources) throws IOException, WatchException {
         try {
-            final PodExecutor podExecutor = new PodExecutor(getContext(), WAIT_TIMEOUT);
+            final PodExecutor podExecutor = new PodExecutor(getContext(), WAIT_TIMEOUT, applicationPodTracker);
             podExecutor.executeCommandInPod(resources, command);
             return podExecutor.getOutput();
         } catch(InterruptedException exception) {
@@ -203,9 +225,24 @@ public class DockerImageWatcher extends BaseWatcher {
         return null;
     }
 
-    private void copyFileToPod(File fileToUpload, Collection<HasMetadata> resources) throws WatchException {
-        final PodExecutor podExecutor = new PodExecutor(getContext(), WAIT_TIMEOUT);
-        podExecutor.uploadChangedFilesToPod(resources, fileToUpload);
+    private void copyFileToPod(File fileToUpload, Collection<HasMetadata> resources) throws IOException, WatchException {
+        final PodExecutor podExecutor = new PodExecutor(getContext(), WAIT_TIMEOUT, applicationPodTracker);
+        final long start = System.currentTimeMillis();
+        if ("files".equalsIgnoreCase(getConfig(Config.TRANSFER_MODE))) {
+            podExecutor.uploadChangedFilesToPod(resources, fileToUpload);
+        } else {
+            try {
+                podExecutor.uploadChangedFilesArchiveToPod(resources, fileToUpload);
+            } catch (InterruptedException exception) {
+                log.error("Copy files task interrupted");
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        if (podExecutor.getTransferredFiles() > 0) {
+            log.info("Copied %d file(s) (%s) to pod in %d ms", podExecutor.getTransferredFiles(),
+                FileUtils.byteCountToDisplaySize(podExecutor.getTransferredBytes()), System.currentTimeMillis() - start);
+        }
     }
 
     private boolean updateImageName(HasMetadata entity, PodTemplateSpec template, String imagePrefix, String imageName) {
@@ -16,15 +16,25 @@ package org.eclipse.jkube.watcher.standard;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import io.fabric8.kubernetes.api.model.Status;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.io.IOUtils;
 import io.fabric8.kubernetes.client.dsl.PodResource;
 import org.eclipse.jkube.kit.build.service.docker.watch.WatchException;
 import org.eclipse.jkube.kit.common.util.FileUtil;
 import org.eclipse.jkube.kit.common.util.KubernetesHelper;
+import org.eclipse.jkube.kit.config.service.kubernetes.ClusterStateCache;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.KubernetesClient;
@@ -36,11 +46,19 @@ public class PodExecutor {
 
   private final WatcherContext watcherContext;
   private final Duration waitTimeout;
+  private final ApplicationPodTracker applicationPodTracker;
   private String output;
+  private long transferredFiles;
+  private long transferredBytes;
 
   public PodExecutor(WatcherContext watcherContext, Duration waitTimeout) {
+    this(watcherContext, waitTimeout, null);
+  }
+
+  PodExecutor(WatcherContext watcherContext, Duration waitTimeout, ApplicationPodTracker applicationPodTracker) {
     this.watcherContext = watcherContext;
     this.waitTimeout = waitTimeout;
+    this.applicationPodTracker = applicationPodTracker;
   }
 
   void uploadChangedFilesToPod(Collection<HasMetadata> resources, File changedFilesTarball) throws WatchException {
@@ -49,10 +67,12 @@ public class PodExecutor {
       final String namespace = watcherContext.getNamespace();
       File changedFilesDir = new File(changedFilesTarball.getParentFile(), "changed-files");
       File[] changedFiles = changedFilesDir.listFiles();
+      transferredFiles = 0;
+      transferredBytes = 0;
       if (changedFiles != null && changedFiles.length > 0) {
         PodResource podResource = client.pods()
             .inNamespace(namespace)
-            .withName(KubernetesHelper.getNewestApplicationPodName(client, namespace, resources));
+            .withName(getNewestApplicationPodName(client, namespace, resources));
         for (File changedFile : changedFiles) {
           if (changedFile.isFile()) {
             podResource.file("/" + FileUtil.getRelativeFilePath(changedFilesDir.getPath(), changedFile.getPath()))
@@ -62,12 +82,89 @@ public class PodExecutor {
                 .upload(changedFile.toPath());
           }
         }
+        for (File file : listFiles(changedFilesDir)) {
+          transferredFiles++;
+          transferredBytes += file.length();
+        }
       }
     } catch (KubernetesClientException kubernetesClientException) {
       throw new WatchException("Error while uploading changed files archive to pod: " + kubernetesClientException.getMessage());
     }
   }
 
+  /**
+   * Streams the changed files archive into a single <code>tar</code> process running in the newest application Pod,
+   * which extracts it relative to the container's root directory.
+   *
+   * <p> Directory entries are left out of the stream, <code>tar</code> creates any missing parent directory of the
+   * extracted files. Otherwise, extracting them would try to update the existing directories (e.g. <code>/</code> or
+   * <code>/deployments</code>) and fail when the container user doesn't own them.
+   *
+   * <p> Unlike {@link #uploadChangedFilesToPod(Collection, File)}, the transfer takes a single exec session
+   * regardless of the number of changed files.
+   */
+  void uploadChangedFilesArchiveToPod(Collection<HasMetadata> resources, File changedFilesTarball)
+      throws InterruptedException, WatchException, IOException {
+    final List<File> changedFiles = listFiles(new File(changedFilesTarball.getParentFile(), "changed-files"));
+    transferredFiles = 0;
+    transferredBytes = 0;
+    if (changedFiles.isEmpty()) {
+      return;
+    }
+    final KubernetesClient client = watcherContext.getJKubeServiceHub().getClient();
+    try (
+        ByteArrayOutputStream errorStream = new ByteArrayOutputStream()
+    ) {
+      final String namespace = watcherContext.getNamespace();
+      final ExecListenerLatch latch = new ExecListenerLatch();
+      ExecWatch execWatch = client.pods().inNamespace(namespace)
+          .withName(getNewestApplicationPodName(client, namespace, resources))
+          .redirectingInput()
+          .writingError(errorStream)
+          .usingListener(latch)
+          .exec("tar", "-C", "/", "-xmf", "-");
+      try (OutputStream input = execWatch.getInput()) {
+        writeFileEntries(changedFilesTarball, input);
+      }
+      final boolean completed = latch.await(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+      execWatch.close();
+      if (!completed) {
+        throw new WatchException("Changed files archive upload timed out");
+      }
+      if (latch.getCloseCode() != 1000) {
+        throw new WatchException("Changed files archive upload socket closed unexpectedly " + latch.getCloseReason());
+      }
+      final Status status = latch.getExitStatus();
+      if (status != null && "Failure".equals(status.getStatus())) {
+        throw new WatchException("Changed files archive extraction failed: " + status.getMessage() + " " + errorStream);
+      }
+      transferredFiles = changedFiles.size();
+      transferredBytes = changedFiles.stream().mapToLong(File::length).sum();
+    } catch (KubernetesClientException kubernetesClientException) {
+      throw new WatchException("Error while uploading changed files archive to pod: " + kubernetesClientException.getMessage(),
+          kubernetesClientException);
+    }
+  }
+
+  private static void writeFileEntries(File tarball, OutputStream output) throws IOException {
+    try (
+        TarArchiveInputStream tarInput = new TarArchiveInputStream(Files.newInputStream(tarball.toPath()));
+        TarArchiveOutputStream tarOutput = new TarArchiveOutputStream(output)
+    ) {
+      tarOutput.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+      tarOutput.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+      TarArchiveEntry entry;
+      while ((entry = tarInput.getNextEntry()) != null) {
+        if (!entry.isDirectory()) {
+          tarOutput.putArchiveEntry(entry);
+          IOUtils.copy(tarInput, tarOutput);
+          tarOutput.closeArchiveEntry();
+        }
+      }
+      tarOutput.finish();
+    }
+  }
+
   void executeCommandInPod(Collection<HasMetadata> resources, String command) throws InterruptedException, WatchException, IOException {
     final KubernetesClient client = watcherContext.getJKubeServiceHub().getClient();
     try (
@@ -76,7 +173,7 @@ public class PodExecutor {
       final String namespace = watcherContext.getNamespace();
       final ExecListenerLatch latch = new ExecListenerLatch();
       ExecWatch execWatch = client.pods().inNamespace(namespace)
-          .withName(KubernetesHelper.getNewestApplicationPodName(client, namespace, resources))
+          .withName(getNewestApplicationPodName(client, namespace, resources))
           .redirectingInput()
           .writingOutput(byteArrayOutputStream)
           .redirectingError()
@@ -100,7 +197,35 @@ public class PodExecutor {
     }
   }
 
+  private String getNewestApplicationPodName(KubernetesClient client, String namespace, Collection<HasMetadata> resources) {
+    if (applicationPodTracker != null) {
+      return applicationPodTracker.getNewestApplicationPodName();
+    }
+    final ClusterStateCache clusterStateCache = watcherContext.getJKubeServiceHub().getClusterStateCache();
+    if (clusterStateCache.isEnabled()) {
+      return clusterStateCache.getNewestApplicationPodName(namespace, resources);
+    }
+    return KubernetesHelper.getNewestApplicationPodName(client, namespace, resources);
+  }
+
+  private static List<File> listFiles(File directory) {
+    if (!directory.isDirectory()) {
+      return Collections.emptyList();
+    }
+    return FileUtil.listFilesAndDirsRecursivelyInDirectory(directory).stream()
+        .filter(File::isFile)
+        .collect(Collectors.toList());
+  }
+
   public String getOutput() {
     return output;
   }
+
+  public long getTransferredFiles() {
+    return transferredFiles;
+  }
+
+  public long getTransferredBytes() {
+    return transferredBytes;
+  }
 }
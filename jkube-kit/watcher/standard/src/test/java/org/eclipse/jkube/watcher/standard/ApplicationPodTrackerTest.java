@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.watcher.standard;
+
+import java.util.Collections;
+
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.PodResource;
+import org.eclipse.jkube.kit.config.service.kubernetes.ClusterStateCache;
+import org.eclipse.jkube.watcher.api.WatcherContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ApplicationPodTrackerTest {
+
+  private FilterWatchListDeletable<Pod, PodList, PodResource> pods;
+  private ClusterStateCache clusterStateCache;
+  private Watch watch;
+  private ApplicationPodTracker applicationPodTracker;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    final KubernetesClient kubernetesClient = mock(KubernetesClient.class);
+    final MixedOperation<Pod, PodList, PodResource> podMixedOp = mock(MixedOperation.class);
+    final NonNamespaceOperation<Pod, PodList, PodResource> podNonNamespaceOp = mock(NonNamespaceOperation.class);
+    final WatcherContext watcherContext = mock(WatcherContext.class, RETURNS_DEEP_STUBS);
+    clusterStateCache = mock(ClusterStateCache.class);
+    pods = mock(FilterWatchListDeletable.class);
+    watch = mock(Watch.class);
+    when(watcherContext.getNamespace()).thenReturn("default");
+    when(watcherContext.getJKubeServiceHub().getClient()).thenReturn(kubernetesClient);
+    when(watcherContext.getJKubeServiceHub().getClusterStateCache()).thenReturn(clusterStateCache);
+    when(kubernetesClient.pods()).thenReturn(podMixedOp);
+    when(podMixedOp.inNamespace(anyString())).thenReturn(podNonNamespaceOp);
+    when(podNonNamespaceOp.withLabelSelector(nullable(LabelSelector.class))).thenReturn(pods);
+    when(pods.list()).thenReturn(podList("1", pod("old-pod", "2023-01-01T00:00:00Z"), pod("new-pod", "2023-01-02T00:00:00Z")));
+    when(pods.watch(any(ListOptions.class), any())).thenReturn(watch);
+    applicationPodTracker = new ApplicationPodTracker(watcherContext, Collections.emptyList());
+  }
+
+  @Test
+  void getNewestApplicationPodName_returnsNewestPod() {
+    // When
+    final String result = applicationPodTracker.getNewestApplicationPodName();
+    // Then
+    assertThat(result).isEqualTo("new-pod");
+  }
+
+  @Test
+  void getNewestApplicationPodName_whenCalledTwice_listsPodsOnce() {
+    // Given
+    applicationPodTracker.getNewestApplicationPodName();
+    // When
+    final String result = applicationPodTracker.getNewestApplicationPodName();
+    // Then
+    assertThat(result).isEqualTo("new-pod");
+    verify(pods, times(1)).list();
+  }
+
+  @Test
+  void getNewestApplicationPodName_watchesPodsFromListResourceVersion() {
+    // When
+    applicationPodTracker.getNewestApplicationPodName();
+    // Then
+    final ArgumentCaptor<ListOptions> listOptions = ArgumentCaptor.forClass(ListOptions.class);
+    verify(pods).watch(listOptions.capture(), any());
+    assertThat(listOptions.getValue()).hasFieldOrPropertyWithValue("resourceVersion", "1");
+  }
+
+  @Test
+  void getNewestApplicationPodName_whenPodAdded_resolvesPodAgain() {
+    // Given
+    final Watcher<Pod> watcher = startTracking();
+    when(pods.list()).thenReturn(podList("2", pod("newest-pod", "2023-01-03T00:00:00Z")));
+    // When
+    watcher.eventReceived(Watcher.Action.ADDED, pod("newest-pod", "2023-01-03T00:00:00Z"));
+    // Then
+    assertThat(applicationPodTracker.getNewestApplicationPodName()).isEqualTo("newest-pod");
+    verify(pods, times(1)).watch(any(ListOptions.class), any());
+  }
+
+  @Test
+  void getNewestApplicationPodName_whenPodModified_returnsCachedPod() {
+    // Given
+    final Watcher<Pod> watcher = startTracking();
+    // When
+    watcher.eventReceived(Watcher.Action.MODIFIED, pod("new-pod", "2023-01-02T00:00:00Z"));
+    // Then
+    assertThat(applicationPodTracker.getNewestApplicationPodName()).isEqualTo("new-pod");
+    verify(pods, times(1)).list();
+  }
+
+  @Test
+  void getNewestApplicationPodName_whenWatchClosed_watchesAgain() {
+    // Given
+    final Watcher<Pod> watcher = startTracking();
+    // When
+    watcher.onClose(new WatcherException("Gone"));
+    // Then
+    assertThat(applicationPodTracker.getNewestApplicationPodName()).isEqualTo("new-pod");
+    verify(pods, times(2)).list();
+    verify(pods, times(2)).watch(any(ListOptions.class), any());
+  }
+
+  @Test
+  void getNewestApplicationPodName_whenWatchForbidden_resolvesPodForEveryRequest() {
+    // Given
+    when(pods.watch(any(ListOptions.class), any())).thenThrow(new KubernetesClientException("Forbidden"));
+    applicationPodTracker.getNewestApplicationPodName();
+    // When
+    final String result = applicationPodTracker.getNewestApplicationPodName();
+    // Then
+    assertThat(result).isEqualTo("new-pod");
+    verify(pods, times(2)).list();
+  }
+
+  @Test
+  void getNewestApplicationPodName_withClusterStateCacheEnabled_delegatesToCache() {
+    // Given
+    when(clusterStateCache.isEnabled()).thenReturn(true);
+    when(clusterStateCache.getNewestApplicationPodName(eq("default"), any())).thenReturn("cached-pod");
+    // When
+    final String result = applicationPodTracker.getNewestApplicationPodName();
+    // Then
+    assertThat(result).isEqualTo("cached-pod");
+    verify(pods, times(0)).list();
+  }
+
+  @Test
+  void close_closesWatch() {
+    // Given
+    applicationPodTracker.getNewestApplicationPodName();
+    // When
+    applicationPodTracker.close();
+    // Then
+    verify(watch).close();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Watcher<Pod> startTracking() {
+    applicationPodTracker.getNewestApplicationPodName();
+    final ArgumentCaptor<Watcher<Pod>> watcher = ArgumentCaptor.forClass(Watcher.class);
+    verify(pods).watch(any(ListOptions.class), watcher.capture());
+    return watcher.getValue();
+  }
+
+  private static PodList podList(String resourceVersion, Pod... pods) {
+    return new PodListBuilder().withNewMetadata().withResourceVersion(resourceVersion).endMetadata()
+      .withItems(pods).build();
+  }
+
+  private static Pod pod(String name, String creationTimestamp) {
+    return new PodBuilder().withNewMetadata().withName(name).withCreationTimestamp(creationTimestamp).endMetadata()
+      .build();
+  }
+}
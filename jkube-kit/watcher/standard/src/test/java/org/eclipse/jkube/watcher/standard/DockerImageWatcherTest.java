@@ -14,6 +14,8 @@
 package org.eclipse.jkube.watcher.standard;
 
 import java.io.IOException;
+import java.util.Properties;
+
 import org.eclipse.jkube.kit.build.service.docker.DockerServiceHub;
 import org.eclipse.jkube.kit.build.service.docker.WatchService;
 import org.eclipse.jkube.kit.build.service.docker.watch.CopyFilesTask;
@@ -35,16 +37,18 @@ import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class DockerImageWatcherTest {
+  private WatcherContext watcherContext;
   private WatchService watchService;
   private DockerImageWatcher dockerImageWatcher;
 
   @BeforeEach
   public void setUp() {
-    WatcherContext watcherContext = mock(WatcherContext.class, RETURNS_DEEP_STUBS);
+    watcherContext = mock(WatcherContext.class, RETURNS_DEEP_STUBS);
     watchService = mock(WatchService.class);
     DockerServiceHub mockedDockerServiceHub = mock(DockerServiceHub.class,RETURNS_DEEP_STUBS);
     dockerImageWatcher = new DockerImageWatcher(watcherContext);
@@ -102,9 +106,29 @@ class DockerImageWatcherTest {
   }
 
   @Test
-  void watchCopyFileToPod() throws Exception {
+  void watchCopyFileToPod_streamsChangedFilesArchive() throws Exception {
+    try (MockedConstruction<PodExecutor> podExecutorMockedConstruction = mockConstruction(PodExecutor.class)) {
+      // Given
+      ArgumentCaptor<WatchContext> watchContextArgumentCaptor = ArgumentCaptor.forClass(WatchContext.class);
+      dockerImageWatcher.watch(null,null,null,null);
+      verify(watchService).watch(watchContextArgumentCaptor.capture(), any());
+      final CopyFilesTask copyFilesTask = watchContextArgumentCaptor.getValue().getContainerCopyTask();
+      // When
+      copyFilesTask.copy(null);
+      // Then
+      assertThat(podExecutorMockedConstruction.constructed()).hasSize(1);
+      verify(podExecutorMockedConstruction.constructed().get(0)).uploadChangedFilesArchiveToPod(isNull(), any());
+    }
+  }
+
+  @Test
+  void watchCopyFileToPod_withFilesTransferMode_uploadsChangedFiles() throws Exception {
     try (MockedConstruction<PodExecutor> podExecutorMockedConstruction = mockConstruction(PodExecutor.class)) {
       // Given
+      final Properties properties = new Properties();
+      properties.put("jkube.watcher.docker-image.transferMode", "files");
+      when(watcherContext.getBuildContext().getProject()).thenReturn(JavaProject.builder().properties(properties).build());
+      dockerImageWatcher = new DockerImageWatcher(watcherContext);
       ArgumentCaptor<WatchContext> watchContextArgumentCaptor = ArgumentCaptor.forClass(WatchContext.class);
       dockerImageWatcher.watch(null,null,null,null);
       verify(watchService).watch(watchContextArgumentCaptor.capture(), any());
@@ -114,6 +138,7 @@ class DockerImageWatcherTest {
       // Then
       assertThat(podExecutorMockedConstruction.constructed()).hasSize(1);
       verify(podExecutorMockedConstruction.constructed().get(0)).uploadChangedFilesToPod(isNull(), any());
+      verify(podExecutorMockedConstruction.constructed().get(0), never()).uploadChangedFilesArchiveToPod(any(), any());
     }
   }
 }
@@ -15,13 +15,23 @@ package org.eclipse.jkube.watcher.standard;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.api.model.StatusBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.ExecListener;
+import io.fabric8.kubernetes.client.dsl.ExecWatch;
+import io.fabric8.kubernetes.client.dsl.Execable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.io.IOUtils;
 import org.eclipse.jkube.kit.build.service.docker.watch.WatchException;
+import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
+import org.eclipse.jkube.kit.common.archive.JKubeTarArchiver;
 import org.eclipse.jkube.kit.common.util.KubernetesHelper;
 import org.eclipse.jkube.watcher.api.WatcherContext;
 import org.junit.jupiter.api.AfterEach;
@@ -31,11 +41,17 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
@@ -55,6 +71,7 @@ class PodExecutorTest {
   private PodOperationsImpl podOperations;
   private NonNamespaceOperation<Pod, PodList, PodResource> podNonNamespaceOp;
   private MockedStatic<KubernetesHelper> kubernetesHelperMockedStatic;
+  private Execable execable;
 
   @BeforeEach
   public void setUp() {
@@ -161,6 +178,119 @@ class PodExecutorTest {
         .withMessage("Error while uploading changed files archive to pod: Mock Error");
   }
 
+  @Test
+  void uploadChangedFilesArchiveToPod_whenChangedFilesDirEmpty_thenDoNothing(@TempDir File tempDir) throws Exception {
+    // Given
+    File changedFilesTarball = createChangedFilesDir(tempDir);
+
+    // When
+    podExecutor.uploadChangedFilesArchiveToPod(Collections.emptyList(), changedFilesTarball);
+
+    // Then
+    verify(kubernetesClient, times(0)).pods();
+    assertThat(podExecutor.getTransferredFiles()).isZero();
+  }
+
+  @Test
+  void uploadChangedFilesArchiveToPod_whenChangedFiles_thenStreamsArchiveToSingleTarProcess(@TempDir File tempDir) throws Exception {
+    // Given
+    File changedFilesTarball = createChangedFilesArchive(tempDir);
+    ExecWatch execWatch = mockExec(1000, new StatusBuilder().withStatus("Success").build());
+    ByteArrayOutputStream input = new ByteArrayOutputStream();
+    when(execWatch.getInput()).thenReturn(input);
+
+    // When
+    podExecutor.uploadChangedFilesArchiveToPod(Collections.emptyList(), changedFilesTarball);
+
+    // Then
+    verify(execable).exec("tar", "-C", "/", "-xmf", "-");
+    verify(podOperations, times(0)).file(anyString());
+    verify(podOperations, times(0)).dir(anyString());
+    assertThat(readEntries(input.toByteArray()))
+        .containsExactlyInAnyOrder("deployments/ROOT.war:war", "deployments/index.html:html");
+    assertThat(podExecutor.getTransferredFiles()).isEqualTo(2);
+    assertThat(podExecutor.getTransferredBytes()).isEqualTo(7);
+  }
+
+  @Test
+  void uploadChangedFilesArchiveToPod_whenArchiveContainsDirectories_thenStreamsFileEntriesOnly(@TempDir File tempDir) throws Exception {
+    // Given
+    File changedFilesTarball = createChangedFilesArchive(tempDir);
+    ExecWatch execWatch = mockExec(1000, new StatusBuilder().withStatus("Success").build());
+    ByteArrayOutputStream input = new ByteArrayOutputStream();
+    when(execWatch.getInput()).thenReturn(input);
+
+    // When
+    podExecutor.uploadChangedFilesArchiveToPod(Collections.emptyList(), changedFilesTarball);
+
+    // Then
+    assertThat(readEntries(Files.readAllBytes(changedFilesTarball.toPath()))).contains("deployments/:");
+    assertThat(readEntries(input.toByteArray())).noneMatch(entry -> entry.contains("/:"));
+  }
+
+  @Test
+  void uploadChangedFilesArchiveToPod_reportsSameTransferredBytesAsFilesMode(@TempDir File tempDir) throws Exception {
+    // Given
+    File changedFilesTarball = createChangedFilesArchive(tempDir);
+    ExecWatch execWatch = mockExec(1000, new StatusBuilder().withStatus("Success").build());
+    when(execWatch.getInput()).thenReturn(new ByteArrayOutputStream());
+    when(podOperations.dir(anyString())).thenReturn(podOperations);
+    when(podOperations.upload(any(Path.class))).thenReturn(true);
+    podExecutor.uploadChangedFilesToPod(Collections.emptyList(), changedFilesTarball);
+    final long filesModeTransferredBytes = podExecutor.getTransferredBytes();
+
+    // When
+    podExecutor.uploadChangedFilesArchiveToPod(Collections.emptyList(), changedFilesTarball);
+
+    // Then
+    assertThat(podExecutor.getTransferredBytes()).isEqualTo(filesModeTransferredBytes).isEqualTo(7);
+  }
+
+  @Test
+  void uploadChangedFilesArchiveToPod_whenExtractionFails_thenThrowsException(@TempDir File tempDir) throws Exception {
+    // Given
+    File changedFilesTarball = createChangedFilesArchive(tempDir);
+    ExecWatch execWatch = mockExec(1000, new StatusBuilder().withStatus("Failure").withMessage("exit code 2").build());
+    when(execWatch.getInput()).thenReturn(new ByteArrayOutputStream());
+
+    // When + Then
+    assertThatExceptionOfType(WatchException.class)
+        .isThrownBy(() -> podExecutor.uploadChangedFilesArchiveToPod(Collections.emptyList(), changedFilesTarball))
+        .withMessageStartingWith("Changed files archive extraction failed: exit code 2");
+    assertThat(podExecutor.getTransferredFiles()).isZero();
+  }
+
+  @Test
+  void uploadChangedFilesArchiveToPod_whenNoResponse_thenThrowsTimeoutException(@TempDir File tempDir) throws IOException {
+    // Given
+    File changedFilesTarball = createChangedFilesArchive(tempDir);
+
+    // When + Then
+    assertThatExceptionOfType(WatchException.class)
+        .isThrownBy(() -> podExecutor.uploadChangedFilesArchiveToPod(Collections.emptyList(), changedFilesTarball))
+        .withMessage("Changed files archive upload timed out");
+  }
+
+  @Test
+  void uploadChangedFilesArchiveToPod_withPodTracker_thenUsesTrackedPod(@TempDir File tempDir) throws Exception {
+    // Given
+    final ApplicationPodTracker applicationPodTracker = mock(ApplicationPodTracker.class);
+    when(applicationPodTracker.getNewestApplicationPodName()).thenReturn("tracked-pod");
+    final WatcherContext watcherContext = mock(WatcherContext.class, RETURNS_DEEP_STUBS);
+    when(watcherContext.getNamespace()).thenReturn("default");
+    when(watcherContext.getJKubeServiceHub().getClient()).thenReturn(kubernetesClient);
+    ExecWatch execWatch = mockExec(1000, new StatusBuilder().withStatus("Success").build());
+    when(execWatch.getInput()).thenReturn(new ByteArrayOutputStream());
+    final PodExecutor trackedPodExecutor = new PodExecutor(watcherContext, Duration.ZERO, applicationPodTracker);
+
+    // When
+    trackedPodExecutor.uploadChangedFilesArchiveToPod(Collections.emptyList(), createChangedFilesArchive(tempDir));
+
+    // Then
+    verify(podNonNamespaceOp).withName("tracked-pod");
+    kubernetesHelperMockedStatic.verify(() -> KubernetesHelper.getNewestApplicationPodName(any(), any(), any()), times(0));
+  }
+
   private NonNamespaceOperation<Pod, PodList, PodResource> createPodsInNamespaceMock() {
     MixedOperation<Pod, PodList, PodResource> podMixedOp = mock(MixedOperation.class);
     NonNamespaceOperation<Pod, PodList, PodResource> nonNamespaceOperation = mock(NonNamespaceOperation.class);
@@ -169,6 +299,41 @@ class PodExecutorTest {
     return nonNamespaceOperation;
   }
 
+  private ExecWatch mockExec(int closeCode, Status exitStatus) {
+    final ExecWatch execWatch = mock(ExecWatch.class);
+    when(podOperations.redirectingInput().writingError(any()).usingListener(any())).thenAnswer(invocation -> {
+      final ExecListener listener = invocation.getArgument(0);
+      execable = mock(Execable.class, exec -> {
+        listener.onExit(exitStatus.getStatus().equals("Success") ? 0 : 2, exitStatus);
+        listener.onClose(closeCode, "Closed");
+        return execWatch;
+      });
+      return execable;
+    });
+    return execWatch;
+  }
+
+  private File createChangedFilesArchive(File rootDir) throws IOException {
+    final File changedFilesTarball = createChangedFilesDir(rootDir);
+    final File deployments = new File(rootDir, "changed-files/deployments");
+    assertThat(deployments.mkdirs()).isTrue();
+    Files.write(new File(deployments, "ROOT.war").toPath(), "war".getBytes(StandardCharsets.UTF_8));
+    Files.write(new File(deployments, "index.html").toPath(), "html".getBytes(StandardCharsets.UTF_8));
+    return JKubeTarArchiver.createTarBallOfDirectory(changedFilesTarball, new File(rootDir, "changed-files"),
+        ArchiveCompression.none);
+  }
+
+  private static List<String> readEntries(byte[] tarball) throws IOException {
+    final List<String> entries = new ArrayList<>();
+    try (TarArchiveInputStream tarInput = new TarArchiveInputStream(new ByteArrayInputStream(tarball))) {
+      TarArchiveEntry entry;
+      while ((entry = tarInput.getNextEntry()) != null) {
+        entries.add(entry.getName() + ":" + IOUtils.toString(tarInput, StandardCharsets.UTF_8));
+      }
+    }
+    return entries;
+  }
+
   private File createChangedFilesDir(File rootDir) {
     File changedFilesDir = new File(rootDir, "changed-files");
     assertThat(changedFilesDir.mkdir()).isTrue();
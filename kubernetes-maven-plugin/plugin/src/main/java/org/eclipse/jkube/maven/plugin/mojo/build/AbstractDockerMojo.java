@@ -37,6 +37,7 @@ import org.eclipse.jkube.kit.config.image.WatchMode;
 import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.util.AnsiLogger;
+import org.eclipse.jkube.kit.common.util.BuildTimings;
 import org.eclipse.jkube.kit.common.util.EnvUtil;
 import org.eclipse.jkube.kit.common.util.MavenUtil;
 import org.eclipse.jkube.kit.common.util.ResourceUtil;
@@ -178,6 +179,12 @@ public abstract class AbstractDockerMojo extends AbstractMojo
     @Parameter(property = "jkube.docker.push.registry")
     protected String pushRegistry;
 
+    /**
+     * Apply additional tags by uploading the pushed image manifest to the registry instead of pushing each tag
+     */
+    @Parameter(property = "jkube.docker.push.remoteTagging", defaultValue = "false")
+    protected boolean pushRemoteTagging;
+
     /**
      * Build mode when build is performed.
      * Can be either "s2i" for an s2i binary build mode (in case of OpenShift) or
@@ -273,6 +280,43 @@ public abstract class AbstractDockerMojo extends AbstractMojo
     @Parameter(property = "jkube.build.forcePull", defaultValue = "false")
     protected boolean forcePull = false;
 
+    /**
+     * Reuse the unchanged files and archive entries of the previous build when creating the Docker build context.
+     */
+    @Parameter(property = "jkube.build.incremental", defaultValue = "false")
+    protected boolean incrementalBuild = false;
+
+    /**
+     * Stream the Docker build context to the Docker daemon instead of creating the build tar archive first.
+     */
+    @Parameter(property = "jkube.build.streamContext", defaultValue = "false")
+    protected boolean streamBuildContext = false;
+
+    /**
+     * Maximum number of images built or pushed concurrently. Images are processed sequentially when set to 1
+     */
+    @Parameter(property = "jkube.build.parallelism", defaultValue = "1")
+    protected int buildParallelism = 1;
+
+    /**
+     * Number of threads used to compress gzip build archives. Archives are compressed in a single thread when set to 1
+     */
+    @Parameter(property = "jkube.build.compressionThreads", defaultValue = "1")
+    protected int compressionThreads = 1;
+
+    /**
+     * Record the wall time, CPU time and allocated bytes of each of the goal steps (enrichers, generators, assembly,
+     * push, apply) and print a summary at the end of the goal
+     */
+    @Parameter(property = "jkube.timings", defaultValue = "false")
+    protected boolean timings;
+
+    /**
+     * File where the timings summary is written to (when timings are enabled)
+     */
+    @Parameter(property = "jkube.timingsFile", defaultValue = "${project.build.directory}/jkube/timings.json")
+    protected File timingsFile;
+
     /**
      * Should we use the project's compile-time classpath to scan for additional enrichers/generators?
      */
@@ -333,6 +377,9 @@ public abstract class AbstractDockerMojo extends AbstractMojo
     @Parameter(property = "jkube.watch.interval", defaultValue = "5000")
     protected int watchInterval;
 
+    @Parameter(property = "jkube.watch.debounce", defaultValue = "100")
+    protected int watchDebounce;
+
     @Parameter(property = "jkube.watch.postGoal")
     protected String watchPostGoal;
 
@@ -350,6 +397,8 @@ public abstract class AbstractDockerMojo extends AbstractMojo
 
     protected JavaProject javaProject;
 
+    protected BuildTimings buildTimings = BuildTimings.DISABLED;
+
     @Override
     public KitLogger getKitLogger() {
         return log;
@@ -366,7 +415,14 @@ public abstract class AbstractDockerMojo extends AbstractMojo
             log.info("`%s` goal is skipped.", mojoExecution.getMojoDescriptor().getFullGoalName());
             return;
         }
-        doExecute();
+        buildTimings = timings ? new BuildTimings() : BuildTimings.DISABLED;
+        try {
+            doExecute();
+        } finally {
+            if (buildTimings.isEnabled()) {
+                buildTimings.report(log, mojoExecution.getMojoDescriptor().getFullGoalName(), timingsFile);
+            }
+        }
     }
 
     protected void init() {
@@ -429,8 +485,15 @@ public abstract class AbstractDockerMojo extends AbstractMojo
             .reactorProjects(Collections.singletonList(javaProject))
             .buildArgs(buildArgs)
             .pullRegistryConfig(getRegistryConfig(pullRegistry))
-            .pushRegistryConfig(getRegistryConfig(pushRegistry))
+            .pushRegistryConfig(getRegistryConfig(pushRegistry).toBuilder()
+                .remoteTagging(pushRemoteTagging)
+                .parallelism(buildParallelism)
+                .build())
             .clusterConfiguration(clusterConfiguration)
+            .incrementalBuild(incrementalBuild)
+            .streamBuildContext(streamBuildContext)
+            .compressionThreads(compressionThreads)
+            .timings(buildTimings)
             .build();
     }
 
@@ -536,6 +599,7 @@ public abstract class AbstractDockerMojo extends AbstractMojo
     protected BuildServiceConfig.BuildServiceConfigBuilder buildServiceConfigBuilder() {
         return BuildServiceConfig.builder()
                 .jKubeBuildStrategy(getJKubeBuildStrategy())
+                .parallelism(buildParallelism)
                 .imagePullManager(ImagePullManager.createImagePullManager(imagePullPolicy, autoPull, project.getProperties()))
                 .buildDirectory(project.getBuild().getDirectory())
                 .resourceConfig(resources)
@@ -574,6 +638,7 @@ public abstract class AbstractDockerMojo extends AbstractMojo
                 .images(getResolvedImages())
                 .resources(resources)
                 .log(log)
+                .timings(buildTimings)
                 .build();
     }
 
@@ -590,7 +655,8 @@ public abstract class AbstractDockerMojo extends AbstractMojo
                 .buildTimestamp(getBuildTimestamp(getPluginContext(), CONTEXT_KEY_BUILD_TIMESTAMP, project.getBuild().getDirectory(),
                    DOCKER_BUILD_TIMESTAMP))
                 .filter(filter)
-                .watchMode(watchMode);
+                .watchMode(watchMode)
+                .timings(buildTimings);
     }
 
     /**
@@ -23,6 +23,7 @@ import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.RegistryConfig;
 import org.eclipse.jkube.kit.common.ResourceFileType;
 import org.eclipse.jkube.kit.common.util.AnsiLogger;
+import org.eclipse.jkube.kit.common.util.BuildTimings;
 import org.eclipse.jkube.kit.common.util.EnvUtil;
 import org.eclipse.jkube.kit.common.util.LazyBuilder;
 import org.eclipse.jkube.kit.common.util.MavenUtil;
@@ -103,6 +104,19 @@ public abstract class AbstractJKubeMojo extends AbstractMojo implements KitLogge
     @Parameter(property = "jkube.offline", defaultValue = "false")
     protected boolean offline;
 
+    /**
+     * Record the wall time, CPU time and allocated bytes of each of the goal steps (enrichers, generators, assembly,
+     * push, apply) and print a summary at the end of the goal
+     */
+    @Parameter(property = "jkube.timings", defaultValue = "false")
+    protected boolean timings;
+
+    /**
+     * File where the timings summary is written to (when timings are enabled)
+     */
+    @Parameter(property = "jkube.timingsFile", defaultValue = "${project.build.directory}/jkube/timings.json")
+    protected File timingsFile;
+
     // Settings holding authentication info
     @Parameter(defaultValue = "${settings}", readonly = true)
     protected Settings settings;
@@ -145,6 +159,13 @@ public abstract class AbstractJKubeMojo extends AbstractMojo implements KitLogge
     @Parameter(property="jkube.interpolateTemplateParameters", defaultValue = "true")
     protected Boolean interpolateTemplateParameters;
 
+    /**
+     * Maximum number of profile subdirectories of the resource directory enriched concurrently. Profile subdirectories
+     * are enriched sequentially when set to 1
+     */
+    @Parameter(property = "jkube.resource.parallelism", defaultValue = "1")
+    protected int resourceParallelism;
+
     @Parameter
     protected ClusterConfiguration access;
 
@@ -164,6 +185,8 @@ public abstract class AbstractJKubeMojo extends AbstractMojo implements KitLogge
 
     protected JavaProject javaProject;
 
+    protected BuildTimings buildTimings = BuildTimings.DISABLED;
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
         log = createLogger(null);
@@ -171,8 +194,16 @@ public abstract class AbstractJKubeMojo extends AbstractMojo implements KitLogge
             log.info("`%s` goal is skipped.", mojoExecution.getMojoDescriptor().getFullGoalName());
             return;
         }
-        init();
-        executeInternal();
+        buildTimings = timings ? new BuildTimings() : BuildTimings.DISABLED;
+        try {
+            init();
+            executeInternal();
+        } finally {
+            Optional.ofNullable(javaProject).ifPresent(JavaProject::releaseFrameworkConfigurationCache);
+            if (buildTimings.isEnabled()) {
+                buildTimings.report(log, mojoExecution.getMojoDescriptor().getFullGoalName(), timingsFile);
+            }
+        }
     }
 
     protected void init() throws MojoFailureException {
@@ -236,6 +267,7 @@ public abstract class AbstractJKubeMojo extends AbstractMojo implements KitLogge
           .resourceConfig(resources)
           .resourceFilesProcessor(resourceFiles -> mavenFilterFiles(resourceFiles, workDir))
           .interpolateTemplateParameters(interpolateTemplateParameters)
+          .parallelism(resourceParallelism)
           .build();
     }
 
@@ -256,6 +288,7 @@ public abstract class AbstractJKubeMojo extends AbstractMojo implements KitLogge
                     .passwordDecryptionMethod(this::decrypt)
                     .build())
                 .clusterConfiguration(clusterConfiguration)
+                .timings(buildTimings)
                 .build())
             .offline(offline)
             .platformMode(getRuntimeMode())
@@ -134,6 +134,25 @@ public class ApplyMojo extends AbstractJKubeMojo implements ManifestProvider {
     @Parameter(property = "jkube.skip.apply", defaultValue = "false")
     protected boolean skipApply;
 
+    /**
+     * Maximum number of resources applied concurrently within each dependency tier (Namespaces, CRDs, configuration,
+     * Services, controllers). Resources are applied sequentially when set to 1
+     */
+    @Parameter(property = "jkube.apply.parallelism", defaultValue = "1")
+    private int applyParallelism;
+
+    /**
+     * Should we apply resources using a single server-side apply patch instead of retrieving, comparing and patching them?
+     */
+    @Parameter(property = "jkube.apply.serverSide", defaultValue = "false")
+    private boolean serverSideApply;
+
+    /**
+     * Should server-side apply take ownership of fields managed by other field managers?
+     */
+    @Parameter(property = "jkube.apply.serverSide.force", defaultValue = "false")
+    private boolean serverSideApplyForce;
+
     protected ApplyService applyService;
 
     @Override
@@ -225,6 +244,9 @@ public class ApplyMojo extends AbstractJKubeMojo implements ManifestProvider {
         applyService.setRollingUpgrade(rollingUpgrades);
         applyService.setRollingUpgradePreserveScale(isRollingUpgradePreserveScale());
         applyService.setRecreateMode(recreate);
+        applyService.setParallelism(applyParallelism);
+        applyService.setServerSideApply(serverSideApply);
+        applyService.setServerSideApplyForceConflicts(serverSideApplyForce);
         applyService.setNamespace(namespace);
         applyService.setFallbackNamespace(resolveFallbackNamespace(resources, clusterConfiguration));
 
@@ -214,7 +214,8 @@ public class ResourceMojo extends AbstractJKubeMojo {
                 .settings(MavenUtil.getRegistryServerFromMavenSettings(settings))
                 .resources(resources)
                 .images(resolvedImages)
-                .log(log);
+                .log(log)
+                .timings(buildTimings);
 
         DefaultEnricherManager enricherManager = new DefaultEnricherManager(ctxBuilder.build(),
           useProjectClasspath ? javaProject.getCompileClassPathElements() : Collections.emptyList());
@@ -240,6 +241,7 @@ public class ResourceMojo extends AbstractJKubeMojo {
             .prePackagePhase(true)
             .openshiftNamespace(StringUtils.isNotBlank(this.namespace) ? this.namespace: clusterConfiguration.getNamespace())
             .buildTimestamp(getBuildTimestamp(getPluginContext(), CONTEXT_KEY_BUILD_TIMESTAMP, project.getBuild().getDirectory(), DOCKER_BUILD_TIMESTAMP))
+            .timings(buildTimings)
             .build());
         return generatorManager.generateAndMerge(images);
     }
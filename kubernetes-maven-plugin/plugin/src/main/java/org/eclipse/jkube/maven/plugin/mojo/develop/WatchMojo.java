@@ -141,6 +141,7 @@ public class WatchMojo extends AbstractDockerMojo implements ManifestProvider {
         final DockerServiceHub hub = jkubeServiceHub.getDockerServiceHub();
         return WatchContext.builder()
                 .watchInterval(watchInterval)
+                .watchDebounce(watchDebounce)
                 .watchMode(watchMode)
                 .watchPostExec(watchPostExec)
                 .buildTimestamp(getBuildTimestamp(getPluginContext(), CONTEXT_KEY_BUILD_TIMESTAMP, project.getBuild().getDirectory(), DOCKER_BUILD_TIMESTAMP))